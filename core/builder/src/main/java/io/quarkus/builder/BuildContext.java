@@ -8,6 +8,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.wildfly.common.Assert;
@@ -254,11 +255,15 @@ public final class BuildContext {
         }
     }
 
+    StepInfo getStepInfo() {
+        return stepInfo;
+    }
+
     void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
@@ -266,7 +271,7 @@ public final class BuildContext {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         log.tracef("Starting step \"%s\"", buildStep);
         try {
             if (!execution.isErrorReported()) {
@@ -285,7 +290,9 @@ public final class BuildContext {
                 }
             }
         } finally {
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
+            final long end = System.nanoTime();
+            execution.stepFinished(stepInfo, start, end);
+            log.tracef("Finished step \"%s\" in %s ms", buildStep, TimeUnit.NANOSECONDS.toMillis(end - start));
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
@@ -20,6 +20,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Map<String, Long> stepDurations = Collections.emptyMap();
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -69,6 +70,21 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    /**
+     * Provide the durations of the build steps from a previous build. Steps that are ready to run are started in order
+     * of the longest estimated remaining path to the end of the build, so that the critical path is not delayed by steps
+     * that have enough slack. Steps without a known duration are estimated to take one millisecond.
+     *
+     * @param stepDurations the step durations in milliseconds, keyed by {@link BuildStepTiming#getStepId() step id} (must
+     *        not be {@code null})
+     * @return this builder
+     */
+    public BuildExecutionBuilder setStepDurations(Map<String, Long> stepDurations) {
+        Assert.checkNotNullParam("stepDurations", stepDurations);
+        this.stepDurations = stepDurations;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -110,6 +126,10 @@ public final class BuildExecutionBuilder {
         return initialMulti;
     }
 
+    Map<String, Long> getStepDurations() {
+        return stepDurations;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
@@ -22,14 +22,16 @@ public final class BuildResult {
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems;
     private final List<Diagnostic> diagnostics;
     private final long nanos;
+    private final List<BuildStepTiming> stepTimings;
 
     BuildResult(final ConcurrentHashMap<ItemId, BuildItem> simpleItems,
             final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems, final Set<ItemId> finalIds,
-            final List<Diagnostic> diagnostics, final long nanos) {
+            final List<Diagnostic> diagnostics, final long nanos, final List<BuildStepTiming> stepTimings) {
         this.simpleItems = simpleItems;
         this.multiItems = multiItems;
         this.diagnostics = diagnostics;
         this.nanos = nanos;
+        this.stepTimings = Collections.unmodifiableList(stepTimings);
     }
 
     /**
@@ -102,6 +104,15 @@ public final class BuildResult {
         return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Get the timings of the executed build steps, ordered by start time.
+     *
+     * @return the step timings (not {@code null})
+     */
+    public List<BuildStepTiming> getStepTimings() {
+        return stepTimings;
+    }
+
     /**
      * Close all the resultant resources, logging any failures.
      */
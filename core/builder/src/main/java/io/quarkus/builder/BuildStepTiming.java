@@ -0,0 +1,72 @@
+package io.quarkus.builder;
+
+/**
+ * The timing of a single build step of a completed build.
+ */
+public final class BuildStepTiming {
+    private final String stepId;
+    private final String thread;
+    private final long started;
+    private final long duration;
+    private final boolean criticalPath;
+
+    BuildStepTiming(final String stepId, final String thread, final long started, final long duration,
+            final boolean criticalPath) {
+        this.stepId = stepId;
+        this.thread = thread;
+        this.started = started;
+        this.duration = duration;
+        this.criticalPath = criticalPath;
+    }
+
+    /**
+     * Get the identifier of the build step, i.e. its {@code toString()} representation.
+     *
+     * @return the step identifier (not {@code null})
+     */
+    public String getStepId() {
+        return stepId;
+    }
+
+    /**
+     * Get the name of the thread that executed the build step.
+     *
+     * @return the thread name (not {@code null})
+     */
+    public String getThread() {
+        return thread;
+    }
+
+    /**
+     * Get the time at which the build step started, relative to the start of the build.
+     *
+     * @return the start offset in milliseconds
+     */
+    public long getStarted() {
+        return started;
+    }
+
+    /**
+     * Get the time it took to execute the build step.
+     *
+     * @return the duration in milliseconds
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Determine whether the build step is on the critical path of the build, i.e. the chain of dependent steps
+     * that determined the total build time.
+     *
+     * @return {@code true} if the step is on the critical path
+     */
+    public boolean isCriticalPath() {
+        return criticalPath;
+    }
+
+    @Override
+    public String toString() {
+        return stepId + " [" + duration + " ms]";
+    }
+}
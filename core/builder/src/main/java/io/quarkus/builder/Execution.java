@@ -3,11 +3,18 @@ package io.quarkus.builder;
 import static java.lang.Math.max;
 import static java.util.concurrent.locks.LockSupport.*;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -36,6 +43,10 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final Map<StepInfo, Long> priorities;
+    private final PriorityBlockingQueue<BuildContext> readySteps;
+    private final ConcurrentHashMap<StepInfo, StepRun> stepRuns = new ConcurrentHashMap<>();
+    private volatile long startTime;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -59,6 +70,9 @@ final class Execution {
                 JBossExecutors.loggingExceptionHandler(), null));
         buildTargetName = builder.getBuildTargetName();
         executor = executorBuilder.build();
+        priorities = computePriorities(chain.getStartSteps(), builder.getStepDurations());
+        readySteps = new PriorityBlockingQueue<>(Math.max(1, priorities.size()),
+                Comparator.comparingLong((BuildContext c) -> priorities.get(c.getStepInfo())).reversed());
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
             done = true;
@@ -78,11 +92,12 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        startTime = start;
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -125,7 +140,102 @@ final class Execution {
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+                max(0, System.nanoTime() - start), getStepTimings());
+    }
+
+    /**
+     * Schedule a step whose dependencies are all satisfied. The executor does not know about step priorities, so every
+     * submitted task runs the ready step with the longest remaining path rather than the step that was submitted.
+     */
+    void schedule(BuildContext buildContext) {
+        readySteps.add(buildContext);
+        executor.execute(this::runNextStep);
+    }
+
+    private void runNextStep() {
+        final BuildContext next = readySteps.poll();
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    void stepFinished(StepInfo stepInfo, long start, long end) {
+        stepRuns.put(stepInfo, new StepRun(start, end, Thread.currentThread().getName()));
+    }
+
+    private List<BuildStepTiming> getStepTimings() {
+        // walk back from the last step to finish, following the dependency that finished last
+        final Map<StepInfo, List<StepInfo>> dependencies = new HashMap<>();
+        StepInfo last = null;
+        for (Map.Entry<StepInfo, StepRun> entry : stepRuns.entrySet()) {
+            for (StepInfo dependent : entry.getKey().getDependents()) {
+                dependencies.computeIfAbsent(dependent, k -> new ArrayList<>()).add(entry.getKey());
+            }
+            if (last == null || entry.getValue().end > stepRuns.get(last).end) {
+                last = entry.getKey();
+            }
+        }
+        final Set<StepInfo> criticalPath = new HashSet<>();
+        while (last != null) {
+            criticalPath.add(last);
+            StepInfo previous = null;
+            for (StepInfo dependency : dependencies.getOrDefault(last, Collections.emptyList())) {
+                if (previous == null || stepRuns.get(dependency).end > stepRuns.get(previous).end) {
+                    previous = dependency;
+                }
+            }
+            last = previous;
+        }
+        final List<BuildStepTiming> timings = new ArrayList<>(stepRuns.size());
+        for (Map.Entry<StepInfo, StepRun> entry : stepRuns.entrySet()) {
+            final StepRun run = entry.getValue();
+            timings.add(new BuildStepTiming(entry.getKey().getBuildStep().toString(), run.thread,
+                    TimeUnit.NANOSECONDS.toMillis(run.start - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(run.end - run.start), criticalPath.contains(entry.getKey())));
+        }
+        timings.sort(Comparator.comparingLong(BuildStepTiming::getStarted));
+        return timings;
+    }
+
+    /**
+     * Compute the priority of each step, which is the estimated duration of the longest path from the step to the end of
+     * the build, including the step itself.
+     */
+    private static Map<StepInfo, Long> computePriorities(List<StepInfo> startSteps, Map<String, Long> durations) {
+        // order the steps so that every step comes after all of its dependents
+        final List<StepInfo> order = new ArrayList<>();
+        final Set<StepInfo> visited = new HashSet<>();
+        final Deque<StepInfo> stack = new ArrayDeque<>();
+        final Deque<Boolean> expanded = new ArrayDeque<>();
+        for (StepInfo startStep : startSteps) {
+            stack.push(startStep);
+            expanded.push(Boolean.FALSE);
+        }
+        while (!stack.isEmpty()) {
+            final StepInfo step = stack.pop();
+            if (expanded.pop()) {
+                order.add(step);
+            } else if (visited.add(step)) {
+                stack.push(step);
+                expanded.push(Boolean.TRUE);
+                for (StepInfo dependent : step.getDependents()) {
+                    if (!visited.contains(dependent)) {
+                        stack.push(dependent);
+                        expanded.push(Boolean.FALSE);
+                    }
+                }
+            }
+        }
+        final Map<StepInfo, Long> priorities = new HashMap<>(order.size());
+        for (StepInfo step : order) {
+            long longestDependent = 0;
+            for (StepInfo dependent : step.getDependents()) {
+                longestDependent = max(longestDependent, priorities.get(dependent));
+            }
+            final Long duration = durations.get(step.getBuildStep().toString());
+            priorities.put(step, longestDependent + (duration == null ? 1 : max(1, duration)));
+        }
+        return priorities;
     }
 
     EnhancedQueueExecutor getExecutor() {
@@ -164,4 +274,16 @@ final class Execution {
             unpark(runningThread);
         }
     }
+
+    static final class StepRun {
+        final long start;
+        final long end;
+        final String thread;
+
+        StepRun(final long start, final long end, final String thread) {
+            this.start = start;
+            this.end = end;
+            this.thread = thread;
+        }
+    }
 }
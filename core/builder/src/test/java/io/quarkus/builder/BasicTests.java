@@ -1,10 +1,14 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Assertions;
@@ -23,6 +27,9 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -288,4 +295,72 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testStepTimings() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "first";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                assertNotNull(context.consume(DummyItem.class));
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String toString() {
+                return "second";
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem3());
+            }
+
+            @Override
+            public String toString() {
+                return "independent";
+            }
+        });
+        stepBuilder.produces(DummyItem3.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        builder.addFinal(DummyItem3.class);
+        final BuildChain chain = builder.build();
+        final BuildResult result = chain.createExecutionBuilder("my-app.jar")
+                .setStepDurations(Collections.singletonMap("first", 50L))
+                .execute();
+
+        final Map<String, BuildStepTiming> timings = new HashMap<>();
+        for (BuildStepTiming timing : result.getStepTimings()) {
+            timings.put(timing.getStepId(), timing);
+        }
+        assertEquals(3, timings.size());
+        assertTrue(timings.get("first").getDuration() >= 50);
+        assertTrue(timings.get("second").getStarted() >= timings.get("first").getStarted() + 50);
+        assertTrue(timings.get("first").isCriticalPath());
+        assertTrue(timings.get("second").isCriticalPath());
+        assertFalse(timings.get("independent").isCriticalPath());
+    }
 }
@@ -0,0 +1,149 @@
+package io.quarkus.deployment;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.BuildStepTiming;
+
+/**
+ * Keeps track of the build step timings of the augmentation.
+ * <p>
+ * The step durations are persisted in the target directory so that the next build can schedule the steps on the
+ * critical path first. A timeline of the last build is written to {@value #REPORT_FILE} and is also available in the
+ * Dev UI.
+ */
+public final class BuildMetrics {
+
+    public static final String DURATIONS_FILE = "quarkus-build-step-durations.properties";
+    public static final String REPORT_FILE = "quarkus-build-steps.json";
+
+    private static final Logger log = Logger.getLogger(BuildMetrics.class);
+
+    private static volatile List<BuildStepTiming> lastStepTimings = Collections.emptyList();
+    private static volatile long lastDuration;
+
+    private BuildMetrics() {
+    }
+
+    /**
+     * @return the step timings of the last completed build, ordered by start time
+     */
+    public static List<BuildStepTiming> getLastStepTimings() {
+        return lastStepTimings;
+    }
+
+    /**
+     * @return the duration of the last completed build in milliseconds
+     */
+    public static long getLastDuration() {
+        return lastDuration;
+    }
+
+    static Map<String, Long> loadStepDurations(Path targetDir) {
+        if (targetDir == null) {
+            return Collections.emptyMap();
+        }
+        Path file = targetDir.resolve(DURATIONS_FILE);
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the build step durations from %s", file);
+            return Collections.emptyMap();
+        }
+        Map<String, Long> durations = new HashMap<>();
+        for (String step : properties.stringPropertyNames()) {
+            try {
+                durations.put(step, Long.parseLong(properties.getProperty(step)));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return durations;
+    }
+
+    static void record(Path targetDir, BuildResult buildResult) {
+        List<BuildStepTiming> timings = buildResult.getStepTimings();
+        lastStepTimings = timings;
+        lastDuration = buildResult.getDuration(TimeUnit.MILLISECONDS);
+        if (log.isDebugEnabled()) {
+            StringBuilder criticalPath = new StringBuilder();
+            for (BuildStepTiming timing : timings) {
+                if (timing.isCriticalPath()) {
+                    criticalPath.append("\n\t").append(timing);
+                }
+            }
+            log.debugf("Critical path of the build:%s", criticalPath);
+        }
+        if (targetDir == null || !Files.isDirectory(targetDir)) {
+            return;
+        }
+        try {
+            Properties durations = new Properties();
+            for (BuildStepTiming timing : timings) {
+                durations.setProperty(timing.getStepId(), Long.toString(timing.getDuration()));
+            }
+            try (OutputStream out = Files.newOutputStream(targetDir.resolve(DURATIONS_FILE))) {
+                durations.store(out, "Quarkus build step durations in milliseconds");
+            }
+            writeReport(targetDir.resolve(REPORT_FILE), timings);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write the build step timings to %s", targetDir);
+        }
+    }
+
+    private static void writeReport(Path file, List<BuildStepTiming> timings) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"duration\": ");
+            writer.write(Long.toString(lastDuration));
+            writer.write(",\n  \"steps\": [");
+            for (int i = 0; i < timings.size(); i++) {
+                BuildStepTiming timing = timings.get(i);
+                writer.write(i == 0 ? "\n" : ",\n");
+                writer.write("    {\"stepId\": \"");
+                writer.write(escape(timing.getStepId()));
+                writer.write("\", \"thread\": \"");
+                writer.write(escape(timing.getThread()));
+                writer.write("\", \"started\": ");
+                writer.write(Long.toString(timing.getStarted()));
+                writer.write(", \"duration\": ");
+                writer.write(Long.toString(timing.getDuration()));
+                writer.write(", \"criticalPath\": ");
+                writer.write(Boolean.toString(timing.isCriticalPath()));
+                writer.write("}");
+            }
+            writer.write("\n  ]\n}\n");
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
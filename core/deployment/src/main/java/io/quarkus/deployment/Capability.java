@@ -42,6 +42,7 @@ public enum Capability {
     SECURITY_ELYTRON_LDAP,
     SECURITY_JPA,
     QUARTZ,
+    CACHE,
     KUBERNETES_SERVICE_BINDING,
     /**
      * @deprecated
@@ -150,7 +150,9 @@ public class QuarkusAugmentor {
             for (PathsCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            execBuilder.setStepDurations(BuildMetrics.loadStepDurations(targetDir));
             BuildResult buildResult = execBuilder.execute();
+            BuildMetrics.record(targetDir, buildResult);
             String message = "Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms";
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
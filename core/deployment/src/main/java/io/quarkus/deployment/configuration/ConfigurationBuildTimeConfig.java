@@ -0,0 +1,26 @@
+package io.quarkus.deployment.configuration;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "configuration", phase = ConfigPhase.BUILD_TIME)
+public class ConfigurationBuildTimeConfig {
+
+    /**
+     * If the configuration files read from the class path, i.e. the `application.properties` and
+     * `META-INF/microprofile-config.properties` files of the application and its dependencies, are snapshotted when the
+     * application is built.
+     *
+     * The snapshot is stored in a compact binary form, which is read at startup instead of scanning the class path and
+     * parsing these files. The other configuration sources, such as the environment variables, the system properties and
+     * the `config/application.properties` file, are read as usual and still override the snapshotted values.
+     *
+     * This is ignored in dev mode.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public boolean snapshot;
+
+}
@@ -150,6 +150,10 @@ public final class RunTimeConfigurationGenerator {
             IntFunction.class);
     static final MethodDescriptor CU_CONFIG_BUILDER = MethodDescriptor.ofMethod(ConfigUtils.class, "configBuilder",
             SmallRyeConfigBuilder.class, boolean.class);
+    static final MethodDescriptor CU_SNAPSHOT_CONFIG_BUILDER = MethodDescriptor.ofMethod(ConfigUtils.class,
+            "snapshotConfigBuilder", SmallRyeConfigBuilder.class);
+    static final MethodDescriptor CU_GET_SWEPT_PROPERTY_NAMES = MethodDescriptor.ofMethod(ConfigUtils.class,
+            "getSweptPropertyNames", Iterable.class, SmallRyeConfig.class);
     static final MethodDescriptor CU_CONFIG_BUILDER_WITH_ADD_DISCOVERED = MethodDescriptor.ofMethod(ConfigUtils.class,
             "configBuilder",
             SmallRyeConfigBuilder.class, boolean.class, boolean.class);
@@ -241,16 +245,19 @@ public final class RunTimeConfigurationGenerator {
     }
 
     public static void generate(BuildTimeConfigurationReader.ReadResult readResult, final ClassOutput classOutput,
-            boolean devMode,
+            boolean devMode, boolean snapshot,
             final Map<String, String> runTimeDefaults, List<Class<?>> additionalTypes,
             List<String> additionalBootstrapConfigSourceProviders) {
         new GenerateOperation.Builder().setBuildTimeReadResult(readResult).setClassOutput(classOutput).setDevMode(devMode)
+                .setSnapshot(snapshot)
                 .setRunTimeDefaults(runTimeDefaults).setAdditionalTypes(additionalTypes)
                 .setAdditionalBootstrapConfigSourceProviders(additionalBootstrapConfigSourceProviders).build().run();
     }
 
     static final class GenerateOperation implements AutoCloseable {
         final boolean devMode;
+        // the class path config sources are read from the snapshot taken at build time
+        final boolean snapshot;
         final AccessorFinder accessorFinder;
         final ClassOutput classOutput;
         final ClassCreator cc;
@@ -295,6 +302,7 @@ public final class RunTimeConfigurationGenerator {
 
         GenerateOperation(Builder builder) {
             this.devMode = builder.devMode;
+            this.snapshot = builder.snapshot;
             final BuildTimeConfigurationReader.ReadResult buildTimeReadResult = builder.buildTimeReadResult;
             buildTimeConfigResult = Assert.checkNotNullParam("buildTimeReadResult", buildTimeReadResult);
             specifiedRunTimeDefaultValues = Assert.checkNotNullParam("specifiedRunTimeDefaultValues",
@@ -365,7 +373,7 @@ public final class RunTimeConfigurationGenerator {
             clinit.writeStaticField(C_RUN_TIME_DEFAULTS_CONFIG_SOURCE, clinit.newInstance(RTDVCS_NEW));
 
             // the build time config, which is for user use only (not used by us other than for loading converters)
-            final ResultHandle buildTimeBuilder = clinit.invokeStaticMethod(CU_CONFIG_BUILDER, clinit.load(true));
+            final ResultHandle buildTimeBuilder = runTimeConfigBuilder(clinit);
             final ResultHandle array = clinit.newArray(ConfigSource[].class, 2);
             // build time values
             clinit.writeArrayValue(array, 0, buildTimeConfigSource);
@@ -475,7 +483,7 @@ public final class RunTimeConfigurationGenerator {
             }
 
             // create the run time config
-            final ResultHandle runTimeBuilder = readConfig.invokeStaticMethod(CU_CONFIG_BUILDER, readConfig.load(true));
+            final ResultHandle runTimeBuilder = runTimeConfigBuilder(readConfig);
 
             // add in our run time only config source provider
             readConfig.invokeStaticMethod(CU_ADD_SOURCE_PROVIDER, runTimeBuilder, readConfig.newInstance(
@@ -716,17 +724,17 @@ public final class RunTimeConfigurationGenerator {
             }
 
             // generate sweep for clinit
-            configSweepLoop(siParserBody, clinit, clinitConfig);
+            configSweepLoop(siParserBody, clinit, clinitConfig, snapshot);
 
             if (devMode) {
-                configSweepLoop(siParserBody, readConfig, runTimeConfig);
+                configSweepLoop(siParserBody, readConfig, runTimeConfig, false);
             }
             // generate sweep for run time
-            configSweepLoop(rtParserBody, readConfig, runTimeConfig);
+            configSweepLoop(rtParserBody, readConfig, runTimeConfig, snapshot);
 
             if (bootstrapConfigSetupNeeded()) {
                 // generate sweep for bootstrap config
-                configSweepLoop(bsParserBody, readBootstrapConfig, bootstrapConfig);
+                configSweepLoop(bsParserBody, readBootstrapConfig, bootstrapConfig, false);
             }
 
             // generate ensure-initialized method
@@ -791,10 +799,23 @@ public final class RunTimeConfigurationGenerator {
             generateDefaultValuesConfigSourceClass(buildTimeRunTimePatternMap, BTRTDVCS_CLASS_NAME);
         }
 
-        private static void configSweepLoop(MethodDescriptor parserBody, MethodCreator method, ResultHandle config) {
+        private ResultHandle runTimeConfigBuilder(MethodCreator method) {
+            if (snapshot) {
+                return method.invokeStaticMethod(CU_SNAPSHOT_CONFIG_BUILDER);
+            }
+            return method.invokeStaticMethod(CU_CONFIG_BUILDER, method.load(true));
+        }
+
+        private static void configSweepLoop(MethodDescriptor parserBody, MethodCreator method, ResultHandle config,
+                boolean snapshot) {
             ResultHandle nameSet;
             ResultHandle iterator;
-            nameSet = method.invokeVirtualMethod(SRC_GET_PROPERTY_NAMES, config);
+            if (snapshot) {
+                // the names of the snapshot are already resolved
+                nameSet = method.invokeStaticMethod(CU_GET_SWEPT_PROPERTY_NAMES, config);
+            } else {
+                nameSet = method.invokeVirtualMethod(SRC_GET_PROPERTY_NAMES, config);
+            }
             iterator = method.invokeInterfaceMethod(ITRA_ITERATOR, nameSet);
 
             try (BytecodeCreator sweepLoop = method.createScope()) {
@@ -1567,6 +1588,7 @@ public final class RunTimeConfigurationGenerator {
 
         static final class Builder {
             private boolean devMode;
+            private boolean snapshot;
             private ClassOutput classOutput;
             private BuildTimeConfigurationReader.ReadResult buildTimeReadResult;
             private Map<String, String> runTimeDefaults;
@@ -1621,6 +1643,11 @@ public final class RunTimeConfigurationGenerator {
                 return this;
             }
 
+            Builder setSnapshot(boolean snapshot) {
+                this.snapshot = snapshot;
+                return this;
+            }
+
             Builder setAdditionalBootstrapConfigSourceProviders(List<String> additionalBootstrapConfigSourceProviders) {
                 this.additionalBootstrapConfigSourceProviders = additionalBootstrapConfigSourceProviders;
                 return this;
@@ -8,11 +8,21 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.ProviderNotFoundException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -51,6 +61,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -64,6 +76,22 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * Whether the indexes of the dependencies that do not contain a {@code META-INF/jandex.idx} should be stored
+         * on disk, so that the dependencies are only indexed once and not by every build or dev mode start.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+
+        /**
+         * The directory in which the dependency indexes are stored. Defaults to {@code ~/.quarkus/index-cache}.
+         */
+        @ConfigItem
+        Optional<String> directory;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -92,6 +120,9 @@ public class ApplicationArchiveBuildStep {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.persistentCache = indexCacheConfig.enabled
+                ? PersistentIndexCache.create(indexCacheConfig.directory.orElse(null))
+                : null;
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
                 Thread.currentThread().getContextClassLoader(),
@@ -115,12 +146,35 @@ public class ApplicationArchiveBuildStep {
         //get paths that are included via marker files
         Set<String> markers = new HashSet<>(applicationArchiveFiles);
         markers.add(IndexingUtil.JANDEX_INDEX);
-        addMarkerFilePaths(markers, root, curateOutcomeBuildItem, indexedPaths, appArchives, buildCloseables, classLoader,
-                indexCache);
+        List<AppDependency> markedDependencies = findMarkedDependencies(markers, root, curateOutcomeBuildItem,
+                classLoader);
 
         //get paths that are included via index-dependencies
-        addIndexDependencyPaths(indexDependencyBuildItem, classLoader, root, indexedPaths, appArchives, buildCloseables,
-                indexCache, curateOutcomeBuildItem);
+        Map<Path, AppArtifactKey> indexDependencyPaths = findIndexDependencyPaths(indexDependencyBuildItem, root,
+                curateOutcomeBuildItem);
+
+        //index the jars that are not indexed yet in parallel, the archives below are then created from the cache
+        Set<Path> jars = new LinkedHashSet<>();
+        for (AppDependency dep : markedDependencies) {
+            jars.addAll(dep.getArtifact().getPaths().toList());
+        }
+        jars.addAll(indexDependencyPaths.keySet());
+        for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
+            for (Path apPath : i.getPaths()) {
+                if (!root.getPaths().contains(apPath)) {
+                    jars.add(apPath);
+                }
+            }
+        }
+        indexJars(jars, indexCache);
+
+        addMarkerFilePaths(markedDependencies, indexedPaths, appArchives, buildCloseables, classLoader, indexCache);
+
+        for (Map.Entry<Path, AppArtifactKey> i : indexDependencyPaths.entrySet()) {
+            if (indexedPaths.add(i.getKey())) {
+                appArchives.add(createApplicationArchive(buildCloseables, classLoader, indexCache, i.getKey(), i.getValue()));
+            }
+        }
 
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path apPath : i.getPaths()) {
@@ -133,37 +187,72 @@ public class ApplicationArchiveBuildStep {
         return appArchives;
     }
 
-    public void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems,
-            ClassLoader classLoader, ArchiveRootBuildItem root, Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
-            QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
+    private static Map<Path, AppArtifactKey> findIndexDependencyPaths(
+            List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
             CurateOutcomeBuildItem curateOutcomeBuildItem) {
         if (indexDependencyBuildItems.isEmpty()) {
-            return;
+            return Collections.emptyMap();
         }
         final List<AppDependency> userDeps = curateOutcomeBuildItem.getEffectiveModel().getUserDependencies();
         final Map<AppArtifactKey, AppArtifact> userMap = new HashMap<>(userDeps.size());
         for (AppDependency dep : userDeps) {
             userMap.put(dep.getArtifact().getKey(), dep.getArtifact());
         }
-        try {
-            for (IndexDependencyBuildItem indexDependencyBuildItem : indexDependencyBuildItems) {
-                final AppArtifactKey key = new AppArtifactKey(indexDependencyBuildItem.getGroupId(),
-                        indexDependencyBuildItem.getArtifactId(),
-                        indexDependencyBuildItem.getClassifier(),
-                        "jar");
-                final AppArtifact artifact = userMap.get(key);
-                if (artifact == null) {
-                    throw new RuntimeException(
-                            "Could not resolve artifact " + key + " among the runtime dependencies of the application");
+        final Map<Path, AppArtifactKey> paths = new LinkedHashMap<>();
+        for (IndexDependencyBuildItem indexDependencyBuildItem : indexDependencyBuildItems) {
+            final AppArtifactKey key = new AppArtifactKey(indexDependencyBuildItem.getGroupId(),
+                    indexDependencyBuildItem.getArtifactId(),
+                    indexDependencyBuildItem.getClassifier(),
+                    "jar");
+            final AppArtifact artifact = userMap.get(key);
+            if (artifact == null) {
+                throw new RuntimeException(
+                        "Could not resolve artifact " + key + " among the runtime dependencies of the application");
+            }
+            for (Path path : artifact.getPaths()) {
+                if (!root.isExcludedFromIndexing(path) && !root.getPaths().contains(path)) {
+                    paths.putIfAbsent(path, key);
                 }
-                for (Path path : artifact.getPaths()) {
-                    if (!root.isExcludedFromIndexing(path) && !root.getPaths().contains(path) && indexedDeps.add(path)) {
-                        appArchives.add(createApplicationArchive(buildCloseables, classLoader, indexCache, path, key));
+            }
+        }
+        return paths;
+    }
+
+    private static void indexJars(Set<Path> paths, IndexCache indexCache) throws IOException {
+        List<Path> jars = new ArrayList<>();
+        for (Path path : paths) {
+            if (!Files.isDirectory(path) && !indexCache.cache.containsKey(path)) {
+                jars.add(path);
+            }
+        }
+        if (jars.size() < 2) {
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(jars.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<Index>> indexes = new ArrayList<>(jars.size());
+            for (Path jar : jars) {
+                indexes.add(executor.submit(new Callable<Index>() {
+                    @Override
+                    public Index call() {
+                        return handleJarPath(jar, indexCache);
                     }
-                }
+                }));
             }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            for (Future<Index> index : indexes) {
+                index.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
     }
 
@@ -180,25 +269,24 @@ public class ApplicationArchiveBuildStep {
         return Files.isDirectory(dep) ? handleFilePath(dep) : handleJarPath(dep, indexCache);
     }
 
-    private static void addMarkerFilePaths(Set<String> applicationArchiveFiles,
-            ArchiveRootBuildItem root, CurateOutcomeBuildItem curateOutcomeBuildItem, Set<Path> indexedPaths,
-            List<ApplicationArchive> appArchives, QuarkusBuildCloseablesBuildItem buildCloseables, ClassLoader classLoader,
-            IndexCache indexCache)
+    private static List<AppDependency> findMarkedDependencies(Set<String> applicationArchiveFiles,
+            ArchiveRootBuildItem root, CurateOutcomeBuildItem curateOutcomeBuildItem, ClassLoader classLoader)
             throws IOException {
+        final List<AppDependency> markedDependencies = new ArrayList<>();
         for (AppDependency dep : curateOutcomeBuildItem.getEffectiveModel().getUserDependencies()) {
-            final PathsCollection artifactPaths = dep.getArtifact().getPaths();
-            boolean containsMarker = false;
-            for (Path p : artifactPaths) {
+            for (Path p : dep.getArtifact().getPaths()) {
                 if (root.isExcludedFromIndexing(p)) {
                     continue;
                 }
                 if (Files.isDirectory(p)) {
-                    if (containsMarker = containsMarker(p, applicationArchiveFiles)) {
+                    if (containsMarker(p, applicationArchiveFiles)) {
+                        markedDependencies.add(dep);
                         break;
                     }
                 } else {
                     try (FileSystem fs = FileSystems.newFileSystem(p, classLoader)) {
-                        if (containsMarker = containsMarker(fs.getPath("/"), applicationArchiveFiles)) {
+                        if (containsMarker(fs.getPath("/"), applicationArchiveFiles)) {
+                            markedDependencies.add(dep);
                             break;
                         }
                     } catch (ProviderNotFoundException e) {
@@ -209,25 +297,32 @@ public class ApplicationArchiveBuildStep {
                     }
                 }
             }
+        }
+        return markedDependencies;
+    }
 
-            if (containsMarker) {
-                final PathsCollection.Builder rootDirs = PathsCollection.builder();
-                final List<IndexView> indexes = new ArrayList<>(artifactPaths.size());
-                for (Path p : artifactPaths) {
-                    if (Files.isDirectory(p)) {
-                        rootDirs.add(p);
-                    } else {
-                        final FileSystem fs = buildCloseables.add(FileSystems.newFileSystem(p, classLoader));
-                        fs.getRootDirectories().forEach(rootDirs::add);
-                    }
-                    indexes.add(indexPath(indexCache, p));
-
-                    indexedPaths.add(p);
+    private static void addMarkerFilePaths(List<AppDependency> markedDependencies, Set<Path> indexedPaths,
+            List<ApplicationArchive> appArchives, QuarkusBuildCloseablesBuildItem buildCloseables, ClassLoader classLoader,
+            IndexCache indexCache)
+            throws IOException {
+        for (AppDependency dep : markedDependencies) {
+            final PathsCollection artifactPaths = dep.getArtifact().getPaths();
+            final PathsCollection.Builder rootDirs = PathsCollection.builder();
+            final List<IndexView> indexes = new ArrayList<>(artifactPaths.size());
+            for (Path p : artifactPaths) {
+                if (Files.isDirectory(p)) {
+                    rootDirs.add(p);
+                } else {
+                    final FileSystem fs = buildCloseables.add(FileSystems.newFileSystem(p, classLoader));
+                    fs.getRootDirectories().forEach(rootDirs::add);
                 }
-                appArchives
-                        .add(new ApplicationArchiveImpl(indexes.size() == 1 ? indexes.get(0) : CompositeIndex.create(indexes),
-                                rootDirs.build(), artifactPaths, dep.getArtifact().getKey()));
+                indexes.add(indexPath(indexCache, p));
+
+                indexedPaths.add(p);
             }
+            appArchives
+                    .add(new ApplicationArchiveImpl(indexes.size() == 1 ? indexes.get(0) : CompositeIndex.create(indexes),
+                            rootDirs.build(), artifactPaths, dep.getArtifact().getKey()));
         }
     }
 
@@ -265,7 +360,7 @@ public class ApplicationArchiveBuildStep {
             @Override
             public Index apply(Path path) {
                 try {
-                    return IndexingUtil.indexJar(path);
+                    return IndexingUtil.indexJar(path.toFile(), indexCache.persistentCache);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -279,7 +374,9 @@ public class ApplicationArchiveBuildStep {
      */
     private static final class IndexCache {
 
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+
+        PersistentIndexCache persistentCache;
 
     }
 }
@@ -37,6 +37,13 @@ public class IndexingUtil {
     }
 
     public static Index indexJar(File file) throws IOException {
+        return indexJar(file, null);
+    }
+
+    /**
+     * Index a jar, using the persistent cache if the jar does not contain a usable index.
+     */
+    static Index indexJar(File file, PersistentIndexCache cache) throws IOException {
         try (JarFile jarFile = new JarFile(file)) {
             ZipEntry existing = jarFile.getEntry(JANDEX_INDEX);
             if (existing != null) {
@@ -46,14 +53,29 @@ public class IndexingUtil {
                         log.warnf(
                                 "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
                                 file);
-                        return indexJar(jarFile);
+                        return indexJar(jarFile, cache);
                     } else {
                         return reader.read();
                     }
                 }
             }
-            return indexJar(jarFile);
+            return indexJar(jarFile, cache);
+        }
+    }
+
+    private static Index indexJar(JarFile file, PersistentIndexCache cache) throws IOException {
+        if (cache == null) {
+            return indexJar(file);
+        }
+        String key = cache.key(new File(file.getName()).toPath());
+        Index index = cache.read(key);
+        if (index == null) {
+            index = indexJar(file);
+            cache.write(key, index);
+        } else {
+            log.debugf("Using the cached index of %s", file.getName());
         }
+        return index;
     }
 
     private static Index indexJar(JarFile file) throws IOException {
@@ -0,0 +1,112 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk cache of the Jandex indexes of dependency jars that do not contain a {@code META-INF/jandex.idx}.
+ * <p>
+ * The indexes are keyed by the SHA-1 of the jar content and stored in a directory per Jandex version, so a jar is only
+ * indexed once per machine no matter how many builds, projects or dev mode restarts use it.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger log = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path directory;
+
+    private PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param directory the root directory of the cache or {@code null} to use {@code ~/.quarkus/index-cache}
+     */
+    static PersistentIndexCache create(String directory) {
+        Path root = directory != null ? Paths.get(directory)
+                : Paths.get(System.getProperty("user.home"), ".quarkus", "index-cache");
+        String jandexVersion = Index.class.getPackage().getImplementationVersion();
+        return new PersistentIndexCache(root.resolve(jandexVersion == null ? "unknown" : jandexVersion));
+    }
+
+    /**
+     * @return the cache key of the given jar
+     */
+    String key(Path jar) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        byte[] buffer = new byte[16384];
+        try (InputStream in = new DigestInputStream(Files.newInputStream(jar), digest)) {
+            while (in.read(buffer) != -1) {
+                // the digest is updated while reading
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the cached index or {@code null} if there is none
+     */
+    Index read(String key) {
+        Path file = directory.resolve(key + INDEX_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return new IndexReader(in).read();
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Ignoring the unreadable cached index %s", file);
+            return null;
+        }
+    }
+
+    void write(String key, Index index) {
+        Path file = directory.resolve(key + INDEX_SUFFIX);
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            // write to a temporary file first so that concurrent builds never see a partially written index
+            tmp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to store the index in %s", file);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.quarkus.deployment.pkg;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class AppcdsConfig {
+
+    /**
+     * Whether to create a dynamic AppCDS archive using {@code -XX:ArchiveClassesAtExit} instead of a static archive
+     * created from a class list. A dynamic archive contains all the classes loaded until the application exits,
+     * including lambda proxy classes, on top of the default CDS archive of the JDK.
+     *
+     * This requires Java 13+, a static archive is created with older versions.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean dynamic;
+
+    /**
+     * Whether to launch the application with the created archive and to verify that classes are actually loaded from
+     * it. If they are not, the archive is discarded.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean validate;
+
+    /**
+     * Configuration of the training run used to create the archive.
+     */
+    @ConfigItem
+    public TrainingConfig training;
+
+    @ConfigGroup
+    public static class TrainingConfig {
+
+        /**
+         * Whether the archive should be created from a training run of the application.
+         *
+         * By default the application only loads the generated classes and exits right away. In a training run the
+         * application starts normally: its main is executed, and once the HTTP server accepts connections the
+         * configured endpoints are requested, after which the application is stopped. The archive then contains the
+         * classes needed to start and to serve these requests.
+         *
+         * The application is stopped gracefully by closing its standard input. A custom main that does not wait for the
+         * exit of the application is terminated instead, which on Windows kills the JVM before it writes the archive.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The paths of the HTTP endpoints that are requested with {@code GET} during the training run, e.g.
+         * {@code /hello}.
+         */
+        @ConfigItem
+        public Optional<List<String>> endpoints;
+
+        /**
+         * The command line arguments passed to the application during the training run.
+         */
+        @ConfigItem
+        public Optional<List<String>> args;
+
+        /**
+         * The maximum duration of the training run. The application is stopped if it is still running afterwards.
+         */
+        @ConfigItem(defaultValue = "60S")
+        public Duration timeout;
+    }
+}
@@ -89,6 +89,12 @@ public class PackageConfig {
     @ConfigItem
     public boolean createAppcds;
 
+    /**
+     * AppCDS configuration, only used if {@code create-appcds} is {@code true}.
+     */
+    @ConfigItem
+    public AppcdsConfig appcds;
+
     /**
      * This is an advanced option that only takes effect for the mutable-jar format.
      *
@@ -102,6 +108,26 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> userProvidersDirectory;
 
+    /**
+     * If this is {@code true} a production build is skipped and the result of the previous build is reused if none of
+     * its inputs changed, i.e. the application classes and resources, the dependencies, the Quarkus version and the
+     * {@code quarkus.*} system properties and environment variables.
+     *
+     * This is evaluated before the build starts, so it can only be set as a system property, a build system property or
+     * in {@code application.properties}. This does not apply to uber-jars.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean cacheAugmentation;
+
+    /**
+     * If this is {@code true} a {@code fast-jar} or {@code mutable-jar} also contains the uncompressed bytes of all the
+     * classes of the application and its dependencies in a single pre-indexed file, which is memory mapped when the
+     * application starts. Classes are then loaded without opening and inflating the jars, which reduces the startup time
+     * of applications with many dependencies at the cost of a larger package.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean mappedClasses;
+
     public boolean isAnyJarType() {
         return (type.equalsIgnoreCase(PackageConfig.LEGACY) ||
                 type.equalsIgnoreCase(PackageConfig.JAR) ||
@@ -1,7 +1,14 @@
 package io.quarkus.deployment.pkg.steps;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -9,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -17,6 +25,7 @@ import org.jboss.logging.Logger;
 import io.quarkus.bootstrap.util.IoUtils;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.AppcdsConfig;
 import io.quarkus.deployment.pkg.PackageConfig;
 import io.quarkus.deployment.pkg.builditem.AppCDSRequestedBuildItem;
 import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
@@ -25,6 +34,7 @@ import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.deployment.steps.MainClassBuildStep;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.runtime.util.JavaVersionUtil;
 import io.quarkus.utilities.JavaBinFinder;
 
@@ -33,6 +43,15 @@ public class AppCDSBuildStep {
     private static final Logger log = Logger.getLogger(AppCDSBuildStep.class);
     public static final String JDK_CLASSLIST_FILE = "classlist";
     public static final String CLASSES_LIST_FILE_NAME = "classes.lst";
+    private static final String CLASS_LOAD_LOG_FILE_NAME = "class-load.log";
+    private static final String HTTP_PORT_SYSTEM_PROPERTY = "quarkus.http.port";
+    private static final String[] JDK_PACKAGES = { "java.", "jdk.", "sun.", "com.sun." };
+    /**
+     * Only sees the classes of the JDK, which is the same for the build and for the archive
+     */
+    private static final ClassLoader JDK_CLASS_LOADER = ClassLoader.getSystemClassLoader().getParent();
+    private static final int DEFAULT_TRAINING_PORT = 8089;
+    private static final int TRAINING_POLL_INTERVAL_MS = 200;
 
     @BuildStep(onlyIf = AppCDSRequired.class)
     public void requested(OutputTargetBuildItem outputTarget, BuildProducer<AppCDSRequestedBuildItem> producer)
@@ -55,13 +74,6 @@ public class AppCDSBuildStep {
         Path appCDSDir = appCDsRequested.get().getAppCDSDir();
         String javaHomeStr = System.getProperty("java.home");
         Path javaHomeDir = Paths.get(javaHomeStr);
-        Path jdkClassList = javaHomeDir.resolve("lib").resolve(JDK_CLASSLIST_FILE);
-        if (!jdkClassList.toFile().exists()) {
-            log.warnf(
-                    "In order to create AppCDS the JDK used to build the Quarkus application must contain a file named '%s' in the its 'lib' directory.",
-                    JDK_CLASSLIST_FILE);
-            return;
-        }
         String javaExecutableStr = JavaBinFinder.simpleBinaryName();
         String javaBinStr = javaHomeStr + File.separator + "bin" + File.separator + javaExecutableStr;
         if (!new File(javaBinStr).canExecute()) {
@@ -71,21 +83,52 @@ public class AppCDSBuildStep {
             return;
         }
 
-        Path classesLstPath = createClassesLst(packageConfig, jarResult, javaBinStr, appCDSDir);
-        if (classesLstPath == null) {
-            log.warnf("Unable to create AppCDS because '%s' was not created.", CLASSES_LIST_FILE_NAME);
-            return;
+        boolean dynamic = packageConfig.appcds.dynamic;
+        if (dynamic && !JavaVersionUtil.isJava13OrHigher()) {
+            log.warn("Dynamic AppCDS archives can only be created with Java 13+, a static archive will be created instead.");
+            dynamic = false;
         }
 
-        log.debugf("'%s' successfully created.", CLASSES_LIST_FILE_NAME);
+        Path appCDSPath;
+        if (dynamic) {
+            log.info("Launching AppCDS creation process.");
+            appCDSPath = createDynamicAppCDS(packageConfig, jarResult, javaBinStr, appCDSDir);
+        } else {
+            Path jdkClassList = javaHomeDir.resolve("lib").resolve(JDK_CLASSLIST_FILE);
+            if (!jdkClassList.toFile().exists()) {
+                log.warnf(
+                        "In order to create AppCDS the JDK used to build the Quarkus application must contain a file named '%s' in the its 'lib' directory.",
+                        JDK_CLASSLIST_FILE);
+                return;
+            }
+
+            Path classesLstPath = createClassesLst(packageConfig, jarResult, javaBinStr, appCDSDir);
+            if (classesLstPath == null) {
+                log.warnf("Unable to create AppCDS because '%s' was not created.", CLASSES_LIST_FILE_NAME);
+                return;
+            }
+
+            log.debugf("'%s' successfully created.", CLASSES_LIST_FILE_NAME);
 
-        log.info("Launching AppCDS creation process.");
-        Path appCDSPath = createAppCDS(jarResult, javaBinStr, classesLstPath, packageConfig.isFastJar());
+            log.info("Launching AppCDS creation process.");
+            appCDSPath = createAppCDS(jarResult, javaBinStr, classesLstPath, packageConfig.isFastJar());
+        }
         if (appCDSPath == null) {
             log.warn("Unable to create AppCDS.");
             return;
         }
 
+        if (packageConfig.appcds.validate) {
+            int sharedClasses = validateAppCDS(packageConfig, jarResult, javaBinStr, appCDSDir, appCDSPath, dynamic);
+            if (sharedClasses <= 0) {
+                log.warn("The created AppCDS could not be used to launch the application and has been discarded. "
+                        + "Enable debug logging for more details.");
+                Files.deleteIfExists(appCDSPath);
+                return;
+            }
+            log.debugf("%d classes were loaded from the AppCDS when launching the application.", sharedClasses);
+        }
+
         log.infof(
                 "AppCDS successfully created at: '%s'.\nTo ensure they are loaded properly, " +
                         "run the application jar from its directory and also add the '-XX:SharedArchiveFile=app-cds.jsa' " +
@@ -105,7 +148,7 @@ public class AppCDSBuildStep {
         List<String> command = new ArrayList<>(5);
         command.add(javaBin);
         command.add("-XX:DumpLoadedClassList=" + CLASSES_LIST_FILE_NAME);
-        command.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
+        addLaunchArguments(command, packageConfig, appCDSDir);
         command.add("-jar");
         if (packageConfig.isFastJar()) {
             command.add(jarResult.getLibraryDir().getParent().resolve(JarResultBuildStep.QUARKUS_RUN_JAR).toAbsolutePath()
@@ -113,33 +156,25 @@ public class AppCDSBuildStep {
         } else {
             command.add(jarResult.getPath().toAbsolutePath().toString());
         }
+        addApplicationArguments(command, packageConfig);
 
         if (log.isDebugEnabled()) {
             log.debugf("Launching command: '%s' to create '" + CLASSES_LIST_FILE_NAME + "' AppCDS.", String.join(" ", command));
         }
 
-        int exitCode;
-        try {
-            ProcessBuilder processBuilder = new ProcessBuilder(command)
-                    .directory(appCDSDir.toFile());
-            if (log.isDebugEnabled()) {
-                processBuilder.inheritIO();
-            } else {
-                processBuilder.redirectError(NULL_FILE);
-                processBuilder.redirectOutput(NULL_FILE);
-            }
-            exitCode = processBuilder.start().waitFor();
-        } catch (Exception e) {
-            log.debug("Failed to launch process used to create '" + CLASSES_LIST_FILE_NAME + "'.", e);
+        Integer exitCode = launch(command, appCDSDir, packageConfig.appcds.training);
+        if (exitCode == null) {
             return null;
         }
 
-        if (exitCode != 0) {
+        // the application is stopped at the end of a training run, so its exit code is not meaningful
+        if (exitCode != 0 && !packageConfig.appcds.training.enabled) {
             log.debugf("The process that was supposed to create AppCDS exited with error code: %d.", exitCode);
             return null;
         }
 
-        return appCDSDir.resolve(CLASSES_LIST_FILE_NAME);
+        Path classesLstPath = appCDSDir.resolve(CLASSES_LIST_FILE_NAME);
+        return classesLstPath.toFile().exists() ? classesLstPath : null;
     }
 
     /**
@@ -148,15 +183,8 @@ public class AppCDSBuildStep {
     private Path createAppCDS(JarBuildItem jarResult, String javaBin,
             Path classesLstPath, boolean isFastFar) {
 
-        Path workingDirectory = isFastFar ? jarResult.getPath().getParent().getParent() : jarResult.getPath().getParent();
-        Path appCDSPath = workingDirectory.resolve("app-cds.jsa");
-        if (appCDSPath.toFile().exists()) {
-            try {
-                Files.delete(appCDSPath);
-            } catch (IOException e) {
-                log.debug("Unable to delete existing 'app-cds.jsa' file.", e);
-            }
-        }
+        Path workingDirectory = workingDirectory(jarResult, isFastFar);
+        Path appCDSPath = appCDSPath(workingDirectory);
 
         List<String> command = new ArrayList<>(6);
         command.add(javaBin);
@@ -168,17 +196,165 @@ public class AppCDSBuildStep {
         // The end result is that users can simply use 'java -XX:SharedArchiveFile=app-cds.jsa -jar app.jar'
         command.add("-XX:SharedArchiveFile=" + appCDSPath.getFileName().toString());
         command.add("--class-path");
-        if (isFastFar) {
-            command.add(JarResultBuildStep.QUARKUS_RUN_JAR);
-        } else {
-            command.add(jarResult.getPath().getFileName().toString());
-        }
+        command.add(jarFileName(jarResult, isFastFar));
 
         if (log.isDebugEnabled()) {
             log.debugf("Launching command: '%s' to create final AppCDS.", String.join(" ", command));
         }
 
-        int exitCode;
+        Integer exitCode = launch(command, workingDirectory, null);
+        if (exitCode == null) {
+            return null;
+        }
+
+        if (exitCode != 0) {
+            log.debugf("The process that was supposed to create AppCDS exited with error code: %d.", exitCode);
+            return null;
+        }
+
+        if (!appCDSPath.toFile().exists()) { // shouldn't happen, but let's avoid any surprises
+            return null;
+        }
+
+        return appCDSPath;
+    }
+
+    /**
+     * Creates a dynamic archive of the classes loaded by the application, which the JVM writes when it exits.
+     *
+     * @return The path of the created app-cds.jsa file or null if the file was not created
+     */
+    private Path createDynamicAppCDS(PackageConfig packageConfig, JarBuildItem jarResult, String javaBin,
+            Path appCDSDir) {
+
+        Path workingDirectory = workingDirectory(jarResult, packageConfig.isFastJar());
+        Path appCDSPath = appCDSPath(workingDirectory);
+
+        List<String> command = new ArrayList<>(6);
+        command.add(javaBin);
+        // the relative paths are used for the same reason as when creating a static archive
+        command.add("-XX:ArchiveClassesAtExit=" + appCDSPath.getFileName().toString());
+        addLaunchArguments(command, packageConfig, appCDSDir);
+        command.add("-jar");
+        command.add(jarFileName(jarResult, packageConfig.isFastJar()));
+        addApplicationArguments(command, packageConfig);
+
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' to create dynamic AppCDS.", String.join(" ", command));
+        }
+
+        Integer exitCode = launch(command, workingDirectory, packageConfig.appcds.training);
+        if (exitCode == null) {
+            return null;
+        }
+
+        if (exitCode != 0 && !packageConfig.appcds.training.enabled) {
+            log.debugf("The process that was supposed to create AppCDS exited with error code: %d.", exitCode);
+            return null;
+        }
+
+        if (!appCDSPath.toFile().exists()) {
+            return null;
+        }
+
+        return appCDSPath;
+    }
+
+    /**
+     * Launches the application with the archive the same way users are expected to launch it, and counts the classes
+     * that are loaded from the archive.
+     *
+     * @return the number of classes loaded from the archive or -1 if the archive could not be used
+     */
+    private int validateAppCDS(PackageConfig packageConfig, JarBuildItem jarResult, String javaBin, Path appCDSDir,
+            Path appCDSPath, boolean dynamic) throws IOException {
+
+        Path classLoadLog = appCDSDir.resolve(CLASS_LOAD_LOG_FILE_NAME);
+        Files.deleteIfExists(classLoadLog);
+
+        List<String> command = new ArrayList<>(8);
+        command.add(javaBin);
+        // fail instead of silently falling back to loading the classes from the jars
+        command.add("-Xshare:on");
+        command.add("-XX:SharedArchiveFile=" + appCDSPath.getFileName().toString());
+        command.add("-Xlog:class+load=info:file=" + classLoadLog.toAbsolutePath().toString());
+        command.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
+        command.add(String.format("-D%s=%s", AppCDSUtil.GENERATED_CLASSES_FILE_SYSTEM_PROPERTY,
+                appCDSDir.resolve(AppCDSUtil.GENERATED_CLASSES_FILE_NAME).toAbsolutePath().toString()));
+        command.add("-jar");
+        command.add(jarFileName(jarResult, packageConfig.isFastJar()));
+
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' to validate AppCDS.", String.join(" ", command));
+        }
+
+        // the exit code is not checked, as the application may set its own, the JVM fails to start anyway if the
+        // archive cannot be mapped
+        Integer exitCode = launch(command, appCDSPath.getParent(), null);
+        if (exitCode == null || !Files.exists(classLoadLog)) {
+            log.debug("The process that was supposed to validate AppCDS could not be launched.");
+            return -1;
+        }
+
+        // classes from a dynamic archive are reported as coming from the top layer, on top of the JDK archive
+        String source = dynamic ? "source: shared objects file (top)" : "source: shared objects file";
+        int sharedClasses = 0;
+        try (BufferedReader reader = Files.newBufferedReader(classLoadLog)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains(source) && !isJdkClass(line)) {
+                    sharedClasses++;
+                }
+            }
+        }
+        return sharedClasses;
+    }
+
+    /**
+     * The classes of the JDK may be loaded from the default CDS archive of the JDK, or be part of the created archive,
+     * either way they do not tell if the archive is used for the classes of the application.
+     *
+     * @param line a line of the class loading log, e.g. {@code [0.013s][info][class,load] java.lang.Object source: ...}
+     */
+    private static boolean isJdkClass(String line) {
+        int end = line.indexOf(" source: ");
+        int start = line.lastIndexOf(' ', end - 1) + 1;
+        String className = line.substring(start, end);
+        for (String prefix : JDK_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        // e.g. javax.xml, but not the javax packages of the dependencies
+        return JDK_CLASS_LOADER != null && JDK_CLASS_LOADER.getResource(className.replace('.', '/') + ".class") != null;
+    }
+
+    /**
+     * Adds the arguments that make the launched application either load its classes and exit right away, or run as
+     * configured for the training run.
+     */
+    private static void addLaunchArguments(List<String> command, PackageConfig packageConfig, Path appCDSDir) {
+        if (packageConfig.appcds.training.enabled) {
+            command.add(String.format("-D%s=%d", HTTP_PORT_SYSTEM_PROPERTY, findFreePort()));
+            command.add(String.format("-D%s=true", AppCDSUtil.TRAINING_SYSTEM_PROPERTY));
+        } else {
+            command.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
+            command.add(String.format("-D%s=%s", AppCDSUtil.GENERATED_CLASSES_FILE_SYSTEM_PROPERTY,
+                    appCDSDir.resolve(AppCDSUtil.GENERATED_CLASSES_FILE_NAME).toAbsolutePath().toString()));
+        }
+    }
+
+    private static void addApplicationArguments(List<String> command, PackageConfig packageConfig) {
+        if (packageConfig.appcds.training.enabled && packageConfig.appcds.training.args.isPresent()) {
+            command.addAll(packageConfig.appcds.training.args.get());
+        }
+    }
+
+    /**
+     * @param training the training configuration, if the process runs the application
+     * @return the exit code of the process or null if it could not be launched
+     */
+    private static Integer launch(List<String> command, Path workingDirectory, AppcdsConfig.TrainingConfig training) {
         try {
             ProcessBuilder processBuilder = new ProcessBuilder(command)
                     .directory(workingDirectory.toFile());
@@ -188,21 +364,120 @@ public class AppCDSBuildStep {
                 processBuilder.redirectError(NULL_FILE);
                 processBuilder.redirectOutput(NULL_FILE);
             }
-            exitCode = processBuilder.start().waitFor();
+            if (training != null && training.enabled) {
+                // closing the standard input stops the application, see AppCDSUtil#exitOnStandardInputClosed
+                processBuilder.redirectInput(ProcessBuilder.Redirect.PIPE);
+            }
+            Process process = processBuilder.start();
+            if (training != null && training.enabled) {
+                train(process, command, training);
+            }
+            return process.waitFor();
         } catch (Exception e) {
             log.debug("Failed to launch process used to create AppCDS.", e);
             return null;
         }
+    }
 
-        if (exitCode != 0) {
-            log.debugf("The process that was supposed to create AppCDS exited with error code: %d.", exitCode);
-            return null;
+    /**
+     * Waits until the application either exits on its own, e.g. when its main completes, or accepts HTTP connections.
+     * In the latter case the training endpoints are requested and the application is stopped, which lets the JVM
+     * write the class list or the dynamic archive on exit.
+     */
+    private static void train(Process process, List<String> command, AppcdsConfig.TrainingConfig training)
+            throws InterruptedException {
+        int port = -1;
+        for (String arg : command) {
+            if (arg.startsWith("-D" + HTTP_PORT_SYSTEM_PROPERTY + "=")) {
+                port = Integer.parseInt(arg.substring(HTTP_PORT_SYSTEM_PROPERTY.length() + 3));
+            }
         }
+        long deadline = System.nanoTime() + training.timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (process.waitFor(TRAINING_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            if (isListening(port)) {
+                for (String endpoint : training.endpoints.orElse(Collections.emptyList())) {
+                    request(port, endpoint);
+                }
+                break;
+            }
+        }
+        if (process.isAlive()) {
+            // a graceful shutdown, the JVM only writes the archive if its shutdown sequence runs. Closing the standard
+            // input works on every platform, whereas Process#destroy() kills the process on Windows.
+            try {
+                process.getOutputStream().close();
+            } catch (IOException e) {
+                log.debug("Unable to close the standard input of the AppCDS training run.", e);
+            }
+            long stopTimeout = Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 10_000);
+            if (!process.waitFor(stopTimeout, TimeUnit.MILLISECONDS)) {
+                // e.g. a custom main that does not wait for the exit of the application, this is graceful except on
+                // Windows
+                process.destroy();
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    log.debug("The AppCDS training run did not stop in time.");
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
 
-        if (!appCDSPath.toFile().exists()) { // shouldn't happen, but let's avoid any surprises
-            return null;
+    private static boolean isListening(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", port), TRAINING_POLL_INTERVAL_MS);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void request(int port, String endpoint) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", port,
+                    endpoint.startsWith("/") ? endpoint : "/" + endpoint).openConnection();
+            try (InputStream in = connection.getResponseCode() < 400 ? connection.getInputStream()
+                    : connection.getErrorStream()) {
+                if (in != null) {
+                    byte[] buffer = new byte[4096];
+                    while (in.read(buffer) != -1) {
+                        // the content is irrelevant
+                    }
+                }
+            }
+            log.debugf("Requested training endpoint %s: %d", endpoint, connection.getResponseCode());
+        } catch (IOException e) {
+            log.debugf(e, "Unable to request training endpoint %s", endpoint);
+        }
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            return DEFAULT_TRAINING_PORT;
         }
+    }
 
+    private static Path workingDirectory(JarBuildItem jarResult, boolean isFastFar) {
+        return isFastFar ? jarResult.getPath().getParent().getParent() : jarResult.getPath().getParent();
+    }
+
+    private static String jarFileName(JarBuildItem jarResult, boolean isFastFar) {
+        return isFastFar ? JarResultBuildStep.QUARKUS_RUN_JAR : jarResult.getPath().getFileName().toString();
+    }
+
+    private static Path appCDSPath(Path workingDirectory) {
+        Path appCDSPath = workingDirectory.resolve("app-cds.jsa");
+        if (appCDSPath.toFile().exists()) {
+            try {
+                Files.delete(appCDSPath);
+            } catch (IOException e) {
+                log.debug("Unable to delete existing 'app-cds.jsa' file.", e);
+            }
+        }
         return appCDSPath;
     }
 
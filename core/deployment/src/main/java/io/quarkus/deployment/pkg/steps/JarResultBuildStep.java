@@ -78,6 +78,7 @@ import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageSourceJarBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.UberJarRequiredBuildItem;
+import io.quarkus.runtime.appcds.AppCDSUtil;
 
 /**
  * This build step builds both the thin jars and uber jars.
@@ -207,7 +208,7 @@ public class JarResultBuildStep {
     private void handleAppCDSSupportFileGeneration(TransformedClassesBuildItem transformedClasses,
             List<GeneratedClassBuildItem> generatedClasses, AppCDSRequestedBuildItem appCDS) throws IOException {
         Path appCDsDir = appCDS.getAppCDSDir();
-        Path generatedClassesFile = appCDsDir.resolve("generatedAndTransformed.lst");
+        Path generatedClassesFile = appCDsDir.resolve(AppCDSUtil.GENERATED_CLASSES_FILE_NAME);
         try (BufferedWriter writer = Files.newBufferedWriter(generatedClassesFile, StandardOpenOption.CREATE)) {
             StringBuilder classes = new StringBuilder();
             for (GeneratedClassBuildItem generatedClass : generatedClasses) {
@@ -573,7 +574,8 @@ public class JarResultBuildStep {
 
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
-            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars, nonExistentResources);
+            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars, nonExistentResources,
+                    packageConfig.mappedClasses ? buildDir.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_DAT) : null);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -1,5 +1,8 @@
 package io.quarkus.deployment.steps;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -10,6 +13,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.spi.ConfigSource;
 
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -20,10 +24,13 @@ import io.quarkus.deployment.builditem.AdditionalBootstrapConfigSourceProviderBu
 import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationTypeBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
+import io.quarkus.deployment.configuration.ConfigurationBuildTimeConfig;
 import io.quarkus.deployment.configuration.RunTimeConfigurationGenerator;
 import io.quarkus.deployment.configuration.definition.ClassDefinition;
 import io.quarkus.deployment.configuration.definition.RootDefinition;
@@ -32,7 +39,9 @@ import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.configuration.ConfigChangeRecorder;
+import io.quarkus.runtime.configuration.ConfigSnapshot;
 import io.quarkus.runtime.configuration.ConfigurationRuntimeConfig;
+import io.quarkus.runtime.configuration.ProfileManager;
 
 public class ConfigGenerationBuildStep {
 
@@ -44,11 +53,20 @@ public class ConfigGenerationBuildStep {
             List<ConfigurationTypeBuildItem> typeItems,
             LaunchModeBuildItem launchModeBuildItem,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<GeneratedResourceBuildItem> generatedResource,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResource,
             LiveReloadBuildItem liveReloadBuildItem,
-            List<AdditionalBootstrapConfigSourceProviderBuildItem> additionalBootstrapConfigSourceProviders) {
+            List<AdditionalBootstrapConfigSourceProviderBuildItem> additionalBootstrapConfigSourceProviders,
+            ConfigurationBuildTimeConfig configurationConfig) {
         if (liveReloadBuildItem.isLiveReload()) {
             return;
         }
+        boolean devMode = launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT;
+        boolean snapshot = configurationConfig.snapshot && !devMode;
+        if (snapshot) {
+            generatedResource.produce(new GeneratedResourceBuildItem(ConfigSnapshot.RESOURCE_NAME, createConfigSnapshot()));
+            nativeImageResource.produce(new NativeImageResourceBuildItem(ConfigSnapshot.RESOURCE_NAME));
+        }
         BuildTimeConfigurationReader.ReadResult readResult = configItem.getReadResult();
         Map<String, String> defaults = new HashMap<>();
         for (RunTimeConfigurationDefaultBuildItem item : runTimeDefaults) {
@@ -60,11 +78,30 @@ public class ConfigGenerationBuildStep {
                 .collect(Collectors.toList());
 
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, false);
-        RunTimeConfigurationGenerator.generate(readResult, classOutput,
-                launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT, defaults, additionalConfigTypes,
+        RunTimeConfigurationGenerator.generate(readResult, classOutput, devMode, snapshot, defaults, additionalConfigTypes,
                 getAdditionalBootstrapConfigSourceProviders(additionalBootstrapConfigSourceProviders));
     }
 
+    /**
+     * Snapshots the configuration sources read from the class path, which are the same at build time and at run time, and
+     * the names of their Quarkus properties for the profile of the build.
+     */
+    private byte[] createConfigSnapshot() {
+        List<ConfigSource> sources = new ArrayList<>();
+        for (ConfigSource source : ConfigProvider.getConfig().getConfigSources()) {
+            if (ConfigSnapshot.isSnapshotted(source)) {
+                sources.add(source);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ConfigSnapshot.write(sources, ProfileManager.getActiveProfile(), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
     private List<String> getAdditionalBootstrapConfigSourceProviders(
             List<AdditionalBootstrapConfigSourceProviderBuildItem> additionalBootstrapConfigSourceProviders) {
         if (additionalBootstrapConfigSourceProviders.isEmpty()) {
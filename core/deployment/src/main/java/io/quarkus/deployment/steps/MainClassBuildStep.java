@@ -196,6 +196,15 @@ public class MainClassBuildStep {
 
             createAppCDS.invokeStaticMethod(ofMethod(ApplicationLifecycleManager.class, "exit", void.class));
             createAppCDS.returnValue(null);
+
+            // a training run is stopped by the build when it closes the standard input of the application
+            ResultHandle trainingSysProp = mv.invokeStaticMethod(
+                    ofMethod(System.class, "getProperty", String.class, String.class, String.class),
+                    mv.load(AppCDSUtil.TRAINING_SYSTEM_PROPERTY), mv.load("false"));
+            ResultHandle trainingBool = mv.invokeStaticMethod(
+                    ofMethod(Boolean.class, "parseBoolean", boolean.class, String.class), trainingSysProp);
+            mv.ifTrue(trainingBool).trueBranch()
+                    .invokeStaticMethod(ofMethod(AppCDSUtil.class, "exitOnStandardInputClosed", void.class));
         }
 
         // very first thing is to set system props (for run time, which use substitutions for a different
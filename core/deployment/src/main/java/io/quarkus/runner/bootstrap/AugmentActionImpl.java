@@ -137,7 +137,17 @@ public class AugmentActionImpl implements AugmentAction {
         if (launchMode != LaunchMode.NORMAL) {
             throw new IllegalStateException("Can only create a production application when using NORMAL launch mode");
         }
-        ClassLoader classLoader = curatedApplication.createDeploymentClassLoader();
+        QuarkusClassLoader classLoader = curatedApplication.createDeploymentClassLoader();
+        ProfileManager.setLaunchMode(launchMode);
+        AugmentationCache cache = AugmentationCache.create(quarkusBootstrap, curatedApplication.getAppModel(), classLoader);
+        if (cache != null) {
+            AugmentResult cached = cache.load();
+            if (cached != null) {
+                log.info("Quarkus augmentation skipped, the inputs of the build have not changed since the last build");
+                classLoader.close();
+                return cached;
+            }
+        }
         BuildResult result = runAugment(true, Collections.emptySet(), null, classLoader, ArtifactResultBuildItem.class);
 
         String debugSourcesDir = BootstrapDebug.DEBUG_SOURCES_DIR;
@@ -165,11 +175,15 @@ public class AugmentActionImpl implements AugmentAction {
 
         JarBuildItem jarBuildItem = result.consumeOptional(JarBuildItem.class);
         NativeImageBuildItem nativeImageBuildItem = result.consumeOptional(NativeImageBuildItem.class);
-        return new AugmentResult(result.consumeMulti(ArtifactResultBuildItem.class).stream()
+        AugmentResult augmentResult = new AugmentResult(result.consumeMulti(ArtifactResultBuildItem.class).stream()
                 .map(a -> new ArtifactResult(a.getPath(), a.getType(), a.getMetadata()))
                 .collect(Collectors.toList()),
                 jarBuildItem != null ? jarBuildItem.toJarResult() : null,
                 nativeImageBuildItem != null ? nativeImageBuildItem.getPath() : null);
+        if (cache != null) {
+            cache.store(augmentResult);
+        }
+        return augmentResult;
     }
 
     @Override
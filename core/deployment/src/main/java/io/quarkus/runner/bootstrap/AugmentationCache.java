@@ -0,0 +1,348 @@
+package io.quarkus.runner.bootstrap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.app.ArtifactResult;
+import io.quarkus.bootstrap.app.AugmentResult;
+import io.quarkus.bootstrap.app.JarResult;
+import io.quarkus.bootstrap.app.QuarkusBootstrap;
+import io.quarkus.bootstrap.model.AppDependency;
+import io.quarkus.bootstrap.model.AppModel;
+import io.quarkus.builder.Version;
+import io.quarkus.runtime.configuration.ConfigUtils;
+import io.quarkus.runtime.configuration.ProfileManager;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Reuses the result of a production build if none of its inputs changed since the last build.
+ * <p>
+ * The inputs are the content of the application root, the dependencies, the Quarkus version and the {@code quarkus.*}
+ * configuration, read from the same sources as the build time configuration: the build system properties, the system
+ * properties, the environment variables, the {@code .env} file, {@code config/application.properties} in the working
+ * directory and the configuration files of the application and of its dependencies, including the ones of the config
+ * source providers such as YAML. Dependency jars are identified by their path,
+ * size and last modification time, dependency directories (e.g. other modules of a multi module project) by their
+ * content. The key of the last build and its result are stored in {@value #CACHE_FILE} in the target directory.
+ * <p>
+ * The cache is bypassed if a build step with side effects outside of the target directory is enabled, e.g. the push of
+ * a container image or the deployment to Kubernetes, see {@link #SIDE_EFFECT_PROPERTIES}: these steps must run on each
+ * build, even if its inputs are unchanged.
+ */
+final class AugmentationCache {
+
+    static final String ENABLED_PROPERTY = "quarkus.package.cache-augmentation";
+    static final String CACHE_FILE = "quarkus-augmentation.properties";
+
+    /**
+     * The properties that enable the build steps with side effects.
+     */
+    static final List<String> SIDE_EFFECT_PROPERTIES = Arrays.asList("quarkus.container-image.build",
+            "quarkus.container-image.push", "quarkus.kubernetes.deploy");
+
+    private static final Logger log = Logger.getLogger(AugmentationCache.class);
+
+    private static final String KEY = "key";
+    private static final String JAR_PREFIX = "jar.";
+    private static final String NATIVE = "native";
+    private static final String ARTIFACT_PREFIX = "artifact.";
+    private static final String METADATA_PREFIX = ".metadata.";
+    private static final String PATH_METADATA_PREFIX = ".path-metadata.";
+
+    private final Path file;
+    private final String key;
+
+    private AugmentationCache(Path file, String key) {
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     * @return the cache of the given application or {@code null} if the cache is disabled
+     */
+    static AugmentationCache create(QuarkusBootstrap bootstrap, AppModel appModel, ClassLoader deploymentClassLoader) {
+        Path targetDir = bootstrap.getTargetDirectory();
+        if (targetDir == null) {
+            return null;
+        }
+        SmallRyeConfig config = buildTimeConfig(bootstrap, deploymentClassLoader);
+        if (!config.getOptionalValue(ENABLED_PROPERTY, Boolean.class).orElse(false)) {
+            return null;
+        }
+        for (String property : SIDE_EFFECT_PROPERTIES) {
+            if (config.getOptionalValue(property, Boolean.class).orElse(false)) {
+                log.debugf("The augmentation cache is bypassed as %s is enabled", property);
+                return null;
+            }
+        }
+        try {
+            return new AugmentationCache(targetDir.resolve(CACHE_FILE), computeKey(bootstrap, appModel, config));
+        } catch (IOException e) {
+            log.debugf(e, "Unable to compute the augmentation cache key, the application will be rebuilt");
+            return null;
+        }
+    }
+
+    /**
+     * @return the result of the last build if its inputs are unchanged and its outputs still exist, otherwise {@code null}
+     */
+    AugmentResult load() {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read %s", file);
+            return null;
+        }
+        if (!key.equals(properties.getProperty(KEY))) {
+            return null;
+        }
+        JarResult jar = null;
+        if (properties.containsKey(JAR_PREFIX + "path")) {
+            Path path = existingPath(properties.getProperty(JAR_PREFIX + "path"));
+            Path libraryDir = existingPath(properties.getProperty(JAR_PREFIX + "libraryDir"));
+            if (path == null || libraryDir == null) {
+                return null;
+            }
+            String originalArtifact = properties.getProperty(JAR_PREFIX + "originalArtifact");
+            jar = new JarResult(path, originalArtifact == null ? null : Paths.get(originalArtifact), libraryDir,
+                    properties.getProperty(JAR_PREFIX + "type"), properties.getProperty(JAR_PREFIX + "classifier"));
+        }
+        Path nativeImage = null;
+        if (properties.containsKey(NATIVE)) {
+            nativeImage = existingPath(properties.getProperty(NATIVE));
+            if (nativeImage == null) {
+                return null;
+            }
+        }
+        List<ArtifactResult> artifacts = new ArrayList<>();
+        for (int i = 0; properties.containsKey(ARTIFACT_PREFIX + i + ".type"); i++) {
+            String prefix = ARTIFACT_PREFIX + i;
+            Path path = null;
+            if (properties.containsKey(prefix + ".path")) {
+                path = existingPath(properties.getProperty(prefix + ".path"));
+                if (path == null) {
+                    return null;
+                }
+            }
+            Map<String, Object> metadata = new HashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(prefix + METADATA_PREFIX)) {
+                    metadata.put(name.substring(prefix.length() + METADATA_PREFIX.length()), properties.getProperty(name));
+                } else if (name.startsWith(prefix + PATH_METADATA_PREFIX)) {
+                    metadata.put(name.substring(prefix.length() + PATH_METADATA_PREFIX.length()),
+                            Paths.get(properties.getProperty(name)));
+                }
+            }
+            artifacts.add(new ArtifactResult(path, properties.getProperty(prefix + ".type"), metadata));
+        }
+        return new AugmentResult(artifacts, jar, nativeImage);
+    }
+
+    void store(AugmentResult result) {
+        Properties properties = new Properties();
+        properties.setProperty(KEY, key);
+        JarResult jar = result.getJar();
+        if (jar != null) {
+            if (jar.isUberJar()) {
+                // the uber jar may replace the original artifact, which is rebuilt by the build tool
+                delete();
+                return;
+            }
+            properties.setProperty(JAR_PREFIX + "path", jar.getPath().toString());
+            properties.setProperty(JAR_PREFIX + "libraryDir", jar.getLibraryDir().toString());
+            if (jar.getOriginalArtifact() != null) {
+                properties.setProperty(JAR_PREFIX + "originalArtifact", jar.getOriginalArtifact().toString());
+            }
+            if (jar.getType() != null) {
+                properties.setProperty(JAR_PREFIX + "type", jar.getType());
+            }
+            if (jar.getClassifier() != null) {
+                properties.setProperty(JAR_PREFIX + "classifier", jar.getClassifier());
+            }
+        }
+        if (result.getNativeResult() != null) {
+            properties.setProperty(NATIVE, result.getNativeResult().toString());
+        }
+        List<ArtifactResult> artifacts = result.getResults();
+        for (int i = 0; i < artifacts.size(); i++) {
+            ArtifactResult artifact = artifacts.get(i);
+            String prefix = ARTIFACT_PREFIX + i;
+            properties.setProperty(prefix + ".type", artifact.getType());
+            if (artifact.getPath() != null) {
+                properties.setProperty(prefix + ".path", artifact.getPath().toString());
+            }
+            if (artifact.getMetadata() != null) {
+                for (Map.Entry<String, Object> entry : artifact.getMetadata().entrySet()) {
+                    if (entry.getValue() instanceof String) {
+                        properties.setProperty(prefix + METADATA_PREFIX + entry.getKey(), (String) entry.getValue());
+                    } else if (entry.getValue() instanceof Path) {
+                        properties.setProperty(prefix + PATH_METADATA_PREFIX + entry.getKey(), entry.getValue().toString());
+                    } else {
+                        // the result cannot be restored
+                        delete();
+                        return;
+                    }
+                }
+            }
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "Quarkus augmentation cache");
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write %s", file);
+        }
+    }
+
+    private void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to delete %s", file);
+        }
+    }
+
+    private static Path existingPath(String path) {
+        if (path == null) {
+            return null;
+        }
+        Path p = Paths.get(path);
+        return Files.exists(p) ? p : null;
+    }
+
+    /**
+     * @return the configuration built from the same sources as the build time configuration of the augmentation
+     */
+    private static SmallRyeConfig buildTimeConfig(QuarkusBootstrap bootstrap, ClassLoader deploymentClassLoader) {
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(deploymentClassLoader);
+            SmallRyeConfigBuilder builder = ConfigUtils.configBuilder(false);
+            Properties buildSystemProperties = bootstrap.getBuildSystemProperties();
+            builder.withSources(new PropertiesConfigSource(
+                    buildSystemProperties == null ? new Properties() : buildSystemProperties, "Build system"));
+            return builder.build();
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+        }
+    }
+
+    private static String computeKey(QuarkusBootstrap bootstrap, AppModel appModel, SmallRyeConfig config)
+            throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        update(digest, Version.getVersion());
+        update(digest, ProfileManager.getActiveProfile());
+        Map<String, String> properties = new TreeMap<>();
+        for (Map.Entry<String, String> entry : appModel.getPlatformProperties().entrySet()) {
+            properties.put("platform:" + entry.getKey(), entry.getValue());
+        }
+        for (String name : config.getPropertyNames()) {
+            if (name.startsWith("QUARKUS_") || (name.startsWith("_") && name.contains("_QUARKUS_"))) {
+                // environment variables are mapped to property names when the configuration is read
+                properties.put("env:" + name, System.getenv(name));
+                continue;
+            }
+            if (name.startsWith("%")) {
+                // the value of the active profile is the value of the property without the profile
+                int dot = name.indexOf('.');
+                name = dot < 0 ? name : name.substring(dot + 1);
+            }
+            if (name.startsWith("quarkus.") && !properties.containsKey(name)) {
+                String value;
+                try {
+                    value = config.getOptionalValue(name, String.class).orElse(null);
+                } catch (RuntimeException e) {
+                    // e.g. an expression that cannot be expanded, which fails the build
+                    value = e.toString();
+                }
+                properties.put(name, value);
+            }
+        }
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, entry.getValue());
+        }
+        for (Path root : bootstrap.getApplicationRoot()) {
+            updateWithContent(digest, root);
+        }
+        for (AppDependency dependency : appModel.getFullDeploymentDeps()) {
+            update(digest, dependency.getArtifact().toString());
+            for (Path path : dependency.getArtifact().getPaths()) {
+                if (Files.isDirectory(path)) {
+                    updateWithContent(digest, path);
+                } else {
+                    update(digest, path.toString());
+                    if (Files.exists(path)) {
+                        update(digest, Long.toString(Files.size(path)));
+                        update(digest, Long.toString(Files.getLastModifiedTime(path).toMillis()));
+                    }
+                }
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static void updateWithContent(MessageDigest digest, Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            update(digest, path.toString());
+            if (Files.exists(path)) {
+                updateWithFile(digest, path);
+            }
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(path)) {
+            files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            update(digest, path.relativize(file).toString());
+            updateWithFile(digest, file);
+        }
+    }
+
+    private static void updateWithFile(MessageDigest digest, Path file) throws IOException {
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            while (in.read(buffer) != -1) {
+                // the digest is updated while reading
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update((value == null ? "" : value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
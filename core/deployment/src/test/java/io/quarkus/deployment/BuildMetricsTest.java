@@ -0,0 +1,63 @@
+package io.quarkus.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.BuildChain;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildMetricsTest {
+
+    @TempDir
+    Path targetDir;
+
+    @Test
+    public void testRecordAndLoad() throws Exception {
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                context.produce(new ResultItem());
+            }
+
+            @Override
+            public String toString() {
+                return "io.quarkus.deployment.TestProcessor#\"quoted\"";
+            }
+        }).produces(ResultItem.class).build();
+        builder.addFinal(ResultItem.class);
+        BuildResult result = builder.build().createExecutionBuilder("test").execute();
+
+        BuildMetrics.record(targetDir, result);
+
+        assertEquals(1, BuildMetrics.getLastStepTimings().size());
+        Map<String, Long> durations = BuildMetrics.loadStepDurations(targetDir);
+        assertEquals(1, durations.size());
+        assertTrue(durations.containsKey("io.quarkus.deployment.TestProcessor#\"quoted\""));
+        String report = new String(Files.readAllBytes(targetDir.resolve(BuildMetrics.REPORT_FILE)),
+                StandardCharsets.UTF_8);
+        assertTrue(report.contains("\"stepId\": \"io.quarkus.deployment.TestProcessor#\\\"quoted\\\"\""), report);
+        assertTrue(report.contains("\"criticalPath\": true"), report);
+    }
+
+    @Test
+    public void testLoadWithoutPreviousBuild() {
+        assertTrue(BuildMetrics.loadStepDurations(targetDir).isEmpty());
+        assertTrue(BuildMetrics.loadStepDurations(null).isEmpty());
+    }
+
+    public static final class ResultItem extends SimpleBuildItem {
+    }
+}
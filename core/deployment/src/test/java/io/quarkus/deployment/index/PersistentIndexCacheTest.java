@@ -0,0 +1,38 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    public void testIndexIsStoredAndReused() throws Exception {
+        // a jar that does not contain a META-INF/jandex.idx
+        File jar = Paths.get(Test.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toFile();
+        PersistentIndexCache cache = PersistentIndexCache.create(cacheDir.toString());
+        String key = cache.key(jar.toPath());
+        assertNull(cache.read(key));
+
+        Index index = IndexingUtil.indexJar(jar, cache);
+        Index cached = cache.read(key);
+        assertNotNull(cached);
+        assertEquals(index.getKnownClasses().size(), cached.getKnownClasses().size());
+        assertNotNull(cached.getClassByName(DotName.createSimple(Test.class.getName())));
+
+        Index reused = IndexingUtil.indexJar(jar, cache);
+        assertEquals(index.getKnownClasses().size(), reused.getKnownClasses().size());
+    }
+}
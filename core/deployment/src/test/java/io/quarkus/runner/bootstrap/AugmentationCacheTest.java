@@ -0,0 +1,82 @@
+package io.quarkus.runner.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import io.quarkus.bootstrap.app.AugmentResult;
+import io.quarkus.bootstrap.app.CuratedApplication;
+import io.quarkus.bootstrap.app.QuarkusBootstrap;
+import io.quarkus.bootstrap.resolver.TsArtifact;
+import io.quarkus.bootstrap.resolver.TsQuarkusExt;
+import io.quarkus.deployment.runnerjar.ExecutableOutputOutcomeTestBase;
+
+public class AugmentationCacheTest extends ExecutableOutputOutcomeTestBase {
+
+    @Override
+    protected TsArtifact modelApp() {
+        return TsArtifact.jar("app")
+                .addManagedDependency(platformDescriptor())
+                .addManagedDependency(platformProperties())
+                .addDependency(new TsQuarkusExt("ext1"));
+    }
+
+    @Override
+    protected void testCreator(QuarkusBootstrap creator) throws Exception {
+        System.setProperty("quarkus.package.type", "legacy");
+        System.setProperty(AugmentationCache.ENABLED_PROPERTY, "true");
+        try {
+            AugmentResult first = build(creator);
+            Path runnerJar = first.getJar().getPath();
+            assertTrue(Files.exists(runnerJar));
+            assertTrue(Files.exists(creator.getTargetDirectory().resolve(AugmentationCache.CACHE_FILE)));
+            FileTime built = Files.getLastModifiedTime(runnerJar);
+
+            AugmentResult second = build(creator);
+            assertEquals(runnerJar, second.getJar().getPath());
+            assertEquals(first.getJar().getLibraryDir(), second.getJar().getLibraryDir());
+            // the runner jar was not written again
+            assertEquals(built, Files.getLastModifiedTime(runnerJar));
+
+            // a step with side effects must run again
+            FileTime old = FileTime.fromMillis(0);
+            Files.setLastModifiedTime(runnerJar, old);
+            System.setProperty("quarkus.container-image.push", "true");
+            try {
+                build(creator);
+                assertNotEquals(old, Files.getLastModifiedTime(runnerJar));
+            } finally {
+                System.clearProperty("quarkus.container-image.push");
+            }
+
+            System.setProperty("quarkus.package.output-name", "changed");
+            try {
+                AugmentResult third = build(creator);
+                assertTrue(third.getJar().getPath().getFileName().toString().startsWith("changed"));
+            } finally {
+                System.clearProperty("quarkus.package.output-name");
+            }
+
+            System.setProperty("%prod.quarkus.package.output-name", "profiled");
+            try {
+                AugmentResult fourth = build(creator);
+                assertTrue(fourth.getJar().getPath().getFileName().toString().startsWith("profiled"));
+            } finally {
+                System.clearProperty("%prod.quarkus.package.output-name");
+            }
+        } finally {
+            System.clearProperty("quarkus.package.type");
+            System.clearProperty(AugmentationCache.ENABLED_PROPERTY);
+        }
+    }
+
+    private static AugmentResult build(QuarkusBootstrap creator) throws Exception {
+        try (CuratedApplication curated = creator.bootstrap()) {
+            return curated.createAugmentor().createProductionApplication();
+        }
+    }
+}
@@ -5,8 +5,21 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Paths;
 
+import io.quarkus.runtime.ApplicationLifecycleManager;
+
 public class AppCDSUtil {
 
+    public static final String GENERATED_CLASSES_FILE_NAME = "generatedAndTransformed.lst";
+    /**
+     * The location of the file that lists the generated and transformed classes, defaults to
+     * {@value #GENERATED_CLASSES_FILE_NAME} in the working directory
+     */
+    public static final String GENERATED_CLASSES_FILE_SYSTEM_PROPERTY = "quarkus.appcds.generated-classes-file";
+    /**
+     * Set when the application is launched for an AppCDS training run
+     */
+    public static final String TRAINING_SYSTEM_PROPERTY = "quarkus.appcds.training";
+
     /**
      * This is never meant to be used in a regular application run.
      * It is only referenced by the generated main with the purpose of
@@ -14,7 +27,8 @@ public class AppCDSUtil {
      * generation process a larger set of classes to work with
      */
     public static void loadGeneratedClasses() throws IOException, ClassNotFoundException {
-        try (BufferedReader br = new BufferedReader(new FileReader(Paths.get("generatedAndTransformed.lst").toFile()))) {
+        String file = System.getProperty(GENERATED_CLASSES_FILE_SYSTEM_PROPERTY, GENERATED_CLASSES_FILE_NAME);
+        try (BufferedReader br = new BufferedReader(new FileReader(Paths.get(file).toFile()))) {
             String line;
             while ((line = br.readLine()) != null) {
                 Class.forName(line, true, Thread.currentThread().getContextClassLoader());
@@ -25,4 +39,28 @@ public class AppCDSUtil {
             throw e;
         }
     }
+
+    /**
+     * This is never meant to be used in a regular application run.
+     * It is only referenced by the generated main during an AppCDS training run: the application exits once its standard
+     * input is closed by the build. Unlike a signal, this stops the application gracefully on every platform, which is
+     * required for the JVM to write the class list or the archive.
+     */
+    public static void exitOnStandardInputClosed() {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (System.in.read() != -1) {
+                        // the content is irrelevant
+                    }
+                } catch (IOException e) {
+                    // the input is closed
+                }
+                ApplicationLifecycleManager.exit();
+            }
+        }, "AppCDS training run");
+        thread.setDaemon(true);
+        thread.start();
+    }
 }
@@ -0,0 +1,213 @@
+package io.quarkus.runtime.configuration;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.config.common.MapBackedConfigSource;
+
+/**
+ * A snapshot of the configuration sources read from the class path, taken when the application is built.
+ * <p>
+ * These sources, i.e. the {@code application.properties} and {@code META-INF/microprofile-config.properties} files of the
+ * application and its dependencies, cannot change once the application is packaged. The snapshot stores their raw
+ * properties in a compact binary form, so that they are read at startup from a single resource instead of scanning the
+ * class path and parsing the properties files each time the configuration is built. The profiles and the expressions are
+ * resolved at run time as usual.
+ * <p>
+ * The snapshot also stores, for each source, the names of its Quarkus properties resolved for the profile of the build, so
+ * that the names of the configuration roots are not computed again from the raw properties at startup, see
+ * {@link ConfigUtils#getSweptPropertyNames(io.smallrye.config.SmallRyeConfig)}.
+ */
+public final class ConfigSnapshot {
+
+    /**
+     * The name of the resource containing the snapshot.
+     */
+    public static final String RESOURCE_NAME = "META-INF/quarkus-config-snapshot.dat";
+
+    private static final int MAGIC = 0x51434653;
+    private static final int VERSION = 2;
+
+    private ConfigSnapshot() {
+    }
+
+    /**
+     * @param source a configuration source of the build time configuration
+     * @return {@code true} if the source is read from the class path, and is included in the snapshot
+     */
+    public static boolean isSnapshotted(ConfigSource source) {
+        return source instanceof ApplicationPropertiesConfigSource.InJar
+                || source instanceof ApplicationPropertiesConfigSource.MpConfigInJar
+                || source instanceof QuarkusPropertiesConfigSourceProvider.PropertiesConfigSource;
+    }
+
+    /**
+     * Writes the snapshot of the given sources.
+     *
+     * @param sources the sources
+     * @param profile the profile the names of the Quarkus properties are resolved for
+     * @param out the output stream, which is not closed
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(List<ConfigSource> sources, String profile, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        writeString(data, profile);
+        data.writeInt(sources.size());
+        for (ConfigSource source : sources) {
+            writeString(data, source.getName());
+            data.writeInt(source.getOrdinal());
+            Map<String, String> properties = source.getProperties();
+            data.writeInt(properties.size());
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                writeString(data, entry.getKey());
+                writeString(data, entry.getValue());
+            }
+            Set<String> names = new HashSet<>();
+            addQuarkusPropertyNames(names, properties.keySet(), profile);
+            data.writeInt(names.size());
+            for (String name : names) {
+                writeString(data, name);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param in the input stream, which is not closed
+     * @return the sources of the snapshot, in the order they were written
+     * @throws IOException if the snapshot cannot be read or is not a valid snapshot
+     */
+    public static List<ConfigSource> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IOException("Invalid configuration snapshot");
+        }
+        String profile = readString(data);
+        int count = data.readInt();
+        List<ConfigSource> sources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(data);
+            int ordinal = data.readInt();
+            int size = data.readInt();
+            // Sized so that the map is never resized
+            Map<String, String> properties = new HashMap<>((int) (size / 0.75f) + 1);
+            for (int j = 0; j < size; j++) {
+                properties.put(readString(data), readString(data));
+            }
+            int namesSize = data.readInt();
+            Set<String> names = new HashSet<>((int) (namesSize / 0.75f) + 1);
+            for (int j = 0; j < namesSize; j++) {
+                names.add(readString(data));
+            }
+            sources.add(new SnapshotConfigSource(name, properties, ordinal, profile, Collections.unmodifiableSet(names)));
+        }
+        return sources;
+    }
+
+    /**
+     * Loads the snapshot of the application.
+     *
+     * @param classLoader the class loader of the application
+     * @return the sources of the snapshot, or {@code null} if the application has no snapshot
+     */
+    static List<ConfigSource> load(ClassLoader classLoader) {
+        InputStream is = classLoader.getResourceAsStream(RESOURCE_NAME);
+        if (is == null) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(is)) {
+            return read(in);
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+    }
+
+    /**
+     * Adds the names of the Quarkus properties, i.e. whose first segment is {@code quarkus}, the way they are returned by
+     * {@link org.eclipse.microprofile.config.Config#getPropertyNames()} when the profile is active.
+     *
+     * @param names the names to add to
+     * @param propertyNames the raw property names of a source
+     * @param profile the active profile
+     */
+    static void addQuarkusPropertyNames(Set<String> names, Iterable<String> propertyNames, String profile) {
+        String profilePrefix = "%" + profile + ".";
+        for (String name : propertyNames) {
+            if (name.startsWith("%")) {
+                if (!name.startsWith(profilePrefix)) {
+                    // another profile
+                    continue;
+                }
+                name = name.substring(profilePrefix.length());
+            }
+            NameIterator ni = new NameIterator(name);
+            if (ni.hasNext() && ni.nextSegmentEquals("quarkus")) {
+                names.add(name);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        // Not DataOutputStream.writeUTF, which is limited to 64K bytes
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[data.readInt()];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A source of the snapshot, with the name and the ordinal of the original source.
+     */
+    static final class SnapshotConfigSource extends MapBackedConfigSource {
+        private static final long serialVersionUID = 4829173651029384756L;
+
+        private final String profile;
+        private final Set<String> quarkusPropertyNames;
+
+        SnapshotConfigSource(String name, Map<String, String> properties, int ordinal, String profile,
+                Set<String> quarkusPropertyNames) {
+            super(name, properties, ordinal);
+            this.profile = profile;
+            this.quarkusPropertyNames = quarkusPropertyNames;
+        }
+
+        /**
+         * @return the profile of the build
+         */
+        String getProfile() {
+            return profile;
+        }
+
+        /**
+         * @return the names of the Quarkus properties of this source, resolved for the profile of the build
+         */
+        Set<String> getQuarkusPropertyNames() {
+            return quarkusPropertyNames;
+        }
+    }
+
+}
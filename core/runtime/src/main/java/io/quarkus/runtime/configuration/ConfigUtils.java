@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -31,6 +32,7 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 import org.jboss.logging.Logger;
 
+import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.config.SmallRyeConfigBuilder;
 
 /**
@@ -97,6 +99,64 @@ public final class ConfigUtils {
         return builder;
     }
 
+    /**
+     * Get the run time configuration builder of an application built with a snapshot of its class path configuration
+     * sources, see {@link ConfigSnapshot}. The sources of the snapshot replace the ones read from the class path, the other
+     * sources, e.g. the environment variables and the system properties, are read as usual.
+     *
+     * @return the configuration builder, which is the one returned by {@code configBuilder(true)} if the application has no
+     *         snapshot
+     */
+    public static SmallRyeConfigBuilder snapshotConfigBuilder() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ConfigUtils.class.getClassLoader();
+        }
+        final List<ConfigSource> snapshot = ConfigSnapshot.load(classLoader);
+        if (snapshot == null) {
+            return configBuilder(true);
+        }
+        final SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder();
+        builder.withSources(new ApplicationPropertiesConfigSource.InFileSystem(), new DotEnvConfigSource());
+        builder.withSources(snapshot);
+        builder.withSources(new EnvConfigSource(), new SysPropConfigSource());
+        builder.withProfile(ProfileManager.getActiveProfile());
+        builder.addDefaultInterceptors();
+        builder.addDiscoveredSources();
+        builder.addDiscoveredInterceptors();
+        builder.addDiscoveredConverters();
+        return builder;
+    }
+
+    /**
+     * Get the names of the Quarkus properties of a configuration built by {@link #snapshotConfigBuilder()}, which are swept
+     * to find the configuration of the roots. The names of the sources of the snapshot are the ones resolved at build time,
+     * only the other sources, e.g. the system properties or a custom source, are read. All the names of the configuration
+     * are returned if the snapshot was taken for another profile than the active one.
+     *
+     * @param config the configuration
+     * @return the names of the properties, which may also contain names that are not Quarkus properties
+     */
+    public static Iterable<String> getSweptPropertyNames(SmallRyeConfig config) {
+        final String profile = ProfileManager.getActiveProfile();
+        final Set<String> names = new HashSet<>();
+        boolean snapshot = false;
+        for (ConfigSource source : config.getConfigSources()) {
+            if (source instanceof ConfigSnapshot.SnapshotConfigSource) {
+                final ConfigSnapshot.SnapshotConfigSource snapshotSource = (ConfigSnapshot.SnapshotConfigSource) source;
+                if (!snapshotSource.getProfile().equals(profile)) {
+                    return config.getPropertyNames();
+                }
+                names.addAll(snapshotSource.getQuarkusPropertyNames());
+                snapshot = true;
+            } else {
+                // the environment variables have no property names, the system properties only the Quarkus ones
+                ConfigSnapshot.addQuarkusPropertyNames(names, source.getPropertyNames(), profile);
+            }
+        }
+        return snapshot ? names : config.getPropertyNames();
+    }
+
     /**
      * Add a configuration source provider to the builder.
      *
@@ -46,7 +46,7 @@ public class QuarkusPropertiesConfigSourceProvider implements ConfigSourceProvid
         return configSources;
     }
 
-    private static class PropertiesConfigSource extends MapBackedConfigSource {
+    static class PropertiesConfigSource extends MapBackedConfigSource {
         private static final long serialVersionUID = 1866835565147832432L;
 
         private static final String NAME_PREFIX = "PropertiesConfigSource[source=";
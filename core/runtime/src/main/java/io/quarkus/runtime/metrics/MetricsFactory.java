@@ -135,6 +135,15 @@ public interface MetricsFactory {
          * @return The wrapped supplier.
          */
         <T> Supplier<T> buildTimer(Supplier<T> f);
+
+        /**
+         * Remove the metric registered with the name, scope and tags of this builder, if any, e.g. when the
+         * observed object is discarded. The description and unit are ignored.
+         * <p>
+         * The default implementation does nothing.
+         */
+        default void remove() {
+        }
     }
 
     /**
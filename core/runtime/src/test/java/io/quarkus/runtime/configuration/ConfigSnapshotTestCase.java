@@ -0,0 +1,121 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class ConfigSnapshotTestCase {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Map<String, String> application = new HashMap<>();
+        application.put("quarkus.http.port", "8081");
+        application.put("%test.quarkus.http.port", "8082");
+        application.put("%dev.quarkus.http.host", "localhost");
+        application.put("%test.quarkus.log.level", "DEBUG");
+        application.put("greeting", "héllo ${name}");
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            large.append("0123456789");
+        }
+        application.put("large", large.toString());
+        Map<String, String> library = new HashMap<>();
+        library.put("name", "library");
+
+        List<ConfigSource> snapshotted = Arrays.asList(new PropertiesConfigSource(application, "application.properties", 250),
+                new PropertiesConfigSource(library, "library", 100));
+        List<ConfigSource> sources = read(snapshotted, "test");
+
+        assertEquals(2, sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            assertEquals(snapshotted.get(i).getName(), sources.get(i).getName());
+            assertEquals(snapshotted.get(i).getOrdinal(), sources.get(i).getOrdinal());
+            assertEquals(snapshotted.get(i).getProperties(), sources.get(i).getProperties());
+        }
+        // The names of the Quarkus properties are resolved for the profile of the build
+        assertEquals(new HashSet<>(Arrays.asList("quarkus.http.port", "quarkus.log.level")),
+                ((ConfigSnapshot.SnapshotConfigSource) sources.get(0)).getQuarkusPropertyNames());
+        assertEquals(Collections.emptySet(), ((ConfigSnapshot.SnapshotConfigSource) sources.get(1)).getQuarkusPropertyNames());
+
+        // The profiles and the expressions are resolved by the configuration
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(sources).withProfile("test")
+                .addDefaultInterceptors().build();
+        assertEquals("8082", config.getRawValue("quarkus.http.port"));
+        assertEquals("héllo library", config.getRawValue("greeting"));
+    }
+
+    @Test
+    public void testSweptPropertyNames() throws IOException {
+        Map<String, String> application = new HashMap<>();
+        application.put("quarkus.http.port", "8081");
+        application.put("%prod.quarkus.log.level", "DEBUG");
+        application.put("greeting", "hello");
+        Map<String, String> custom = new HashMap<>();
+        custom.put("%prod.quarkus.http.host", "localhost");
+        custom.put("%dev.quarkus.log.category", "INFO");
+        // The active profile of the tests, see ProfileManager
+        List<ConfigSource> sources = read(
+                Arrays.asList(new PropertiesConfigSource(application, "application.properties", 250)), "prod");
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(sources)
+                .withSources(new PropertiesConfigSource(custom, "custom", 300)).withProfile("prod")
+                .addDefaultInterceptors().build();
+        Set<String> expected = new HashSet<>(
+                Arrays.asList("quarkus.http.port", "quarkus.log.level", "quarkus.http.host"));
+        Set<String> names = new HashSet<>();
+        ConfigUtils.getSweptPropertyNames(config).forEach(names::add);
+        assertEquals(expected, names);
+        // The same Quarkus properties are found by the full sweep
+        names.clear();
+        for (String name : config.getPropertyNames()) {
+            if (name.startsWith("quarkus.")) {
+                names.add(name);
+            }
+        }
+        assertEquals(expected, names);
+    }
+
+    @Test
+    public void testSweptPropertyNamesOtherProfile() throws IOException {
+        Map<String, String> application = new HashMap<>();
+        application.put("quarkus.http.port", "8081");
+        application.put("%test.quarkus.log.level", "DEBUG");
+        List<ConfigSource> sources = read(
+                Arrays.asList(new PropertiesConfigSource(application, "application.properties", 250)), "test");
+
+        // The names resolved for the test profile are not used, all the names of the configuration are swept
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(sources).withProfile("prod")
+                .addDefaultInterceptors().build();
+        Set<String> names = new HashSet<>();
+        ConfigUtils.getSweptPropertyNames(config).forEach(names::add);
+        assertEquals(new HashSet<>(Arrays.asList("quarkus.http.port", "%test.quarkus.log.level")), names);
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        assertEquals(0, read(Arrays.asList(), "test").size());
+    }
+
+    private static List<ConfigSource> read(List<ConfigSource> sources, String profile) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConfigSnapshot.write(sources, profile, out);
+        return ConfigSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+}
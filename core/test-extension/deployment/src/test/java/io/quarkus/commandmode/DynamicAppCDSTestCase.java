@@ -0,0 +1,40 @@
+package io.quarkus.commandmode;
+
+import java.nio.file.Path;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.ProdBuildResults;
+import io.quarkus.test.ProdModeTestResults;
+import io.quarkus.test.QuarkusProdModeTest;
+
+@EnabledForJreRange(min = JRE.JAVA_13)
+public class DynamicAppCDSTestCase {
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource("application.properties", "microprofile-config.properties")
+                    .addClasses(HelloWorldMain.class))
+            .setApplicationName("dynamic-appcds")
+            .setApplicationVersion("0.1-SNAPSHOT")
+            .overrideConfigKey("quarkus.package.create-appcds", "true")
+            .overrideConfigKey("quarkus.package.appcds.dynamic", "true")
+            .overrideConfigKey("quarkus.package.appcds.training.enabled", "true");
+
+    @ProdBuildResults
+    private ProdModeTestResults prodModeTestResults;
+
+    @Test
+    public void testArchiveIsCreatedFromTrainingRun() {
+        Path runnerJar = prodModeTestResults.getBuiltArtifactPath();
+        // the archive is only kept if the validation run loaded classes from it
+        Assertions.assertThat(runnerJar.getParent().resolve("app-cds.jsa")).isRegularFile();
+    }
+
+}
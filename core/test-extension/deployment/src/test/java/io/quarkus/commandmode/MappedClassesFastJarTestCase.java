@@ -0,0 +1,59 @@
+package io.quarkus.commandmode;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+import io.quarkus.bootstrap.runner.SerializedApplication;
+import io.quarkus.test.ProdBuildResults;
+import io.quarkus.test.ProdModeTestResults;
+import io.quarkus.test.QuarkusProdModeTest;
+
+public class MappedClassesFastJarTestCase {
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource("application.properties", "microprofile-config.properties")
+                    .addClasses(HelloWorldMain.class))
+            .setApplicationName("mapped-classes")
+            .setApplicationVersion("0.1-SNAPSHOT")
+            .overrideConfigKey("quarkus.package.type", "fast-jar")
+            .overrideConfigKey("quarkus.package.mapped-classes", "true");
+
+    @ProdBuildResults
+    private ProdModeTestResults prodModeTestResults;
+
+    @Test
+    public void testClassesAreLoadedFromMappedFile() throws Exception {
+        Path appRoot = prodModeTestResults.getBuiltArtifactPath().getParent();
+        Assertions.assertThat(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_DAT)).isRegularFile();
+
+        SerializedApplication app;
+        try (InputStream in = Files.newInputStream(appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT))) {
+            app = SerializedApplication.read(in, appRoot);
+        }
+        // the application classes can only be loaded from the mapped file once the application jar is gone
+        Path appJar = appRoot.resolve("app").resolve("mapped-classes.jar");
+        Files.delete(appJar);
+        RunnerClassLoader classLoader = app.getRunnerClassLoader();
+        try {
+            Class<?> main = classLoader.loadClass(HelloWorldMain.class.getName());
+            Assertions.assertThat(main.getClassLoader()).isSameAs(classLoader);
+            Assertions.assertThat(main.getProtectionDomain().getCodeSource().getLocation().getPath())
+                    .isEqualTo(appJar.toUri().getPath());
+            Assertions.assertThat(classLoader.loadClass("io.quarkus.runtime.Application").getClassLoader())
+                    .isSameAs(classLoader);
+        } finally {
+            classLoader.close();
+        }
+    }
+
+}
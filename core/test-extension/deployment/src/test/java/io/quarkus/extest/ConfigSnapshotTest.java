@@ -0,0 +1,63 @@
+package io.quarkus.extest;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.ConfigSnapshot;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Test that the run time configuration is read from the snapshot of the class path configuration sources
+ */
+public class ConfigSnapshotTest {
+    static {
+        // not in the snapshot, but swept with its names
+        System.setProperty("quarkus.rt.string-map.key4", "value4");
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ConfiguredBean.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.configuration.snapshot", "true");
+
+    @Inject
+    ConfiguredBean configuredBean;
+
+    @Test
+    public void testSnapshot() {
+        Assertions.assertNotNull(Thread.currentThread().getContextClassLoader().getResource(ConfigSnapshot.RESOURCE_NAME));
+        boolean found = false;
+        for (ConfigSource source : ConfigProvider.getConfig().getConfigSources()) {
+            Assertions.assertFalse(ConfigSnapshot.isSnapshotted(source), source.getName());
+            if (source.getName().endsWith("application.properties]") && source.getOrdinal() == 250) {
+                found = true;
+            }
+        }
+        Assertions.assertTrue(found);
+    }
+
+    @Test
+    public void testRunTimeConfig() {
+        Assertions.assertEquals("huhu", configuredBean.getFooRuntimeConfig().bar);
+        Assertions.assertEquals("rtStringOptValue", configuredBean.getRunTimeConfig().rtStringOpt);
+        // the map keys are found by the sweep of the names resolved at build time
+        Assertions.assertEquals("value1", configuredBean.getRunTimeConfig().stringMap.get("key1"));
+        Assertions.assertEquals("value4", configuredBean.getRunTimeConfig().stringMap.get("key4"));
+    }
+
+    @AfterAll
+    public static void clearSystemProperty() {
+        System.clearProperty("quarkus.rt.string-map.key4");
+    }
+
+}
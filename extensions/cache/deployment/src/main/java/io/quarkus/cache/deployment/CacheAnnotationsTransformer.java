@@ -1,14 +1,11 @@
 package io.quarkus.cache.deployment;
 
-import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
-import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
-import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_PARAMETER_POSITIONS;
-import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
 import static org.jboss.jandex.AnnotationInstance.create;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 import static org.jboss.jandex.AnnotationValue.createArrayValue;
 import static org.jboss.jandex.AnnotationValue.createShortValue;
+import static org.jboss.jandex.AnnotationValue.createStringValue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,25 +27,27 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
     @Override
     public void transform(TransformationContext context) {
         MethodInfo method = context.getTarget().asMethod();
-        if (requiresCacheKeyParameterPositionsInterceptorBinding(method)) {
+        if (CacheKeyGenerator.isCacheKeyMethod(method)) {
+            List<AnnotationValue> values = new ArrayList<>();
             List<AnnotationValue> positions = new ArrayList<>();
-            for (AnnotationInstance annotation : method.annotations(CACHE_KEY)) {
-                positions.add(createShortValue("", annotation.target().asMethodParameter().position()));
+            for (short position : CacheKeyGenerator.getCacheKeyParameterPositions(method)) {
+                positions.add(createShortValue("", position));
             }
             if (!positions.isEmpty()) {
-                AnnotationValue annotationValue = createArrayValue("value", toArray(positions));
-                AnnotationInstance binding = create(CACHE_KEY_PARAMETER_POSITIONS, method,
-                        new AnnotationValue[] { annotationValue });
+                values.add(createArrayValue("value", toArray(positions)));
+            }
+            // The factory of the composite cache key is generated by CacheProcessor.
+            String keyFactory = CacheKeyGenerator.getFactoryClassName(method);
+            if (keyFactory != null) {
+                values.add(createStringValue("keyFactory", keyFactory));
+            }
+            if (!values.isEmpty()) {
+                AnnotationInstance binding = create(CACHE_KEY_PARAMETER_POSITIONS, method, toArray(values));
                 context.transform().add(binding).done();
             }
         }
     }
 
-    private boolean requiresCacheKeyParameterPositionsInterceptorBinding(MethodInfo method) {
-        return method.hasAnnotation(CACHE_KEY) && (method.hasAnnotation(CACHE_INVALIDATE)
-                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT));
-    }
-
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
         return parameters.toArray(new AnnotationValue[0]);
     }
@@ -21,7 +21,9 @@ public class CacheConfig {
     public boolean enabled;
 
     /**
-     * Cache type.
+     * Cache type. Besides {@code caffeine}, the types provided by other extensions can be used, e.g. {@code redis} with the
+     * Redis client extension. The Caffeine configuration of the caches still applies to the local copy of the values such
+     * types may keep.
      */
     @ConfigItem(defaultValue = CacheDeploymentConstants.CAFFEINE_CACHE_TYPE)
     String type;
@@ -73,6 +75,36 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be automatically reloaded once a fixed duration has elapsed after the entry's
+             * creation, or the most recent replacement of its value. The reload is triggered by the first read of the entry
+             * after that duration and runs in the background: that read and the following ones get the current value until
+             * the reload completes, so a hot entry never has to be loaded while callers are waiting for it. If the reload
+             * fails, the current value is kept and the next read triggers a new reload.
+             * <p>
+             * The reload invokes the cached method again, without the request context of the read that triggered it. It
+             * should be shorter than {@code expire-after-write}, otherwise entries expire before they are reloaded.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * The name of a {@code @Named} {@link java.util.concurrent.Executor} bean that runs the reloads triggered by
+             * {@code refresh-after-write}. The default Quarkus worker pool is used if not set.
+             */
+            @ConfigItem
+            Optional<String> refreshExecutor;
+
+            /**
+             * Whether the statistics of the cache are recorded and published by the metrics extension of the application, if
+             * any: the hits, misses, successful and failed loads, total load time, evictions, size and in-flight loads of the
+             * cache, and the time spent generating its composite keys. The metrics are tagged with the name of the cache.
+             * <p>
+             * The statistics have a small cost on every read of the cache, which is why they are disabled by default.
+             */
+            @ConfigItem
+            boolean metricsEnabled;
         }
     }
 }
@@ -2,6 +2,7 @@ package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.jboss.jandex.DotName;
 
@@ -10,6 +11,7 @@ import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheBackend;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheKeyParameterPositions;
@@ -42,6 +44,10 @@ public class CacheDeploymentConstants {
 
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
+    public static final DotName EXECUTOR = dotName(Executor.class);
+
+    // Other cache types.
+    public static final DotName CACHE_BACKEND = dotName(CacheBackend.class);
 
     private static DotName dotName(Class<?> annotationClass) {
         return DotName.createSimple(annotationClass.getName());
@@ -0,0 +1,268 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkus.cache.runtime.CacheKeyFactory;
+import io.quarkus.cache.runtime.GeneratedCacheKey;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Generates the composite cache keys of the methods annotated with {@link io.quarkus.cache.CacheResult CacheResult} or
+ * {@link io.quarkus.cache.CacheInvalidate CacheInvalidate}:
+ * <ul>
+ * <li>a {@link GeneratedCacheKey} subclass for each sequence of key element types, e.g. {@code GeneratedCacheKey_LI} for a
+ * key made of an object and an {@code int}</li>
+ * <li>a {@link CacheKeyFactory} for each method, which builds the key from the method arguments</li>
+ * </ul>
+ */
+final class CacheKeyGenerator {
+
+    static final String FACTORY_SUFFIX = "_CacheKeyFactory";
+    static final String KEY_PREFIX = "io/quarkus/cache/runtime/GeneratedCacheKey_";
+
+    private static final String REFERENCE = "L";
+
+    private CacheKeyGenerator() {
+    }
+
+    static boolean isCacheKeyMethod(MethodInfo method) {
+        return method.hasAnnotation(CACHE_RESULT) || method.hasAnnotation(CACHE_INVALIDATE)
+                || method.hasAnnotation(CACHE_INVALIDATE_LIST);
+    }
+
+    /**
+     * @return the positions of the {@link io.quarkus.cache.CacheKey CacheKey}-annotated parameters of the method, in
+     *         ascending order
+     */
+    static List<Short> getCacheKeyParameterPositions(MethodInfo method) {
+        List<Short> positions = new ArrayList<>();
+        for (AnnotationInstance annotation : method.annotations(CACHE_KEY)) {
+            positions.add(annotation.target().asMethodParameter().position());
+        }
+        Collections.sort(positions);
+        return positions;
+    }
+
+    /**
+     * @return the name of the factory generated for the method, or {@code null} if its cache key is not composite
+     */
+    static String getFactoryClassName(MethodInfo method) {
+        if (getKeyElementPositions(method).size() < 2) {
+            return null;
+        }
+        StringBuilder sigBuilder = new StringBuilder();
+        sigBuilder.append(method.name()).append("_").append(method.returnType().name().toString());
+        for (Type parameter : method.parameters()) {
+            sigBuilder.append(parameter.name().toString());
+        }
+        return method.declaringClass().name().toString() + FACTORY_SUFFIX + "_" + method.name() + "_"
+                + HashUtil.sha1(sigBuilder.toString());
+    }
+
+    /**
+     * Generates the factory of the method and the key class it uses, unless it was already generated for another method.
+     *
+     * @return the name of the generated factory
+     */
+    static String generate(MethodInfo method, ClassOutput factoryOutput, ClassOutput keyOutput, Set<String> generatedKeys) {
+        List<Short> positions = getKeyElementPositions(method);
+        List<Type> elementTypes = new ArrayList<>(positions.size());
+        StringBuilder shape = new StringBuilder();
+        for (short position : positions) {
+            Type type = method.parameters().get(position);
+            elementTypes.add(type);
+            shape.append(type.kind() == Type.Kind.PRIMITIVE ? descriptor(type.asPrimitiveType()) : REFERENCE);
+        }
+        String keyClassName = KEY_PREFIX + shape;
+        if (generatedKeys.add(keyClassName)) {
+            generateKey(keyClassName, shape.toString(), keyOutput);
+        }
+
+        String factoryClassName = getFactoryClassName(method);
+        try (ClassCreator factory = ClassCreator.builder().classOutput(factoryOutput)
+                .className(factoryClassName.replace('.', '/')).interfaces(CacheKeyFactory.class).setFinal(true).build()) {
+            // Object create(Object[] methodParameterValues)
+            MethodCreator create = factory.getMethodCreator("create", Object.class, Object[].class);
+            ResultHandle values = create.getMethodParam(0);
+            Class<?>[] elementClasses = new Class<?>[positions.size()];
+            ResultHandle[] elements = new ResultHandle[positions.size()];
+            for (int i = 0; i < elements.length; i++) {
+                ResultHandle value = create.readArrayValue(values, positions.get(i));
+                elementClasses[i] = elementClass(shape.charAt(i));
+                elements[i] = elementClasses[i] == Object.class ? value : unbox(create, value, elementClasses[i]);
+            }
+            create.returnValue(create.newInstance(MethodDescriptor.ofConstructor(keyClassName, (Object[]) elementClasses),
+                    elements));
+        }
+        return factoryClassName;
+    }
+
+    // The key elements are the @CacheKey-annotated parameters if any, all the parameters otherwise.
+    private static List<Short> getKeyElementPositions(MethodInfo method) {
+        if (Modifier.isPrivate(method.flags())) {
+            // Not intercepted, this is reported by the validation of the cache annotations.
+            return Collections.emptyList();
+        }
+        List<Short> positions = getCacheKeyParameterPositions(method);
+        if (positions.isEmpty()) {
+            for (short i = 0; i < method.parameters().size(); i++) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    private static void generateKey(String keyClassName, String shape, ClassOutput classOutput) {
+        FieldDescriptor[] fields = new FieldDescriptor[shape.length()];
+        Class<?>[] elementClasses = new Class<?>[shape.length()];
+        try (ClassCreator key = ClassCreator.builder().classOutput(classOutput).className(keyClassName)
+                .superClass(GeneratedCacheKey.class).setFinal(true).build()) {
+            for (int i = 0; i < fields.length; i++) {
+                elementClasses[i] = elementClass(shape.charAt(i));
+                fields[i] = key.getFieldCreator("element" + i, elementClasses[i])
+                        .setModifiers(Modifier.PRIVATE | Modifier.FINAL).getFieldDescriptor();
+            }
+
+            // The hash code is computed like Arrays.deepHashCode(Object[])
+            MethodCreator constructor = key.getMethodCreator("<init>", void.class, (Object[]) elementClasses);
+            ResultHandle hash = constructor.load(1);
+            for (int i = 0; i < fields.length; i++) {
+                hash = constructor.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(GeneratedCacheKey.class, "hash", int.class, int.class, elementClasses[i]),
+                        hash, constructor.getMethodParam(i));
+            }
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(GeneratedCacheKey.class, int.class),
+                    constructor.getThis(), hash);
+            for (int i = 0; i < fields.length; i++) {
+                constructor.writeInstanceField(fields[i], constructor.getThis(), constructor.getMethodParam(i));
+            }
+            constructor.returnValue(null);
+
+            // boolean elementsEqual(GeneratedCacheKey other)
+            MethodCreator elementsEqual = key.getMethodCreator("elementsEqual", boolean.class, GeneratedCacheKey.class)
+                    .setModifiers(Modifier.PROTECTED);
+            ResultHandle other = elementsEqual.checkCast(elementsEqual.getMethodParam(0), keyClassName);
+            for (int i = 0; i < fields.length; i++) {
+                ResultHandle equal = elementsEqual.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(GeneratedCacheKey.class, "equal", boolean.class, elementClasses[i],
+                                elementClasses[i]),
+                        elementsEqual.readInstanceField(fields[i], elementsEqual.getThis()),
+                        elementsEqual.readInstanceField(fields[i], other));
+                BranchResult branch = elementsEqual.ifTrue(equal);
+                branch.falseBranch().returnValue(branch.falseBranch().load(false));
+            }
+            elementsEqual.returnValue(elementsEqual.load(true));
+
+            // Object[] keyElements()
+            MethodCreator keyElements = key.getMethodCreator("keyElements", Object[].class)
+                    .setModifiers(Modifier.PROTECTED);
+            ResultHandle array = keyElements.newArray(Object.class, fields.length);
+            for (int i = 0; i < fields.length; i++) {
+                ResultHandle element = keyElements.readInstanceField(fields[i], keyElements.getThis());
+                keyElements.writeArrayValue(array, i,
+                        elementClasses[i] == Object.class ? element : box(keyElements, element, elementClasses[i]));
+            }
+            keyElements.returnValue(array);
+        }
+    }
+
+    private static String descriptor(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + type);
+        }
+    }
+
+    private static Class<?> elementClass(char descriptor) {
+        switch (descriptor) {
+            case 'Z':
+                return boolean.class;
+            case 'B':
+                return byte.class;
+            case 'C':
+                return char.class;
+            case 'S':
+                return short.class;
+            case 'I':
+                return int.class;
+            case 'J':
+                return long.class;
+            case 'F':
+                return float.class;
+            case 'D':
+                return double.class;
+            default:
+                return Object.class;
+        }
+    }
+
+    private static Class<?> boxedClass(Class<?> primitiveClass) {
+        if (primitiveClass == boolean.class) {
+            return Boolean.class;
+        } else if (primitiveClass == byte.class) {
+            return Byte.class;
+        } else if (primitiveClass == char.class) {
+            return Character.class;
+        } else if (primitiveClass == short.class) {
+            return Short.class;
+        } else if (primitiveClass == int.class) {
+            return Integer.class;
+        } else if (primitiveClass == long.class) {
+            return Long.class;
+        } else if (primitiveClass == float.class) {
+            return Float.class;
+        } else {
+            return Double.class;
+        }
+    }
+
+    private static ResultHandle unbox(MethodCreator method, ResultHandle value, Class<?> primitiveClass) {
+        Class<?> boxedClass = boxedClass(primitiveClass);
+        return method.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(boxedClass, primitiveClass.getName() + "Value", primitiveClass),
+                method.checkCast(value, boxedClass));
+    }
+
+    private static ResultHandle box(MethodCreator method, ResultHandle value, Class<?> primitiveClass) {
+        Class<?> boxedClass = boxedClass(primitiveClass);
+        return method.invokeStaticMethod(MethodDescriptor.ofMethod(boxedClass, "valueOf", boxedClass, primitiveClass),
+                value);
+    }
+}
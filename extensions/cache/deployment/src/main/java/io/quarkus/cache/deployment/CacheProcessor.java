@@ -1,18 +1,26 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_BACKEND;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.EXECUTOR;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.enterprise.inject.spi.DeploymentException;
 
@@ -27,21 +35,34 @@ import org.jboss.jandex.Type;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
 import io.quarkus.cache.deployment.exception.UnknownCacheNameException;
 import io.quarkus.cache.deployment.exception.UnsupportedRepeatedAnnotationException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
+import io.quarkus.cache.runtime.CacheKeyFactoryRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheMetricsRecorder;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.gizmo.ClassOutput;
 
 class CacheProcessor {
 
@@ -50,6 +71,16 @@ class CacheProcessor {
         return new FeatureBuildItem(Feature.CACHE);
     }
 
+    @BuildStep
+    CapabilityBuildItem capability() {
+        return new CapabilityBuildItem(Capability.CACHE);
+    }
+
+    @BuildStep
+    UnremovableBeanBuildItem unremovableCacheBackends() {
+        return UnremovableBeanBuildItem.beanTypes(CACHE_BACKEND);
+    }
+
     @BuildStep
     AutoInjectAnnotationBuildItem autoInjectCacheName() {
         return new AutoInjectAnnotationBuildItem(CACHE_NAME);
@@ -175,23 +206,92 @@ class CacheProcessor {
         return throwables;
     }
 
+    @BuildStep
+    @Record(STATIC_INIT)
+    void generateCacheKeys(CombinedIndexBuildItem combinedIndex, CacheKeyFactoryRecorder recorder,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses) {
+        ClassOutput factoryOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        ClassOutput keyOutput = new GeneratedClassGizmoAdaptor(generatedClasses, false);
+        Set<MethodInfo> methods = new HashSet<>();
+        for (DotName bindingName : Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE, CACHE_INVALIDATE_LIST)) {
+            for (AnnotationInstance binding : combinedIndex.getIndex().getAnnotations(bindingName)) {
+                if (binding.target().kind() == Kind.METHOD) {
+                    methods.add(binding.target().asMethod());
+                }
+            }
+        }
+        // The key classes are shared by the methods with the same sequence of key element types.
+        Set<String> generatedKeys = new HashSet<>();
+        Set<String> factories = new HashSet<>();
+        for (MethodInfo method : methods) {
+            if (CacheKeyGenerator.getFactoryClassName(method) != null) {
+                factories.add(CacheKeyGenerator.generate(method, factoryOutput, keyOutput, generatedKeys));
+            }
+        }
+        if (!factories.isEmpty()) {
+            recorder.registerFactories(factories);
+        }
+    }
+
+    @BuildStep
+    void unremovableRefreshExecutors(CacheConfig config, BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        // The executors referenced by the refresh-executor config are looked up programmatically.
+        Set<String> executorNames = new HashSet<>();
+        for (CaffeineNamespaceConfig namespaceConfig : config.caffeine.namespace.values()) {
+            namespaceConfig.refreshExecutor.ifPresent(executorNames::add);
+        }
+        if (!executorNames.isEmpty()) {
+            unremovableBeans.produce(new UnremovableBeanBuildItem(new Predicate<BeanInfo>() {
+                @Override
+                public boolean test(BeanInfo bean) {
+                    return bean.getName() != null && executorNames.contains(bean.getName())
+                            && bean.getTypes().stream().anyMatch(type -> type.name().equals(EXECUTOR));
+                }
+            }));
+        }
+    }
+
     @BuildStep
     @Record(STATIC_INIT)
     void recordCachesBuild(CacheNamesBuildItem cacheNames, CacheConfig config, BeanContainerBuildItem beanContainer,
-            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder) {
+            BeanDiscoveryFinishedBuildItem beanDiscovery, CaffeineCacheBuildRecorder caffeineRecorder,
+            NoOpCacheBuildRecorder noOpRecorder) {
         if (cacheNames.getNames().size() > 0) {
             if (config.enabled) {
                 switch (config.type) {
                     case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
                         Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
-                        caffeineRecorder.buildCaches(beanContainer.getValue(), cacheInfos);
+                        caffeineRecorder.buildCaches(beanContainer.getValue(), cacheInfos, null);
                         break;
                     default:
-                        throw new DeploymentException("Unknown cache type: " + config.type);
+                        // Any other type is provided by a CacheBackend bean named after it.
+                        if (beanDiscovery.beanStream().withBeanType(CACHE_BACKEND).withName(config.type).isEmpty()) {
+                            throw new DeploymentException("Unknown cache type: " + config.type);
+                        }
+                        caffeineRecorder.buildCaches(beanContainer.getValue(),
+                                CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config), config.type);
                 }
             } else {
                 noOpRecorder.buildCaches(beanContainer.getValue(), cacheNames.getNames());
             }
         }
     }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void recordCachesMetrics(CacheNamesBuildItem cacheNames, CacheConfig config, CaffeineCacheMetricsRecorder metricsRecorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        // The consumer is only invoked if a metrics extension is present.
+        if (cacheNames.getNames().isEmpty() || !config.enabled || !metricsCapability.isPresent()) {
+            return;
+        }
+        for (String cacheName : cacheNames.getNames()) {
+            CaffeineNamespaceConfig namespaceConfig = config.caffeine.namespace.get(cacheName);
+            if (namespaceConfig != null && namespaceConfig.metricsEnabled) {
+                metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(metricsRecorder.consumeMetricsFactory()));
+                return;
+            }
+        }
+    }
 }
@@ -0,0 +1,125 @@
+package io.quarkus.cache.test.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheBackend;
+import io.quarkus.cache.runtime.CacheBackend.NearCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheBackendTest {
+
+    private static final String CACHE_NAME = "backend-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClasses(CachedService.class, TestBackend.class, TestCache.class)
+                    .addAsResource(new StringAsset("quarkus.cache.type=test-backend\n"
+                            + "quarkus.cache.caffeine.\"" + CACHE_NAME + "\".maximum-size=10"), "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testBackend() {
+        assertTrue(cacheManager.getCache(CACHE_NAME).get() instanceof TestCache);
+        TestCache cache = (TestCache) cacheManager.getCache(CACHE_NAME).get();
+        assertEquals(10L, ((CaffeineCache) cache.getLocalCache()).getMaximumSize());
+
+        assertEquals("foo", cachedService.cachedMethod("foo"));
+        assertEquals("foo", cachedService.cachedMethod("foo"));
+        assertEquals(2, cache.gets.get());
+        assertEquals(1, cachedService.getInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            invocations.incrementAndGet();
+            return key;
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+
+    @Named("test-backend")
+    @Singleton
+    static class TestBackend implements CacheBackend {
+
+        @Override
+        public AbstractCache createCache(String cacheName, AbstractCache localCache) {
+            return new TestCache(localCache);
+        }
+    }
+
+    static class TestCache extends AbstractCache implements NearCache {
+
+        final AbstractCache local;
+        final AtomicInteger gets = new AtomicInteger();
+
+        TestCache(AbstractCache local) {
+            this.local = local;
+        }
+
+        @Override
+        public AbstractCache getLocalCache() {
+            return local;
+        }
+
+        @Override
+        public String getName() {
+            return local.getName();
+        }
+
+        @Override
+        public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader) {
+            gets.incrementAndGet();
+            return local.get(key, valueLoader);
+        }
+
+        @Override
+        public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+            gets.incrementAndGet();
+            return local.getAsync(key, valueLoader);
+        }
+
+        @Override
+        public void invalidate(Object key) {
+            local.invalidate(key);
+        }
+
+        @Override
+        public void invalidateAll() {
+            local.invalidateAll();
+        }
+    }
+}
@@ -44,6 +44,11 @@ public class CacheInterceptionContextTest {
                 public long lockTimeout() {
                     return 0;
                 }
+
+                @Override
+                public boolean cacheResolvedValue() {
+                    return false;
+                }
             });
         });
         assertThrows(UnsupportedOperationException.class, () -> {
@@ -0,0 +1,114 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class CacheResultResolvedValueTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testUni() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: the method is only invoked once the Uni is subscribed to.
+        Uni<String> uni = cachedService.uniMethod("foo");
+        assertEquals(0, cachedService.getUniInvocations());
+        assertEquals("foo-1", uni.await().atMost(Duration.ofSeconds(5)));
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: the resolved value comes from the cache.
+        assertEquals("foo-1", cachedService.uniMethod("foo").await().atMost(Duration.ofSeconds(5)));
+        assertEquals(1, cachedService.getUniInvocations());
+
+        // STEP 3
+        // Action: failing call.
+        // Expected effect: the failure is not cached.
+        assertThrows(IllegalStateException.class,
+                () -> cachedService.uniMethod("fail").await().atMost(Duration.ofSeconds(5)));
+        assertEquals("fail-3", cachedService.uniMethod("fail").await().atMost(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testCompletionStage() throws InterruptedException, ExecutionException {
+        // STEP 1
+        // Action: concurrent calls while the value is pending.
+        // Expected effect: the method is invoked once and the pending value is shared.
+        CompletionStage<String> stage1 = cachedService.completionStageMethod("bar");
+        CompletionStage<String> stage2 = cachedService.completionStageMethod("bar");
+        assertFalse(stage1.toCompletableFuture().isDone());
+        assertEquals(1, cachedService.getStageInvocations());
+        cachedService.complete("bar-value");
+        assertEquals("bar-value", stage1.toCompletableFuture().get());
+        assertEquals("bar-value", stage2.toCompletableFuture().get());
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: a completed stage holding the cached value.
+        CompletionStage<String> stage3 = cachedService.completionStageMethod("bar");
+        assertTrue(stage3.toCompletableFuture().isDone());
+        assertEquals("bar-value", stage3.toCompletableFuture().get());
+        assertEquals(1, cachedService.getStageInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger uniInvocations = new AtomicInteger();
+        private final AtomicInteger stageInvocations = new AtomicInteger();
+        private final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        @CacheResult(cacheName = "uni-cache", cacheResolvedValue = true)
+        public Uni<String> uniMethod(String key) {
+            int invocation = uniInvocations.incrementAndGet();
+            if (key.equals("fail") && invocation == 2) {
+                return Uni.createFrom().failure(new IllegalStateException("Failed"));
+            }
+            return Uni.createFrom().item(key + "-" + invocation);
+        }
+
+        @CacheResult(cacheName = "stage-cache", cacheResolvedValue = true)
+        public CompletionStage<String> completionStageMethod(String key) {
+            stageInvocations.incrementAndGet();
+            return pending;
+        }
+
+        public int getUniInvocations() {
+            return uniInvocations.get();
+        }
+
+        public int getStageInvocations() {
+            return stageInvocations.get();
+        }
+
+        public void complete(String value) {
+            pending.complete(value);
+        }
+    }
+}
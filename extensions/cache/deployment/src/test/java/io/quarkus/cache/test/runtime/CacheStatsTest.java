@@ -0,0 +1,92 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheStatsTest {
+
+    private static final String STATS_CACHE = "stats-cache";
+    private static final String OTHER_CACHE = "other-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class)
+                    .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + STATS_CACHE + "\".metrics-enabled=true"),
+                            "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testStats() {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(STATS_CACHE).get();
+        assertTrue(cache.isMetricsEnabled());
+
+        // STEP 1
+        // Action: @CacheResult-annotated method calls.
+        // Expected effect: one miss followed by a successful load, then two hits.
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        CacheStats stats = cache.getStats();
+        assertEquals(2L, stats.hitCount());
+        assertEquals(1L, stats.missCount());
+        assertEquals(1L, stats.loadSuccessCount());
+        assertTrue(stats.totalLoadTime() > 0L);
+        assertEquals(0, cache.getInFlightLoads());
+
+        // STEP 2
+        // Action: failing call.
+        // Expected effect: one miss followed by a failed load.
+        assertThrows(IllegalArgumentException.class, () -> cachedService.cachedMethod("fail"));
+        stats = cache.getStats();
+        assertEquals(2L, stats.missCount());
+        assertEquals(1L, stats.loadFailureCount());
+    }
+
+    @Test
+    public void testStatsDisabledByDefault() {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(OTHER_CACHE).get();
+        cachedService.otherMethod("foo");
+        assertFalse(cache.isMetricsEnabled());
+        assertEquals(CacheStats.empty(), cache.getStats());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = STATS_CACHE)
+        public String cachedMethod(String key) {
+            if (key.equals("fail")) {
+                throw new IllegalArgumentException();
+            }
+            return key;
+        }
+
+        @CacheResult(cacheName = OTHER_CACHE)
+        public String otherMethod(String key) {
+            return key;
+        }
+    }
+}
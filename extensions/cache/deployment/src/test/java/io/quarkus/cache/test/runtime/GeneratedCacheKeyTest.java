@@ -0,0 +1,95 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.concurrent.ExecutionException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CompositeCacheKey;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the composite cache keys generated at build time for the cached methods.
+ */
+public class GeneratedCacheKeyTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testPrimitiveKeyElements() {
+        String value1 = cachedService.load("foo", 1, 2L, Double.NaN, true, 'c', (byte) 3, (short) 4, 5.0f);
+        // NaN is equal to itself, as in Double.equals(Object).
+        assertEquals(value1, cachedService.load("foo", 1, 2L, Double.NaN, true, 'c', (byte) 3, (short) 4, 5.0f));
+        assertNotEquals(value1, cachedService.load("foo", 2, 2L, Double.NaN, true, 'c', (byte) 3, (short) 4, 5.0f));
+        // 0.0 and -0.0 are different, as in Float.equals(Object).
+        String value2 = cachedService.load("foo", 1, 2L, 0.0, false, 'c', (byte) 3, (short) 4, 0.0f);
+        assertNotEquals(value2, cachedService.load("foo", 1, 2L, 0.0, false, 'c', (byte) 3, (short) 4, -0.0f));
+    }
+
+    @Test
+    public void testInvalidateWithBoxedKeyElements() {
+        String value = cachedService.load("bar", 1, 2L, 3.0, true, 'c', (byte) 3, (short) 4, 5.0f);
+        cachedService.invalidate("bar", 1, 2L, 3.0, true, 'c', (byte) 3, (short) 4, 5.0f);
+        assertNotEquals(value, cachedService.load("bar", 1, 2L, 3.0, true, 'c', (byte) 3, (short) 4, 5.0f));
+    }
+
+    @Test
+    public void testArrayKeyElements() {
+        Object notAKeyElement = new Object();
+        String value = cachedService.loadWithArray(new int[] { 1, 2 }, new String[] { "a" }, 3L, notAKeyElement);
+        assertEquals(value, cachedService.loadWithArray(new int[] { 1, 2 }, new String[] { "a" }, 3L, new Object()));
+        assertNotEquals(value, cachedService.loadWithArray(new int[] { 2, 1 }, new String[] { "a" }, 3L, notAKeyElement));
+    }
+
+    @Test
+    public void testEqualToCompositeCacheKey() throws ExecutionException, InterruptedException {
+        String value = cachedService.load("baz", 1, 2L, 3.0, true, 'c', (byte) 3, (short) 4, 5.0f);
+        // e.g. the key built when the interception is not managed by Arc
+        CompositeCacheKey key = new CompositeCacheKey("baz", 1, 2L, 3.0, true, 'c', (byte) 3, (short) 4, 5.0f);
+        assertEquals(value, ((AbstractCache) cache).get(key, k -> "not cached").get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int invocations;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String load(String key, int i, long l, double d, boolean b, char c, byte by, short s, float f) {
+            return key + "-" + ++invocations;
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key, Integer i, long l, Double d, Boolean b, char c, Byte by, short s, Float f) {
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String loadWithArray(@CacheKey int[] ints, @CacheKey String[] strings, @CacheKey long l, Object other) {
+            return "array-" + ++invocations;
+        }
+    }
+}
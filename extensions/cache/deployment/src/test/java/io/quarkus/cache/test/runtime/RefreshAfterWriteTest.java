@@ -0,0 +1,118 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class)
+                    .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=0.2S"),
+                            "application.properties"));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testStaleValueIsServedWhileReloading() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        assertEquals("foo-1", cachedService.cachedMethod("foo"));
+        assertEquals("foo-1", cachedService.cachedMethod("foo"));
+
+        // STEP 2
+        // Action: same call as STEP 1 once the entry is due for a refresh.
+        // Expected effect: the current value is returned and the method is invoked in the background.
+        Thread.sleep(300L);
+        assertEquals("foo-1", cachedService.cachedMethod("foo"));
+        assertEquals("foo-2", awaitValue("foo", "foo-2"));
+        assertEquals(2, cachedService.getInvocations("foo"));
+    }
+
+    @Test
+    public void testFailedReloadKeepsValue() throws InterruptedException {
+        assertEquals("bar-1", cachedService.cachedMethod("bar"));
+
+        // STEP 1
+        // Action: failing reload.
+        // Expected effect: the current value is kept.
+        cachedService.setFailing(true);
+        Thread.sleep(300L);
+        assertEquals("bar-1", cachedService.cachedMethod("bar"));
+        while (cachedService.getInvocations("bar") == 1) {
+            Thread.sleep(10L);
+        }
+        assertEquals("bar-1", cachedService.cachedMethod("bar"));
+
+        // STEP 2
+        // Action: successful reload.
+        // Expected effect: the value is replaced.
+        cachedService.setFailing(false);
+        String value = "bar-1";
+        for (int i = 0; i < 500 && value.equals("bar-1"); i++) {
+            Thread.sleep(10L);
+            value = cachedService.cachedMethod("bar");
+        }
+        // the failed reloads are retried on the next calls, so the invocation number is not known
+        assertNotEquals("bar-1", value);
+        assertTrue(value.startsWith("bar-"));
+    }
+
+    private String awaitValue(String key, String expected) throws InterruptedException {
+        String value = null;
+        for (int i = 0; i < 500; i++) {
+            value = cachedService.cachedMethod(key);
+            if (value.equals(expected)) {
+                break;
+            }
+            Thread.sleep(10L);
+        }
+        return value;
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicBoolean failing = new AtomicBoolean();
+        private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            int invocation = invocations.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            if (failing.get()) {
+                throw new IllegalStateException("Reload failed");
+            }
+            return key + "-" + invocation;
+        }
+
+        public void setFailing(boolean value) {
+            failing.set(value);
+        }
+
+        public int getInvocations(String key) {
+            return invocations.get(key).get();
+        }
+    }
+}
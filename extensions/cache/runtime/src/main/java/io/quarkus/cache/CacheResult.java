@@ -24,6 +24,10 @@ import javax.interceptor.InterceptorBinding;
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * If the method returns a {@link java.util.concurrent.CompletionStage} or a {@link io.smallrye.mutiny.Uni}, the returned
+ * object is cached by default. The {@code cacheResolvedValue} parameter can be used to cache the value it resolves to
+ * instead. See the parameter Javadoc for more details.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
@@ -48,4 +52,15 @@ public @interface CacheResult {
      */
     @Nonbinding
     long lockTimeout() default 0;
+
+    /**
+     * Whether the value resolved by a method returning a {@link java.util.concurrent.CompletionStage} or a
+     * {@link io.smallrye.mutiny.Uni} is cached instead of the returned object. If {@code true}, the method returns a new
+     * {@code CompletionStage} or {@code Uni} backed by the cache: concurrent invocations with the same key share a single
+     * pending computation without blocking, and a failure is not cached. A {@code Uni} only invokes the method when it is
+     * subscribed to. The {@code lockTimeout} parameter does not apply in that case. This parameter is ignored for other
+     * return types.
+     */
+    @Nonbinding
+    boolean cacheResolvedValue() default false;
 }
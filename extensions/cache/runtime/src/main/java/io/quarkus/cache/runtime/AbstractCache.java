@@ -1,9 +1,11 @@
 package io.quarkus.cache.runtime;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import io.quarkus.cache.Cache;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
 
 public abstract class AbstractCache implements Cache {
 
@@ -11,6 +13,8 @@ public abstract class AbstractCache implements Cache {
 
     private Object defaultKey;
 
+    private volatile TimeRecorder keyGenerationTimer;
+
     public abstract String getName();
 
     /**
@@ -27,8 +31,54 @@ public abstract class AbstractCache implements Cache {
         return defaultKey;
     }
 
+    /**
+     * Returns the recorder of the time spent generating the composite keys of the current cache, or {@code null} if the
+     * metrics of the cache are disabled.
+     *
+     * @return key generation time recorder
+     */
+    public TimeRecorder getKeyGenerationTimer() {
+        return keyGenerationTimer;
+    }
+
+    public void setKeyGenerationTimer(TimeRecorder keyGenerationTimer) {
+        this.keyGenerationTimer = keyGenerationTimer;
+    }
+
     public abstract CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader);
 
+    /**
+     * Same as {@link #get(Object, Function)}, except that {@code refreshLoader} is invoked instead of {@code valueLoader}
+     * when a value that is already cached is reloaded, e.g. because of {@code refresh-after-write}. The default
+     * implementation ignores {@code refreshLoader}.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @param refreshLoader function used to compute a new value when the cache value is reloaded
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader,
+            Function<Object, Object> refreshLoader) {
+        return get(key, valueLoader);
+    }
+
+    public abstract CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader);
+
+    /**
+     * Same as {@link #getAsync(Object, Function)}, except that {@code refreshLoader} is invoked instead of
+     * {@code valueLoader} when a value that is already cached is reloaded, e.g. because of {@code refresh-after-write}. The
+     * default implementation ignores {@code refreshLoader}.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @param refreshLoader function used to compute a new value when the cache value is reloaded
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader,
+            Function<Object, CompletionStage<Object>> refreshLoader) {
+        return getAsync(key, valueLoader);
+    }
+
     public abstract void invalidate(Object key);
 
     public abstract void invalidateAll();
@@ -0,0 +1,35 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * A cache implementation that can be selected with the {@code quarkus.cache.type} configuration property instead of the
+ * default Caffeine implementation.
+ * <p>
+ * Implementations are {@code @Named} beans, the name being the cache type. They are used while the application is
+ * statically initialized to build all the caches, so they must not connect to any remote system before the first cache
+ * operation.
+ */
+public interface CacheBackend {
+
+    /**
+     * Creates a cache.
+     *
+     * @param cacheName the name of the cache
+     * @param localCache a cache configured like the default caches of the same name, i.e. with the
+     *        {@code quarkus.cache.caffeine."cache-name".*} configuration, which implementations that keep a local copy of
+     *        the values are expected to use for it
+     * @return the new cache, which should implement {@link NearCache} if it uses {@code localCache}
+     */
+    AbstractCache createCache(String cacheName, AbstractCache localCache);
+
+    /**
+     * A cache that keeps a local copy of its values in the cache passed to {@link CacheBackend#createCache(String,
+     * AbstractCache)}. The metrics of the local cache are exposed as the metrics of this cache.
+     */
+    interface NearCache {
+
+        /**
+         * @return the cache that holds the local copy of the values
+         */
+        AbstractCache getLocalCache();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 import javax.interceptor.Interceptor.Priority;
@@ -14,6 +15,7 @@ import javax.interceptor.InvocationContext;
 import io.quarkus.arc.runtime.InterceptorBindings;
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
 
 public abstract class CacheInterceptor {
 
@@ -44,16 +46,22 @@ public abstract class CacheInterceptor {
         }
         List<T> interceptorBindings = new ArrayList<>();
         List<Short> cacheKeyParameterPositions = new ArrayList<>();
+        CacheKeyFactory cacheKeyFactory = null;
         for (Annotation binding : bindings) {
             if (binding instanceof CacheKeyParameterPositions) {
                 for (short position : ((CacheKeyParameterPositions) binding).value()) {
                     cacheKeyParameterPositions.add(position);
                 }
+                String keyFactory = ((CacheKeyParameterPositions) binding).keyFactory();
+                if (!keyFactory.isEmpty()) {
+                    cacheKeyFactory = CacheKeyFactoryRecorder.getFactory(keyFactory);
+                }
             } else if (interceptorBindingClass.isInstance(binding)) {
                 interceptorBindings.add(cast(binding, interceptorBindingClass));
             }
         }
-        return Optional.of(new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions));
+        return Optional
+                .of(new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions, cacheKeyFactory));
     }
 
     private <T extends Annotation> CacheInterceptionContext<T> getNonArcCacheInterceptionContext(
@@ -82,9 +90,22 @@ public abstract class CacheInterceptor {
     }
 
     protected Object getCacheKey(AbstractCache cache, List<Short> cacheKeyParameterPositions, Object[] methodParameterValues) {
+        return getCacheKey(cache, cacheKeyParameterPositions, null, methodParameterValues);
+    }
+
+    protected Object getCacheKey(AbstractCache cache, List<Short> cacheKeyParameterPositions,
+            CacheKeyFactory cacheKeyFactory, Object[] methodParameterValues) {
         if (methodParameterValues == null || methodParameterValues.length == 0) {
             // If the intercepted method doesn't have any parameter, then the default cache key will be used.
             return cache.getDefaultKey();
+        } else if (cacheKeyFactory != null) {
+            // If the cache key is composed of several parameters, then the key class generated at build time for these
+            // parameters will be used. It is equal to the composite cache key built from the same parameters.
+            TimeRecorder timer = getKeyGenerationTimer(cache);
+            long start = timer == null ? 0L : System.nanoTime();
+            Object key = cacheKeyFactory.create(methodParameterValues);
+            recordKeyGeneration(timer, start);
+            return key;
         } else if (cacheKeyParameterPositions.size() == 1) {
             // If exactly one @CacheKey-annotated parameter was identified for the intercepted method at build time, then this
             // parameter will be used as the cache key.
@@ -92,18 +113,36 @@ public abstract class CacheInterceptor {
         } else if (cacheKeyParameterPositions.size() >= 2) {
             // If two or more @CacheKey-annotated parameters were identified for the intercepted method at build time, then a
             // composite cache key built from all these parameters will be used.
-            List<Object> keyElements = new ArrayList<>();
-            for (short position : cacheKeyParameterPositions) {
-                keyElements.add(methodParameterValues[position]);
+            TimeRecorder timer = getKeyGenerationTimer(cache);
+            long start = timer == null ? 0L : System.nanoTime();
+            Object[] keyElements = new Object[cacheKeyParameterPositions.size()];
+            for (int i = 0; i < keyElements.length; i++) {
+                keyElements[i] = methodParameterValues[cacheKeyParameterPositions.get(i)];
             }
-            return new CompositeCacheKey(keyElements.toArray(new Object[0]));
+            CompositeCacheKey key = new CompositeCacheKey(keyElements);
+            recordKeyGeneration(timer, start);
+            return key;
         } else if (methodParameterValues.length == 1) {
             // If the intercepted method has exactly one parameter, then this parameter will be used as the cache key.
             return methodParameterValues[0];
         } else {
             // If the intercepted method has two or more parameters, then a composite cache key built from all these parameters
             // will be used.
-            return new CompositeCacheKey(methodParameterValues);
+            TimeRecorder timer = getKeyGenerationTimer(cache);
+            long start = timer == null ? 0L : System.nanoTime();
+            CompositeCacheKey key = new CompositeCacheKey(methodParameterValues);
+            recordKeyGeneration(timer, start);
+            return key;
+        }
+    }
+
+    private static TimeRecorder getKeyGenerationTimer(AbstractCache cache) {
+        return cache == null ? null : cache.getKeyGenerationTimer();
+    }
+
+    private static void recordKeyGeneration(TimeRecorder timer, long start) {
+        if (timer != null) {
+            timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 }
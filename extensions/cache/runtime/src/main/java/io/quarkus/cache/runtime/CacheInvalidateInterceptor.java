@@ -30,6 +30,7 @@ public class CacheInvalidateInterceptor extends CacheInterceptor {
                 AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
                 if (key == null) {
                     key = getCacheKey(cache, interceptionContext.getCacheKeyParameterPositions(),
+                            interceptionContext.getCacheKeyFactory(),
                             invocationContext.getParameters());
                 }
                 if (LOGGER.isDebugEnabled()) {
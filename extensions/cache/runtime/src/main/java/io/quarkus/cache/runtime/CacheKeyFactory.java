@@ -0,0 +1,17 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * Builds the composite cache key of a method annotated with {@link io.quarkus.cache.CacheResult CacheResult} or
+ * {@link io.quarkus.cache.CacheInvalidate CacheInvalidate}.
+ * <p>
+ * An implementation is generated at build time for each method which uses a composite cache key. It reads the key elements
+ * from the method arguments at the positions identified at build time and builds a {@link GeneratedCacheKey}.
+ */
+public interface CacheKeyFactory {
+
+    /**
+     * @param methodParameterValues the arguments of the intercepted method
+     * @return the cache key
+     */
+    Object create(Object[] methodParameterValues);
+}
@@ -0,0 +1,37 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CacheKeyFactoryRecorder {
+
+    // The factories are looked up by the interceptors with the class name stored in @CacheKeyParameterPositions.
+    private static volatile Map<String, CacheKeyFactory> factories = Collections.emptyMap();
+
+    public void registerFactories(Set<String> factoryClassNames) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, CacheKeyFactory> newFactories = new HashMap<>();
+        for (String factoryClassName : factoryClassNames) {
+            try {
+                newFactories.put(factoryClassName,
+                        (CacheKeyFactory) classLoader.loadClass(factoryClassName).getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to instantiate the cache key factory " + factoryClassName, e);
+            }
+        }
+        factories = newFactories;
+    }
+
+    /**
+     * @param factoryClassName the class name of a generated factory
+     * @return the factory or {@code null} if no such factory was generated
+     */
+    static CacheKeyFactory getFactory(String factoryClassName) {
+        return factories.get(factoryClassName);
+    }
+}
@@ -13,7 +13,8 @@ import javax.interceptor.InterceptorBinding;
  * <ul>
  * <li>it is annotated with {@link io.quarkus.cache.CacheResult CacheResult} or {@link io.quarkus.cache.CacheInvalidate
  * CacheInvalidate}</li>
- * <li>at least one of its arguments is annotated with {@link io.quarkus.cache.CacheKey CacheKey}</li>
+ * <li>at least one of its arguments is annotated with {@link io.quarkus.cache.CacheKey CacheKey} or its cache key is composed
+ * of several of its arguments</li>
  * </ul>
  * It helps improving performances by storing at build time the positions of {@link io.quarkus.cache.CacheKey
  * CacheKey}-annotated arguments instead of relying on reflection at run time (which is bad for performances) to identify these
@@ -26,4 +27,11 @@ public @interface CacheKeyParameterPositions {
 
     @Nonbinding
     short[] value() default {};
+
+    /**
+     * The name of the {@link CacheKeyFactory} generated at build time for the method if its cache key is composed of several
+     * of its arguments.
+     */
+    @Nonbinding
+    String keyFactory() default "";
 }
@@ -1,10 +1,12 @@
 package io.quarkus.cache.runtime;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
@@ -14,6 +16,7 @@ import javax.interceptor.InvocationContext;
 import org.jboss.logging.Logger;
 
 import io.quarkus.cache.CacheResult;
+import io.smallrye.mutiny.Uni;
 
 @CacheResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
 @Interceptor
@@ -36,21 +39,42 @@ public class CacheResultInterceptor extends CacheInterceptor {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
-        Object key = getCacheKey(cache, interceptionContext.getCacheKeyParameterPositions(), invocationContext.getParameters());
+        Object key = getCacheKey(cache, interceptionContext.getCacheKeyParameterPositions(),
+                interceptionContext.getCacheKeyFactory(), invocationContext.getParameters());
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
         }
 
+        if (binding.cacheResolvedValue()) {
+            Class<?> returnType = invocationContext.getMethod().getReturnType();
+            if (returnType == Uni.class) {
+                return Uni.createFrom().completionStage(new Supplier<CompletionStage<Object>>() {
+                    @Override
+                    public CompletionStage<Object> get() {
+                        return cache.getAsync(key, new Function<Object, CompletionStage<Object>>() {
+                            @Override
+                            public CompletionStage<Object> apply(Object k) {
+                                return proceedAsync(invocationContext, true);
+                            }
+                        });
+                    }
+                });
+            } else if (returnType == CompletionStage.class || returnType == CompletableFuture.class) {
+                return cache.getAsync(key, new Function<Object, CompletionStage<Object>>() {
+                    @Override
+                    public CompletionStage<Object> apply(Object k) {
+                        return proceedAsync(invocationContext, false);
+                    }
+                });
+            }
+        }
+
         try {
 
             CompletableFuture<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
                 @Override
                 public Object apply(Object k) {
-                    try {
-                        return invocationContext.proceed();
-                    } catch (Exception e) {
-                        throw new CacheException(e);
-                    }
+                    return proceed(invocationContext);
                 }
             });
 
@@ -93,4 +117,28 @@ public class CacheResultInterceptor extends CacheInterceptor {
             }
         }
     }
+
+    private static Object proceed(InvocationContext invocationContext) {
+        try {
+            return invocationContext.proceed();
+        } catch (Exception e) {
+            throw new CacheException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Object> proceedAsync(InvocationContext invocationContext, boolean uni) {
+        try {
+            Object result = invocationContext.proceed();
+            if (uni) {
+                return ((Uni<Object>) result).subscribeAsCompletionStage();
+            }
+            return (CompletionStage<Object>) result;
+        } catch (Exception e) {
+            // Handled like a failure of the returned stage, i.e. not cached.
+            CompletableFuture<Object> failure = new CompletableFuture<>();
+            failure.completeExceptionally(e);
+            return failure;
+        }
+    }
 }
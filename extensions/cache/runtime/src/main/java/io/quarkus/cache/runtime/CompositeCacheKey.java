@@ -26,6 +26,13 @@ public class CompositeCacheKey {
         this.keyElements = keyElements;
     }
 
+    /**
+     * @return a copy of the key elements
+     */
+    public Object[] getKeyElements() {
+        return keyElements.clone();
+    }
+
     @Override
     public int hashCode() {
         return Arrays.deepHashCode(keyElements);
@@ -40,6 +47,14 @@ public class CompositeCacheKey {
             final CompositeCacheKey other = (CompositeCacheKey) obj;
             return Arrays.deepEquals(keyElements, other.keyElements);
         }
+        if (obj instanceof GeneratedCacheKey) {
+            return Arrays.deepEquals(keyElements, ((GeneratedCacheKey) obj).keyElements());
+        }
         return false;
     }
+
+    @Override
+    public String toString() {
+        return "CompositeCacheKey" + Arrays.deepToString(keyElements);
+    }
 }
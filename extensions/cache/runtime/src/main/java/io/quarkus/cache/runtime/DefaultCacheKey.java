@@ -20,6 +20,13 @@ public class DefaultCacheKey {
         this.cacheName = Objects.requireNonNull(cacheName);
     }
 
+    /**
+     * @return the cache name
+     */
+    public String getCacheName() {
+        return cacheName;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(cacheName);
@@ -36,4 +43,9 @@ public class DefaultCacheKey {
         }
         return false;
     }
+
+    @Override
+    public String toString() {
+        return "DefaultCacheKey[cacheName=" + cacheName + "]";
+    }
 }
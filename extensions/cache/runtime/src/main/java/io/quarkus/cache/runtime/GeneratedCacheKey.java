@@ -0,0 +1,183 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Arrays;
+
+/**
+ * The base class of the composite cache keys generated at build time. A subclass is generated for each sequence of key
+ * element types used by the cached methods of the application: it holds the key elements in final fields, the primitive
+ * elements being stored without boxing, and compares them without relying on {@link Arrays#deepEquals(Object[], Object[])}.
+ * <p>
+ * A generated key is equal to any other composite key, generated or not, built from the same key elements. Its hash code is
+ * computed once, with the same algorithm as {@link CompositeCacheKey}.
+ */
+public abstract class GeneratedCacheKey {
+
+    private final int hashCode;
+
+    protected GeneratedCacheKey(int hashCode) {
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Compares the key elements with the key elements of another key of the same class.
+     *
+     * @param other a key of the same class
+     * @return {@code true} if the key elements are equal
+     */
+    protected abstract boolean elementsEqual(GeneratedCacheKey other);
+
+    /**
+     * @return the key elements, the primitive elements being boxed
+     */
+    protected abstract Object[] keyElements();
+
+    /**
+     * @return the key elements, the primitive elements being boxed
+     */
+    public Object[] getKeyElements() {
+        return keyElements();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass() == getClass()) {
+            GeneratedCacheKey other = (GeneratedCacheKey) obj;
+            return hashCode == other.hashCode && elementsEqual(other);
+        }
+        if (obj instanceof GeneratedCacheKey) {
+            // e.g. an int argument used by @CacheResult and an Integer argument used by @CacheInvalidate
+            GeneratedCacheKey other = (GeneratedCacheKey) obj;
+            return hashCode == other.hashCode && Arrays.deepEquals(keyElements(), other.keyElements());
+        }
+        if (obj instanceof CompositeCacheKey) {
+            return obj.equals(this);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        // Same representation as CompositeCacheKey, the keys may be encoded with it.
+        return "CompositeCacheKey" + Arrays.deepToString(keyElements());
+    }
+
+    // The following methods are invoked by the generated subclasses, they follow Arrays.deepHashCode and Arrays.deepEquals.
+
+    protected static int hash(int hash, Object element) {
+        int elementHash;
+        if (element == null) {
+            elementHash = 0;
+        } else if (!element.getClass().isArray()) {
+            elementHash = element.hashCode();
+        } else if (element instanceof Object[]) {
+            elementHash = Arrays.deepHashCode((Object[]) element);
+        } else if (element instanceof byte[]) {
+            elementHash = Arrays.hashCode((byte[]) element);
+        } else if (element instanceof short[]) {
+            elementHash = Arrays.hashCode((short[]) element);
+        } else if (element instanceof int[]) {
+            elementHash = Arrays.hashCode((int[]) element);
+        } else if (element instanceof long[]) {
+            elementHash = Arrays.hashCode((long[]) element);
+        } else if (element instanceof char[]) {
+            elementHash = Arrays.hashCode((char[]) element);
+        } else if (element instanceof float[]) {
+            elementHash = Arrays.hashCode((float[]) element);
+        } else if (element instanceof double[]) {
+            elementHash = Arrays.hashCode((double[]) element);
+        } else {
+            elementHash = Arrays.hashCode((boolean[]) element);
+        }
+        return 31 * hash + elementHash;
+    }
+
+    protected static int hash(int hash, boolean element) {
+        return 31 * hash + Boolean.hashCode(element);
+    }
+
+    protected static int hash(int hash, byte element) {
+        return 31 * hash + Byte.hashCode(element);
+    }
+
+    protected static int hash(int hash, char element) {
+        return 31 * hash + Character.hashCode(element);
+    }
+
+    protected static int hash(int hash, short element) {
+        return 31 * hash + Short.hashCode(element);
+    }
+
+    protected static int hash(int hash, int element) {
+        return 31 * hash + Integer.hashCode(element);
+    }
+
+    protected static int hash(int hash, long element) {
+        return 31 * hash + Long.hashCode(element);
+    }
+
+    protected static int hash(int hash, float element) {
+        return 31 * hash + Float.hashCode(element);
+    }
+
+    protected static int hash(int hash, double element) {
+        return 31 * hash + Double.hashCode(element);
+    }
+
+    protected static boolean equal(Object element1, Object element2) {
+        if (element1 == element2) {
+            return true;
+        }
+        if (element1 == null || element2 == null) {
+            return false;
+        }
+        if (!element1.getClass().isArray()) {
+            return element1.equals(element2);
+        }
+        return Arrays.deepEquals(new Object[] { element1 }, new Object[] { element2 });
+    }
+
+    protected static boolean equal(boolean element1, boolean element2) {
+        return element1 == element2;
+    }
+
+    protected static boolean equal(byte element1, byte element2) {
+        return element1 == element2;
+    }
+
+    protected static boolean equal(char element1, char element2) {
+        return element1 == element2;
+    }
+
+    protected static boolean equal(short element1, short element2) {
+        return element1 == element2;
+    }
+
+    protected static boolean equal(int element1, int element2) {
+        return element1 == element2;
+    }
+
+    protected static boolean equal(long element1, long element2) {
+        return element1 == element2;
+    }
+
+    protected static boolean equal(float element1, float element2) {
+        // Same as Float.equals(Object)
+        return Float.floatToIntBits(element1) == Float.floatToIntBits(element2);
+    }
+
+    protected static boolean equal(double element1, double element2) {
+        // Same as Double.equals(Object)
+        return Double.doubleToLongBits(element1) == Double.doubleToLongBits(element2);
+    }
+}
@@ -2,14 +2,33 @@ package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
+import javax.enterprise.inject.literal.NamedLiteral;
+
+import org.jboss.logging.Logger;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.CacheException;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.runtime.ExecutorRecorder;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -17,6 +36,8 @@ import io.quarkus.cache.runtime.NullValueConverter;
  */
 public class CaffeineCache extends AbstractCache {
 
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
+
     private AsyncCache<Object, Object> cache;
 
     private String name;
@@ -29,6 +50,18 @@ public class CaffeineCache extends AbstractCache {
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private long refreshAfterWriteNanos;
+
+    private String refreshExecutorName;
+
+    private volatile Executor refreshExecutor;
+
+    private StatsCounter statsCounter;
+
+    private final AtomicInteger inFlightLoads = new AtomicInteger();
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -48,6 +81,31 @@ public class CaffeineCache extends AbstractCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            /*
+             * Caffeine only supports refreshAfterWrite with a loader that is known when the cache is built, while the value
+             * loader of a cached method is only known when the method is invoked. The refresh is therefore implemented here.
+             */
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+            this.refreshExecutorName = cacheInfo.refreshExecutor;
+        }
+        if (cacheInfo.metricsEnabled) {
+            /*
+             * The statistics are not recorded by Caffeine: the cache values are computed through the map view of the cache
+             * and Caffeine would record the completion of the futures stored in the map as successful loads, even when they
+             * hold a CaffeineComputationThrowable. The hits, misses and loads are recorded here instead.
+             */
+            this.statsCounter = new ConcurrentStatsCounter();
+            builder.removalListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    if (cause.wasEvicted()) {
+                        statsCounter.recordEviction(1, cause);
+                    }
+                }
+            });
+        }
         cache = builder.buildAsync();
     }
 
@@ -60,6 +118,9 @@ public class CaffeineCache extends AbstractCache {
      * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
      * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread and the
      * {@link CompletableFuture} is immediately completed before being returned.
+     * <p>
+     * If the cache value is due for a refresh, the current value is returned and {@code valueLoader} is invoked in the
+     * background to replace it.
      * 
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
@@ -68,25 +129,234 @@ public class CaffeineCache extends AbstractCache {
      */
     @Override
     public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader) {
+        return get(key, valueLoader, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader,
+            Function<Object, Object> refreshLoader) {
         if (key == null) {
             throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
         }
         CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
+            recordMiss();
+            long loadStart = startLoad();
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue(value));
+                endLoad(loadStart, true);
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
+                endLoad(loadStart, false);
             }
             return unwrapCacheValueOrThrowable(newCacheValue);
         } else {
+            recordHit();
+            refreshIfNeeded(key, existingCacheValue, new Function<Object, CompletionStage<Object>>() {
+                @Override
+                public CompletionStage<Object> apply(Object k) {
+                    return CompletableFuture.completedFuture(refreshLoader.apply(k));
+                }
+            });
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from the
+     * {@link CompletionStage} returned by {@code valueLoader} if necessary. Unlike {@link #get(Object, Function)}, the
+     * returned {@link CompletableFuture} may not be completed yet: concurrent calls with the same key share the pending value,
+     * and the entry is removed if the {@link CompletionStage} fails.
+     * <p>
+     * If the cache value is due for a refresh, the current value is returned and {@code valueLoader} is invoked in the
+     * background to replace it.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @return a {@link CompletableFuture} holding the cache value, failed with the failure of the value computation if any
+     */
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        return getAsync(key, valueLoader, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader,
+            Function<Object, CompletionStage<Object>> refreshLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
+        CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+        if (existingCacheValue == null) {
+            recordMiss();
+            long loadStart = startLoad();
+            load(key, valueLoader).whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object value, Throwable failure) {
+                    if (failure == null) {
+                        newCacheValue.complete(toCacheValue(value));
+                    } else {
+                        cache.asMap().remove(key, newCacheValue);
+                        newCacheValue.complete(new CaffeineComputationThrowable(unwrapCompletionException(failure)));
+                    }
+                    endLoad(loadStart, failure == null);
+                }
+            });
+            return unwrapCacheValueOrFailure(newCacheValue);
+        } else {
+            recordHit();
+            refreshIfNeeded(key, existingCacheValue, refreshLoader);
+            return unwrapCacheValueOrFailure(existingCacheValue);
+        }
+    }
+
+    private Object toCacheValue(Object value) {
+        Object cacheValue = NullValueConverter.toCacheValue(value);
+        return refreshAfterWrite == null ? cacheValue : new RefreshableValue(cacheValue, System.nanoTime());
+    }
+
+    private static Object fromCacheValue(Object cacheValue) {
+        if (cacheValue instanceof RefreshableValue) {
+            cacheValue = ((RefreshableValue) cacheValue).value;
+        }
+        return NullValueConverter.fromCacheValue(cacheValue);
+    }
+
+    private static CompletionStage<Object> load(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        try {
+            CompletionStage<Object> value = valueLoader.apply(key);
+            if (value == null) {
+                throw new NullPointerException("The value loader of the cache returned a null CompletionStage");
+            }
+            return value;
+        } catch (Throwable t) {
+            CompletableFuture<Object> failure = new CompletableFuture<>();
+            failure.completeExceptionally(t);
+            return failure;
+        }
+    }
+
+    private void refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue,
+            Function<Object, CompletionStage<Object>> valueLoader) {
+        if (refreshAfterWrite == null || !cacheValue.isDone()) {
+            return;
+        }
+        Object value = cacheValue.getNow(null);
+        if (!(value instanceof RefreshableValue)) {
+            return;
+        }
+        RefreshableValue refreshableValue = (RefreshableValue) value;
+        if (System.nanoTime() - refreshableValue.writeTime < refreshAfterWriteNanos
+                || !refreshableValue.refreshing.compareAndSet(false, true)) {
+            // Not stale yet or another read already triggered the reload, the current value is returned meanwhile.
+            return;
+        }
+        try {
+            getRefreshExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    long loadStart = startLoad();
+                    load(key, valueLoader).whenComplete(new BiConsumer<Object, Throwable>() {
+                        @Override
+                        public void accept(Object newValue, Throwable failure) {
+                            endLoad(loadStart, failure == null);
+                            if (failure == null) {
+                                // The entry is only replaced if it was not invalidated or replaced during the reload.
+                                cache.asMap().replace(key, cacheValue,
+                                        CompletableFuture.completedFuture(toCacheValue(newValue)));
+                            } else {
+                                LOGGER.debugf(unwrapCompletionException(failure),
+                                        "Reload of entry with key [%s] failed in cache [%s], the current value is kept", key,
+                                        name);
+                                refreshableValue.refreshing.set(false);
+                            }
+                        }
+                    });
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.debugf(e, "Reload of entry with key [%s] rejected in cache [%s]", key, name);
+            refreshableValue.refreshing.set(false);
+        }
+    }
+
+    private void recordHit() {
+        if (statsCounter != null) {
+            statsCounter.recordHits(1);
+        }
+    }
+
+    private void recordMiss() {
+        if (statsCounter != null) {
+            statsCounter.recordMisses(1);
+        }
+    }
+
+    // The reloads triggered by refreshAfterWrite are recorded as loads too, after the hit that triggered them.
+    private long startLoad() {
+        if (statsCounter == null) {
+            return 0L;
+        }
+        inFlightLoads.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    private void endLoad(long loadStart, boolean success) {
+        if (statsCounter != null) {
+            inFlightLoads.decrementAndGet();
+            long loadTime = System.nanoTime() - loadStart;
+            if (success) {
+                statsCounter.recordLoadSuccess(loadTime);
+            } else {
+                statsCounter.recordLoadFailure(loadTime);
+            }
+        }
+    }
+
+    private Executor getRefreshExecutor() {
+        Executor executor = refreshExecutor;
+        if (executor == null) {
+            if (refreshExecutorName == null) {
+                // The worker pool is only available at runtime, it must not be kept since it changes on restarts in dev mode.
+                return ExecutorRecorder.getCurrent();
+            }
+            InstanceHandle<Executor> handle = Arc.container().instance(Executor.class, NamedLiteral.of(refreshExecutorName));
+            if (!handle.isAvailable()) {
+                throw new IllegalStateException("No Executor bean named [" + refreshExecutorName
+                        + "] found for the refresh of cache [" + name + "]");
+            }
+            executor = handle.get();
+            refreshExecutor = executor;
+        }
+        return executor;
+    }
+
+    private static Throwable unwrapCompletionException(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+
+    private CompletableFuture<Object> unwrapCacheValueOrFailure(CompletableFuture<Object> cacheValue) {
+        return cacheValue.thenCompose(new Function<Object, CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> apply(Object value) {
+                CompletableFuture<Object> result = new CompletableFuture<>();
+                if (value instanceof CaffeineComputationThrowable) {
+                    result.completeExceptionally(((CaffeineComputationThrowable) value).getCause());
+                } else {
+                    result.complete(fromCacheValue(value));
+                }
+                return result;
+            }
+        });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<Object, Object>() {
             @Override
@@ -100,7 +370,7 @@ public class CaffeineCache extends AbstractCache {
                         throw new CacheException(cause);
                     }
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    return fromCacheValue(value);
                 }
             }
         });
@@ -139,7 +409,51 @@ public class CaffeineCache extends AbstractCache {
         return expireAfterAccess;
     }
 
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
     public long getSize() {
         return cache.synchronous().estimatedSize();
     }
+
+    public boolean isMetricsEnabled() {
+        return statsCounter != null;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the cache, or {@link CacheStats#empty()} if the metrics of the cache are
+     * disabled.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return statsCounter == null ? CacheStats.empty() : statsCounter.snapshot();
+    }
+
+    /**
+     * Returns the number of cache values that are currently computed, including the reloads triggered by
+     * {@code refreshAfterWrite}. Always {@code 0} if the metrics of the cache are disabled.
+     *
+     * @return number of in-flight loads
+     */
+    public int getInFlightLoads() {
+        return inFlightLoads.get();
+    }
+
+    /**
+     * A cache value that is reloaded in the background once it is older than {@code refreshAfterWrite}.
+     */
+    private static final class RefreshableValue {
+
+        final Object value;
+        final long writeTime;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        RefreshableValue(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
 }
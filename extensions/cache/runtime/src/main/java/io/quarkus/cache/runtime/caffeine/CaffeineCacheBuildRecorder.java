@@ -4,10 +4,14 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import javax.enterprise.inject.literal.NamedLiteral;
+
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.cache.Cache;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheBackend;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -16,18 +20,30 @@ public class CaffeineCacheBuildRecorder {
 
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheBuildRecorder.class);
 
-    public void buildCaches(BeanContainer beanContainer, Set<CaffeineCacheInfo> cacheInfos) {
+    /**
+     * @param backendType the name of the {@link CacheBackend} bean that creates the caches, or {@code null} for Caffeine caches
+     */
+    public void buildCaches(BeanContainer beanContainer, Set<CaffeineCacheInfo> cacheInfos, String backendType) {
+        CacheBackend backend = null;
+        if (backendType != null) {
+            backend = beanContainer.instance(CacheBackend.class, NamedLiteral.of(backendType));
+        }
+
         // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
         Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
 
         for (CaffeineCacheInfo cacheInfo : cacheInfos) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf(
-                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
-                        cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
-                        cacheInfo.expireAfterAccess);
+                        "Building %s cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], [expireAfterAccess=%s] and [refreshAfterWrite=%s]",
+                        backendType == null ? "Caffeine" : backendType, cacheInfo.name, cacheInfo.initialCapacity,
+                        cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
+                        cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite);
+            }
+            AbstractCache cache = new CaffeineCache(cacheInfo);
+            if (backend != null) {
+                cache = backend.createCache(cacheInfo.name, cache);
             }
-            CaffeineCache cache = new CaffeineCache(cacheInfo);
             caches.put(cacheInfo.name, cache);
         }
 
@@ -15,6 +15,12 @@ public class CaffeineCacheInfo {
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public String refreshExecutor;
+
+    public boolean metricsEnabled;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
@@ -0,0 +1,119 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheBackend.NearCache;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * This recorder is invoked IFF the metrics of at least one Caffeine cache are enabled, including the Caffeine caches that
+ * hold the local values of the caches of another type
+ */
+@Recorder
+public class CaffeineCacheMetricsRecorder {
+
+    private static final String CACHE_TAG_NAME = "cache";
+
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> consumeMetricsFactory() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CacheManager cacheManager = Arc.container().instance(CacheManager.class).get();
+                for (String cacheName : cacheManager.getCacheNames()) {
+                    Cache cache = cacheManager.getCache(cacheName).get();
+                    // the caches of the other types expose the metrics of their local copy of the values, if any
+                    Cache localCache = cache instanceof NearCache ? ((NearCache) cache).getLocalCache() : cache;
+                    if (localCache instanceof CaffeineCache && ((CaffeineCache) localCache).isMetricsEnabled()) {
+                        registerMetrics(metricsFactory, (CaffeineCache) localCache);
+                        ((AbstractCache) cache).setKeyGenerationTimer(((CaffeineCache) localCache).getKeyGenerationTimer());
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Register the metrics of a cache, following the names used by the Micrometer Caffeine binder
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param cache Caffeine cache with recorded statistics
+     */
+    void registerMetrics(MetricsFactory metricsFactory, CaffeineCache cache) {
+        createStatsCounter(metricsFactory, "cache.gets",
+                "The number of times cache lookup methods have returned a cached value",
+                cache, CacheStats::hitCount, "result", "hit");
+        createStatsCounter(metricsFactory, "cache.gets",
+                "The number of times cache lookup methods have returned an uncached (newly loaded) value",
+                cache, CacheStats::missCount, "result", "miss");
+        createBuilder(metricsFactory, "cache.hit.ratio", "The ratio of cache requests which were hits", cache)
+                .buildGauge(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return cache.getStats().hitRate();
+                    }
+                });
+        createStatsCounter(metricsFactory, "cache.loads", "The number of times cache values were successfully loaded",
+                cache, CacheStats::loadSuccessCount, "result", "success");
+        createStatsCounter(metricsFactory, "cache.loads", "The number of times cache values failed to load",
+                cache, CacheStats::loadFailureCount, "result", "failure");
+        createBuilder(metricsFactory, "cache.load.duration", "The total time spent loading cache values", cache)
+                .unit(TimeUnit.NANOSECONDS.toString())
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return cache.getStats().totalLoadTime();
+                    }
+                });
+        createBuilder(metricsFactory, "cache.loads.in.flight", "The number of cache values that are currently loaded", cache)
+                .buildGauge(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return cache.getInFlightLoads();
+                    }
+                });
+        createStatsCounter(metricsFactory, "cache.evictions", "The number of times the cache was evicted", cache,
+                CacheStats::evictionCount);
+        createBuilder(metricsFactory, "cache.size", "The approximate number of entries in the cache", cache)
+                .buildGauge(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return cache.getSize();
+                    }
+                });
+        cache.setKeyGenerationTimer(createBuilder(metricsFactory, "cache.key.generation",
+                "The time spent generating the composite keys of the cache", cache).buildTimer());
+    }
+
+    void createStatsCounter(MetricsFactory metricsFactory, String metricName, String description, CaffeineCache cache,
+            Function<CacheStats, Long> f, String... tags) {
+        createBuilder(metricsFactory, metricName, description, cache, tags)
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return f.apply(cache.getStats());
+                    }
+                });
+    }
+
+    MetricsFactory.MetricBuilder createBuilder(MetricsFactory metricsFactory, String metricName, String description,
+            CaffeineCache cache, String... tags) {
+        MetricsFactory.MetricBuilder builder = metricsFactory.builder(metricName)
+                .description(description)
+                .tag(CACHE_TAG_NAME, cache.getName());
+        for (int i = 0; i + 1 < tags.length; i = i + 2) {
+            builder.tag(tags[i], tags[i + 1]);
+        }
+        return builder;
+    }
+}
@@ -1,6 +1,8 @@
 package io.quarkus.cache.runtime.noop;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import io.quarkus.cache.runtime.AbstractCache;
@@ -30,6 +32,26 @@ public class NoOpCache extends AbstractCache {
         return cacheValue;
     }
 
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        CompletableFuture<Object> cacheValue = new CompletableFuture<Object>();
+        try {
+            valueLoader.apply(key).whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object value, Throwable failure) {
+                    if (failure == null) {
+                        cacheValue.complete(value);
+                    } else {
+                        cacheValue.completeExceptionally(failure);
+                    }
+                }
+            });
+        } catch (Throwable t) {
+            cacheValue.completeExceptionally(t);
+        }
+        return cacheValue;
+    }
+
     @Override
     public void invalidate(Object key) {
     }
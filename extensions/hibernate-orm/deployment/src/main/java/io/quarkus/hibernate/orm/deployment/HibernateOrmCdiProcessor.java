@@ -30,6 +30,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.hibernate.orm.PersistenceUnit;
 import io.quarkus.hibernate.orm.runtime.HibernateOrmRecorder;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.resteasy.reactive.spi.RequestContextUsageBuildItem;
 
 public class HibernateOrmCdiProcessor {
 
@@ -161,6 +162,14 @@ public class HibernateOrmCdiProcessor {
         }
     }
 
+    @BuildStep
+    void requestContextUsage(BuildProducer<RequestContextUsageBuildItem> requestContextUsages) {
+        // outside of a transaction, the sessions are bound to the request context
+        requestContextUsages.produce(new RequestContextUsageBuildItem("javax.persistence"));
+        requestContextUsages.produce(new RequestContextUsageBuildItem("org.hibernate"));
+        requestContextUsages.produce(new RequestContextUsageBuildItem("io.quarkus.hibernate.orm"));
+    }
+
     private static <T> SyntheticBeanBuildItem createSyntheticBean(String persistenceUnitName, boolean isDefaultPersistenceUnit,
             Class<T> type, List<DotName> allExposedTypes, Supplier<T> supplier, boolean defaultBean) {
         SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
@@ -57,6 +57,7 @@ import io.quarkus.hibernate.reactive.runtime.HibernateReactiveRecorder;
 import io.quarkus.hibernate.reactive.runtime.ReactiveSessionFactoryProducer;
 import io.quarkus.hibernate.reactive.runtime.ReactiveSessionProducer;
 import io.quarkus.reactive.datasource.deployment.VertxPoolBuildItem;
+import io.quarkus.resteasy.reactive.spi.RequestContextUsageBuildItem;
 import io.quarkus.runtime.LaunchMode;
 
 public final class HibernateReactiveProcessor {
@@ -88,6 +89,12 @@ public final class HibernateReactiveProcessor {
         }
     }
 
+    @BuildStep
+    RequestContextUsageBuildItem requestContextUsage() {
+        // the reactive sessions are request scoped, Panache looks them up programmatically
+        return new RequestContextUsageBuildItem("io.quarkus.hibernate.reactive");
+    }
+
     @BuildStep
     void reflections(BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
         String[] classes = {
@@ -7,6 +7,7 @@ import java.util.function.Supplier;
 
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -143,6 +144,16 @@ public class MicrometerMetricsFactory implements MetricsFactory {
 
             return timer.wrap(f);
         }
+
+        @Override
+        public void remove() {
+            for (Meter meter : globalRegistry.find(name).tags(tags).meters()) {
+                // find() also matches the meters with additional tags
+                if (Tags.of(meter.getId().getTags()).equals(tags)) {
+                    globalRegistry.remove(meter);
+                }
+            }
+        }
     }
 
     class MicrometerTimeRecorder implements TimeRecorder {
@@ -0,0 +1,97 @@
+package io.quarkus.quartz.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ProgrammaticJobsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("quarkus.quartz.start-mode=forced"), "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testIntervalJob() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        Trigger trigger = scheduler.newJob("interval").setInterval("0.1s").setTask(execution -> latch.countDown())
+                .schedule();
+        assertEquals("interval", trigger.getId());
+        try {
+            assertTrue(latch.await(3, TimeUnit.SECONDS));
+            assertNotNull(trigger.getPreviousFireTime());
+            assertNotNull(trigger.getNextFireTime());
+        } finally {
+            scheduler.unscheduleJob("interval");
+        }
+    }
+
+    @Test
+    public void testUnscheduleJob() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.newJob("unscheduled").setInterval("0.05s").setTask(execution -> {
+            executions.incrementAndGet();
+            latch.countDown();
+        }).schedule();
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        Trigger unscheduled = scheduler.unscheduleJob("unscheduled");
+        assertNotNull(unscheduled);
+        assertEquals("unscheduled", unscheduled.getId());
+        // An execution may have been dispatched before the job was unscheduled
+        Thread.sleep(100);
+        int count = executions.get();
+        Thread.sleep(300);
+        assertEquals(count, executions.get());
+        assertNull(scheduler.unscheduleJob("unscheduled"));
+    }
+
+    @Test
+    public void testCronJob() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.newJob("cron").setCron("0/1 * * * * ?").setTask(execution -> latch.countDown()).schedule();
+        try {
+            assertTrue(latch.await(3, TimeUnit.SECONDS));
+        } finally {
+            scheduler.unscheduleJob("cron");
+        }
+    }
+
+    @Test
+    public void testInvalidJobs() {
+        assertThrows(IllegalStateException.class, () -> scheduler.newJob("noTask").setInterval("1s").schedule());
+        assertThrows(IllegalStateException.class, () -> scheduler.newJob("noSchedule").setTask(execution -> {
+        }).schedule());
+        scheduler.newJob("duplicate").setInterval("1h").setTask(execution -> {
+        }).schedule();
+        try {
+            assertThrows(IllegalStateException.class, () -> scheduler.newJob("duplicate").setInterval("1h")
+                    .setTask(execution -> {
+                    }).schedule());
+        } finally {
+            scheduler.unscheduleJob("duplicate");
+        }
+    }
+
+}
@@ -2,9 +2,10 @@ package io.quarkus.quartz.runtime;
 
 import java.time.Instant;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
@@ -26,11 +27,13 @@ import org.quartz.Job;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
 import org.quartz.ScheduleBuilder;
 import org.quartz.SchedulerException;
 import org.quartz.SchedulerFactory;
 import org.quartz.SimpleScheduleBuilder;
 import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
 import org.quartz.impl.StdSchedulerFactory;
 import org.quartz.simpl.InitThreadContextClassLoadHelper;
 import org.quartz.simpl.SimpleJobFactory;
@@ -39,23 +42,21 @@ import org.quartz.spi.TriggerFiredBundle;
 import com.cronutils.mapper.CronMapper;
 import com.cronutils.model.Cron;
 import com.cronutils.model.CronType;
-import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.parser.CronParser;
 
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
-import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.SkippedExecution;
 import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.runtime.AbstractJobDefinition;
 import io.quarkus.scheduler.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.runtime.SchedulerContext;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
-import io.quarkus.scheduler.runtime.SkipConcurrentExecutionInvoker;
 
 @Singleton
 public class QuartzScheduler implements Scheduler {
@@ -66,11 +67,26 @@ public class QuartzScheduler implements Scheduler {
     private final org.quartz.Scheduler scheduler;
     private final boolean enabled;
     private final boolean startHalted;
+    // identity -> scheduled invoker instance
+    private final Map<String, ScheduledInvoker> invokers;
+    private final Config config;
+    private final CronType cronType;
+    private final CronParser cronParser;
+    private final Event<SkippedExecution> skippedExecutionEvent;
+    private final boolean manageTx;
+    private final Instance<UserTransaction> userTransaction;
 
     public QuartzScheduler(SchedulerContext context, QuartzSupport quartzSupport, Config config,
             SchedulerRuntimeConfig schedulerRuntimeConfig, Event<SkippedExecution> skippedExecutionEvent, Instance<Job> jobs,
             Instance<UserTransaction> userTransation) {
         enabled = schedulerRuntimeConfig.enabled;
+        invokers = new ConcurrentHashMap<>();
+        this.config = config;
+        cronType = context.getCronType();
+        cronParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType));
+        this.skippedExecutionEvent = skippedExecutionEvent;
+        manageTx = quartzSupport.getBuildTimeConfig().storeType.isNonManagedTxJobStore();
+        userTransaction = userTransation;
         final QuartzRuntimeConfig runtimeConfig = quartzSupport.getRuntimeConfig();
         warnDeprecated(runtimeConfig);
 
@@ -90,12 +106,9 @@ public class QuartzScheduler implements Scheduler {
             LOGGER.info("No scheduled business methods found - Quartz scheduler will not be started");
             this.scheduler = null;
         } else {
-            // identity -> scheduled invoker instance
-            Map<String, ScheduledInvoker> invokers = new HashMap<>();
             UserTransaction transaction = null;
 
             try {
-                boolean manageTx = quartzSupport.getBuildTimeConfig().storeType.isNonManagedTxJobStore();
                 if (manageTx && userTransation.isResolvable()) {
                     transaction = userTransation.get();
                 }
@@ -107,9 +120,6 @@ public class QuartzScheduler implements Scheduler {
                 // Set custom job factory
                 scheduler.setJobFactory(new InvokerJobFactory(invokers, jobs));
 
-                CronType cronType = context.getCronType();
-                CronDefinition def = CronDefinitionBuilder.instanceDefinitionFor(cronType);
-                CronParser parser = new CronParser(def);
                 if (transaction != null) {
                     transaction.begin();
                 }
@@ -121,10 +131,9 @@ public class QuartzScheduler implements Scheduler {
                         if (identity.isEmpty()) {
                             identity = ++nameSequence + "_" + method.getInvokerClassName();
                         }
-                        ScheduledInvoker invoker = context.createInvoker(method.getInvokerClassName());
-                        if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
-                            invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
-                        }
+                        ScheduledInvoker invoker = SimpleScheduler.initInvoker(
+                                context.createInvoker(method.getInvokerClassName()), scheduled.concurrentExecution(),
+                                scheduled.maxConcurrency(), scheduled.maxQueued(), skippedExecutionEvent);
                         invokers.put(identity, invoker);
 
                         JobBuilder jobBuilder = JobBuilder.newJob(InvokerJob.class)
@@ -133,41 +142,6 @@ public class QuartzScheduler implements Scheduler {
                                 // this info is redundant but keep it for backward compatibility
                                 .usingJobData(INVOKER_KEY, method.getInvokerClassName())
                                 .requestRecovery();
-                        ScheduleBuilder<?> scheduleBuilder;
-
-                        String cron = scheduled.cron().trim();
-                        if (!cron.isEmpty()) {
-                            if (SchedulerContext.isConfigValue(cron)) {
-                                cron = config.getValue(SchedulerContext.getConfigProperty(cron), String.class);
-                            }
-                            if (!CronType.QUARTZ.equals(cronType)) {
-                                // Migrate the expression
-                                Cron cronExpr = parser.parse(cron);
-                                switch (cronType) {
-                                    case UNIX:
-                                        cron = CronMapper.fromUnixToQuartz().map(cronExpr).asString();
-                                        break;
-                                    case CRON4J:
-                                        cron = CronMapper.fromCron4jToQuartz().map(cronExpr).asString();
-                                        break;
-                                    default:
-                                        break;
-                                }
-                            }
-                            scheduleBuilder = CronScheduleBuilder.cronSchedule(cron);
-                        } else if (!scheduled.every().isEmpty()) {
-                            scheduleBuilder = SimpleScheduleBuilder.simpleSchedule()
-                                    .withIntervalInMilliseconds(
-                                            SimpleScheduler.parseDuration(scheduled, scheduled.every(), "every").toMillis())
-                                    .repeatForever();
-                        } else {
-                            throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
-                        }
-
-                        TriggerBuilder<?> triggerBuilder = TriggerBuilder.newTrigger()
-                                .withIdentity(identity + "_trigger", Scheduler.class.getName())
-                                .withSchedule(scheduleBuilder);
-
                         Long millisToAdd = null;
                         if (scheduled.delay() > 0) {
                             millisToAdd = scheduled.delayUnit().toMillis(scheduled.delay());
@@ -175,10 +149,8 @@ public class QuartzScheduler implements Scheduler {
                             millisToAdd = Math
                                     .abs(SimpleScheduler.parseDuration(scheduled, scheduled.delayed(), "delayed").toMillis());
                         }
-                        if (millisToAdd != null) {
-                            triggerBuilder.startAt(new Date(Instant.now()
-                                    .plusMillis(millisToAdd).toEpochMilli()));
-                        }
+                        TriggerBuilder<?> triggerBuilder = createTriggerBuilder(identity, scheduled.cron(), scheduled.every(),
+                                millisToAdd, scheduled);
 
                         JobDetail job = jobBuilder.build();
                         if (scheduler.checkExists(job.getKey())) {
@@ -270,6 +242,101 @@ public class QuartzScheduler implements Scheduler {
         }
     }
 
+    @Override
+    public JobDefinition newJob(String identity) {
+        Objects.requireNonNull(identity);
+        return new QuartzJobDefinition(identity.trim());
+    }
+
+    @Override
+    public Trigger unscheduleJob(String identity) {
+        if (scheduler == null) {
+            return null;
+        }
+        UserTransaction transaction = null;
+        try {
+            transaction = beginTransaction();
+            org.quartz.Trigger trigger = scheduler.getTrigger(triggerKey(identity));
+            boolean deleted = scheduler.deleteJob(new JobKey(identity, Scheduler.class.getName()));
+            if (transaction != null) {
+                transaction.commit();
+            }
+            invokers.remove(identity);
+            if (!deleted || trigger == null) {
+                return null;
+            }
+            LOGGER.debugf("Unscheduled job %s", identity);
+            return new QuartzJobTrigger(null, identity, trigger);
+        } catch (Exception e) {
+            rollback(transaction);
+            throw new IllegalStateException("Unable to unschedule job " + identity, e);
+        }
+    }
+
+    private TriggerBuilder<?> createTriggerBuilder(String identity, String cron, String every, Long millisToAdd,
+            Object source) {
+        ScheduleBuilder<?> scheduleBuilder;
+        cron = cron.trim();
+        if (!cron.isEmpty()) {
+            if (SchedulerContext.isConfigValue(cron)) {
+                cron = config.getValue(SchedulerContext.getConfigProperty(cron), String.class);
+            }
+            if (!CronType.QUARTZ.equals(cronType)) {
+                // Migrate the expression
+                Cron cronExpr = cronParser.parse(cron);
+                switch (cronType) {
+                    case UNIX:
+                        cron = CronMapper.fromUnixToQuartz().map(cronExpr).asString();
+                        break;
+                    case CRON4J:
+                        cron = CronMapper.fromCron4jToQuartz().map(cronExpr).asString();
+                        break;
+                    default:
+                        break;
+                }
+            }
+            scheduleBuilder = CronScheduleBuilder.cronSchedule(cron);
+        } else if (!every.trim().isEmpty()) {
+            scheduleBuilder = SimpleScheduleBuilder.simpleSchedule()
+                    .withIntervalInMilliseconds(SimpleScheduler.parseDuration(source, every, "every").toMillis())
+                    .repeatForever();
+        } else {
+            throw new IllegalArgumentException("Invalid schedule configuration: " + source);
+        }
+
+        TriggerBuilder<?> triggerBuilder = TriggerBuilder.newTrigger()
+                .withIdentity(triggerKey(identity))
+                .withSchedule(scheduleBuilder);
+        if (millisToAdd != null) {
+            triggerBuilder.startAt(new Date(Instant.now()
+                    .plusMillis(millisToAdd).toEpochMilli()));
+        }
+        return triggerBuilder;
+    }
+
+    private static TriggerKey triggerKey(String identity) {
+        return new TriggerKey(identity + "_trigger", Scheduler.class.getName());
+    }
+
+    private UserTransaction beginTransaction() throws Exception {
+        if (manageTx && userTransaction.isResolvable()) {
+            UserTransaction transaction = userTransaction.get();
+            transaction.begin();
+            return transaction;
+        }
+        return null;
+    }
+
+    private static void rollback(UserTransaction transaction) {
+        if (transaction != null) {
+            try {
+                transaction.rollback();
+            } catch (Exception e) {
+                LOGGER.error("Unable to rollback transaction", e);
+            }
+        }
+    }
+
     // Use Interceptor.Priority.PLATFORM_BEFORE to start the scheduler before regular StartupEvent observers
     void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent startupEvent) {
         if (scheduler == null || startHalted) {
@@ -414,6 +481,58 @@ public class QuartzScheduler implements Scheduler {
 
     }
 
+    /**
+     * The trigger of a job scheduled programmatically, whose fire times are read from the scheduler until the job is
+     * unscheduled.
+     */
+    static class QuartzJobTrigger implements Trigger {
+
+        private final org.quartz.Scheduler scheduler;
+        private final String identity;
+        private final TriggerKey key;
+        private volatile org.quartz.Trigger trigger;
+
+        QuartzJobTrigger(org.quartz.Scheduler scheduler, String identity, org.quartz.Trigger trigger) {
+            this.scheduler = scheduler;
+            this.identity = identity;
+            this.key = trigger.getKey();
+            this.trigger = trigger;
+        }
+
+        @Override
+        public Instant getNextFireTime() {
+            Date nextFireTime = current().getNextFireTime();
+            return nextFireTime != null ? nextFireTime.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            Date previousFireTime = current().getPreviousFireTime();
+            return previousFireTime != null ? previousFireTime.toInstant() : null;
+        }
+
+        @Override
+        public String getId() {
+            // the identity of the job, as for the simple scheduler
+            return identity;
+        }
+
+        private org.quartz.Trigger current() {
+            if (scheduler != null) {
+                try {
+                    org.quartz.Trigger current = scheduler.getTrigger(key);
+                    if (current != null) {
+                        trigger = current;
+                    }
+                } catch (SchedulerException e) {
+                    LOGGER.debugf(e, "Unable to read the trigger %s", key);
+                }
+            }
+            return trigger;
+        }
+
+    }
+
     static class QuartzScheduledExecution implements ScheduledExecution {
 
         final QuartzTrigger trigger;
@@ -439,6 +558,57 @@ public class QuartzScheduler implements Scheduler {
 
     }
 
+    class QuartzJobDefinition extends AbstractJobDefinition {
+
+        QuartzJobDefinition(String identity) {
+            super(identity);
+        }
+
+        @Override
+        public Trigger schedule() {
+            checkDefinition();
+            if (!enabled) {
+                LOGGER.warnf("Quartz Scheduler is disabled and the job %s cannot be scheduled", identity);
+                return null;
+            }
+            if (scheduler == null) {
+                throw new IllegalStateException("Quartz scheduler is not started because no @Scheduled methods were found. "
+                        + "If you only need to schedule jobs programmatically you can force the start of the scheduler via "
+                        + "quarkus.quartz.start-mode=forced");
+            }
+            long delay = getDelay();
+            TriggerBuilder<?> triggerBuilder = createTriggerBuilder(identity, cron, every, delay > 0 ? delay : null, this);
+            ScheduledInvoker invoker = SimpleScheduler.initInvoker(createTaskInvoker(), concurrentExecution, maxConcurrency,
+                    maxQueued, skippedExecutionEvent);
+            if (invokers.putIfAbsent(identity, invoker) != null) {
+                throw new IllegalStateException("A job with the same identity is already scheduled: " + identity);
+            }
+            UserTransaction transaction = null;
+            try {
+                transaction = beginTransaction();
+                JobDetail job = JobBuilder.newJob(InvokerJob.class)
+                        .withIdentity(identity, Scheduler.class.getName())
+                        .build();
+                // The job may have been stored by a previous run
+                if (scheduler.checkExists(job.getKey())) {
+                    scheduler.deleteJob(job.getKey());
+                }
+                org.quartz.Trigger trigger = triggerBuilder.build();
+                scheduler.scheduleJob(job, trigger);
+                if (transaction != null) {
+                    transaction.commit();
+                }
+                LOGGER.debugf("Scheduled %s", this);
+                return new QuartzJobTrigger(scheduler, identity, trigger);
+            } catch (Exception e) {
+                rollback(transaction);
+                invokers.remove(identity, invoker);
+                throw new IllegalStateException("Unable to schedule " + this, e);
+            }
+        }
+
+    }
+
     static class InvokerJobFactory extends SimpleJobFactory {
 
         final Map<String, ScheduledInvoker> invokers;
@@ -133,6 +133,8 @@ public class QuteProcessor {
 
     private static final Logger LOGGER = Logger.getLogger(QuteProcessor.class);
 
+    private static final Set<String> ACCESSOR_RESERVED_NAMES = new HashSet<>(Arrays.asList("this", "raw", "safe"));
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(Feature.QUTE);
@@ -428,11 +430,13 @@ public class QuteProcessor {
     }
 
     @BuildStep
-    void validateExpressions(TemplatesAnalysisBuildItem templatesAnalysis, BeanArchiveIndexBuildItem beanArchiveIndex,
+    void validateExpressions(QuteConfig config, TemplatesAnalysisBuildItem templatesAnalysis,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
             List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
             List<TypeCheckExcludeBuildItem> excludes,
             BuildProducer<IncorrectExpressionBuildItem> incorrectExpressions,
             BuildProducer<ImplicitValueResolverBuildItem> implicitClasses,
+            BuildProducer<ValueAccessorBuildItem> valueAccessors,
             BeanDiscoveryFinishedBuildItem beanDiscovery) {
 
         IndexView index = beanArchiveIndex.getIndex();
@@ -451,6 +455,8 @@ public class QuteProcessor {
 
         // Map implicit class -> set of used members
         Map<DotName, Set<String>> implicitClassToMembersUsed = new HashMap<>();
+        // Base class + path -> accessor
+        Map<String, ValueAccessorBuildItem> accessors = new HashMap<>();
 
         for (TemplateAnalysis templateAnalysis : templatesAnalysis.getAnalysis()) {
             // Maps an expression generated id to the last match of an expression (i.e. the type of the last part)
@@ -470,14 +476,21 @@ public class QuteProcessor {
                         continue;
                     }
                 } else {
-                    generatedIdsToMatches.put(expression.getGeneratedId(),
-                            validateNestedExpressions(templateAnalysis, null, new HashMap<>(), templateExtensionMethods,
-                                    excludes,
-                                    incorrectExpressions, expression, index, implicitClassToMembersUsed, templateIdToPathFun,
-                                    generatedIdsToMatches));
+                    Match match = validateNestedExpressions(templateAnalysis, null, new HashMap<>(), templateExtensionMethods,
+                            excludes,
+                            incorrectExpressions, expression, index, implicitClassToMembersUsed, templateIdToPathFun,
+                            generatedIdsToMatches);
+                    generatedIdsToMatches.put(expression.getGeneratedId(), match);
+                    if (config.compileExpressions && match.hasAccessor()) {
+                        String path = expression.getParts().stream().skip(1).map(Expression.Part::getName)
+                                .collect(Collectors.joining("."));
+                        accessors.putIfAbsent(match.accessorReceivers.get(0).name() + "#" + path,
+                                new ValueAccessorBuildItem(match.accessorReceivers, match.accessorMembers, path));
+                    }
                 }
             }
         }
+        accessors.values().forEach(valueAccessors::produce);
 
         for (Entry<DotName, Set<String>> entry : implicitClassToMembersUsed.entrySet()) {
             ClassInfo clazz = index.getClassByName(entry.getKey());
@@ -545,6 +558,7 @@ public class QuteProcessor {
         List<Info> parts = TypeInfos.create(expression, index, templateIdToPathFun);
         Iterator<Info> iterator = parts.iterator();
         Info root = iterator.next();
+        boolean resetIterator = false;
 
         if (rootClazz == null) {
             if (root.isTypeInfo()) {
@@ -562,6 +576,7 @@ public class QuteProcessor {
                             generatedIdsToMatches, incorrectExpressions)) {
                         // In some cases it's necessary to reset the iterator
                         iterator = parts.iterator();
+                        resetIterator = true;
                     }
                 } else {
                     // No type info available 
@@ -574,6 +589,14 @@ public class QuteProcessor {
             match.setValues(rootClazz, Type.create(rootClazz.name(), org.jboss.jandex.Type.Kind.CLASS));
         }
 
+        // The classes and members of the properties that follow the first part, used to generate a value accessor
+        List<ClassInfo> accessorReceivers = null;
+        List<AnnotationTarget> accessorMembers = null;
+        if (rootClazz == null && !resetIterator && !match.isEmpty() && !expression.hasNamespace()) {
+            accessorReceivers = new ArrayList<>();
+            accessorMembers = new ArrayList<>();
+        }
+
         while (iterator.hasNext()) {
             // Now iterate over all parts of the expression and check each part against the current "match class"
             Info info = iterator.next();
@@ -598,6 +621,15 @@ public class QuteProcessor {
                         membersUsed.add(member.kind() == Kind.FIELD ? member.asField().name() : member.asMethod().name());
                     }
                 }
+                if (accessorMembers != null) {
+                    if (isAccessible(info, member, match.clazz(), templateExtensionMethods, index)) {
+                        accessorReceivers.add(match.clazz());
+                        accessorMembers.add(member);
+                    } else {
+                        accessorReceivers = null;
+                        accessorMembers = null;
+                    }
+                }
                 if (member == null) {
                     // Then try to find an etension method
                     member = findTemplateExtensionMethod(info, match.clazz(), templateExtensionMethods, expression,
@@ -633,6 +665,11 @@ public class QuteProcessor {
                         clazz = index.getClassByName(type.name());
                     }
                     match.setValues(clazz, type);
+                    if (match.type() != type && iterator.hasNext()) {
+                        // The value of a CompletionStage or Uni must be resolved first
+                        accessorReceivers = null;
+                        accessorMembers = null;
+                    }
                     if (info.isProperty()) {
                         String hint = info.asProperty().hint;
                         if (hint != null) {
@@ -654,10 +691,44 @@ public class QuteProcessor {
                 break;
             }
         }
+        if (accessorMembers != null && !accessorMembers.isEmpty() && accessorMembers.size() == parts.size() - 1) {
+            match.setAccessor(accessorReceivers, accessorMembers);
+        }
         results.put(expression.toOriginalString(), match);
         return match;
     }
 
+    /**
+     * A property can only be accessed directly if it is a public non-static field or a public non-static method with no
+     * params of a public class, and if no value resolver that takes precedence would resolve it at runtime.
+     */
+    private static boolean isAccessible(Info info, AnnotationTarget member, ClassInfo clazz,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods, IndexView index) {
+        if (member == null || !info.isProperty() || !Modifier.isPublic(clazz.flags())) {
+            return false;
+        }
+        String name = info.asProperty().name;
+        if (ACCESSOR_RESERVED_NAMES.contains(name) || clazz.name().toString().startsWith("java.util.")) {
+            // Resolved by the built-in value resolvers
+            return false;
+        }
+        if (member.kind() == Kind.FIELD) {
+            if (Modifier.isStatic(member.asField().flags())) {
+                return false;
+            }
+        } else if (Modifier.isStatic(member.asMethod().flags()) || !member.asMethod().parameters().isEmpty()) {
+            return false;
+        }
+        for (TemplateExtensionMethodBuildItem extensionMethod : templateExtensionMethods) {
+            if (!extensionMethod.hasNamespace() && extensionMethod.matchesName(name)
+                    && Types.isAssignableFrom(extensionMethod.getMatchClass().name(), clazz.name(), index)) {
+                // Template extension methods take precedence
+                return false;
+            }
+        }
+        return true;
+    }
+
     @BuildStep
     void collectTemplateExtensionMethods(BeanArchiveIndexBuildItem beanArchiveIndex,
             BuildProducer<TemplateExtensionMethodBuildItem> extensionMethods) {
@@ -912,6 +983,19 @@ public class QuteProcessor {
         }
     }
 
+    @BuildStep
+    void generateValueAccessors(List<ValueAccessorBuildItem> valueAccessors,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        // Accessors reference the application classes
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        for (ValueAccessorBuildItem valueAccessor : valueAccessors) {
+            ValueAccessorGenerator.generate(classOutput, valueAccessor);
+            reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, valueAccessor.getClassName()));
+        }
+        LOGGER.debugf("Generated %s value accessors", valueAccessors.size());
+    }
+
     @BuildStep
     void collectTemplates(ApplicationArchivesBuildItem applicationArchivesBuildItem,
             BuildProducer<HotDeploymentWatchedFileBuildItem> watchedPaths,
@@ -1045,7 +1129,7 @@ public class QuteProcessor {
     @Record(value = STATIC_INIT)
     void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
-            Optional<TemplateVariantsBuildItem> templateVariants) {
+            Optional<TemplateVariantsBuildItem> templateVariants, List<ValueAccessorBuildItem> valueAccessors) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -1067,8 +1151,9 @@ public class QuteProcessor {
 
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(QuteContext.class)
                 .supplier(recorder.createContext(generatedValueResolvers.stream()
-                        .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
-                        tags, variants))
+                        .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
+                        valueAccessors.stream().map(ValueAccessorBuildItem::getClassName).collect(Collectors.toList()),
+                        templates, tags, variants))
                 .done());
     }
 
@@ -1294,6 +1379,8 @@ public class QuteProcessor {
         private final IndexView index;
         private ClassInfo clazz;
         private Type type;
+        private List<ClassInfo> accessorReceivers;
+        private List<AnnotationTarget> accessorMembers;
 
         Match(IndexView index) {
             this.index = index;
@@ -1343,6 +1430,15 @@ public class QuteProcessor {
             type = null;
         }
 
+        void setAccessor(List<ClassInfo> receivers, List<AnnotationTarget> members) {
+            this.accessorReceivers = receivers;
+            this.accessorMembers = members;
+        }
+
+        boolean hasAccessor() {
+            return accessorMembers != null;
+        }
+
         boolean isEmpty() {
             return clazz == null;
         }
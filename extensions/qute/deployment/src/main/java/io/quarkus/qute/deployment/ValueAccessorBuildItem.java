@@ -0,0 +1,59 @@
+package io.quarkus.qute.deployment;
+
+import java.util.List;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Represents the member access chain of a validated expression, e.g. {@code item.name.length}, for which a
+ * {@link io.quarkus.qute.ValueAccessor} is generated.
+ */
+public final class ValueAccessorBuildItem extends MultiBuildItem {
+
+    private static final String PACKAGE = "io.quarkus.qute.generated.";
+    private static final String SUFFIX = "_ValueAccessor";
+
+    private final List<ClassInfo> receivers;
+    private final List<AnnotationTarget> members;
+    private final String path;
+    private final String className;
+
+    /**
+     * 
+     * @param receivers the classes of the objects the members are accessed on, the first one is the base class
+     * @param members the fields and methods of the properties
+     * @param path the names of the properties, separated by dots
+     */
+    public ValueAccessorBuildItem(List<ClassInfo> receivers, List<AnnotationTarget> members, String path) {
+        this.receivers = receivers;
+        this.members = members;
+        this.path = path;
+        ClassInfo base = receivers.get(0);
+        this.className = PACKAGE + base.simpleName() + "_" + HashUtil.sha1(base.name() + "#" + path) + SUFFIX;
+    }
+
+    public ClassInfo getBaseClass() {
+        return receivers.get(0);
+    }
+
+    public List<ClassInfo> getReceivers() {
+        return receivers;
+    }
+
+    public List<AnnotationTarget> getMembers() {
+        return members;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
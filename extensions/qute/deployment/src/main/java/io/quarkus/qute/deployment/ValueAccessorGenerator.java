@@ -0,0 +1,93 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.Results.Result;
+import io.quarkus.qute.ValueAccessor;
+
+/**
+ * Generates a {@link ValueAccessor} that reads the properties of an expression directly, e.g. for {@code item.name.length}
+ * and the base class {@code org.acme.Item}:
+ * 
+ * <pre>
+ * public Object access(Object base) {
+ *     if (!(base instanceof Item)) {
+ *         return Result.NOT_FOUND;
+ *     }
+ *     Object name = ((Item) base).getName();
+ *     if (!(name instanceof String)) {
+ *         return Result.NOT_FOUND;
+ *     }
+ *     return ((String) name).length();
+ * }
+ * </pre>
+ * 
+ * The value resolvers are used instead if a value is {@code null} or not an instance of the type found during validation.
+ */
+final class ValueAccessorGenerator {
+
+    private static final FieldDescriptor RESULT_NOT_FOUND = FieldDescriptor.of(Result.class, "NOT_FOUND", Result.class);
+
+    private ValueAccessorGenerator() {
+    }
+
+    static void generate(ClassOutput classOutput, ValueAccessorBuildItem accessor) {
+        try (ClassCreator creator = ClassCreator.builder().classOutput(classOutput)
+                .className(accessor.getClassName().replace('.', '/')).interfaces(ValueAccessor.class).build()) {
+
+            MethodCreator getPath = creator.getMethodCreator("getPath", String.class).setModifiers(Modifier.PUBLIC);
+            getPath.returnValue(getPath.load(accessor.getPath()));
+
+            MethodCreator getBaseClass = creator.getMethodCreator("getBaseClass", Class.class).setModifiers(Modifier.PUBLIC);
+            getBaseClass.returnValue(getBaseClass.loadClass(accessor.getBaseClass().name().toString()));
+
+            MethodCreator access = creator.getMethodCreator("access", Object.class, Object.class)
+                    .setModifiers(Modifier.PUBLIC);
+            List<ClassInfo> receivers = accessor.getReceivers();
+            List<AnnotationTarget> members = accessor.getMembers();
+            ResultHandle value = access.getMethodParam(0);
+            for (int i = 0; i < members.size(); i++) {
+                ClassInfo receiver = receivers.get(i);
+                String receiverName = receiver.name().toString();
+                BranchResult isInstance = access.ifTrue(access.instanceOf(value, receiverName));
+                BytecodeCreator notInstance = isInstance.falseBranch();
+                notInstance.returnValue(notInstance.readStaticField(RESULT_NOT_FOUND));
+                ResultHandle instance = access.checkCast(value, receiverName);
+                // The receiver is used as the owner of the member so that it can be declared in a non-public superclass
+                AnnotationTarget member = members.get(i);
+                if (member.kind() == Kind.FIELD) {
+                    FieldInfo field = member.asField();
+                    value = access.readInstanceField(FieldDescriptor.of(receiverName, field.name(),
+                            DescriptorUtils.typeToString(field.type())), instance);
+                } else {
+                    MethodInfo method = member.asMethod();
+                    MethodDescriptor descriptor = MethodDescriptor.ofMethod(receiverName, method.name(),
+                            DescriptorUtils.typeToString(method.returnType()));
+                    if (Modifier.isInterface(receiver.flags())) {
+                        value = access.invokeInterfaceMethod(descriptor, instance);
+                    } else {
+                        value = access.invokeVirtualMethod(descriptor, instance);
+                    }
+                }
+            }
+            access.returnValue(value);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Results.Result;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueAccessor;
+import io.quarkus.qute.deployment.Foo;
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledExpressionsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Foo.class)
+                    .addAsResource(new StringAsset("{@java.util.List<io.quarkus.qute.deployment.Foo> list}"
+                            + "{@io.quarkus.qute.deployment.Foo foo}"
+                            + "{#for item in list}"
+                            + "{item.name}={item.age}={item.charlie.name}={item.charlie.name.length}"
+                            + "{#if hasNext},{/if}"
+                            + "{/}"
+                            + "::"
+                            + "{foo.charlie.name}"), "templates/foo.html")
+                    .addAsResource(new StringAsset("quarkus.qute.compile-expressions=true"), "application.properties"));
+
+    @Inject
+    Template foo;
+
+    @Test
+    public void testCompiledExpressions() throws Exception {
+        Foo bravo = new Foo("bravo", 10l);
+        ValueAccessor accessor = (ValueAccessor) loadAccessor("charlie.name").newInstance();
+        assertEquals(Foo.class, accessor.getBaseClass());
+        assertEquals("BRAVO", accessor.access(bravo));
+        accessor = (ValueAccessor) loadAccessor("charlie.name.length").newInstance();
+        assertEquals(5, accessor.access(bravo));
+        assertEquals(Result.NOT_FOUND, accessor.access("foo"));
+
+        Foo alpha = new Foo("alpha", 1l);
+        List<Foo> foos = Arrays.asList(alpha, bravo);
+        assertEquals("alpha=1=ALPHA=5,bravo=10=BRAVO=5::BRAVO", foo.data("list", foos, "foo", bravo).render());
+
+        // Fall back to the value resolvers if an intermediate value is null
+        alpha.charlie = null;
+        assertEquals("alpha=1=NOT_FOUND=NOT_FOUND,bravo=10=BRAVO=5::BRAVO",
+                foo.data("list", foos, "foo", bravo).render());
+    }
+
+    private static Class<?> loadAccessor(String path) throws ClassNotFoundException {
+        return Thread.currentThread().getContextClassLoader().loadClass("io.quarkus.qute.generated.Foo_"
+                + HashUtil.sha1(Foo.class.getName() + "#" + path) + "_ValueAccessor");
+    }
+
+}
@@ -27,6 +27,7 @@ import io.quarkus.qute.Resolver;
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateLocator.TemplateLocation;
 import io.quarkus.qute.UserTagSectionHelper;
+import io.quarkus.qute.ValueAccessor;
 import io.quarkus.qute.ValueResolver;
 import io.quarkus.qute.ValueResolvers;
 import io.quarkus.qute.Variant;
@@ -129,6 +130,11 @@ public class EngineProducer {
             LOGGER.debugf("Registered UserTagSectionHelper for %s [%s]", tagName, tagTemplateId);
             builder.addSectionHelper(new UserTagSectionHelper.Factory(tagName, tagTemplateId));
         }
+        // Add generated value accessors
+        for (String accessorClass : context.getAccessorClasses()) {
+            builder.addValueAccessor(createAccessor(accessorClass));
+            LOGGER.debugf("Added generated value accessor: %s", accessorClass);
+        }
         // Add locator
         builder.addLocator(this::locate);
         engine = builder.build();
@@ -167,6 +173,16 @@ public class EngineProducer {
         }
     }
 
+    private ValueAccessor createAccessor(String accessorClassName) {
+        try {
+            Class<?> accessorClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(accessorClassName);
+            return (ValueAccessor) accessorClazz.newInstance();
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to create accessor: " + accessorClassName, e);
+        }
+    }
+
     /**
      * @param path
      * @return the optional reader
@@ -44,4 +44,19 @@ public class QuteConfig {
     @ConfigItem
     public Optional<List<String>> typeCheckExcludes;
 
+    /**
+     * If set to {@code true} then the properties of validated expressions are accessed directly by generated classes instead
+     * of the value resolvers.
+     * <p>
+     * For example, the expression {@code item.name.length} where {@code item} is an {@code org.acme.Item} results in a class
+     * that calls {@code getName().length()} on an {@code org.acme.Item}. This only applies to expressions that consist of
+     * properties, i.e. with no namespace and no virtual methods, and that are resolved to public fields or methods during
+     * validation. The first part of an expression is always resolved by the value resolvers, which are also used if the
+     * types do not match at runtime.
+     * <p>
+     * Note that the generated classes take precedence over custom value resolvers that would resolve the same properties.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compileExpressions;
+
 }
@@ -9,7 +9,7 @@ import io.quarkus.runtime.annotations.Recorder;
 @Recorder
 public class QuteRecorder {
 
-    public Supplier<Object> createContext(List<String> resolverClasses,
+    public Supplier<Object> createContext(List<String> resolverClasses, List<String> accessorClasses,
             List<String> templatePaths, List<String> tags, Map<String, List<String>> variants) {
         return new Supplier<Object>() {
 
@@ -32,6 +32,11 @@ public class QuteRecorder {
                         return resolverClasses;
                     }
 
+                    @Override
+                    public List<String> getAccessorClasses() {
+                        return accessorClasses;
+                    }
+
                     @Override
                     public Map<String, List<String>> getVariants() {
                         return variants;
@@ -45,6 +50,8 @@ public class QuteRecorder {
 
         List<String> getResolverClasses();
 
+        List<String> getAccessorClasses();
+
         List<String> getTemplatePaths();
 
         List<String> getTags();
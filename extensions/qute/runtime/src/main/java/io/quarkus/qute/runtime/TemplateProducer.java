@@ -21,6 +21,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Expression;
+import io.quarkus.qute.ResultCursor;
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.TemplateInstanceBase;
@@ -169,6 +170,11 @@ public class TemplateProducer {
             return templateInstance().consume(consumer);
         }
 
+        @Override
+        public CompletionStage<ResultCursor> resolve() {
+            return templateInstance().resolve();
+        }
+
         private TemplateInstance templateInstance() {
             TemplateInstance instance = template().instance();
             instance.data(data());
@@ -17,6 +17,9 @@ import org.jboss.jandex.IndexView;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -26,6 +29,7 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.redis.client.CacheValueCodec;
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
@@ -68,6 +72,21 @@ public class RedisClientProcessor {
                         .build());
     }
 
+    @BuildStep
+    void registerCacheBackend(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        // The redis cache type of the cache extension, i.e. quarkus.cache.type=redis
+        if (capabilities.isPresent(Capability.CACHE)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClasses("io.quarkus.redis.client.runtime.RedisCacheBackend",
+                            "io.quarkus.redis.client.runtime.SerializationCacheValueCodec")
+                    .setUnremovable()
+                    .build());
+            // An application codec is only looked up programmatically
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(CacheValueCodec.class));
+        }
+    }
+
     @BuildStep
     HealthBuildItem addHealthCheck(RedisBuildTimeConfig buildTimeConfig) {
         return new HealthBuildItem("io.quarkus.redis.client.runtime.health.RedisHealthCheck", buildTimeConfig.healthEnabled);
@@ -0,0 +1,63 @@
+package io.quarkus.redis.client;
+
+import io.quarkus.redis.client.runtime.CacheKeyCodec;
+
+/**
+ * Encodes the keys and values of the caches stored in Redis when the {@code redis} cache type of the cache extension is
+ * used, i.e. {@code quarkus.cache.type=redis}.
+ * <p>
+ * The default codec relies on the Java serialization, so the cached values must be {@link java.io.Serializable}, and
+ * only the classes allowed by {@code quarkus.cache.redis.deserialization-allow-list} are deserialized. It can be
+ * replaced with an application bean implementing this interface, e.g. to store the values as JSON:
+ *
+ * <pre>
+ * &#64;Singleton
+ * public class JsonCacheValueCodec implements CacheValueCodec {
+ *     ...
+ * }
+ * </pre>
+ *
+ * All the replicas of an application must use the same codec.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Encodes a key of a cache. The encoded key must be the same for equal keys, and only for equal keys, in all the
+     * replicas of the application.
+     * <p>
+     * The default implementation depends on the type of the key, see {@link CacheKeyCodec}: it supports the strings, the
+     * primitive wrappers, {@link java.math.BigInteger}, {@link java.math.BigDecimal}, {@link java.util.UUID}, the enums and
+     * the keys of the caching annotations built from such elements. It must be overridden together with
+     * {@link #decodeKey(String)}.
+     *
+     * @param key the cache key, never {@code null}
+     * @return the encoded key, or {@code null} if the key cannot be encoded, the value is then only cached locally
+     */
+    default String encodeKey(Object key) {
+        return CacheKeyCodec.encode(key);
+    }
+
+    /**
+     * Decodes a key encoded by {@link #encodeKey(Object)}, in order to invalidate the local copy of the value when it is
+     * invalidated by another replica of the application.
+     *
+     * @param key a key encoded by {@link #encodeKey(Object)}
+     * @return the decoded key, or {@code null} if the key cannot be decoded, all the local copies of the values of the
+     *         cache are then invalidated
+     */
+    default Object decodeKey(String key) {
+        return CacheKeyCodec.decode(key);
+    }
+
+    /**
+     * @param value the cache value, never {@code null}
+     * @return the encoded value
+     */
+    String encode(Object value);
+
+    /**
+     * @param value a value encoded by {@link #encode(Object)}
+     * @return the decoded value
+     */
+    Object decode(String value);
+}
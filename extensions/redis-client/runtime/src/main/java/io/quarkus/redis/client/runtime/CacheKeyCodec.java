@@ -0,0 +1,219 @@
+package io.quarkus.redis.client.runtime;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.CompositeCacheKey;
+import io.quarkus.cache.runtime.DefaultCacheKey;
+import io.quarkus.cache.runtime.GeneratedCacheKey;
+
+/**
+ * The default encoding of the cache keys stored in Redis, see {@link io.quarkus.redis.client.CacheValueCodec#encodeKey}.
+ * <p>
+ * The encoding depends on the type of the key, so that keys that are not equal, e.g. {@code 1L} and {@code "1"}, are not
+ * encoded the same way. Each element is encoded as a type tag, followed by the length of its value, a colon and its value.
+ * The supported types are the strings, the primitive wrappers, {@link BigInteger}, {@link BigDecimal}, {@link UUID}, the
+ * enums and the keys of the caching annotations, whose elements must themselves be of a supported type or {@code null}.
+ * The other types, whose {@link Object#toString()} may not be the same for equal objects, are not supported.
+ */
+public final class CacheKeyCodec {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheKeyCodec.class);
+
+    private static final char NULL = 'N';
+    private static final char STRING = 's';
+    private static final char BOOLEAN = 'z';
+    private static final char BYTE = 'b';
+    private static final char SHORT = 'h';
+    private static final char CHARACTER = 'c';
+    private static final char INTEGER = 'i';
+    private static final char LONG = 'l';
+    private static final char FLOAT = 'f';
+    private static final char DOUBLE = 'd';
+    private static final char BIG_INTEGER = 'I';
+    private static final char BIG_DECIMAL = 'D';
+    private static final char UUID_TAG = 'u';
+    private static final char ENUM = 'e';
+    private static final char DEFAULT_KEY = 'k';
+    // followed by the number of elements instead of a length
+    private static final char COMPOSITE_KEY = 'a';
+
+    private static final char LENGTH_SEPARATOR = ':';
+    private static final char ENUM_SEPARATOR = '#';
+
+    private CacheKeyCodec() {
+    }
+
+    /**
+     * @param key a cache key, never {@code null}
+     * @return the encoded key, or {@code null} if the type of the key or of one of its elements is not supported
+     */
+    public static String encode(Object key) {
+        StringBuilder encoded = new StringBuilder();
+        return append(encoded, key) ? encoded.toString() : null;
+    }
+
+    /**
+     * @param encodedKey a key encoded by {@link #encode(Object)}
+     * @return the decoded key, or {@code null} if it cannot be decoded, e.g. an enum that does not exist in this version of
+     *         the application
+     */
+    public static Object decode(String encodedKey) {
+        try {
+            Decoder decoder = new Decoder(encodedKey);
+            Object key = decoder.next();
+            return decoder.position == encodedKey.length() ? key : null;
+        } catch (RuntimeException | ClassNotFoundException e) {
+            LOGGER.debugf(e, "Unable to decode the cache key [%s]", encodedKey);
+            return null;
+        }
+    }
+
+    private static boolean append(StringBuilder encoded, Object element) {
+        if (element == null) {
+            encoded.append(NULL);
+            return true;
+        }
+        if (element instanceof CompositeCacheKey) {
+            return appendComposite(encoded, ((CompositeCacheKey) element).getKeyElements());
+        }
+        if (element instanceof GeneratedCacheKey) {
+            return appendComposite(encoded, ((GeneratedCacheKey) element).getKeyElements());
+        }
+        char tag;
+        String value;
+        Class<?> type = element.getClass();
+        if (type == String.class) {
+            tag = STRING;
+            value = (String) element;
+        } else if (type == Integer.class) {
+            tag = INTEGER;
+            value = element.toString();
+        } else if (type == Long.class) {
+            tag = LONG;
+            value = element.toString();
+        } else if (type == Boolean.class) {
+            tag = BOOLEAN;
+            value = element.toString();
+        } else if (type == Character.class) {
+            tag = CHARACTER;
+            value = element.toString();
+        } else if (type == Short.class) {
+            tag = SHORT;
+            value = element.toString();
+        } else if (type == Byte.class) {
+            tag = BYTE;
+            value = element.toString();
+        } else if (type == Double.class) {
+            // Double.equals compares the bits, e.g. 0.0 and -0.0 are not equal
+            tag = DOUBLE;
+            value = Long.toHexString(Double.doubleToLongBits((Double) element));
+        } else if (type == Float.class) {
+            tag = FLOAT;
+            value = Integer.toHexString(Float.floatToIntBits((Float) element));
+        } else if (type == BigInteger.class) {
+            tag = BIG_INTEGER;
+            value = element.toString();
+        } else if (type == BigDecimal.class) {
+            // the scale is kept, as BigDecimal.equals compares it
+            tag = BIG_DECIMAL;
+            value = element.toString();
+        } else if (type == UUID.class) {
+            tag = UUID_TAG;
+            value = element.toString();
+        } else if (element instanceof Enum) {
+            tag = ENUM;
+            value = ((Enum<?>) element).getDeclaringClass().getName() + ENUM_SEPARATOR + ((Enum<?>) element).name();
+        } else if (type == DefaultCacheKey.class) {
+            tag = DEFAULT_KEY;
+            value = ((DefaultCacheKey) element).getCacheName();
+        } else {
+            return false;
+        }
+        encoded.append(tag).append(value.length()).append(LENGTH_SEPARATOR).append(value);
+        return true;
+    }
+
+    private static boolean appendComposite(StringBuilder encoded, Object[] elements) {
+        encoded.append(COMPOSITE_KEY).append(elements.length).append(LENGTH_SEPARATOR);
+        for (Object element : elements) {
+            if (!append(encoded, element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Decoder {
+
+        private final String encoded;
+        private int position;
+
+        Decoder(String encoded) {
+            this.encoded = encoded;
+        }
+
+        Object next() throws ClassNotFoundException {
+            char tag = encoded.charAt(position++);
+            if (tag == NULL) {
+                return null;
+            }
+            int separator = encoded.indexOf(LENGTH_SEPARATOR, position);
+            int length = Integer.parseInt(encoded.substring(position, separator));
+            position = separator + 1;
+            if (tag == COMPOSITE_KEY) {
+                Object[] elements = new Object[length];
+                for (int i = 0; i < length; i++) {
+                    elements[i] = next();
+                }
+                return new CompositeCacheKey(elements);
+            }
+            String value = encoded.substring(position, position + length);
+            position += length;
+            switch (tag) {
+                case STRING:
+                    return value;
+                case INTEGER:
+                    return Integer.valueOf(value);
+                case LONG:
+                    return Long.valueOf(value);
+                case BOOLEAN:
+                    return Boolean.valueOf(value);
+                case CHARACTER:
+                    return value.charAt(0);
+                case SHORT:
+                    return Short.valueOf(value);
+                case BYTE:
+                    return Byte.valueOf(value);
+                case DOUBLE:
+                    return Double.longBitsToDouble(Long.parseUnsignedLong(value, 16));
+                case FLOAT:
+                    return Float.intBitsToFloat(Integer.parseUnsignedInt(value, 16));
+                case BIG_INTEGER:
+                    return new BigInteger(value);
+                case BIG_DECIMAL:
+                    return new BigDecimal(value);
+                case UUID_TAG:
+                    return UUID.fromString(value);
+                case ENUM:
+                    return enumConstant(value);
+                case DEFAULT_KEY:
+                    return new DefaultCacheKey(value);
+                default:
+                    throw new IllegalArgumentException("Unknown type tag: " + tag);
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static Object enumConstant(String value) throws ClassNotFoundException {
+            int separator = value.lastIndexOf(ENUM_SEPARATOR);
+            // The application classes are not visible from the class loader of this class in dev mode.
+            Class enumClass = Class.forName(value.substring(0, separator), false,
+                    Thread.currentThread().getContextClassLoader());
+            return Enum.valueOf(enumClass, value.substring(separator + 1));
+        }
+    }
+}
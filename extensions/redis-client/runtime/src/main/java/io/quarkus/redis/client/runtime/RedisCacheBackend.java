@@ -0,0 +1,215 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheBackend;
+import io.quarkus.redis.client.CacheValueCodec;
+import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * The {@code redis} type of the cache extension: every cache is a {@link RedisNearCache}, i.e. the local cache configured
+ * like the Caffeine caches in front of values shared by all the replicas of the application through Redis.
+ * <p>
+ * This bean is only registered if the cache extension is present. It is used while the application is statically
+ * initialized, so the Redis clients are only resolved on the first cache operation.
+ */
+@Named(RedisCacheBackend.TYPE)
+@Singleton
+public class RedisCacheBackend implements CacheBackend {
+
+    static final String TYPE = "redis";
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheBackend.class);
+
+    private static final long RESUBSCRIBE_DELAY = 1000L;
+
+    /*
+     * The invalidation messages are made of the cache name, followed by the encoded key unless all the keys are invalidated.
+     * The encoded key is empty if the key cannot be encoded, all the local values of the cache are then invalidated.
+     */
+    private static final char MESSAGE_SEPARATOR = '\n';
+
+    private final Map<String, RedisNearCache> caches = new ConcurrentHashMap<>();
+
+    private volatile Remote remote;
+
+    private volatile boolean closed;
+
+    @Override
+    public AbstractCache createCache(String cacheName, AbstractCache localCache) {
+        RedisNearCache cache = new RedisNearCache(localCache, this);
+        caches.put(cacheName, cache);
+        return cache;
+    }
+
+    Remote remote() {
+        Remote remote = this.remote;
+        if (remote == null) {
+            synchronized (this) {
+                remote = this.remote;
+                if (remote == null) {
+                    remote = new Remote();
+                    this.remote = remote;
+                    subscribe(remote);
+                }
+            }
+        }
+        return remote;
+    }
+
+    static String invalidationMessage(String cacheName, String encodedKey) {
+        return encodedKey == null ? cacheName : cacheName + MESSAGE_SEPARATOR + encodedKey;
+    }
+
+    /*
+     * The invalidations are received on a dedicated connection, since a subscribed connection cannot send other commands.
+     * If the connection is lost, the local values are dropped as the invalidations sent meanwhile are lost too.
+     */
+    private void subscribe(Remote remote) {
+        remote.subscriber.connect(new Handler<AsyncResult<RedisConnection>>() {
+            @Override
+            public void handle(AsyncResult<RedisConnection> connected) {
+                if (connected.failed()) {
+                    LOGGER.warnf(connected.cause(), "Unable to subscribe to the cache invalidations channel [%s]",
+                            remote.config.invalidationChannel);
+                    resubscribe(remote);
+                    return;
+                }
+                RedisConnection connection = connected.result();
+                connection.handler(new Handler<Response>() {
+                    @Override
+                    public void handle(Response message) {
+                        onMessage(remote, message);
+                    }
+                });
+                connection.exceptionHandler(new Handler<Throwable>() {
+                    @Override
+                    public void handle(Throwable failure) {
+                        LOGGER.debugf(failure, "Failure on the cache invalidations channel [%s]",
+                                remote.config.invalidationChannel);
+                    }
+                });
+                connection.endHandler(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        if (!closed) {
+                            LOGGER.warnf("The connection to the cache invalidations channel [%s] was lost",
+                                    remote.config.invalidationChannel);
+                            invalidateAllLocal();
+                            resubscribe(remote);
+                        }
+                    }
+                });
+                connection.send(Request.cmd(Command.SUBSCRIBE).arg(remote.config.invalidationChannel),
+                        new Handler<AsyncResult<Response>>() {
+                            @Override
+                            public void handle(AsyncResult<Response> subscribed) {
+                                if (subscribed.failed()) {
+                                    LOGGER.warnf(subscribed.cause(),
+                                            "Unable to subscribe to the cache invalidations channel [%s]",
+                                            remote.config.invalidationChannel);
+                                }
+                            }
+                        });
+            }
+        });
+    }
+
+    private void resubscribe(Remote remote) {
+        if (!closed) {
+            remote.vertx.setTimer(RESUBSCRIBE_DELAY, new Handler<Long>() {
+                @Override
+                public void handle(Long timerId) {
+                    subscribe(remote);
+                }
+            });
+        }
+    }
+
+    private void onMessage(Remote remote, Response message) {
+        // ["message", channel, payload]
+        if (message.size() != 3 || !"message".equals(message.get(0).toString())
+                || !remote.config.invalidationChannel.equals(message.get(1).toString())) {
+            return;
+        }
+        String payload = message.get(2).toString();
+        int separator = payload.indexOf(MESSAGE_SEPARATOR);
+        RedisNearCache cache = caches.get(separator == -1 ? payload : payload.substring(0, separator));
+        if (cache != null) {
+            if (separator == -1) {
+                cache.invalidateAllLocal();
+            } else {
+                cache.invalidateLocal(remote, payload.substring(separator + 1));
+            }
+        }
+    }
+
+    private void invalidateAllLocal() {
+        for (RedisNearCache cache : caches.values()) {
+            cache.invalidateAllLocal();
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        closed = true;
+        Remote remote = this.remote;
+        if (remote != null) {
+            remote.subscriber.close();
+        }
+    }
+
+    static final class Remote {
+
+        final RedisCacheConfig config;
+        final RedisClient client;
+        final ReactiveRedisClient reactiveClient;
+        final CacheValueCodec codec;
+        final Vertx vertx;
+        final Redis subscriber;
+
+        Remote() {
+            config = Arc.container().instance(RedisCacheConfig.class).get();
+            String clientName = config.clientName.orElse(RedisClientUtil.DEFAULT_CLIENT);
+            RedisAPIContainer container = Arc.container().instance(RedisAPIProducer.class).get()
+                    .getRedisAPIContainer(clientName);
+            client = container.getRedisClient();
+            reactiveClient = container.getReactiveClient();
+            codec = Arc.container().instance(CacheValueCodec.class).get();
+            vertx = Arc.container().instance(Vertx.class).get();
+            RedisConfig redisConfig = Arc.container().instance(RedisConfig.class).get();
+            subscriber = Redis.createClient(vertx,
+                    RedisClientUtil.buildOptions(RedisClientUtil.getConfiguration(redisConfig, clientName)));
+        }
+
+        /**
+         * @return the Redis key of a cache key, or {@code null} if the cache key cannot be encoded
+         */
+        String key(String cacheName, Object key) {
+            String encodedKey = codec.encodeKey(key);
+            return encodedKey == null ? null : redisKey(cacheName, encodedKey);
+        }
+
+        String redisKey(String cacheName, String encodedKey) {
+            return config.keyPrefix + ':' + cacheName + ':' + encodedKey;
+        }
+    }
+}
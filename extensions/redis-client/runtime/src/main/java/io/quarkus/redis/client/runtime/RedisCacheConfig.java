@@ -0,0 +1,59 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Configuration of the {@code redis} cache type, only used if the cache extension is present and
+ * {@code quarkus.cache.type=redis}.
+ */
+@ConfigRoot(name = "cache.redis", phase = ConfigPhase.RUN_TIME)
+public class RedisCacheConfig {
+
+    /**
+     * The name of the Redis client that stores the cache values. The default Redis client is used if not set.
+     */
+    @ConfigItem
+    public Optional<String> clientName;
+
+    /**
+     * The prefix of the Redis keys of the cache values. A key is made of this prefix, the name of the cache and the
+     * encoded cache key, separated by colons.
+     */
+    @ConfigItem(defaultValue = "cache")
+    public String keyPrefix;
+
+    /**
+     * Specifies that each value should be automatically removed from Redis once a fixed duration has elapsed after it was
+     * stored. The values are kept until they are invalidated if not set.
+     * <p>
+     * The local copies of the values are governed by the Caffeine configuration of the caches, e.g.
+     * {@code quarkus.cache.caffeine."cache-name".expire-after-write}.
+     */
+    @ConfigItem
+    public Optional<Duration> expireAfterWrite;
+
+    /**
+     * The Redis Pub/Sub channel used to broadcast the invalidations to the local copies of the values held by all the
+     * replicas of the application.
+     */
+    @ConfigItem(defaultValue = "quarkus-cache-invalidations")
+    public String invalidationChannel;
+
+    /**
+     * The classes of the cache values that the default {@link io.quarkus.redis.client.CacheValueCodec}, which relies on the
+     * Java serialization, is allowed to deserialize, in addition to the classes of the {@code java.lang}, {@code java.util},
+     * {@code java.time} and {@code java.math} packages. Any other class is rejected before it is instantiated.
+     * <p>
+     * Each entry is either a class name, or a package name followed by {@code .*}, which allows the classes of the package,
+     * or by {@code .**}, which also allows the classes of its subpackages, e.g. {@code org.acme.dto.**}. The arrays of
+     * allowed classes are allowed too.
+     */
+    @ConfigItem
+    public Optional<List<String>> deserializationAllowList;
+}
@@ -0,0 +1,299 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheBackend.NearCache;
+import io.quarkus.redis.client.runtime.RedisCacheBackend.Remote;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.redis.client.Response;
+
+/**
+ * A cache made of two tiers: a local cache, which holds the values used by the current replica of the application, in front
+ * of Redis, which holds the values shared by all the replicas.
+ * <p>
+ * A value missing from both tiers is computed by the current replica and stored in both. The local tier is keyed by the
+ * cache keys themselves, the keys are only encoded when Redis is used. The local values are invalidated in all the replicas
+ * through Redis Pub/Sub when a value is invalidated, the other replicas decode the key to invalidate their local value.
+ * <p>
+ * The synchronous operations do not read Redis when they are invoked on an event loop thread, which must not be blocked:
+ * the value is then computed, and written to Redis without waiting for the write. Redis failures never fail a cache
+ * operation either: the value is then computed, and only cached locally.
+ */
+class RedisNearCache extends AbstractCache implements NearCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisNearCache.class);
+
+    private final AbstractCache local;
+
+    private final RedisCacheBackend backend;
+
+    RedisNearCache(AbstractCache local, RedisCacheBackend backend) {
+        this.local = local;
+        this.backend = backend;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public AbstractCache getLocalCache() {
+        return local;
+    }
+
+    @Override
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader) {
+        return get(key, valueLoader, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader,
+            Function<Object, Object> refreshLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return local.get(key, new Function<Object, Object>() {
+            @Override
+            public Object apply(Object k) {
+                Remote remote = backend.remote();
+                String redisKey = remote.key(getName(), key);
+                Object value = redisKey == null || Context.isOnEventLoopThread() ? null : read(remote, redisKey);
+                if (value == null) {
+                    value = valueLoader.apply(key);
+                    write(remote, redisKey, value);
+                }
+                return value;
+            }
+        }, new Function<Object, Object>() {
+            @Override
+            public Object apply(Object k) {
+                // The value stored in Redis may be as old as the local one, so it is not read.
+                Object value = refreshLoader.apply(key);
+                Remote remote = backend.remote();
+                write(remote, remote.key(getName(), key), value);
+                return value;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        return getAsync(key, valueLoader, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader,
+            Function<Object, CompletionStage<Object>> refreshLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return local.getAsync(key, new Function<Object, CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> apply(Object k) {
+                Remote remote = backend.remote();
+                String redisKey = remote.key(getName(), key);
+                if (redisKey == null) {
+                    return valueLoader.apply(key);
+                }
+                return remote.reactiveClient.get(redisKey)
+                        .onFailure().recoverWithItem(new Function<Throwable, io.vertx.mutiny.redis.client.Response>() {
+                            @Override
+                            public io.vertx.mutiny.redis.client.Response apply(Throwable failure) {
+                                LOGGER.debugf(failure, "Unable to read key [%s] from Redis", redisKey);
+                                return null;
+                            }
+                        })
+                        .subscribeAsCompletionStage()
+                        .thenCompose(new Function<io.vertx.mutiny.redis.client.Response, CompletionStage<Object>>() {
+                            @Override
+                            public CompletionStage<Object> apply(io.vertx.mutiny.redis.client.Response response) {
+                                Object value = response == null ? null : decode(remote, redisKey, response.toString());
+                                if (value != null) {
+                                    return CompletableFuture.completedFuture(value);
+                                }
+                                return load(remote, redisKey, key, valueLoader);
+                            }
+                        });
+            }
+        }, new Function<Object, CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> apply(Object k) {
+                // The value stored in Redis may be as old as the local one, so it is not read.
+                Remote remote = backend.remote();
+                return load(remote, remote.key(getName(), key), key, refreshLoader);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        local.invalidate(key);
+        Remote remote = backend.remote();
+        String encodedKey = remote.codec.encodeKey(key);
+        if (encodedKey == null) {
+            // The value was only cached locally, the other replicas invalidate all their local values of the cache.
+            publishAfter(remote, Uni.createFrom().voidItem(), RedisCacheBackend.invalidationMessage(getName(), ""));
+        } else {
+            String redisKey = remote.redisKey(getName(), encodedKey);
+            publishAfter(remote, remote.reactiveClient.del(Arrays.asList(redisKey)).onItem().ignore().andContinueWithNull(),
+                    RedisCacheBackend.invalidationMessage(getName(), encodedKey));
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        Remote remote = backend.remote();
+        local.invalidateAll();
+        publishAfter(remote, deleteAll(remote, "0"), RedisCacheBackend.invalidationMessage(getName(), null));
+    }
+
+    void invalidateLocal(Remote remote, String encodedKey) {
+        Object key = null;
+        if (!encodedKey.isEmpty()) {
+            try {
+                key = remote.codec.decodeKey(encodedKey);
+            } catch (RuntimeException e) {
+                LOGGER.debugf(e, "Unable to decode the invalidated key [%s] of cache [%s]", encodedKey, getName());
+            }
+        }
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    void invalidateAllLocal() {
+        local.invalidateAll();
+    }
+
+    private CompletionStage<Object> load(Remote remote, String redisKey, Object key,
+            Function<Object, CompletionStage<Object>> loader) {
+        return loader.apply(key).thenApply(new Function<Object, Object>() {
+            @Override
+            public Object apply(Object loaded) {
+                write(remote, redisKey, loaded);
+                return loaded;
+            }
+        });
+    }
+
+    private Object read(Remote remote, String redisKey) {
+        Response response;
+        try {
+            response = remote.client.get(redisKey);
+        } catch (RuntimeException e) {
+            LOGGER.debugf(e, "Unable to read key [%s] from Redis", redisKey);
+            return null;
+        }
+        return response == null ? null : decode(remote, redisKey, response.toString());
+    }
+
+    private Object decode(Remote remote, String redisKey, String value) {
+        try {
+            return remote.codec.decode(value);
+        } catch (RuntimeException e) {
+            // e.g. a value stored by a previous version of the application, it is replaced
+            LOGGER.debugf(e, "Unable to decode the value of key [%s] from Redis", redisKey);
+            return null;
+        }
+    }
+
+    // The null values and the values of the keys that cannot be encoded are only cached locally. The write does not delay
+    // the caller.
+    private void write(Remote remote, String redisKey, Object value) {
+        if (value == null || redisKey == null) {
+            return;
+        }
+        List<String> args = new ArrayList<>(4);
+        args.add(redisKey);
+        try {
+            args.add(remote.codec.encode(value));
+        } catch (RuntimeException e) {
+            LOGGER.debugf(e, "Unable to encode the value of key [%s], it is only cached locally", redisKey);
+            return;
+        }
+        if (remote.config.expireAfterWrite.isPresent()) {
+            args.add("PX");
+            args.add(Long.toString(remote.config.expireAfterWrite.get().toMillis()));
+        }
+        remote.reactiveClient.set(args).subscribe().with(new Consumer<io.vertx.mutiny.redis.client.Response>() {
+            @Override
+            public void accept(io.vertx.mutiny.redis.client.Response response) {
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                LOGGER.debugf(failure, "Unable to write key [%s] to Redis", redisKey);
+            }
+        });
+    }
+
+    // Deletes the keys of the cache with SCAN rather than KEYS, which would block the Redis server.
+    private Uni<Void> deleteAll(Remote remote, String cursor) {
+        String pattern = remote.config.keyPrefix + ':' + getName() + ":*";
+        return remote.reactiveClient.scan(Arrays.asList(cursor, "MATCH", pattern, "COUNT", "1000"))
+                .onItem().transformToUni(new Function<io.vertx.mutiny.redis.client.Response, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(io.vertx.mutiny.redis.client.Response response) {
+                        // [next cursor, [keys]]
+                        String nextCursor = response.get(0).toString();
+                        io.vertx.mutiny.redis.client.Response page = response.get(1);
+                        List<String> keys = new ArrayList<>(page.size());
+                        for (int i = 0; i < page.size(); i++) {
+                            keys.add(page.get(i).toString());
+                        }
+                        Uni<Void> deleted = keys.isEmpty() ? Uni.createFrom().voidItem()
+                                : remote.reactiveClient.del(keys).onItem().ignore().andContinueWithNull();
+                        if ("0".equals(nextCursor)) {
+                            return deleted;
+                        }
+                        return deleted.onItem().transformToUni(new Function<Void, Uni<? extends Void>>() {
+                            @Override
+                            public Uni<? extends Void> apply(Void ignored) {
+                                return deleteAll(remote, nextCursor);
+                            }
+                        });
+                    }
+                });
+    }
+
+    private void publishAfter(Remote remote, Uni<Void> deletion, String message) {
+        deletion.onItemOrFailure()
+                .transformToUni(new BiFunction<Void, Throwable, Uni<? extends io.vertx.mutiny.redis.client.Response>>() {
+                    @Override
+                    public Uni<? extends io.vertx.mutiny.redis.client.Response> apply(Void ignored, Throwable failure) {
+                        if (failure != null) {
+                            LOGGER.warnf(failure, "Unable to delete the invalidated values of cache [%s] from Redis",
+                                    getName());
+                        }
+                        // The local values of the other replicas are invalidated even if the deletion failed.
+                        return remote.reactiveClient.publish(remote.config.invalidationChannel, message);
+                    }
+                }).subscribe().with(new Consumer<io.vertx.mutiny.redis.client.Response>() {
+                    @Override
+                    public void accept(io.vertx.mutiny.redis.client.Response response) {
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        LOGGER.warnf(failure, "Unable to publish the invalidation of cache [%s] to Redis", getName());
+                    }
+                });
+    }
+}
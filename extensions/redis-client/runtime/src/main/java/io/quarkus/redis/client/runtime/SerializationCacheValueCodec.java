@@ -0,0 +1,122 @@
+package io.quarkus.redis.client.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.redis.client.CacheValueCodec;
+
+/**
+ * The default {@link CacheValueCodec}: the values are serialized and encoded in Base64.
+ * <p>
+ * Since anybody with write access to Redis can store a value, the classes found in a value are checked against
+ * {@code quarkus.cache.redis.deserialization-allow-list} before they are loaded, see {@link RedisCacheConfig}.
+ */
+@DefaultBean
+@Singleton
+public class SerializationCacheValueCodec implements CacheValueCodec {
+
+    private static final List<String> ALLOWED_PACKAGES = Arrays.asList("java.lang", "java.util", "java.time", "java.math");
+
+    private final Set<String> allowedClasses = new HashSet<>();
+    private final Set<String> allowedPackages = new HashSet<>(ALLOWED_PACKAGES);
+    private final List<String> allowedPackageTrees = new ArrayList<>();
+
+    @Inject
+    public SerializationCacheValueCodec(RedisCacheConfig config) {
+        if (config.deserializationAllowList.isPresent()) {
+            for (String entry : config.deserializationAllowList.get()) {
+                if (entry.endsWith(".**")) {
+                    allowedPackageTrees.add(entry.substring(0, entry.length() - 3));
+                } else if (entry.endsWith(".*")) {
+                    allowedPackages.add(entry.substring(0, entry.length() - 2));
+                } else {
+                    allowedClasses.add(entry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize a cache value of type " + value.getClass().getName(), e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    @Override
+    public Object decode(String value) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value))) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                if (!isAllowed(desc.getName())) {
+                    throw new InvalidClassException(desc.getName(),
+                            "Class not allowed by quarkus.cache.redis.deserialization-allow-list");
+                }
+                // The application classes are not visible from the class loader of this class in dev mode.
+                try {
+                    return Class.forName(desc.getName(), false, Thread.currentThread().getContextClassLoader());
+                } catch (ClassNotFoundException e) {
+                    // e.g. primitive types
+                    return super.resolveClass(desc);
+                }
+            }
+
+            @Override
+            protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+                throw new InvalidClassException("Proxy classes are not allowed in cache values");
+            }
+        }) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to deserialize a cache value", e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to deserialize a cache value", e);
+        }
+    }
+
+    boolean isAllowed(String className) {
+        String name = className;
+        if (name.startsWith("[")) {
+            // e.g. [I or [[Ljava.lang.String;
+            name = name.substring(name.lastIndexOf('[') + 1);
+            if (name.length() == 1) {
+                return true;
+            }
+            name = name.substring(1, name.length() - 1);
+        }
+        if (allowedClasses.contains(name)) {
+            return true;
+        }
+        int lastDot = name.lastIndexOf('.');
+        String packageName = lastDot == -1 ? "" : name.substring(0, lastDot);
+        if (allowedPackages.contains(packageName)) {
+            return true;
+        }
+        for (String packageTree : allowedPackageTrees) {
+            if (packageName.equals(packageTree) || packageName.startsWith(packageTree + '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -16,6 +16,15 @@ public class ResteasyReactiveConfig {
     @ConfigItem(defaultValue = "10k")
     public MemorySize inputBufferSize;
 
+    /**
+     * The size of the output stream response buffer. If a response is larger than this and no content-length
+     * is provided then the request will be chunked.
+     * <p>
+     * Larger values may give slight performance increases for large responses, at the expense of more memory usage.
+     */
+    @ConfigItem(defaultValue = "8191")
+    public MemorySize outputBufferSize;
+
     /**
      * By default we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -34,4 +43,17 @@ public class ResteasyReactiveConfig {
     @ConfigItem(defaultValue = "true")
     @Experimental("This flag has a high probability of going away in the future")
     public boolean defaultProduces;
+
+    /**
+     * If enabled, the CDI request context is only activated before the invocation of the resource methods that may need
+     * it, i.e. when the resource class, the providers or the method parameters depend on a request scoped bean, perform a
+     * programmatic lookup or use a library that binds state to the request context, such as Hibernate ORM or Panache.
+     * For the other methods, the request context is activated
+     * lazily, when a filter or an exception mapper requires it.
+     * <p>
+     * Code that reaches the request context in a way that cannot be detected at build time, e.g. through a static helper
+     * of a library, should not be used with this option.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean lazyRequestScope;
 }
@@ -0,0 +1,26 @@
+package io.quarkus.resteasy.reactive.spi;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Declares that the classes of a package may use the CDI request context, e.g. because they bind a session to it.
+ * <p>
+ * If {@code quarkus.rest.lazy-request-scope} is enabled, the request context is activated before the invocation of the
+ * resource methods whose beans have such a class among their types, or whose code calls, extends or implements such a
+ * class.
+ */
+public final class RequestContextUsageBuildItem extends MultiBuildItem {
+
+    private final String packageName;
+
+    /**
+     * @param packageName the name of the package, its sub-packages are included
+     */
+    public RequestContextUsageBuildItem(String packageName) {
+        this.packageName = packageName;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+}
@@ -0,0 +1,383 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanSerializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersModule;
+
+/**
+ * Generates Jackson serializers for plain DTO classes, so that they can be written without going through the
+ * reflective bean introspection of Jackson.
+ * <p>
+ * A class is only handled when the generated code is guaranteed to produce the same properties as Jackson would
+ * with its default settings, anything else is left to Jackson. In particular a class that uses any Jackson annotation,
+ * e.g. {@code @JsonPropertyOrder}, is not handled. The generated serializers are registered by a generated
+ * {@link GeneratedSerializersModule}, which also checks at run time that the {@code ObjectMapper} does not change the
+ * properties of the class, and makes the serializers write them in the order computed by Jackson.
+ */
+final class JacksonSerializerGenerator {
+
+    static final String SERIALIZER_SUFFIX = "$quarkusjacksonserializer";
+    static final String MODULE_CLASS_NAME = "io.quarkus.resteasy.reactive.jackson.ResteasyReactiveGeneratedSerializersModule";
+
+    private static final String JACKSON_ANNOTATIONS_PACKAGE = "com.fasterxml.jackson";
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final DotName SERIALIZABLE = DotName.createSimple("java.io.Serializable");
+    private static final DotName BEANS_TRANSIENT = DotName.createSimple("java.beans.Transient");
+    private static final Set<DotName> WRAPPER_TYPES = new HashSet<>();
+
+    static {
+        WRAPPER_TYPES.add(ResteasyReactiveDotNames.UNI);
+        WRAPPER_TYPES.add(ResteasyReactiveDotNames.MULTI);
+        WRAPPER_TYPES.add(ResteasyReactiveDotNames.COMPLETION_STAGE);
+        WRAPPER_TYPES.add(DotName.createSimple(CompletableFuture.class.getName()));
+        WRAPPER_TYPES.add(ResteasyReactiveDotNames.COLLECTION);
+        WRAPPER_TYPES.add(ResteasyReactiveDotNames.LIST);
+        WRAPPER_TYPES.add(ResteasyReactiveDotNames.SET);
+    }
+
+    private static final MethodDescriptor WRITE_STRING_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeStringField", void.class, String.class, String.class);
+    private static final MethodDescriptor WRITE_BOOLEAN_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeBooleanField", void.class, String.class, boolean.class);
+    private static final MethodDescriptor WRITE_INT_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, int.class);
+    private static final MethodDescriptor WRITE_LONG_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, long.class);
+    private static final MethodDescriptor WRITE_FLOAT_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, float.class);
+    private static final MethodDescriptor WRITE_DOUBLE_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, double.class);
+    private static final MethodDescriptor DEFAULT_SERIALIZE_FIELD = MethodDescriptor.ofMethod(SerializerProvider.class,
+            "defaultSerializeField", void.class, String.class, Object.class, JsonGenerator.class);
+    private static final MethodDescriptor CHARACTER_VALUE_OF = MethodDescriptor.ofMethod(Character.class, "valueOf",
+            Character.class, char.class);
+
+    private final IndexView index;
+    private final Map<DotName, Map<String, Object>> eligibleClasses = new TreeMap<>();
+    private final Set<DotName> visited = new HashSet<>();
+    private final Deque<Type> toVisit = new ArrayDeque<>();
+
+    JacksonSerializerGenerator(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * Registers the return type of a resource method. The DTOs it references through its properties are handled
+     * as well.
+     */
+    void addReturnType(Type type) {
+        toVisit.add(type);
+        while (!toVisit.isEmpty()) {
+            visit(toVisit.poll());
+        }
+    }
+
+    /**
+     * Generates the serializers, and the {@link GeneratedSerializersModule} that registers them if there is any.
+     *
+     * @return the names of the classes for which a serializer was generated, mapped to the serializer class name
+     */
+    Map<String, String> generate(ClassOutput classOutput) {
+        Map<String, String> result = new TreeMap<>();
+        for (Map.Entry<DotName, Map<String, Object>> entry : eligibleClasses.entrySet()) {
+            String className = entry.getKey().toString();
+            String serializerClassName = className + SERIALIZER_SUFFIX;
+            generateSerializer(classOutput, className, serializerClassName, entry.getValue());
+            result.put(className, serializerClassName);
+        }
+        if (!result.isEmpty()) {
+            generateModule(classOutput, result.values());
+        }
+        return result;
+    }
+
+    private void visit(Type type) {
+        if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            if (WRAPPER_TYPES.contains(type.name())) {
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    toVisit.add(argument);
+                }
+            }
+            return;
+        }
+        if (type.kind() == Type.Kind.ARRAY) {
+            toVisit.add(type.asArrayType().component());
+            return;
+        }
+        if (type.kind() != Type.Kind.CLASS || !visited.add(type.name())) {
+            return;
+        }
+        ClassInfo classInfo = index.getClassByName(type.name());
+        if (classInfo == null || !isEligible(classInfo)) {
+            return;
+        }
+        Map<String, Object> properties = collectProperties(classInfo);
+        if (properties == null || properties.isEmpty()) {
+            // an empty bean is an error in Jackson by default, let it deal with it
+            return;
+        }
+        eligibleClasses.put(classInfo.name(), properties);
+        for (Object accessor : properties.values()) {
+            toVisit.add(accessor instanceof MethodInfo ? ((MethodInfo) accessor).returnType() : ((FieldInfo) accessor).type());
+        }
+    }
+
+    private static boolean isEligible(ClassInfo classInfo) {
+        int flags = classInfo.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isAbstract(flags) || Modifier.isInterface(flags)
+                || (flags & 0x4000) != 0) { // enum
+            return false;
+        }
+        if (!OBJECT.equals(classInfo.superName()) || !classInfo.typeParameters().isEmpty()) {
+            return false;
+        }
+        // interfaces could contribute default getter methods
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (!SERIALIZABLE.equals(interfaceName)) {
+                return false;
+            }
+        }
+        if (classInfo.nestingType() == ClassInfo.NestingType.ANONYMOUS
+                || classInfo.nestingType() == ClassInfo.NestingType.LOCAL) {
+            return false;
+        }
+        String name = classInfo.name().toString();
+        if (name.startsWith("java.") || name.startsWith("javax.")) {
+            return false;
+        }
+        for (DotName annotation : classInfo.annotations().keySet()) {
+            if (annotation.toString().startsWith(JACKSON_ANNOTATIONS_PACKAGE) || annotation.equals(BEANS_TRANSIENT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the properties Jackson would serialize with its default visibility rules: public getters and public
+     * fields, where a getter wins over a field of the same name.
+     *
+     * @return the accessor of each property, sorted by property name, or {@code null} if the class cannot be handled
+     */
+    private static Map<String, Object> collectProperties(ClassInfo classInfo) {
+        Map<String, Object> properties = new TreeMap<>();
+        for (FieldInfo field : classInfo.fields()) {
+            int flags = field.flags();
+            if (Modifier.isPublic(flags) && !Modifier.isStatic(flags) && !Modifier.isTransient(flags)) {
+                properties.put(field.name(), field);
+            }
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            int flags = method.flags();
+            if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || !method.parameters().isEmpty()
+                    || method.returnType().kind() == Type.Kind.VOID || method.name().startsWith("<")) {
+                continue;
+            }
+            String propertyName = getterPropertyName(method);
+            if (propertyName == null) {
+                continue;
+            }
+            if (!method.typeParameters().isEmpty()) {
+                return null;
+            }
+            properties.put(propertyName, method);
+        }
+        return properties;
+    }
+
+    private static String getterPropertyName(MethodInfo method) {
+        String name = method.name();
+        if (name.startsWith("get")) {
+            return mangle(name, 3);
+        }
+        if (name.startsWith("is") && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            return mangle(name, 2);
+        }
+        return null;
+    }
+
+    /**
+     * Same as the default Jackson implementation, the leading upper case characters are turned into lower case.
+     */
+    private static String mangle(String name, int offset) {
+        int end = name.length();
+        if (end == offset) {
+            return null;
+        }
+        char c = name.charAt(offset);
+        char d = Character.toLowerCase(c);
+        if (c == d) {
+            return name.substring(offset);
+        }
+        StringBuilder sb = new StringBuilder(end - offset);
+        sb.append(d);
+        for (int i = offset + 1; i < end; ++i) {
+            c = name.charAt(i);
+            d = Character.toLowerCase(c);
+            if (c == d) {
+                sb.append(name, i, end);
+                break;
+            }
+            sb.append(d);
+        }
+        return sb.toString();
+    }
+
+    private static void generateSerializer(ClassOutput classOutput, String className, String serializerClassName,
+            Map<String, Object> properties) {
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
+                .className(serializerClassName)
+                .superClass(GeneratedBeanSerializer.class)
+                .build()) {
+
+            try (MethodCreator ctor = classCreator.getMethodCreator("<init>", void.class, int[].class)) {
+                ResultHandle names = ctor.newArray(String.class, properties.size());
+                int index = 0;
+                for (String name : properties.keySet()) {
+                    ctor.writeArrayValue(names, index++, ctor.load(name));
+                }
+                ctor.invokeSpecialMethod(MethodDescriptor.ofConstructor(GeneratedBeanSerializer.class, Class.class,
+                        String[].class, int[].class), ctor.getThis(), ctor.loadClass(className), names,
+                        ctor.getMethodParam(0));
+                ctor.returnValue(null);
+            }
+
+            try (MethodCreator withOrder = classCreator.getMethodCreator("withOrder", GeneratedBeanSerializer.class,
+                    int[].class)) {
+                withOrder.setModifiers(Modifier.PROTECTED);
+                withOrder.returnValue(withOrder.newInstance(MethodDescriptor.ofConstructor(serializerClassName, int[].class),
+                        withOrder.getMethodParam(0)));
+            }
+
+            try (MethodCreator writeProperty = classCreator.getMethodCreator("writeProperty", void.class, int.class,
+                    Object.class, JsonGenerator.class, SerializerProvider.class)) {
+                writeProperty.setModifiers(Modifier.PROTECTED);
+                writeProperty.addException(IOException.class);
+                ResultHandle value = writeProperty.checkCast(writeProperty.getMethodParam(1), className);
+                List<Map.Entry<String, Object>> entries = new ArrayList<>(properties.entrySet());
+                writeProperties(writeProperty, writeProperty.getMethodParam(0), value, writeProperty.getMethodParam(2),
+                        writeProperty.getMethodParam(3), entries, 0, entries.size() - 1);
+                writeProperty.returnValue(null);
+            }
+        }
+    }
+
+    /**
+     * Selects the property to write with a binary search on its index.
+     */
+    private static void writeProperties(BytecodeCreator creator, ResultHandle index, ResultHandle value,
+            ResultHandle generator, ResultHandle provider, List<Map.Entry<String, Object>> properties, int low, int high) {
+        if (low == high) {
+            Map.Entry<String, Object> property = properties.get(low);
+            Type type;
+            ResultHandle propertyValue;
+            if (property.getValue() instanceof MethodInfo) {
+                MethodInfo getter = (MethodInfo) property.getValue();
+                type = getter.returnType();
+                propertyValue = creator.invokeVirtualMethod(MethodDescriptor.of(getter), value);
+            } else {
+                FieldInfo field = (FieldInfo) property.getValue();
+                type = field.type();
+                propertyValue = creator.readInstanceField(FieldDescriptor.of(field), value);
+            }
+            writeProperty(creator, generator, provider, property.getKey(), type, propertyValue);
+            return;
+        }
+        int middle = (low + high) >>> 1;
+        BranchResult branch = creator.ifIntegerLessEqual(index, creator.load(middle));
+        writeProperties(branch.trueBranch(), index, value, generator, provider, properties, low, middle);
+        writeProperties(branch.falseBranch(), index, value, generator, provider, properties, middle + 1, high);
+    }
+
+    private static void generateModule(ClassOutput classOutput, Collection<String> serializerClassNames) {
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
+                .className(MODULE_CLASS_NAME)
+                .superClass(GeneratedSerializersModule.class)
+                .build()) {
+            try (MethodCreator ctor = classCreator.getMethodCreator("<init>", void.class)) {
+                ResultHandle serializers = ctor.newArray(GeneratedBeanSerializer.class, serializerClassNames.size());
+                int index = 0;
+                for (String serializerClassName : serializerClassNames) {
+                    ctor.writeArrayValue(serializers, index++, ctor.newInstance(
+                            MethodDescriptor.ofConstructor(serializerClassName, int[].class), ctor.loadNull()));
+                }
+                ctor.invokeSpecialMethod(MethodDescriptor.ofConstructor(GeneratedSerializersModule.class, String.class,
+                        GeneratedBeanSerializer[].class), ctor.getThis(), ctor.load("ResteasyReactiveGeneratedSerializers"),
+                        serializers);
+                ctor.returnValue(null);
+            }
+        }
+    }
+
+    private static void writeProperty(BytecodeCreator serialize, ResultHandle generator, ResultHandle provider, String name,
+            Type type, ResultHandle value) {
+        ResultHandle fieldName = serialize.load(name);
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN:
+                    serialize.invokeVirtualMethod(WRITE_BOOLEAN_FIELD, generator, fieldName, value);
+                    return;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    serialize.invokeVirtualMethod(WRITE_INT_FIELD, generator, fieldName, value);
+                    return;
+                case LONG:
+                    serialize.invokeVirtualMethod(WRITE_LONG_FIELD, generator, fieldName, value);
+                    return;
+                case FLOAT:
+                    serialize.invokeVirtualMethod(WRITE_FLOAT_FIELD, generator, fieldName, value);
+                    return;
+                case DOUBLE:
+                    serialize.invokeVirtualMethod(WRITE_DOUBLE_FIELD, generator, fieldName, value);
+                    return;
+                case CHAR:
+                    // Jackson writes a char as a single character string
+                    serialize.invokeVirtualMethod(DEFAULT_SERIALIZE_FIELD, provider, fieldName,
+                            serialize.invokeStaticMethod(CHARACTER_VALUE_OF, value), generator);
+                    return;
+            }
+        }
+        if (type.kind() == Type.Kind.CLASS && STRING.equals(type.name())) {
+            // a null String is written as a JSON null
+            serialize.invokeVirtualMethod(WRITE_STRING_FIELD, generator, fieldName, value);
+            return;
+        }
+        // anything else is delegated to Jackson, which will use a generated serializer if there is one
+        serialize.invokeVirtualMethod(DEFAULT_SERIALIZE_FIELD, provider, fieldName, value, generator);
+    }
+}
@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "rest.jackson")
+public class ResteasyReactiveJacksonConfig {
+
+    /**
+     * If enabled, a reflection-free Jackson serializer is generated at build time for the plain DTO types returned
+     * by resource methods, and registered with the {@code ObjectMapper}.
+     * <p>
+     * Only public, non-generic classes that extend {@code Object} and do not use any Jackson annotations are handled,
+     * every other type keeps using the regular Jackson serialization. A generated serializer is only used for its exact
+     * type, and writes the properties in the order computed by Jackson. The type falls back to the regular Jackson
+     * serialization if it has a mix-in or a config override in the {@code ObjectMapper}, if a property inclusion other
+     * than {@code ALWAYS} is configured, or if a setting such as a {@code PropertyNamingStrategy} changes its
+     * properties.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean generateSerializers;
+}
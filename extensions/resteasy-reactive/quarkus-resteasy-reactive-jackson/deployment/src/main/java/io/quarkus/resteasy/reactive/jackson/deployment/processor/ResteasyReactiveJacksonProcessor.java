@@ -3,6 +3,7 @@ package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -12,17 +13,21 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import com.fasterxml.jackson.annotation.JsonView;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.jackson.spi.ClassPathJacksonModuleBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
 import io.quarkus.resteasy.reactive.jackson.CustomSerialization;
@@ -104,4 +109,32 @@ public class ResteasyReactiveJacksonProcessor {
                     new ReflectiveClassBuildItem(true, false, classesNeedingReflectionOnMethods.toArray(new String[0])));
         }
     }
+
+    @BuildStep
+    void generateSerializers(ResteasyReactiveJacksonConfig config,
+            Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
+            CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ClassPathJacksonModuleBuildItem> jacksonModules) {
+        if (!config.generateSerializers || !resourceScanningResultBuildItem.isPresent()) {
+            return;
+        }
+        Set<DotName> httpAnnotations = resourceScanningResultBuildItem.get().getResult().getHttpAnnotationToMethod().keySet();
+        JacksonSerializerGenerator generator = new JacksonSerializerGenerator(index.getIndex());
+        for (ClassInfo resourceClass : resourceScanningResultBuildItem.get().getResult().getScannedResources().values()) {
+            for (MethodInfo method : resourceClass.methods()) {
+                for (DotName httpAnnotation : httpAnnotations) {
+                    if (method.hasAnnotation(httpAnnotation)) {
+                        generator.addReturnType(method.returnType());
+                        break;
+                    }
+                }
+            }
+        }
+        Map<String, String> serializers = generator.generate(new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        if (!serializers.isEmpty()) {
+            // the generated module only registers each serializer for its exact type, unlike a SimpleModule
+            jacksonModules.produce(new ClassPathJacksonModuleBuildItem(JacksonSerializerGenerator.MODULE_CLASS_NAME));
+        }
+    }
 }
@@ -0,0 +1,233 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class GeneratedSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Item.class, SpecialItem.class, Owner.class, OwnerMixIn.class, Annotated.class,
+                                    ItemResource.class);
+                }
+            })
+            .overrideConfigKey("quarkus.rest.jackson.generate-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testSerializersAreRegistered() throws JsonMappingException {
+        assertEquals(Item.class.getName() + "$quarkusjacksonserializer",
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Item.class).getClass().getName());
+        assertEquals(Owner.class.getName() + "$quarkusjacksonserializer",
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Owner.class).getClass().getName());
+        // classes using Jackson annotations are left to Jackson
+        assertEquals("com.fasterxml.jackson.databind.ser.BeanSerializer",
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Annotated.class).getClass().getName());
+    }
+
+    @Test
+    public void testSameOutputAsJackson() throws JsonProcessingException {
+        Item item = new Item("widget", new Owner("bob", 42));
+        // same properties, in the same order
+        assertEquals(new ObjectMapper().writeValueAsString(item), objectMapper.writeValueAsString(item));
+    }
+
+    @Test
+    public void testSubclassIsLeftToJackson() throws JsonMappingException {
+        assertEquals("com.fasterxml.jackson.databind.ser.BeanSerializer",
+                objectMapper.getSerializerProviderInstance().findValueSerializer(SpecialItem.class).getClass().getName());
+        RestAssured.get("/items/special")
+                .then()
+                .statusCode(200)
+                .body("name", equalTo("widget"))
+                .body("special", equalTo(true));
+    }
+
+    @Test
+    public void testCustomizedMapperIsLeftToJackson() throws JsonProcessingException {
+        Owner owner = new Owner("bob", 42);
+        ObjectMapper mixIn = objectMapper.copy().addMixIn(Owner.class, OwnerMixIn.class);
+        assertEquals("{\"name\":\"bob\",\"identifier\":42}", mixIn.writeValueAsString(owner));
+
+        ObjectMapper naming = objectMapper.copy().setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+        assertEquals("{\"Name\":\"bob\",\"Id\":42}", naming.writeValueAsString(owner));
+
+        ObjectMapper nonNull = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        assertFalse(nonNull.writeValueAsString(new Item("widget", owner)).contains("description"));
+    }
+
+    @Test
+    public void testJson() {
+        RestAssured.get("/items/single")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("name", equalTo("widget"))
+                .body("description", nullValue())
+                .body("count", equalTo(3))
+                .body("price", equalTo(9.5f))
+                .body("available", equalTo(true))
+                .body("grade", equalTo("A"))
+                .body("tags", equalTo(Arrays.asList("a", "b")))
+                .body("url", equalTo("http://example.com"))
+                .body("owner.name", equalTo("bob"))
+                .body("owner.id", equalTo(42));
+
+        RestAssured.get("/items/list")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("size()", equalTo(2))
+                .body("[1].owner.name", equalTo("alice"));
+
+        RestAssured.get("/items/annotated")
+                .then()
+                .statusCode(200)
+                .body("renamed", equalTo("value"));
+    }
+
+    @Path("items")
+    public static class ItemResource {
+
+        @GET
+        @Path("single")
+        public Item single() {
+            return new Item("widget", new Owner("bob", 42));
+        }
+
+        @GET
+        @Path("list")
+        public List<Item> list() {
+            return Arrays.asList(new Item("widget", new Owner("bob", 42)), new Item("gadget", new Owner("alice", 7)));
+        }
+
+        @GET
+        @Path("special")
+        public Item special() {
+            return new SpecialItem("widget", new Owner("bob", 42));
+        }
+
+        @GET
+        @Path("annotated")
+        public Annotated annotated() {
+            return new Annotated();
+        }
+    }
+
+    public static class Item {
+
+        public int count = 3;
+        public char grade = 'A';
+
+        private final String name;
+        private final Owner owner;
+
+        public Item(String name, Owner owner) {
+            this.name = name;
+            this.owner = owner;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return null;
+        }
+
+        public double getPrice() {
+            return 9.5;
+        }
+
+        public boolean isAvailable() {
+            return true;
+        }
+
+        public List<String> getTags() {
+            return Arrays.asList("a", "b");
+        }
+
+        public String getURL() {
+            return "http://example.com";
+        }
+
+        public Owner getOwner() {
+            return owner;
+        }
+    }
+
+    public static class SpecialItem extends Item {
+
+        public SpecialItem(String name, Owner owner) {
+            super(name, owner);
+        }
+
+        public boolean isSpecial() {
+            return true;
+        }
+    }
+
+    public static class Owner {
+
+        private final String name;
+        private final long id;
+
+        public Owner(String name, long id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getId() {
+            return id;
+        }
+    }
+
+    public static class Annotated {
+
+        @JsonProperty("renamed")
+        public String getValue() {
+            return "value";
+        }
+    }
+
+    public abstract static class OwnerMixIn {
+
+        @JsonProperty("identifier")
+        abstract long getId();
+    }
+}
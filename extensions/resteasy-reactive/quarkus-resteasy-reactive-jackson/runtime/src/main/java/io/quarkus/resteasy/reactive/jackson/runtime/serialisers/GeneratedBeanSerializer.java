@@ -0,0 +1,92 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base class of the serializers generated at build time for the DTOs returned by the resource methods.
+ * <p>
+ * The generated code only knows how to write each property, the order of the properties is the one computed by Jackson
+ * for the {@code ObjectMapper} the serializer is used with, see {@link #forProperties(List)}.
+ *
+ * @param <T> the serialized type
+ */
+public abstract class GeneratedBeanSerializer<T> extends StdSerializer<T> {
+
+    private final String[] propertyNames;
+    private final int[] order;
+
+    /**
+     * @param type the serialized type
+     * @param propertyNames the names of the properties written by {@link #writeProperty(int, Object, JsonGenerator,
+     *        SerializerProvider)}, by index
+     * @param order the indexes of the properties in the order they are written, or {@code null} for a serializer that is
+     *        only used to create the actual ones with {@link #forProperties(List)}
+     */
+    protected GeneratedBeanSerializer(Class<T> type, String[] propertyNames, int[] order) {
+        super(type);
+        this.propertyNames = propertyNames;
+        this.order = order;
+    }
+
+    /**
+     * @param properties the properties found by Jackson, in the order Jackson writes them
+     * @return a serializer that writes the properties in the same order, or {@code null} if Jackson does not write the
+     *         same properties as the generated code
+     */
+    GeneratedBeanSerializer<T> forProperties(List<BeanPropertyDefinition> properties) {
+        int[] order = new int[propertyNames.length];
+        int count = 0;
+        for (BeanPropertyDefinition property : properties) {
+            if (property.getAccessor() == null) {
+                // not serialized
+                continue;
+            }
+            int index = indexOf(property.getName());
+            if (index < 0 || count == order.length) {
+                return null;
+            }
+            order[count++] = index;
+        }
+        if (count != order.length) {
+            return null;
+        }
+        return withOrder(order);
+    }
+
+    private int indexOf(String propertyName) {
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (propertyNames[i].equals(propertyName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        for (int index : order) {
+            writeProperty(index, value, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * @return a serializer of the same type that writes the properties in the given order
+     */
+    protected abstract GeneratedBeanSerializer<T> withOrder(int[] order);
+
+    /**
+     * Writes the name and the value of a property.
+     *
+     * @param index the index of the property in the names passed to the constructor
+     */
+    protected abstract void writeProperty(int index, Object value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException;
+}
@@ -0,0 +1,70 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * Registers the serializers generated at build time, the module that lists them is generated as a subclass of this one.
+ * <p>
+ * A generated serializer is only used for its exact type, a subclass keeps going through the regular Jackson
+ * serialization so that its own properties are written. It is not used either when the {@code ObjectMapper} changes what
+ * Jackson writes for the type: a mix-in or a config override for the type, a property inclusion other than
+ * {@link JsonInclude.Include#ALWAYS}, or any setting that makes Jackson find other properties than the generated code,
+ * such as a naming strategy. The generated serializer writes the properties in the order computed by Jackson.
+ */
+public abstract class GeneratedSerializersModule extends SimpleModule {
+
+    private final Map<Class<?>, GeneratedBeanSerializer<?>> generatedSerializers = new HashMap<>();
+
+    protected GeneratedSerializersModule(String name, GeneratedBeanSerializer<?>[] serializers) {
+        super(name);
+        for (GeneratedBeanSerializer<?> serializer : serializers) {
+            generatedSerializers.put(serializer.handledType(), serializer);
+        }
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addSerializers(new ExactTypeSerializers(generatedSerializers));
+    }
+
+    static final class ExactTypeSerializers extends Serializers.Base {
+
+        private final Map<Class<?>, GeneratedBeanSerializer<?>> serializers;
+
+        ExactTypeSerializers(Map<Class<?>, GeneratedBeanSerializer<?>> serializers) {
+            this.serializers = serializers;
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            Class<?> rawClass = type.getRawClass();
+            GeneratedBeanSerializer<?> serializer = serializers.get(rawClass);
+            if (serializer == null || !usesDefaults(config, rawClass, beanDesc)) {
+                return null;
+            }
+            return serializer.forProperties(beanDesc.findProperties());
+        }
+
+        private static boolean usesDefaults(SerializationConfig config, Class<?> rawClass, BeanDescription beanDesc) {
+            if (config.findMixInClassFor(rawClass) != null || config.findConfigOverride(rawClass) != null
+                    || !config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                    || config.isEnabled(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS)) {
+                return false;
+            }
+            JsonInclude.Include inclusion = beanDesc
+                    .findPropertyInclusion(config.getDefaultPropertyInclusion(rawClass)).getValueInclusion();
+            return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        }
+    }
+}
@@ -83,7 +83,7 @@ public class JacksonMessageBodyWriter implements ServerMessageBodyWriter<Object>
                     }
                 }
             }
-            entityStream.write(defaultWriter.writeValueAsBytes(o));
+            defaultWriter.writeValue(entityStream, o);
         }
     }
 
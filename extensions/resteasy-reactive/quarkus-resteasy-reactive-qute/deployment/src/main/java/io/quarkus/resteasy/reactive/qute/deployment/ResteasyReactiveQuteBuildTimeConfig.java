@@ -0,0 +1,19 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "rest.qute")
+public class ResteasyReactiveQuteBuildTimeConfig {
+
+    /**
+     * If enabled, the output of a template returned by a resource method is written in chunks while the response can be
+     * written, see {@code quarkus.rest.qute.chunk-size}, instead of being rendered as a whole before it is written.
+     * <p>
+     * The entity of the response is then an {@code io.quarkus.qute.ResultCursor} instead of the rendered {@code String},
+     * so it must not be enabled if a response filter, a writer interceptor or a message body writer of the application
+     * expects a {@code String} entity.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean chunkedOutput;
+}
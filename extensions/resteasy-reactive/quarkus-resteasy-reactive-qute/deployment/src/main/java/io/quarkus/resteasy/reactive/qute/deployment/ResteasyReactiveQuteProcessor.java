@@ -1,14 +1,24 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
+import java.util.Collections;
+
+import javax.ws.rs.core.MediaType;
+
 import org.jboss.jandex.DotName;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
+import io.quarkus.qute.ResultCursor;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.ChunkedTemplateResponseFilter;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -18,8 +28,22 @@ public class ResteasyReactiveQuteProcessor {
     }
 
     @BuildStep
-    CustomContainerResponseFilterBuildItem registerProviders() {
-        return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
+    CustomContainerResponseFilterBuildItem registerProviders(ResteasyReactiveQuteBuildTimeConfig config) {
+        return new CustomContainerResponseFilterBuildItem(config.chunkedOutput ? ChunkedTemplateResponseFilter.class.getName()
+                : TemplateResponseFilter.class.getName());
+    }
+
+    @BuildStep
+    void registerWriter(ResteasyReactiveQuteBuildTimeConfig config, BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<MessageBodyWriterBuildItem> additionalWriters) {
+        if (!config.chunkedOutput) {
+            // the entity is the rendered String
+            return;
+        }
+        // make it a bean so that it can get the config injected
+        additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(TemplateMessageBodyWriter.class));
+        additionalWriters.produce(new MessageBodyWriterBuildItem(TemplateMessageBodyWriter.class.getName(),
+                ResultCursor.class.getName(), Collections.singletonList(MediaType.WILDCARD)));
     }
 
     @BuildStep
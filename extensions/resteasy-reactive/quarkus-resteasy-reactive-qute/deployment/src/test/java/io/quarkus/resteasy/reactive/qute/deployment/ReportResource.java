@@ -0,0 +1,32 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+
+@Path("report")
+public class ReportResource {
+
+    @Inject
+    Template report;
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public TemplateInstance get(@QueryParam("rows") int count) {
+        List<String> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add("row-" + i);
+        }
+        return report.data("rows", rows);
+    }
+
+}
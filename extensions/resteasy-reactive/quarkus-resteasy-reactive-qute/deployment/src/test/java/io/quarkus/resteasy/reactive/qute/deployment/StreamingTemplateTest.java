@@ -0,0 +1,46 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(ReportResource.class)
+                    .addAsResource(new StringAsset("{#each rows}{it}\n{/each}"), "templates/report.txt")
+                    .addAsResource(new StringAsset("quarkus.rest.qute.chunked-output=true\nquarkus.rest.qute.chunk-size=1k"),
+                            "application.properties"));
+
+    @Test
+    public void testSingleChunk() {
+        when().get("/report?rows=2").then()
+                .statusCode(200)
+                .header("Content-Length", "12")
+                .header("Transfer-Encoding", Matchers.nullValue())
+                .body(Matchers.is("row-0\nrow-1\n"));
+    }
+
+    @Test
+    public void testChunked() {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            expected.append("row-").append(i).append('\n');
+        }
+        when().get("/report?rows=100000").then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .header("Content-Length", Matchers.nullValue())
+                .body(Matchers.is(expected.toString()));
+    }
+
+}
@@ -0,0 +1,49 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.io.IOException;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Test that the entity of the response is the rendered template by default, not a {@code ResultCursor}.
+ */
+public class StringEntityTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ReportResource.class, UpperCaseInterceptor.class)
+                    .addAsResource(new StringAsset("{#each rows}{it}\n{/each}"), "templates/report.txt"));
+
+    @Test
+    public void testStringEntity() {
+        when().get("/report?rows=2").then()
+                .statusCode(200)
+                .body(Matchers.is("ROW-0\nROW-1\n"));
+    }
+
+    @Provider
+    public static class UpperCaseInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+            context.setEntity(((String) context.getEntity()).toUpperCase());
+            context.proceed();
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import javax.ws.rs.container.ContainerResponseContext;
+
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
+
+import io.quarkus.qute.ResultCursor;
+import io.quarkus.qute.TemplateInstance;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Resolves the {@link TemplateInstance} returned by a resource method, used instead of {@link TemplateResponseFilter} if
+ * {@code quarkus.rest.qute.chunked-output} is enabled.
+ * <p>
+ * The entity of the response is replaced with the {@link ResultCursor} of the resolved template, not with the rendered
+ * {@code String}: the output is produced by {@link TemplateMessageBodyWriter} while it is written.
+ */
+public class ChunkedTemplateResponseFilter {
+
+    @ServerResponseFilter
+    public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object entity = responseContext.getEntity();
+        if (!(entity instanceof TemplateInstance)) {
+            return null;
+        }
+        TemplateInstance instance = (TemplateInstance) entity;
+        // only resolve the template here, the output is produced by the TemplateMessageBodyWriter
+        return TemplateResponseFilter.setEntity(responseContext,
+                TemplateResponseFilter.selectMediaType(requestContext, responseContext, instance),
+                Uni.createFrom().completionStage(instance::resolve));
+    }
+}
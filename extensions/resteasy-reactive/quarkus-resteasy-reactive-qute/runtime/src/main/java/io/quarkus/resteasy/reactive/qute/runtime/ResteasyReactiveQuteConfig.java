@@ -0,0 +1,22 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigRoot(name = "rest.qute", phase = ConfigPhase.RUN_TIME)
+public class ResteasyReactiveQuteConfig {
+
+    /**
+     * The size of the chunks in which the output of a template is written to the response, if
+     * {@code quarkus.rest.qute.chunked-output} is enabled.
+     * <p>
+     * If the output fits in a single chunk, it is written at once with a content-length. Otherwise the response is
+     * chunked, and the output is produced chunk by chunk while the response can be written, so that a large output is
+     * never held in memory as a whole.
+     */
+    @ConfigItem(defaultValue = "8k")
+    public MemorySize chunkSize;
+
+}
@@ -0,0 +1,186 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxBufferImpl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.quarkus.qute.ResultCursor;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes the output of a resolved template, see {@link ChunkedTemplateResponseFilter}.
+ * <p>
+ * The output is encoded into pooled buffers of the configured chunk size. If it does not fit in the first chunk, the
+ * response is chunked and the next chunks are only produced while the write queue of the response is not full.
+ */
+public class TemplateMessageBodyWriter implements ServerMessageBodyWriter<ResultCursor> {
+
+    private static final Logger LOG = Logger.getLogger(TemplateMessageBodyWriter.class);
+
+    private final int chunkSize;
+
+    @Inject
+    public TemplateMessageBodyWriter(ResteasyReactiveQuteConfig config) {
+        this.chunkSize = (int) config.chunkSize.asLongValue();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return ResultCursor.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(ResultCursor cursor, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        Writer writer = new OutputStreamWriter(entityStream, getCharset(mediaType));
+        StringBuilder builder = new StringBuilder(chunkSize);
+        boolean hasNext;
+        do {
+            hasNext = cursor.next(builder::append, chunkSize);
+            writer.append(builder);
+            builder.setLength(0);
+        } while (hasNext);
+        writer.flush();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return ResultCursor.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeResponse(ResultCursor cursor, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) context;
+        HttpServerResponse response = requestContext.serverRequest().unwrap(HttpServerResponse.class);
+        Charset charset = getCharset(context.getResponseMediaType());
+        // a failure in the first chunk is handled like any other failure, as nothing was written yet
+        ByteBuf first = nextChunk(cursor, charset);
+        if (!cursor.hasNext()) {
+            response.end(new VertxBufferImpl(first));
+            return;
+        }
+        response.setChunked(true);
+        response.write(new VertxBufferImpl(first));
+        // the request is completed once the last chunk is written
+        requestContext.suspend();
+        ChunkedWrite write = new ChunkedWrite(cursor, charset, response, requestContext);
+        response.closeHandler(write::closed);
+        write.writeChunks();
+    }
+
+    private ByteBuf nextChunk(ResultCursor cursor, Charset charset) {
+        ByteBuf chunk = PooledByteBufAllocator.DEFAULT.directBuffer(chunkSize);
+        try {
+            // the number of bytes is never lower than the number of characters, so a single step fills the chunk
+            cursor.next(new Consumer<String>() {
+                @Override
+                public void accept(String part) {
+                    chunk.writeCharSequence(part, charset);
+                }
+            }, chunkSize);
+            return chunk;
+        } catch (RuntimeException e) {
+            chunk.release();
+            throw e;
+        }
+    }
+
+    private static Charset getCharset(MediaType mediaType) {
+        if (mediaType != null) {
+            String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+            if (charset != null) {
+                return Charset.forName(charset);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private final class ChunkedWrite implements Handler<Void> {
+
+        private final ResultCursor cursor;
+        private final Charset charset;
+        private final HttpServerResponse response;
+        private final ResteasyReactiveRequestContext requestContext;
+        private boolean finished;
+
+        ChunkedWrite(ResultCursor cursor, Charset charset, HttpServerResponse response,
+                ResteasyReactiveRequestContext requestContext) {
+            this.cursor = cursor;
+            this.charset = charset;
+            this.response = response;
+            this.requestContext = requestContext;
+        }
+
+        synchronized void writeChunks() {
+            while (!finished) {
+                if (response.closed()) {
+                    finish();
+                    return;
+                }
+                if (response.writeQueueFull()) {
+                    // continue once the pending chunks were flushed
+                    response.drainHandler(this);
+                    return;
+                }
+                ByteBuf chunk;
+                try {
+                    chunk = nextChunk(cursor, charset);
+                } catch (RuntimeException e) {
+                    // the status and part of the output were already sent
+                    LOG.error("Failed to render the template", e);
+                    response.close();
+                    finish();
+                    return;
+                }
+                if (cursor.hasNext()) {
+                    response.write(new VertxBufferImpl(chunk));
+                } else {
+                    response.end(new VertxBufferImpl(chunk));
+                    finish();
+                }
+            }
+        }
+
+        @Override
+        public void handle(Void event) {
+            response.drainHandler(null);
+            writeChunks();
+        }
+
+        synchronized void closed(Void event) {
+            if (!finished) {
+                LOG.debug("The connection was closed before the template output was written");
+                finish();
+            }
+        }
+
+        private void finish() {
+            finished = true;
+            requestContext.resume();
+        }
+
+    }
+
+}
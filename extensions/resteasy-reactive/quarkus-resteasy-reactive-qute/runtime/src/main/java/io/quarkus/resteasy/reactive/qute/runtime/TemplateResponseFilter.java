@@ -13,6 +13,12 @@ import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.smallrye.mutiny.Uni;
 
+/**
+ * Renders the {@link TemplateInstance} returned by a resource method, the entity of the response is replaced with the
+ * rendered {@code String}.
+ *
+ * @see ChunkedTemplateResponseFilter
+ */
 public class TemplateResponseFilter {
 
     @ServerResponseFilter
@@ -21,9 +27,12 @@ public class TemplateResponseFilter {
         if (!(entity instanceof TemplateInstance)) {
             return null;
         }
-
-        MediaType mediaType;
         TemplateInstance instance = (TemplateInstance) entity;
+        return setEntity(responseContext, selectMediaType(requestContext, responseContext, instance), instance.createUni());
+    }
+
+    static MediaType selectMediaType(ResteasyReactiveContainerRequestContext requestContext,
+            ContainerResponseContext responseContext, TemplateInstance instance) {
         Object variantsAttr = instance.getAttribute(TemplateInstance.VARIANTS);
         if (variantsAttr != null) {
             @SuppressWarnings("unchecked")
@@ -36,15 +45,14 @@ public class TemplateResponseFilter {
             if (selected != null) {
                 instance.setAttribute(TemplateInstance.SELECTED_VARIANT,
                         new Variant(selected.getLanguage(), selected.getMediaType().toString(), selected.getEncoding()));
-                mediaType = selected.getMediaType();
-            } else {
-                mediaType = responseContext.getMediaType();
+                return selected.getMediaType();
             }
-        } else {
-            mediaType = responseContext.getMediaType();
         }
+        return responseContext.getMediaType();
+    }
 
-        return instance.createUni().chain(r -> {
+    static Uni<Void> setEntity(ContainerResponseContext responseContext, MediaType mediaType, Uni<?> result) {
+        return result.chain(r -> {
             if (mediaType != null) {
                 responseContext.setEntity(r, null, mediaType);
             } else {
@@ -39,6 +39,7 @@ import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.server.runtime.CompressionHandler;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -193,6 +194,26 @@ public class QuarkusServerEndpointIndexer
         return new ServerResourceMethod();
     }
 
+    @Override
+    protected void handleAdditionalMethodProcessing(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info) {
+        super.handleAdditionalMethodProcessing(method, currentClassInfo, info);
+        // The compression policy of the class applies to the methods that do not declare one
+        boolean compressed = info.hasAnnotation(ResteasyReactiveServerDotNames.COMPRESSED);
+        boolean uncompressed = info.hasAnnotation(ResteasyReactiveServerDotNames.UNCOMPRESSED);
+        if (compressed && uncompressed) {
+            throw new RuntimeException("Method " + info + " of class " + currentClassInfo.name()
+                    + " cannot be annotated with both @Compressed and @Uncompressed");
+        }
+        if (!compressed && !uncompressed) {
+            compressed = currentClassInfo.classAnnotation(ResteasyReactiveServerDotNames.COMPRESSED) != null;
+            uncompressed = currentClassInfo.classAnnotation(ResteasyReactiveServerDotNames.UNCOMPRESSED) != null;
+        }
+        if (compressed || uncompressed) {
+            // Only the annotated methods get a handler
+            method.getHandlerChainCustomizers().add(new CompressionHandler(compressed));
+        }
+    }
+
     protected void handleFieldExtractors(String currentTypeName, Map<FieldInfo, ServerIndexedParameter> fieldExtractors,
             boolean superTypeIsInjectable) {
         bytecodeTransformerBuildProducer.produce(new BytecodeTransformerBuildItem(currentTypeName,
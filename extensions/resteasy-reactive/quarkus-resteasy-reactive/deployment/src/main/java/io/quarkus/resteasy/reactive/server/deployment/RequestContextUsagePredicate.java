@@ -0,0 +1,184 @@
+package io.quarkus.resteasy.reactive.server.deployment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.MethodVisitor;
+
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.gizmo.Gizmo;
+
+/**
+ * Tests if a bean may use the CDI request context without injecting a request scoped bean.
+ * <p>
+ * This is the case of a bean whose code performs a programmatic lookup, i.e. calls {@code Arc}, {@code CDI},
+ * {@code Instance} or {@code BeanManager}, and of the beans that use the classes of the packages declared by a
+ * {@link io.quarkus.resteasy.reactive.spi.RequestContextUsageBuildItem}, e.g. the persistence classes whose sessions may
+ * be bound to the request context. The code of the bean class and of its superclasses is scanned for such calls,
+ * including the static methods of the classes that extend or implement a class of these packages.
+ */
+final class RequestContextUsagePredicate implements Predicate<BeanInfo> {
+
+    private static final String[] LOOKUP_PACKAGES = { "io/quarkus/arc/", "javax/enterprise/inject/" };
+
+    private final IndexView index;
+    private final ClassLoader classLoader;
+    private final List<String> contextPackagePrefixes;
+    private final Map<DotName, Boolean> scannedClasses = new HashMap<>();
+    private final Map<DotName, Boolean> contextClasses = new HashMap<>();
+
+    RequestContextUsagePredicate(IndexView index, ClassLoader classLoader, List<String> contextPackages) {
+        this.index = index;
+        this.classLoader = classLoader;
+        this.contextPackagePrefixes = new ArrayList<>(contextPackages.size());
+        for (String contextPackage : contextPackages) {
+            contextPackagePrefixes.add(contextPackage + ".");
+        }
+    }
+
+    @Override
+    public boolean test(BeanInfo bean) {
+        for (Type type : bean.getTypes()) {
+            if (isContextPackage(type.name().toString())) {
+                return true;
+            }
+        }
+        ClassInfo implClass = bean.getImplClazz();
+        return implClass != null && usesRequestContext(implClass.name());
+    }
+
+    private boolean usesRequestContext(DotName className) {
+        Boolean result = scannedClasses.get(className);
+        if (result == null) {
+            // cycles are not possible in a class hierarchy, so the result is only computed once per class
+            result = scan(className);
+            scannedClasses.put(className, result);
+        }
+        return result;
+    }
+
+    private boolean scan(DotName className) {
+        String name = className.toString();
+        if (name.startsWith("java.")) {
+            return false;
+        }
+        byte[] bytes;
+        try {
+            bytes = IoUtil.readClassAsBytes(classLoader, name);
+        } catch (IOException e) {
+            return true;
+        }
+        if (bytes == null) {
+            // the code cannot be checked
+            return true;
+        }
+        UsageVisitor visitor = new UsageVisitor();
+        new ClassReader(bytes).accept(visitor, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        if (visitor.found) {
+            return true;
+        }
+        ClassInfo classInfo = index.getClassByName(className);
+        return classInfo != null && classInfo.superName() != null && usesRequestContext(classInfo.superName());
+    }
+
+    private boolean isLookupOrContextOwner(String owner) {
+        for (String lookupPackage : LOOKUP_PACKAGES) {
+            if (owner.startsWith(lookupPackage)) {
+                return true;
+            }
+        }
+        return isContextClass(DotName.createSimple(owner.replace('/', '.')));
+    }
+
+    /**
+     * @return {@code true} if the class belongs to a declared package, or extends or implements such a class, e.g. a
+     *         Panache entity or repository
+     */
+    private boolean isContextClass(DotName className) {
+        Boolean result = contextClasses.get(className);
+        if (result == null) {
+            String name = className.toString();
+            if (isContextPackage(name)) {
+                result = true;
+            } else if (name.startsWith("java.")) {
+                result = false;
+            } else {
+                result = false;
+                ClassInfo classInfo = index.getClassByName(className);
+                if (classInfo != null) {
+                    if (classInfo.superName() != null && isContextClass(classInfo.superName())) {
+                        result = true;
+                    } else {
+                        for (DotName interfaceName : classInfo.interfaceNames()) {
+                            if (isContextClass(interfaceName)) {
+                                result = true;
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+            contextClasses.put(className, result);
+        }
+        return result;
+    }
+
+    private boolean isContextPackage(String className) {
+        for (String prefix : contextPackagePrefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private class UsageVisitor extends ClassVisitor {
+
+        boolean found;
+
+        UsageVisitor() {
+            super(Gizmo.ASM_API_VERSION);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                String[] exceptions) {
+            if (found) {
+                return null;
+            }
+            return new MethodVisitor(Gizmo.ASM_API_VERSION) {
+
+                @Override
+                public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+                    if (!found && isLookupOrContextOwner(owner)) {
+                        found = true;
+                    }
+                }
+
+                @Override
+                public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                        Object... bootstrapMethodArguments) {
+                    // method references
+                    for (Object argument : bootstrapMethodArguments) {
+                        if (!found && argument instanceof Handle
+                                && isLookupOrContextOwner(((Handle) argument).getOwner())) {
+                            found = true;
+                        }
+                    }
+                }
+            };
+        }
+    }
+}
@@ -4,16 +4,20 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.ws.rs.Priorities;
@@ -34,11 +38,17 @@ import org.jboss.jandex.Type;
 import org.jboss.resteasy.reactive.common.core.Serialisers;
 import org.jboss.resteasy.reactive.common.core.SingletonBeanFactory;
 import org.jboss.resteasy.reactive.common.model.InjectableBean;
+import org.jboss.resteasy.reactive.common.model.InterceptorContainer;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
 import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.common.model.ResourceContextResolver;
 import org.jboss.resteasy.reactive.common.model.ResourceDynamicFeature;
 import org.jboss.resteasy.reactive.common.model.ResourceFeature;
+import org.jboss.resteasy.reactive.common.model.ResourceInterceptor;
 import org.jboss.resteasy.reactive.common.model.ResourceInterceptors;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
+import org.jboss.resteasy.reactive.common.model.ResourceParamConverterProvider;
 import org.jboss.resteasy.reactive.common.model.ResourceReader;
 import org.jboss.resteasy.reactive.common.model.ResourceWriter;
 import org.jboss.resteasy.reactive.common.processor.AdditionalReaderWriter;
@@ -57,12 +67,17 @@ import org.jboss.resteasy.reactive.server.model.ContextResolvers;
 import org.jboss.resteasy.reactive.server.model.DynamicFeatures;
 import org.jboss.resteasy.reactive.server.model.Features;
 import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
+import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
 import org.jboss.resteasy.reactive.spi.BeanFactory;
+import org.objectweb.asm.signature.SignatureReader;
+import org.objectweb.asm.signature.SignatureVisitor;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
+import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.arc.runtime.ClientProxyUnwrapper;
 import io.quarkus.deployment.Capabilities;
@@ -82,6 +97,7 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.Gizmo;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.resteasy.reactive.common.deployment.ApplicationResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.FactoryUtils;
@@ -105,6 +121,7 @@ import io.quarkus.resteasy.reactive.spi.ExceptionMapperBuildItem;
 import io.quarkus.resteasy.reactive.spi.JaxrsFeatureBuildItem;
 import io.quarkus.resteasy.reactive.spi.MessageBodyReaderBuildItem;
 import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
+import io.quarkus.resteasy.reactive.spi.RequestContextUsageBuildItem;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.security.AuthenticationCompletionException;
 import io.quarkus.security.AuthenticationFailedException;
@@ -213,6 +230,7 @@ public class ResteasyReactiveProcessor {
             List<MessageBodyReaderBuildItem> additionalMessageBodyReaders,
             List<MessageBodyWriterBuildItem> additionalMessageBodyWriters,
             List<JaxrsFeatureBuildItem> features,
+            List<RequestContextUsageBuildItem> requestContextUsages,
             List<ServerDefaultProducesHandlerBuildItem> serverDefaultProducesHandlers,
             Optional<RequestContextFactoryBuildItem> requestContextFactoryBuildItem,
             Optional<ClassLevelExceptionMappersBuildItem> classLevelExceptionMappers,
@@ -224,7 +242,8 @@ public class ResteasyReactiveProcessor {
             ResourceInterceptorsBuildItem resourceInterceptorsBuildItem,
             ExceptionMappersBuildItem exceptionMappersBuildItem,
             ParamConverterProvidersBuildItem paramConverterProvidersBuildItem,
-            ContextResolversBuildItem contextResolversBuildItem) throws NoSuchMethodException {
+            ContextResolversBuildItem contextResolversBuildItem,
+            ValidationPhaseBuildItem validationPhase) throws NoSuchMethodException {
 
         if (!resourceScanningResultBuildItem.isPresent()) {
             // no detected @Path, bail out
@@ -288,7 +307,8 @@ public class ResteasyReactiveProcessor {
                     .setBytecodeTransformerBuildProducer(bytecodeTransformerBuildItemBuildProducer)
                     .setExistingConverters(existingConverters).setScannedResourcePaths(scannedResourcePaths)
                     .setConfig(new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
-                            config.inputBufferSize.asLongValue(), config.singleDefaultProduces, config.defaultProduces))
+                            config.inputBufferSize.asLongValue(), (int) config.outputBufferSize.asLongValue(),
+                            config.singleDefaultProduces, config.defaultProduces))
                     .setAdditionalReaders(additionalReaders)
                     .setHttpAnnotationToMethod(result.getHttpAnnotationToMethod())
                     .setInjectableBeans(injectableBeans)
@@ -397,6 +417,15 @@ public class ResteasyReactiveProcessor {
                 toScan.addAll(index.getKnownDirectSubclasses(classInfo.name()));
             }
 
+            if (config.lazyRequestScope) {
+                deactivateRequestScopeWhereNotRequired(resourceClasses, interceptors, contextResolvers,
+                        paramConverterProviders, additionalMessageBodyReaders, additionalMessageBodyWriters,
+                        validationPhase, new RequestContextUsagePredicate(index,
+                                Thread.currentThread().getContextClassLoader(),
+                                requestContextUsages.stream().map(RequestContextUsageBuildItem::getPackageName)
+                                        .collect(Collectors.toList())));
+            }
+
             Features feats = new Features();
             for (JaxrsFeatureBuildItem feature : features) {
                 ResourceFeature resourceFeature = new ResourceFeature();
@@ -465,7 +494,8 @@ public class ResteasyReactiveProcessor {
             RuntimeValue<Deployment> deployment = recorder.createDeployment(new DeploymentInfo()
                     .setInterceptors(interceptors.sort())
                     .setConfig(new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
-                            config.inputBufferSize.asLongValue(), config.singleDefaultProduces, config.defaultProduces))
+                            config.inputBufferSize.asLongValue(), (int) config.outputBufferSize.asLongValue(),
+                            config.singleDefaultProduces, config.defaultProduces))
                     .setExceptionMapping(exceptionMapping)
                     .setCtxResolvers(contextResolvers)
                     .setFeatures(feats)
@@ -528,6 +558,117 @@ public class ResteasyReactiveProcessor {
                 Priorities.USER + 1, false));
     }
 
+    /**
+     * The CDI request scope is activated before a resource method is invoked. This is not needed if neither the resource
+     * class nor the providers that are involved in the invocation depend on a request scoped bean, so in that case the
+     * activation is deferred until a filter or an exception mapper requires it.
+     *
+     * @param usesRequestContext tests if a bean may use the request context without injecting a request scoped bean
+     */
+    private void deactivateRequestScopeWhereNotRequired(List<ResourceClass> resourceClasses,
+            ResourceInterceptors interceptors, ContextResolvers contextResolvers,
+            ParamConverterProviders paramConverterProviders,
+            List<MessageBodyReaderBuildItem> additionalMessageBodyReaders,
+            List<MessageBodyWriterBuildItem> additionalMessageBodyWriters,
+            ValidationPhaseBuildItem validationPhase, Predicate<BeanInfo> usesRequestContext) {
+        Set<String> providers = new HashSet<>();
+        for (InterceptorContainer<?> container : Arrays.asList(interceptors.getReaderInterceptors(),
+                interceptors.getWriterInterceptors())) {
+            for (ResourceInterceptor<?> interceptor : container.getGlobalResourceInterceptors()) {
+                providers.add(interceptor.getClassName());
+            }
+            for (ResourceInterceptor<?> interceptor : container.getNameResourceInterceptors()) {
+                providers.add(interceptor.getClassName());
+            }
+        }
+        for (List<ResourceContextResolver> resolvers : contextResolvers.getResolvers().values()) {
+            for (ResourceContextResolver resolver : resolvers) {
+                providers.add(resolver.getClassName());
+            }
+        }
+        for (ResourceParamConverterProvider provider : paramConverterProviders.getParamConverterProviders()) {
+            providers.add(provider.getClassName());
+        }
+        for (MessageBodyReaderBuildItem reader : additionalMessageBodyReaders) {
+            providers.add(reader.getClassName());
+        }
+        for (MessageBodyWriterBuildItem writer : additionalMessageBodyWriters) {
+            providers.add(writer.getClassName());
+        }
+        for (String provider : providers) {
+            // providers that are not beans are instantiated directly and cannot depend on a request scoped bean
+            BeanInfo bean = findClassBean(provider, validationPhase);
+            if (bean != null && bean.mayRequireRequestContext(usesRequestContext)) {
+                return;
+            }
+        }
+
+        for (ResourceClass resourceClass : resourceClasses) {
+            BeanInfo bean = findClassBean(resourceClass.getClassName(), validationPhase);
+            if (resourceClass.getFactory() instanceof SingletonBeanFactory || bean == null
+                    || bean.mayRequireRequestContext(usesRequestContext)) {
+                continue;
+            }
+            for (ResourceMethod method : resourceClass.getMethods()) {
+                // sub resource locators may return any object
+                if (method.getHttpMethod() == null || mayRequireRequestContext(method)) {
+                    continue;
+                }
+                ((ServerResourceMethod) method).setCdiRequestScopeRequired(false);
+            }
+        }
+    }
+
+    private BeanInfo findClassBean(String className, ValidationPhaseBuildItem validationPhase) {
+        return validationPhase.getContext().beans().classBeans().withBeanClass(DotName.createSimple(className))
+                .firstResult().orElse(null);
+    }
+
+    private boolean mayRequireRequestContext(ResourceMethod method) {
+        for (MethodParameter parameter : method.getParameters()) {
+            if (parameter.parameterType == ParameterType.CONTEXT || parameter.parameterType == ParameterType.BEAN
+                    || parameter.parameterType == ParameterType.ASYNC_RESPONSE) {
+                return true;
+            }
+        }
+        // a relative location of a Response is resolved against the current request, which may happen after the invocation
+        // if the Response is produced asynchronously
+        ReturnTypeVisitor visitor = new ReturnTypeVisitor();
+        new SignatureReader(method.getReturnType()).acceptType(visitor);
+        return visitor.mayBeResponse;
+    }
+
+    /**
+     * Finds out if a return type signature, or one of its type arguments, may be a {@link javax.ws.rs.core.Response}.
+     */
+    private static class ReturnTypeVisitor extends SignatureVisitor {
+
+        boolean mayBeResponse;
+
+        ReturnTypeVisitor() {
+            super(Gizmo.ASM_API_VERSION);
+        }
+
+        @Override
+        public void visitClassType(String name) {
+            DotName className = DotName.createSimple(name.replace('/', '.'));
+            if (className.equals(ResteasyReactiveDotNames.RESPONSE) || className.equals(ResteasyReactiveDotNames.OBJECT)) {
+                mayBeResponse = true;
+            }
+        }
+
+        @Override
+        public void visitTypeVariable(String name) {
+            mayBeResponse = true;
+        }
+
+        @Override
+        public void visitTypeArgument() {
+            // an unbounded wildcard
+            mayBeResponse = true;
+        }
+    }
+
     private String determineApplicationPath(IndexView index) {
         Collection<AnnotationInstance> applicationPaths = index.getAnnotations(ResteasyReactiveDotNames.APPLICATION_PATH);
         if (applicationPaths.isEmpty()) {
@@ -13,6 +13,8 @@ import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
 
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
+import io.quarkus.vertx.http.Compressed;
+import io.quarkus.vertx.http.Uncompressed;
 import io.vertx.ext.web.RoutingContext;
 
 public class ResteasyReactiveServerDotNames {
@@ -25,6 +27,8 @@ public class ResteasyReactiveServerDotNames {
             .createSimple(ResteasyReactiveContainerRequestContext.class.getName());
     public static final DotName SIMPLIFIED_RESOURCE_INFO = DotName.createSimple(SimpleResourceInfo.class.getName());
     public static final DotName ROUTING_CONTEXT = DotName.createSimple(RoutingContext.class.getName());
+    public static final DotName COMPRESSED = DotName.createSimple(Compressed.class.getName());
+    public static final DotName UNCOMPRESSED = DotName.createSimple(Uncompressed.class.getName());
 
     public static final DotName JSON_IGNORE = DotName.createSimple("com.fasterxml.jackson.annotation.JsonIgnore");
     public static final DotName JSONB_TRANSIENT = DotName.createSimple("javax.json.bind.annotation.JsonbTransient");
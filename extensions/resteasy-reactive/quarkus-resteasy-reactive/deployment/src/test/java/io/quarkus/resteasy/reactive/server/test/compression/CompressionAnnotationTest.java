@@ -0,0 +1,124 @@
+package io.quarkus.resteasy.reactive.server.test.compression;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.Compressed;
+import io.quarkus.vertx.http.Uncompressed;
+import io.restassured.RestAssured;
+
+public class CompressionAnnotationTest {
+
+    static final String LONG_STRING;
+
+    static {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("Hello World;");
+        }
+        LONG_STRING = sb.toString();
+    }
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addAsResource(new StringAsset("quarkus.http.enable-compression=true\n"),
+                                    "application.properties")
+                            .addClasses(DefaultResource.class, UncompressedResource.class);
+                }
+            });
+
+    @Test
+    public void testMethodAnnotations() {
+        RestAssured.get("/default/text").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(LONG_STRING));
+        RestAssured.get("/default/uncompressed").then().statusCode(200)
+                .header("content-encoding", "identity")
+                .body(Matchers.equalTo(LONG_STRING));
+        RestAssured.get("/default/octets").then().statusCode(200)
+                .header("content-encoding", "identity");
+        RestAssured.get("/default/compressed").then().statusCode(200)
+                .header("content-encoding", "gzip");
+    }
+
+    @Test
+    public void testClassAnnotation() {
+        RestAssured.get("/uncompressed/text").then().statusCode(200)
+                .header("content-encoding", "identity")
+                .body(Matchers.equalTo(LONG_STRING));
+        RestAssured.get("/uncompressed/compressed").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(LONG_STRING));
+    }
+
+    @Path("default")
+    public static class DefaultResource {
+
+        @GET
+        @Path("text")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String text() {
+            return LONG_STRING;
+        }
+
+        @GET
+        @Path("uncompressed")
+        @Produces(MediaType.TEXT_PLAIN)
+        @Uncompressed
+        public String uncompressed() {
+            return LONG_STRING;
+        }
+
+        @GET
+        @Path("octets")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public String octets() {
+            return LONG_STRING;
+        }
+
+        @GET
+        @Path("compressed")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        @Compressed
+        public String compressed() {
+            return LONG_STRING;
+        }
+    }
+
+    @Uncompressed
+    @Path("uncompressed")
+    public static class UncompressedResource {
+
+        @GET
+        @Path("text")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String text() {
+            return LONG_STRING;
+        }
+
+        @GET
+        @Path("compressed")
+        @Produces(MediaType.TEXT_PLAIN)
+        @Compressed
+        public String compressed() {
+            return LONG_STRING;
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.resteasy.reactive.server.test.simple.session.SessionStore;
+import io.quarkus.resteasy.reactive.spi.RequestContextUsageBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class LazyRequestScopeTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(PlainResource.class, ScopedResource.class, LookupResource.class,
+                                    SessionResource.class, RequestBean.class, RequestScopeState.class,
+                                    UnsupportedMapper.class, SessionStore.class);
+                }
+            })
+            .overrideConfigKey("quarkus.rest.lazy-request-scope", "true")
+            .addBuildChainCustomizer(new Consumer<BuildChainBuilder>() {
+                @Override
+                public void accept(BuildChainBuilder builder) {
+                    builder.addBuildStep(new BuildStep() {
+                        @Override
+                        public void execute(BuildContext context) {
+                            context.produce(new RequestContextUsageBuildItem(SessionStore.class.getPackage().getName()));
+                        }
+                    }).produces(RequestContextUsageBuildItem.class).build();
+                }
+            });
+
+    @Test
+    public void testRequestScopeNotActivated() {
+        RestAssured.get("/plain")
+                .then().statusCode(200).body(equalTo("false"));
+    }
+
+    @Test
+    public void testRequestScopeActivatedForRequestScopedDependency() {
+        RestAssured.get("/scoped")
+                .then().statusCode(200).body(equalTo("true/scoped"));
+    }
+
+    @Test
+    public void testRequestScopeActivatedForProgrammaticLookup() {
+        RestAssured.get("/lookup")
+                .then().statusCode(200).body(equalTo("true"));
+    }
+
+    @Test
+    public void testRequestScopeActivatedForDeclaredPackage() {
+        RestAssured.get("/session")
+                .then().statusCode(200).body(equalTo("true"));
+    }
+
+    @Test
+    public void testRequestScopeActivatedForExceptionMapper() {
+        RestAssured.get("/plain/failure")
+                .then().statusCode(501).body(equalTo("true"));
+    }
+
+    @Path("/plain")
+    public static class PlainResource {
+
+        @GET
+        public String isActive() {
+            return String.valueOf(RequestScopeState.isActive());
+        }
+
+        @GET
+        @Path("failure")
+        public String failure() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Path("/scoped")
+    public static class ScopedResource {
+
+        @Inject
+        RequestBean requestBean;
+
+        @GET
+        public String isActive() {
+            return Arc.container().requestContext().isActive() + "/" + requestBean.getValue();
+        }
+    }
+
+    @Path("/lookup")
+    public static class LookupResource {
+
+        @GET
+        public String isActive() {
+            return String.valueOf(Arc.container().requestContext().isActive());
+        }
+    }
+
+    @Path("/session")
+    public static class SessionResource {
+
+        @GET
+        public String isActive() {
+            return String.valueOf(SessionStore.isActive());
+        }
+    }
+
+    /**
+     * Not a bean, so that the resources that use it are not detected as performing a programmatic lookup.
+     */
+    public static class RequestScopeState {
+
+        static boolean isActive() {
+            return Arc.container().requestContext().isActive();
+        }
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        public String getValue() {
+            return "scoped";
+        }
+    }
+
+    @Provider
+    public static class UnsupportedMapper implements ExceptionMapper<UnsupportedOperationException> {
+
+        @Override
+        public Response toResponse(UnsupportedOperationException exception) {
+            return Response.status(501).entity(String.valueOf(Arc.container().requestContext().isActive())).build();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.resteasy.reactive.server.test.simple.session;
+
+import io.quarkus.arc.Arc;
+
+/**
+ * Stands for a library that binds its state to the request context, its package is declared by
+ * {@code LazyRequestScopeTest}.
+ */
+public final class SessionStore {
+
+    private SessionStore() {
+    }
+
+    public static boolean isActive() {
+        return Arc.container().requestContext().isActive();
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.resteasy.reactive.server.test.stream;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -7,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 
@@ -78,6 +82,16 @@ public class StreamResource {
         return Multi.createFrom().items(Buffer.buffer("foo"), Buffer.buffer("bar"));
     }
 
+    @Path("output/{size}")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public InputStream getOutput(@PathParam("size") int size) {
+        // written to the response output stream
+        byte[] data = new byte[size];
+        Arrays.fill(data, (byte) 'a');
+        return new ByteArrayInputStream(data);
+    }
+
     public static Uni<Buffer> concatenateBuffers(Multi<Buffer> multi) {
         return multi.collectItems().in(() -> Buffer.buffer(INITIAL_BUFFER_SIZE),
                 (accumulatingBuffer, receivedBuffer) -> accumulatingBuffer.appendBuffer(receivedBuffer));
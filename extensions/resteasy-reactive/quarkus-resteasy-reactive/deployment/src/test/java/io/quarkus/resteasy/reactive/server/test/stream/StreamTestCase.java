@@ -76,6 +76,24 @@ public class StreamTestCase {
                 .body(Matchers.equalTo("foobar"));
     }
 
+    @Test
+    public void testOutputBuffer() {
+        // fits in the default output buffer, so it is sent at once
+        RestAssured.get("/stream/output/4000")
+                .then()
+                .statusCode(200)
+                .header("Content-Length", "4000")
+                .header("Transfer-Encoding", Matchers.nullValue())
+                .body(Matchers.hasLength(4000));
+        // larger than the output buffer, so it is chunked
+        RestAssured.get("/stream/output/20000")
+                .then()
+                .statusCode(200)
+                .header("Content-Length", Matchers.nullValue())
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.hasLength(20000));
+    }
+
     @Test
     public void testClientStreaming() throws Exception {
         Client client = ClientBuilder.newBuilder().build();
@@ -0,0 +1,46 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+import io.quarkus.vertx.http.runtime.HttpCompressionHandler;
+
+/**
+ * Overrides the compression policy for the resource methods annotated with {@link io.quarkus.vertx.http.Compressed} or
+ * {@link io.quarkus.vertx.http.Uncompressed}, or declared by a class annotated with them. It is only added to the handler
+ * chain of these methods.
+ */
+public class CompressionHandler implements HandlerChainCustomizer, ServerRestHandler {
+
+    private boolean compressed;
+
+    public CompressionHandler() {
+    }
+
+    public CompressionHandler(boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    public void setCompressed(boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    @Override
+    public List<ServerRestHandler> handlers(Phase phase) {
+        return phase == Phase.AFTER_MATCH ? Collections.singletonList(this) : Collections.emptyList();
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        HttpCompressionHandler.setCompressed(((VertxResteasyReactiveRequestContext) requestContext).getContext(), compressed);
+    }
+}
@@ -35,6 +35,62 @@ public class RequestMapperTestCase {
 
     }
 
+    @Test
+    public void testSharedLiteralPrefixes() {
+        RequestMapper<String> mapper = mapper("/foo/bar", "/foo/baz", "/foo/ba", "/foo/{id}", "/foo/{id}/bar",
+                "/foo/{id}/baz/{other}");
+
+        Assertions.assertEquals("/foo/bar", mapper.map("/foo/bar").value);
+        Assertions.assertEquals("/foo/baz", mapper.map("/foo/baz").value);
+        Assertions.assertEquals("/foo/ba", mapper.map("/foo/ba").value);
+        RequestMapper.RequestMatch<String> result = mapper.map("/foo/b");
+        Assertions.assertEquals("/foo/{id}", result.value);
+        Assertions.assertEquals("b", result.pathParamValues[0]);
+        result = mapper.map("/foo/bart");
+        Assertions.assertEquals("/foo/{id}", result.value);
+        Assertions.assertEquals("bart", result.pathParamValues[0]);
+        result = mapper.map("/foo/qux/bar");
+        Assertions.assertEquals("/foo/{id}/bar", result.value);
+        Assertions.assertEquals("qux", result.pathParamValues[0]);
+        result = mapper.map("/foo/a%20b/baz/c");
+        Assertions.assertEquals("/foo/{id}/baz/{other}", result.value);
+        Assertions.assertEquals("a b", result.pathParamValues[0]);
+        Assertions.assertEquals("c", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/foo/qux/qux"));
+    }
+
+    @Test
+    public void testRegexTemplates() {
+        RequestMapper<String> mapper = mapper("/item/{id: \\d+}", "/item/{name}", "/item/{a}/x{b: [a-z]+}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/item/42");
+        Assertions.assertEquals("/item/{id: \\d+}", result.value);
+        Assertions.assertEquals("42", result.pathParamValues[0]);
+        result = mapper.map("/item/abc");
+        Assertions.assertEquals("/item/{name}", result.value);
+        Assertions.assertEquals("abc", result.pathParamValues[0]);
+        result = mapper.map("/item/1/xyz");
+        Assertions.assertEquals("/item/{a}/x{b: [a-z]+}", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertEquals("yz", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/item/1/yab"));
+    }
+
+    @Test
+    public void testPrefixTemplates() {
+        List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        list.add(new RequestMapper.RequestPath<>(true, new URITemplate("/sub", true), "/sub"));
+        list.add(new RequestMapper.RequestPath<>(false, new URITemplate("/sub/exact", false), "/sub/exact"));
+        RequestMapper<String> mapper = new RequestMapper<>(list);
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/sub/exact");
+        Assertions.assertEquals("/sub/exact", result.value);
+        Assertions.assertEquals("", result.remaining);
+        result = mapper.map("/sub/other/path");
+        Assertions.assertEquals("/sub", result.value);
+        Assertions.assertEquals("/other/path", result.remaining);
+    }
+
     RequestMapper<String> mapper(String... vals) {
         List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
@@ -3,6 +3,7 @@ package io.quarkus.scheduler.deployment;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
+import java.lang.reflect.Modifier;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -10,6 +11,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
@@ -54,6 +57,8 @@ import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.devconsole.spi.DevConsoleRouteBuildItem;
 import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
 import io.quarkus.gizmo.ClassCreator;
@@ -64,13 +69,16 @@ import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.runtime.NonBlockingInvoker;
 import io.quarkus.scheduler.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerContext;
+import io.quarkus.scheduler.runtime.SchedulerMetricsRecorder;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
 import io.quarkus.scheduler.runtime.devconsole.SchedulerDevConsoleRecorder;
+import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 
 /**
  * @author Martin Kouba
@@ -82,6 +90,10 @@ public class SchedulerProcessor {
     static final DotName SCHEDULED_NAME = DotName.createSimple(Scheduled.class.getName());
     static final DotName SCHEDULES_NAME = DotName.createSimple(Scheduled.Schedules.class.getName());
 
+    static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
+    // Mutiny is not a dependency of the extension
+    static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+
     static final Type SCHEDULED_EXECUTION_TYPE = Type.create(DotName.createSimple(ScheduledExecution.class.getName()),
             Kind.CLASS);
 
@@ -165,9 +177,10 @@ public class SchedulerProcessor {
                         "Invalid scheduled business method parameters %s [method: %s, bean: %s]", params,
                         method, scheduledMethod.getBean())));
             }
-            if (!method.returnType().kind().equals(Type.Kind.VOID)) {
+            if (!method.returnType().kind().equals(Type.Kind.VOID) && !isNonBlocking(method)) {
                 errors.add(new IllegalStateException(
-                        String.format("Scheduled business method must return void [method: %s, bean: %s]",
+                        String.format(
+                                "Scheduled business method must return void, CompletionStage or Uni [method: %s, bean: %s]",
                                 method, scheduledMethod.getBean())));
             }
             // Validate cron() and every() expressions
@@ -198,7 +211,7 @@ public class SchedulerProcessor {
             SchedulerRecorder recorder,
             List<ScheduledBusinessMethodItem> scheduledMethods,
             BuildProducer<GeneratedClassBuildItem> generatedClass, BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
-            AnnotationProxyBuildItem annotationProxy, ExecutorBuildItem executor) {
+            AnnotationProxyBuildItem annotationProxy, ExecutorBuildItem executor, CoreVertxBuildItem vertx) {
 
         List<ScheduledMethodMetadata> scheduledMetadata = new ArrayList<>();
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
@@ -219,12 +232,23 @@ public class SchedulerProcessor {
         }
 
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(SchedulerContext.class).setRuntimeInit()
-                .supplier(recorder.createContext(config, executor.getExecutorProxy(), scheduledMetadata))
+                .supplier(recorder.createContext(config, executor.getExecutorProxy(), vertx.getVertx(), scheduledMetadata))
                 .done());
 
         return new FeatureBuildItem(Feature.SCHEDULER);
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerMetrics(SchedulerConfig config, SchedulerMetricsRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        // The consumer is only invoked if a metrics extension is present.
+        if (config.metricsEnabled && metricsCapability.isPresent()) {
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(recorder.consumeMetricsFactory()));
+        }
+    }
+
     @BuildStep
     public DevConsoleRuntimeTemplateInfoBuildItem devConsoleInfo() {
         return new DevConsoleRuntimeTemplateInfoBuildItem("schedulerContext",
@@ -258,12 +282,24 @@ public class SchedulerProcessor {
         String generatedName = targetPackage.replace('.', '/') + "/" + baseName + INVOKER_SUFFIX + "_" + method.name() + "_"
                 + HashUtil.sha1(sigBuilder.toString());
 
-        ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .interfaces(ScheduledInvoker.class)
-                .build();
+        boolean nonBlocking = isNonBlocking(method);
+        ClassCreator.Builder invokerBuilder = ClassCreator.builder().classOutput(classOutput).className(generatedName);
+        if (nonBlocking) {
+            invokerBuilder.superClass(NonBlockingInvoker.class);
+        } else {
+            invokerBuilder.interfaces(ScheduledInvoker.class);
+        }
+        ClassCreator invokerCreator = invokerBuilder.build();
 
-        // The descriptor is: void invokeBean(Object execution)
-        MethodCreator invoke = invokerCreator.getMethodCreator("invokeBean", void.class, Object.class);
+        MethodCreator invoke;
+        if (nonBlocking) {
+            // The descriptor is: CompletionStage invokeBeanAsync(ScheduledExecution execution)
+            invoke = invokerCreator.getMethodCreator("invokeBeanAsync", CompletionStage.class, ScheduledExecution.class)
+                    .setModifiers(Modifier.PROTECTED);
+        } else {
+            // The descriptor is: void invokeBean(Object execution)
+            invoke = invokerCreator.getMethodCreator("invokeBean", void.class, Object.class);
+        }
         // InjectableBean<Foo: bean = Arc.container().bean("1");
         // InstanceHandle<Foo> handle = Arc.container().instance(bean);
         // handle.get().ping();
@@ -277,27 +313,50 @@ public class SchedulerProcessor {
                 containerHandle, beanHandle);
         ResultHandle beanInstanceHandle = invoke
                 .invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "get", Object.class), instanceHandle);
+        String returnType = nonBlocking ? method.returnType().name().toString() : void.class.getName();
+        ResultHandle returnHandle;
         if (method.parameters().isEmpty()) {
-            invoke.invokeVirtualMethod(
-                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class),
+            returnHandle = invoke.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), returnType),
                     beanInstanceHandle);
         } else {
-            invoke.invokeVirtualMethod(
-                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class,
-                            ScheduledExecution.class),
+            returnHandle = invoke.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), returnType,
+                            ScheduledExecution.class.getName()),
                     beanInstanceHandle, invoke.getMethodParam(0));
         }
-        // handle.destroy() - destroy dependent instance afterwards
-        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+        if (nonBlocking) {
+            if (method.returnType().name().equals(UNI)) {
+                // The Uni is subscribed when the method is invoked
+                returnHandle = invoke.invokeInterfaceMethod(
+                        MethodDescriptor.ofMethod(UNI.toString(), "subscribeAsCompletionStage",
+                                "java.util.concurrent.CompletableFuture"),
+                        returnHandle);
+            }
+            // return complete(stage, handle) - destroy dependent instance when the returned stage completes
+            invoke.returnValue(invoke.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(NonBlockingInvoker.class, "complete", CompletionStage.class,
+                            CompletionStage.class, InstanceHandle.class),
+                    returnHandle,
+                    BuiltinScope.DEPENDENT.is(bean.getScope()) ? instanceHandle : invoke.loadNull()));
+        } else if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            // handle.destroy() - destroy dependent instance afterwards
             invoke.invokeInterfaceMethod(MethodDescriptor.ofMethod(InstanceHandle.class, "destroy", void.class),
                     instanceHandle);
         }
-        invoke.returnValue(null);
+        if (!nonBlocking) {
+            invoke.returnValue(null);
+        }
 
         invokerCreator.close();
         return generatedName.replace('/', '.');
     }
 
+    private static boolean isNonBlocking(MethodInfo method) {
+        DotName returnType = method.returnType().name();
+        return returnType.equals(COMPLETION_STAGE) || returnType.equals(UNI);
+    }
+
     private Throwable validateScheduled(CronParser parser, AnnotationInstance schedule,
             Map<String, AnnotationInstance> encounteredIdentities) {
         MethodInfo method = schedule.target().asMethod();
@@ -0,0 +1,175 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.runtime.LeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredSchedulerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class, InMemoryLeaseStore.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.cluster.enabled=true\n"
+                            + "quarkus.scheduler.cluster.node-name=node1\n"
+                            + "quarkus.scheduler.cluster.lease-duration=0.6s"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Inject
+    InMemoryLeaseStore store;
+
+    @Test
+    public void testLeases() throws InterruptedException {
+        assertTrue(Jobs.LOCAL_LATCH.await(3, TimeUnit.SECONDS));
+        // The lease of the foreign job is held by another node
+        assertEquals(0, Jobs.FOREIGN_COUNTER.get());
+        assertEquals("node1", store.getOwner("leader"));
+
+        // The other node released the lease
+        store.release("job:foreign", "node2");
+        assertTrue(Jobs.FOREIGN_LATCH.await(3, TimeUnit.SECONDS));
+        assertEquals("node1", store.getOwner("job:foreign"));
+
+        // Another node joins the cluster, the jobs are shared
+        store.tryAcquire("node:node2", "node2", Instant.now(), Instant.now().plus(1, ChronoUnit.HOURS));
+        Set<String> executed = ConcurrentHashMap.newKeySet();
+        int jobs = 20;
+        try {
+            for (int i = 0; i < jobs; i++) {
+                String identity = "shard" + i;
+                scheduler.newJob(identity).setInterval("0.1s").setTask(execution -> executed.add(identity)).schedule();
+            }
+            Thread.sleep(1500);
+            assertTrue(executed.size() > 0 && executed.size() < jobs, "Executed jobs: " + executed);
+            for (String identity : executed) {
+                assertEquals("node1", store.getOwner("job:" + identity));
+            }
+        } finally {
+            for (int i = 0; i < jobs; i++) {
+                scheduler.unscheduleJob("shard" + i);
+            }
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LOCAL_LATCH = new CountDownLatch(3);
+        static final CountDownLatch FOREIGN_LATCH = new CountDownLatch(1);
+        static final AtomicInteger FOREIGN_COUNTER = new AtomicInteger();
+
+        @Scheduled(identity = "local", every = "0.1s")
+        void local() {
+            LOCAL_LATCH.countDown();
+        }
+
+        @Scheduled(identity = "foreign", every = "0.1s")
+        void foreign() {
+            FOREIGN_COUNTER.incrementAndGet();
+            FOREIGN_LATCH.countDown();
+        }
+
+    }
+
+    @Singleton
+    static class InMemoryLeaseStore implements LeaseStore {
+
+        private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+        InMemoryLeaseStore() {
+            leases.put("job:foreign", new Lease("node2", Instant.now().plus(1, ChronoUnit.HOURS)));
+        }
+
+        String getOwner(String name) {
+            Lease lease = leases.get(name);
+            return lease != null ? lease.owner : null;
+        }
+
+        @Override
+        public synchronized boolean tryAcquire(String name, String owner, Instant now, Instant expiresAt) {
+            Lease lease = leases.get(name);
+            if (lease == null || lease.owner.equals(owner) || !lease.expiresAt.isAfter(now)) {
+                leases.put(name, new Lease(owner, expiresAt));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public synchronized Set<String> renewAll(String owner, Instant now, Instant expiresAt) {
+            Set<String> renewed = new HashSet<>();
+            for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+                Lease lease = entry.getValue();
+                if (lease.owner.equals(owner) && lease.expiresAt.isAfter(now)) {
+                    entry.setValue(new Lease(owner, expiresAt));
+                    renewed.add(entry.getKey());
+                }
+            }
+            return renewed;
+        }
+
+        @Override
+        public synchronized void release(String name, String owner) {
+            Lease lease = leases.get(name);
+            if (lease != null && lease.owner.equals(owner)) {
+                leases.remove(name);
+            }
+        }
+
+        @Override
+        public synchronized List<String> getOwners(String namePrefix, Instant now) {
+            List<String> owners = new ArrayList<>();
+            for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+                if (entry.getKey().startsWith(namePrefix) && entry.getValue().expiresAt.isAfter(now)) {
+                    owners.add(entry.getValue().owner);
+                }
+            }
+            return owners;
+        }
+
+        @Override
+        public synchronized void removeExpired(Instant before) {
+            leases.values().removeIf(lease -> lease.expiresAt.isBefore(before));
+        }
+
+    }
+
+    static class Lease {
+
+        final String owner;
+        final Instant expiresAt;
+
+        Lease(String owner, Instant expiresAt) {
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+}
@@ -0,0 +1,67 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MaxConcurrencyTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        // Two executions are running and one is queued, the next ones are skipped
+        assertTrue(Jobs.SKIPPED_LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(2, Jobs.COUNTER.get());
+        Jobs.BLOCKING_LATCH.countDown();
+        // The queued execution is run once a running execution completes
+        assertTrue(Jobs.EXECUTED_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.MAX_RUNNING.get() <= 2);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch BLOCKING_LATCH = new CountDownLatch(1);
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+        static final CountDownLatch EXECUTED_LATCH = new CountDownLatch(3);
+
+        static final AtomicInteger COUNTER = new AtomicInteger(0);
+        static final AtomicInteger RUNNING = new AtomicInteger(0);
+        static final AtomicInteger MAX_RUNNING = new AtomicInteger(0);
+
+        @Scheduled(every = "0.1s", maxConcurrency = 2, maxQueued = 1)
+        void limited() throws InterruptedException {
+            COUNTER.incrementAndGet();
+            MAX_RUNNING.accumulateAndGet(RUNNING.incrementAndGet(), Math::max);
+            try {
+                if (!BLOCKING_LATCH.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("limited() execution blocked too long...");
+                }
+            } finally {
+                RUNNING.decrementAndGet();
+                EXECUTED_LATCH.countDown();
+            }
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            SKIPPED_LATCH.countDown();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+
+public class NonBlockingScheduledMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testCompletionStage() throws InterruptedException {
+        assertTrue(Jobs.STAGE_LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testUni() throws InterruptedException {
+        assertTrue(Jobs.UNI_LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    @ApplicationScoped
+    static class Jobs {
+
+        static final CountDownLatch STAGE_LATCH = new CountDownLatch(2);
+        static final CountDownLatch UNI_LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "0.2s")
+        CompletionStage<Void> stage(ScheduledExecution execution) {
+            if (Context.isOnEventLoopThread() && Arc.container().requestContext().isActive()) {
+                STAGE_LATCH.countDown();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Scheduled(every = "0.2s")
+        Uni<String> uni() {
+            return Uni.createFrom().item("ok").onItem().invoke(item -> {
+                if (Context.isOnEventLoopThread()) {
+                    UNI_LATCH.countDown();
+                }
+            });
+        }
+
+    }
+}
@@ -0,0 +1,108 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ProgrammaticJobsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        Trigger trigger = scheduler.newJob("subSecond").setInterval("0.1s").setTask(execution -> latch.countDown())
+                .schedule();
+        assertEquals("subSecond", trigger.getId());
+        try {
+            assertTrue(latch.await(2, TimeUnit.SECONDS));
+            assertNotNull(trigger.getPreviousFireTime());
+        } finally {
+            scheduler.unscheduleJob("subSecond");
+        }
+    }
+
+    @Test
+    public void testUnscheduleJob() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.newJob("unscheduled").setInterval("0.05s").setTask(execution -> {
+            executions.incrementAndGet();
+            latch.countDown();
+        }).schedule();
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("unscheduled"));
+        // An execution may have been dispatched before the job was unscheduled
+        Thread.sleep(100);
+        int count = executions.get();
+        Thread.sleep(300);
+        assertEquals(count, executions.get());
+        assertNull(scheduler.unscheduleJob("unscheduled"));
+    }
+
+    @Test
+    public void testManyJobs() throws InterruptedException {
+        int jobs = 2000;
+        CountDownLatch latch = new CountDownLatch(jobs * 2);
+        try {
+            for (int i = 0; i < jobs; i++) {
+                scheduler.newJob("tenant" + i).setInterval("0.2s").setTask(execution -> latch.countDown()).schedule();
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            for (int i = 0; i < jobs; i++) {
+                scheduler.unscheduleJob("tenant" + i);
+            }
+        }
+    }
+
+    @Test
+    public void testCronJob() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.newJob("cron").setCron("0/1 * * * * ?").setTask(execution -> latch.countDown()).schedule();
+        try {
+            assertTrue(latch.await(3, TimeUnit.SECONDS));
+        } finally {
+            scheduler.unscheduleJob("cron");
+        }
+    }
+
+    @Test
+    public void testInvalidJobs() {
+        assertThrows(IllegalStateException.class, () -> scheduler.newJob("noTask").setInterval("1s").schedule());
+        assertThrows(IllegalStateException.class, () -> scheduler.newJob("noSchedule").setTask(execution -> {
+        }).schedule());
+        scheduler.newJob("duplicate").setInterval("1h").setTask(execution -> {
+        }).schedule();
+        try {
+            assertThrows(IllegalStateException.class, () -> scheduler.newJob("duplicate").setInterval("1h")
+                    .setTask(execution -> {
+                    }).schedule());
+        } finally {
+            scheduler.unscheduleJob("duplicate");
+        }
+    }
+
+}
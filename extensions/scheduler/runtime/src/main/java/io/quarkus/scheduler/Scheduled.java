@@ -31,6 +31,10 @@ import io.quarkus.scheduler.Scheduled.Schedules;
  *
  * The annotated method must return {@code void} and either declare no parameters or one parameter of type
  * {@link ScheduledExecution}.
+ * <p>
+ * Alternatively, the annotated method may return {@link java.util.concurrent.CompletionStage} or
+ * {@code io.smallrye.mutiny.Uni}. Such a method is considered non-blocking and must not block: the default scheduler invokes
+ * it on a Vert.x event loop. The execution completes when the returned stage or {@code Uni} completes.
  *
  * @author Martin Kouba
  * @see ScheduledExecution
@@ -113,6 +117,25 @@ public @interface Scheduled {
      */
     ConcurrentExecution concurrentExecution() default PROCEED;
 
+    /**
+     * Limits the number of concurrent executions of a scheduled method. If the limit is reached when the trigger fires, the
+     * execution is queued, unless {@link #maxQueued()} executions are already queued, in which case it is skipped and a
+     * {@link SkippedExecution} event is fired. A queued execution starts as soon as a running execution completes.
+     * <p>
+     * By default, the number of concurrent executions is not limited. The value is ignored if {@link #concurrentExecution()}
+     * is set to {@link ConcurrentExecution#SKIP}, which is equivalent to a limit of one execution with no queue.
+     *
+     * @return the maximum number of concurrent executions, or zero for no limit
+     */
+    int maxConcurrency() default 0;
+
+    /**
+     * 
+     * @return the maximum number of executions queued when the {@link #maxConcurrency()} limit is reached
+     * @see Scheduled#maxConcurrency()
+     */
+    int maxQueued() default 0;
+
     @Retention(RUNTIME)
     @Target(METHOD)
     @interface Schedules {
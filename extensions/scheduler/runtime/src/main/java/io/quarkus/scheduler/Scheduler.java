@@ -1,5 +1,9 @@
 package io.quarkus.scheduler;
 
+import java.util.function.Consumer;
+
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+
 /**
  * The container provides a built-in bean with bean type {@link Scheduler} and qualifier
  * {@link javax.enterprise.inject.Default}.
@@ -23,4 +27,84 @@ public interface Scheduler {
      */
     boolean isRunning();
 
+    /**
+     * Creates a definition of a job scheduled programmatically. The job is not scheduled until
+     * {@link JobDefinition#schedule()} is called.
+     *
+     * @param identity the identity of the job, must be unique among all the jobs including the scheduled methods
+     * @return a new job definition
+     */
+    JobDefinition newJob(String identity);
+
+    /**
+     * Removes a job, scheduled programmatically or not. A running execution of the job is not interrupted.
+     *
+     * @param identity the identity of the job
+     * @return the trigger of the removed job, or {@code null} if no such job exists
+     */
+    Trigger unscheduleJob(String identity);
+
+    /**
+     * The definition of a job scheduled programmatically. The schedule is defined either by {@link #setCron(String)} or by
+     * {@link #setInterval(String)}, the values are parsed like the members of {@link Scheduled}.
+     *
+     * @see Scheduler#newJob(String)
+     */
+    interface JobDefinition {
+
+        /**
+         * @param cron the cron-like expression
+         * @return self
+         * @see Scheduled#cron()
+         */
+        JobDefinition setCron(String cron);
+
+        /**
+         * @param every the period expression, e.g. {@code 0.5s}
+         * @return self
+         * @see Scheduled#every()
+         */
+        JobDefinition setInterval(String every);
+
+        /**
+         * @param period the period expression
+         * @return self
+         * @see Scheduled#delayed()
+         */
+        JobDefinition setDelayed(String period);
+
+        /**
+         * @param concurrentExecution the concurrent execution strategy
+         * @return self
+         * @see Scheduled#concurrentExecution()
+         */
+        JobDefinition setConcurrentExecution(ConcurrentExecution concurrentExecution);
+
+        /**
+         * @param maxConcurrency the maximum number of concurrent executions, or zero for no limit
+         * @param maxQueued the maximum number of executions queued when the limit is reached
+         * @return self
+         * @see Scheduled#maxConcurrency()
+         * @see Scheduled#maxQueued()
+         */
+        JobDefinition setMaxConcurrency(int maxConcurrency, int maxQueued);
+
+        /**
+         * The task is executed with the request context activated, like a scheduled method.
+         *
+         * @param task the task to execute when the trigger is fired
+         * @return self
+         */
+        JobDefinition setTask(Consumer<ScheduledExecution> task);
+
+        /**
+         * Schedules the job.
+         *
+         * @return the trigger of the job, or {@code null} if the scheduler is disabled
+         * @throws IllegalStateException if the definition is incomplete or if a job with the same identity already exists
+         */
+        Trigger schedule();
+
+    }
+
 }
@@ -0,0 +1,107 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.Scheduler.JobDefinition;
+
+/**
+ * The members of a job definition that do not depend on the scheduler implementation.
+ * <p>
+ * Keep it public so that we can reuse the logic in the quartz extension.
+ */
+public abstract class AbstractJobDefinition implements JobDefinition {
+
+    protected final String identity;
+    protected String cron = "";
+    protected String every = "";
+    protected String delayed = "";
+    protected ConcurrentExecution concurrentExecution = ConcurrentExecution.PROCEED;
+    protected int maxConcurrency;
+    protected int maxQueued;
+    protected Consumer<ScheduledExecution> task;
+
+    protected AbstractJobDefinition(String identity) {
+        this.identity = identity;
+    }
+
+    @Override
+    public JobDefinition setCron(String cron) {
+        this.cron = Objects.requireNonNull(cron);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setInterval(String every) {
+        this.every = Objects.requireNonNull(every);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setDelayed(String period) {
+        this.delayed = Objects.requireNonNull(period);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setConcurrentExecution(ConcurrentExecution concurrentExecution) {
+        this.concurrentExecution = Objects.requireNonNull(concurrentExecution);
+        return this;
+    }
+
+    @Override
+    public JobDefinition setMaxConcurrency(int maxConcurrency, int maxQueued) {
+        if (maxConcurrency < 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("Negative concurrency limit: " + maxConcurrency + ", " + maxQueued);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+        return this;
+    }
+
+    @Override
+    public JobDefinition setTask(Consumer<ScheduledExecution> task) {
+        this.task = Objects.requireNonNull(task);
+        return this;
+    }
+
+    /**
+     * @throws IllegalStateException if the definition is incomplete
+     */
+    protected void checkDefinition() {
+        if (task == null) {
+            throw new IllegalStateException("No task defined for job: " + identity);
+        }
+        if (cron.trim().isEmpty() && every.trim().isEmpty()) {
+            throw new IllegalStateException("No cron or interval defined for job: " + identity);
+        }
+    }
+
+    /**
+     * @return the delay before the first execution, in milliseconds
+     */
+    protected long getDelay() {
+        return delayed.trim().isEmpty() ? 0 : Math.abs(SimpleScheduler.parseDuration(this, delayed, "delayed").toMillis());
+    }
+
+    /**
+     * @return an invoker that executes the task, the concurrent execution strategy is not applied
+     */
+    protected ScheduledInvoker createTaskInvoker() {
+        Consumer<ScheduledExecution> task = this.task;
+        return new ScheduledInvoker() {
+            @Override
+            public void invokeBean(ScheduledExecution execution) {
+                task.accept(execution);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "job " + identity;
+    }
+
+}
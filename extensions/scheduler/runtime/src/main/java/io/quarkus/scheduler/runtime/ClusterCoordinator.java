@@ -0,0 +1,168 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+
+/**
+ * Shares the scheduled jobs between the application instances of a cluster.
+ * <p>
+ * Each instance periodically renews a node lease, so that the instances know which instances are alive, and the leases of
+ * the jobs it owns. A job is assigned to one of the live instances by rendezvous hashing: when an instance joins or leaves
+ * the cluster only its share of the jobs is moved. An instance only executes a job while it holds the lease of the job, and
+ * it stops executing it a third of the lease duration before the lease expires, so that two instances never execute the same
+ * job at the same time, as long as their clocks are synchronized.
+ * <p>
+ * One of the instances is elected leader by acquiring the leader lease. The leader removes the expired leases of the
+ * instances that left the cluster.
+ */
+final class ClusterCoordinator {
+
+    private static final Logger LOGGER = Logger.getLogger(ClusterCoordinator.class);
+
+    static final String NODE_PREFIX = "node:";
+    static final String JOB_PREFIX = "job:";
+    static final String LEADER = "leader";
+
+    private final LeaseStore store;
+    private final String nodeName;
+    private final Duration leaseDuration;
+    private volatile boolean leader;
+
+    ClusterCoordinator(LeaseStore store, String nodeName, Duration leaseDuration) {
+        this.store = store;
+        this.nodeName = nodeName;
+        this.leaseDuration = leaseDuration;
+    }
+
+    String getNodeName() {
+        return nodeName;
+    }
+
+    /**
+     * 
+     * @return the delay between two coordination rounds
+     */
+    Duration getPeriod() {
+        return leaseDuration.dividedBy(3);
+    }
+
+    boolean isLeader() {
+        return leader;
+    }
+
+    /**
+     * Renews the node lease, takes part in the leader election and acquires, renews or releases the leases of the jobs.
+     *
+     * @param tasks
+     */
+    void coordinate(Collection<ScheduledTask> tasks) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(leaseDuration);
+        // A task is executed until this time, if its lease is renewed now
+        long ownedUntil = expiresAt.minus(getPeriod()).toEpochMilli();
+
+        // The leases held by this instance are renewed at once, only the other leases are acquired one by one
+        Set<String> renewed = store.renewAll(nodeName, now, expiresAt);
+        String nodeLease = NODE_PREFIX + nodeName;
+        if (!renewed.contains(nodeLease) && !store.tryAcquire(nodeLease, nodeName, now, expiresAt)) {
+            throw new IllegalStateException("Another instance uses the same node name: " + nodeName);
+        }
+        boolean wasLeader = leader;
+        leader = renewed.contains(LEADER) || store.tryAcquire(LEADER, nodeName, now, expiresAt);
+        if (leader != wasLeader) {
+            LOGGER.infof(leader ? "%s elected leader of the scheduler cluster" : "%s is no longer the leader", nodeName);
+        }
+        if (leader) {
+            store.removeExpired(now.minus(leaseDuration));
+        }
+
+        // The renewed job leases that are not assigned to this instance anymore
+        Set<String> unassigned = new HashSet<>();
+        for (String leaseName : renewed) {
+            if (leaseName.startsWith(JOB_PREFIX)) {
+                unassigned.add(leaseName);
+            }
+        }
+        List<String> nodes = store.getOwners(NODE_PREFIX, now);
+        for (ScheduledTask task : tasks) {
+            String leaseName = JOB_PREFIX + task.trigger.getId();
+            if (nodeName.equals(getAssignedNode(nodes, task.trigger.getId()))) {
+                unassigned.remove(leaseName);
+                if (renewed.contains(leaseName) || store.tryAcquire(leaseName, nodeName, now, expiresAt)) {
+                    task.setLeaseExpiration(ownedUntil);
+                } else {
+                    // The lease is not released yet by the previous owner
+                    task.setLeaseExpiration(0);
+                }
+            } else {
+                task.setLeaseExpiration(0);
+            }
+        }
+        for (String leaseName : unassigned) {
+            // The job is assigned to another instance, e.g. an instance that just joined the cluster, or it was unscheduled
+            store.release(leaseName, nodeName);
+            LOGGER.debugf("Released the lease %s", leaseName);
+        }
+    }
+
+    /**
+     * Releases the lease of a task that was unscheduled.
+     *
+     * @param task
+     */
+    void release(ScheduledTask task) {
+        if (task.setLeaseExpiration(0)) {
+            store.release(JOB_PREFIX + task.trigger.getId(), nodeName);
+        }
+    }
+
+    /**
+     * Releases all the leases of this instance so that its jobs are taken over without waiting for the leases to expire.
+     *
+     * @param tasks
+     */
+    void stop(Collection<ScheduledTask> tasks) {
+        for (ScheduledTask task : tasks) {
+            release(task);
+        }
+        if (leader) {
+            store.release(LEADER, nodeName);
+        }
+        store.release(NODE_PREFIX + nodeName, nodeName);
+    }
+
+    /**
+     * The job is assigned to the node with the highest hash of the node name and the job identity.
+     */
+    static String getAssignedNode(List<String> nodes, String jobId) {
+        String assigned = null;
+        int maxHash = Integer.MIN_VALUE;
+        for (String node : nodes) {
+            int hash = mix(node.hashCode() * 31 + jobId.hashCode());
+            if (assigned == null || hash > maxHash || (hash == maxHash && node.compareTo(assigned) < 0)) {
+                assigned = node;
+                maxHash = hash;
+            }
+        }
+        return assigned;
+    }
+
+    // The finalization step of MurmurHash3
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+}
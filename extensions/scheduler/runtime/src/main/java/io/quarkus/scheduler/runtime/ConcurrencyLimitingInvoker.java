@@ -0,0 +1,177 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+
+/**
+ * A scheduled invoker wrapper that limits the number of concurrent executions.
+ * <p>
+ * If the limit is reached, an execution is queued until a running execution completes. If the queue is full, the execution
+ * is skipped. A queued execution is run by the thread that completed the previous execution, i.e. a worker thread for a
+ * blocking invoker and an event loop for a non-blocking invoker.
+ * 
+ * @see Scheduled#maxConcurrency()
+ * @see Scheduled#maxQueued()
+ */
+public final class ConcurrencyLimitingInvoker implements ScheduledInvoker {
+
+    private static final Logger LOGGER = Logger.getLogger(ConcurrencyLimitingInvoker.class);
+
+    private final ScheduledInvoker delegate;
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final Event<SkippedExecution> event;
+    // Guarded by this
+    private final Queue<QueuedExecution> queue;
+    private int running;
+
+    public ConcurrencyLimitingInvoker(ScheduledInvoker delegate, int maxConcurrency, int maxQueued,
+            Event<SkippedExecution> event) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The maximum number of concurrent executions must be greater than zero");
+        }
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = Math.max(maxQueued, 0);
+        this.event = event;
+        this.queue = new ArrayDeque<>();
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return delegate.isBlocking();
+    }
+
+    @Override
+    public void invoke(ScheduledExecution execution) {
+        if (acquire(execution, false) != QueuedExecution.RUN) {
+            // Skipped or queued
+            return;
+        }
+        try {
+            delegate.invoke(execution);
+        } finally {
+            // The queued executions are run by this thread, one after another, until the queue is empty
+            QueuedExecution next;
+            while ((next = release()) != null) {
+                try {
+                    delegate.invoke(next.execution);
+                } catch (Throwable t) {
+                    LOGGER.errorf(t, "Error occured while executing task for trigger %s", next.execution.getTrigger());
+                }
+            }
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> invokeAsync(ScheduledExecution execution) {
+        QueuedExecution permit = acquire(execution, true);
+        if (permit == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (permit != QueuedExecution.RUN) {
+            // Queued, the stage is completed when the queued execution completes
+            return permit.result;
+        }
+        return run(execution);
+    }
+
+    @Override
+    public void invokeBean(ScheduledExecution param) {
+        delegate.invokeBean(param);
+    }
+
+    private CompletionStage<Void> run(ScheduledExecution execution) {
+        CompletionStage<Void> stage;
+        try {
+            stage = delegate.invokeAsync(execution);
+        } catch (Throwable t) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            stage = failed;
+        }
+        return stage.whenComplete(new BiConsumer<Void, Throwable>() {
+            @Override
+            public void accept(Void result, Throwable failure) {
+                QueuedExecution next = release();
+                if (next != null) {
+                    run(next.execution).whenComplete(new BiConsumer<Void, Throwable>() {
+                        @Override
+                        public void accept(Void result, Throwable failure) {
+                            if (failure != null) {
+                                next.result.completeExceptionally(failure);
+                            } else {
+                                next.result.complete(null);
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    /**
+     * @return {@link QueuedExecution#RUN} if the execution can start, a queued execution if the execution was queued, or
+     *         {@code null} if it was skipped
+     */
+    private QueuedExecution acquire(ScheduledExecution execution, boolean async) {
+        synchronized (this) {
+            if (running < maxConcurrency) {
+                running++;
+                return QueuedExecution.RUN;
+            }
+            if (queue.size() < maxQueued) {
+                QueuedExecution queued = new QueuedExecution(execution, async ? new CompletableFuture<>() : null);
+                queue.add(queued);
+                return queued;
+            }
+        }
+        LOGGER.debugf("Skipped scheduled invoker execution: %s", delegate.getClass().getName());
+        SkippedExecution payload = new SkippedExecution(execution.getTrigger().getId(), execution.getFireTime());
+        event.fire(payload);
+        event.fireAsync(payload);
+        return null;
+    }
+
+    /**
+     * The permit of a completed execution is either released or transferred to the next queued execution.
+     * 
+     * @return the next queued execution, or {@code null} if the queue is empty
+     */
+    private QueuedExecution release() {
+        synchronized (this) {
+            QueuedExecution next = queue.poll();
+            if (next == null) {
+                running--;
+            }
+            return next;
+        }
+    }
+
+    static final class QueuedExecution {
+
+        static final QueuedExecution RUN = new QueuedExecution(null, null);
+
+        final ScheduledExecution execution;
+        // Only used for asynchronous invocations
+        final CompletableFuture<Void> result;
+
+        QueuedExecution(ScheduledExecution execution, CompletableFuture<Void> result) {
+            this.execution = execution;
+            this.result = result;
+        }
+
+    }
+
+}
@@ -0,0 +1,232 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A timer that runs tasks after a delay, with a precision of one tick.
+ * <p>
+ * The scheduled tasks are stored in a wheel of buckets, one per tick. A task is added to the bucket of the tick it should run
+ * at, with the number of remaining rotations of the wheel if it is scheduled beyond one rotation. Scheduling and cancelling
+ * a task are therefore constant-time operations, whatever the number of scheduled tasks, and at each tick a single bucket is
+ * visited.
+ * <p>
+ * The tasks are run by the thread of the timer, so they should only dispatch the actual work to another thread. The thread
+ * is started when the first task is scheduled.
+ */
+final class HashedWheelTimer {
+
+    private static final Logger LOGGER = Logger.getLogger(HashedWheelTimer.class);
+
+    // The maximum number of new timeouts added to the wheel at each tick, so that a burst does not delay the tick
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> newTimeouts;
+    private final Thread worker;
+    private final AtomicBoolean started;
+    private volatile boolean stopped;
+    // System.nanoTime() when the timer was created, the deadlines are relative to this time
+    private final long startTime;
+    // Only accessed by the worker thread
+    private long tick;
+
+    /**
+     *
+     * @param threadName
+     * @param tickDuration the duration of a tick
+     * @param unit the unit of the duration of a tick
+     * @param ticksPerWheel the number of ticks per rotation of the wheel, rounded to the next power of two
+     */
+    HashedWheelTimer(String threadName, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("The tick duration must be greater than zero: " + tickDuration);
+        }
+        int wheelSize = Integer.highestOneBit(Math.max(ticksPerWheel, 1) - 1) << 1;
+        if (wheelSize <= 0) {
+            wheelSize = 1;
+        }
+        this.tickDuration = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.newTimeouts = new ConcurrentLinkedQueue<>();
+        this.started = new AtomicBoolean(false);
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, threadName);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     *
+     * @param task
+     * @param delay
+     * @param unit
+     * @return the timeout that can be used to cancel the task
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (stopped) {
+            throw new IllegalStateException("Timer stopped");
+        }
+        if (started.compareAndSet(false, true)) {
+            worker.start();
+        }
+        Timeout timeout = new Timeout(task, System.nanoTime() - startTime + unit.toNanos(Math.max(delay, 0)));
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    private void work() {
+        while (!stopped) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                continue;
+            }
+            Bucket bucket = wheel[(int) (tick & mask)];
+            transferNewTimeouts();
+            bucket.expire(now);
+            tick++;
+        }
+    }
+
+    /**
+     * @return the current time relative to the start time, or -1 if interrupted
+     */
+    private long waitForNextTick() {
+        long deadline = tickDuration * (tick + 1);
+        for (;;) {
+            long now = System.nanoTime() - startTime;
+            long sleepMillis = (deadline - now + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return now;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (stopped) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferNewTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = newTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.cancelled) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // Timeouts already expired are run at the current tick
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    static final class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private volatile boolean cancelled;
+        // Only accessed by the worker thread
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+
+        Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * The task will not run unless it is already running. A cancelled timeout is removed from the wheel when its bucket
+         * is visited.
+         */
+        void cancel() {
+            cancelled = true;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+    }
+
+    // A doubly-linked list of timeouts, only accessed by the worker thread
+    static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long now) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.cancelled) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                    remove(timeout);
+                    try {
+                        timeout.task.run();
+                    } catch (Throwable t) {
+                        LOGGER.error("Error occured while running a timer task", t);
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+    }
+
+}
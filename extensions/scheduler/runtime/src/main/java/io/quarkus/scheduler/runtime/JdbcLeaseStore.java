@@ -0,0 +1,197 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Stores the leases in a table with three columns: the name of the lease (primary key), its owner and its expiration time
+ * in milliseconds since the epoch.
+ * <p>
+ * A lease is acquired with a conditional update, or an insert if the row does not exist. If another instance inserted the
+ * row concurrently, the insert fails on the primary key and the lease is not acquired. The leases held by an instance are
+ * renewed with a single update.
+ */
+final class JdbcLeaseStore implements LeaseStore {
+
+    private static final Logger LOGGER = Logger.getLogger(JdbcLeaseStore.class);
+
+    private final DataSource dataSource;
+    private final String tableName;
+    private final String update;
+    private final String renewAll;
+    private final String selectRenewed;
+    private final String insert;
+    private final String delete;
+    private final String selectOwners;
+    private final String deleteExpired;
+
+    JdbcLeaseStore(DataSource dataSource, String tableName) {
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+        this.update = "UPDATE " + tableName
+                + " SET LEASE_OWNER = ?, EXPIRES_AT = ? WHERE LEASE_NAME = ? AND (LEASE_OWNER = ? OR EXPIRES_AT <= ?)";
+        this.renewAll = "UPDATE " + tableName + " SET EXPIRES_AT = ? WHERE LEASE_OWNER = ? AND EXPIRES_AT > ?";
+        this.selectRenewed = "SELECT LEASE_NAME FROM " + tableName + " WHERE LEASE_OWNER = ? AND EXPIRES_AT = ?";
+        this.insert = "INSERT INTO " + tableName + " (LEASE_NAME, LEASE_OWNER, EXPIRES_AT) VALUES (?, ?, ?)";
+        this.delete = "DELETE FROM " + tableName + " WHERE LEASE_NAME = ? AND LEASE_OWNER = ?";
+        this.selectOwners = "SELECT LEASE_OWNER FROM " + tableName + " WHERE LEASE_NAME LIKE ? AND EXPIRES_AT > ?";
+        this.deleteExpired = "DELETE FROM " + tableName + " WHERE EXPIRES_AT < ?";
+    }
+
+    /**
+     * Creates the table if it does not exist.
+     */
+    void createTable() {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            if (tableExists(statement)) {
+                return;
+            }
+            try {
+                statement.executeUpdate("CREATE TABLE " + tableName
+                        + " (LEASE_NAME VARCHAR(255) NOT NULL PRIMARY KEY, LEASE_OWNER VARCHAR(255) NOT NULL, EXPIRES_AT BIGINT NOT NULL)");
+            } catch (SQLException e) {
+                // The replicas that start together race to create the table, CREATE TABLE IF NOT EXISTS is not portable
+                if (tableExists(statement)) {
+                    LOGGER.debugf("Lease table %s created concurrently: %s", tableName, e.getMessage());
+                    return;
+                }
+                throw e;
+            }
+            LOGGER.infof("Created the lease table %s of the clustered scheduler", tableName);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to create the lease table " + tableName, e);
+        }
+    }
+
+    private boolean tableExists(Statement statement) {
+        try {
+            statement.executeQuery("SELECT COUNT(*) FROM " + tableName).close();
+            return true;
+        } catch (SQLException e) {
+            LOGGER.debugf("Lease table %s not found: %s", tableName, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(String name, String owner, Instant now, Instant expiresAt) {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(update)) {
+                statement.setString(1, owner);
+                statement.setLong(2, expiresAt.toEpochMilli());
+                statement.setString(3, name);
+                statement.setString(4, owner);
+                statement.setLong(5, now.toEpochMilli());
+                if (statement.executeUpdate() > 0) {
+                    return true;
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(insert)) {
+                statement.setString(1, name);
+                statement.setString(2, owner);
+                statement.setLong(3, expiresAt.toEpochMilli());
+                return statement.executeUpdate() > 0;
+            } catch (SQLException e) {
+                if (!isIntegrityConstraintViolation(e)) {
+                    throw e;
+                }
+                // The lease is held by another owner
+                LOGGER.tracef("Lease %s not acquired: %s", name, e.getMessage());
+                return false;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to acquire the lease " + name, e);
+        }
+    }
+
+    @Override
+    public Set<String> renewAll(String owner, Instant now, Instant expiresAt) {
+        Set<String> renewed = new HashSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(renewAll)) {
+                statement.setLong(1, expiresAt.toEpochMilli());
+                statement.setString(2, owner);
+                statement.setLong(3, now.toEpochMilli());
+                if (statement.executeUpdate() == 0) {
+                    return renewed;
+                }
+            }
+            // Another owner may only acquire these leases once they expire again
+            try (PreparedStatement statement = connection.prepareStatement(selectRenewed)) {
+                statement.setString(1, owner);
+                statement.setLong(2, expiresAt.toEpochMilli());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        renewed.add(resultSet.getString(1));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to renew the leases of " + owner, e);
+        }
+        return renewed;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(delete)) {
+            statement.setString(1, name);
+            statement.setString(2, owner);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to release the lease " + name, e);
+        }
+    }
+
+    @Override
+    public List<String> getOwners(String namePrefix, Instant now) {
+        List<String> owners = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(selectOwners)) {
+            statement.setString(1, namePrefix + "%");
+            statement.setLong(2, now.toEpochMilli());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    owners.add(resultSet.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to read the leases " + namePrefix, e);
+        }
+        return owners;
+    }
+
+    @Override
+    public void removeExpired(Instant before) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(deleteExpired)) {
+            statement.setLong(1, before.toEpochMilli());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to remove the expired leases", e);
+        }
+    }
+
+    /**
+     * The SQLState class 23 is used for the integrity constraint violations, e.g. a duplicate primary key. The other errors,
+     * e.g. a lost connection, are not a sign that another instance holds the lease.
+     */
+    private static boolean isIntegrityConstraintViolation(SQLException e) {
+        String sqlState = e.getSQLState();
+        return sqlState != null && sqlState.startsWith("23");
+    }
+
+}
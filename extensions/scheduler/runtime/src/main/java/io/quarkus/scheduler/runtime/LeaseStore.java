@@ -0,0 +1,64 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores the leases of the clustered scheduler. A lease is identified by its name and held by a single owner until it
+ * expires or is released.
+ * <p>
+ * The default implementation stores the leases in a table of the default datasource. An application may define a bean of
+ * this type to use another store.
+ *
+ * @see SchedulerClusterConfig
+ */
+public interface LeaseStore {
+
+    /**
+     * Acquires the lease if it is not held or if it expired, or renews it if it is already held by the owner. This operation
+     * must be atomic.
+     *
+     * @param name
+     * @param owner
+     * @param now
+     * @param expiresAt
+     * @return {@code true} if the owner holds the lease until the given expiration time
+     */
+    boolean tryAcquire(String name, String owner, Instant now, Instant expiresAt);
+
+    /**
+     * Renews all the leases held by the owner that did not expire, so that a coordination round does not renew the leases
+     * one by one. This operation must be atomic for each lease.
+     *
+     * @param owner
+     * @param now
+     * @param expiresAt
+     * @return the names of the leases that the owner holds until the given expiration time
+     */
+    Set<String> renewAll(String owner, Instant now, Instant expiresAt);
+
+    /**
+     * Releases the lease if it is held by the owner.
+     *
+     * @param name
+     * @param owner
+     */
+    void release(String name, String owner);
+
+    /**
+     * 
+     * @param namePrefix
+     * @param now
+     * @return the owners of the leases that did not expire and whose name starts with the given prefix
+     */
+    List<String> getOwners(String namePrefix, Instant now);
+
+    /**
+     * Removes the leases that expired before the given time.
+     *
+     * @param before
+     */
+    void removeExpired(Instant before);
+
+}
@@ -0,0 +1,119 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * The base class of the invokers generated for the scheduled business methods that return {@link CompletionStage} or
+ * {@code io.smallrye.mutiny.Uni}.
+ * <p>
+ * The request context activated for an asynchronous invocation remains available until the returned stage completes.
+ */
+public abstract class NonBlockingInvoker implements ScheduledInvoker {
+
+    /**
+     * Invokes the business method without blocking.
+     * 
+     * @param execution
+     * @return the completion stage of the invocation
+     */
+    protected abstract CompletionStage<?> invokeBeanAsync(ScheduledExecution execution);
+
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    @Override
+    public CompletionStage<Void> invokeAsync(ScheduledExecution execution) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return toVoid(invokeBeanAsync(execution));
+        }
+        requestContext.activate();
+        ContextState state = requestContext.getState();
+        CompletionStage<?> stage;
+        try {
+            stage = invokeBeanAsync(execution);
+        } catch (Throwable t) {
+            requestContext.terminate();
+            return failed(t);
+        }
+        requestContext.deactivate();
+        return toVoid(stage.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object result, Throwable failure) {
+                requestContext.destroy(state);
+            }
+        }));
+    }
+
+    /**
+     * Blocks until the returned stage completes, e.g. when invoked from the Quartz scheduler or the Dev UI.
+     */
+    @Override
+    public void invokeBean(ScheduledExecution execution) {
+        try {
+            invokeBeanAsync(execution).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Used by the generated invokers.
+     * 
+     * @param stage the stage returned by the business method, may be {@code null}
+     * @param handle the handle of a {@link javax.enterprise.context.Dependent} bean instance, or {@code null}
+     * @return the stage completed when the invocation completes, the dependent bean instance being destroyed afterwards
+     */
+    protected static CompletionStage<?> complete(CompletionStage<?> stage, InstanceHandle<?> handle) {
+        if (stage == null) {
+            stage = CompletableFuture.completedFuture(null);
+        }
+        if (handle == null) {
+            return stage;
+        }
+        return stage.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object result, Throwable failure) {
+                handle.destroy();
+            }
+        });
+    }
+
+    private static CompletionStage<Void> toVoid(CompletionStage<?> stage) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        stage.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable failure) {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(null);
+                }
+            }
+        });
+        return result;
+    }
+
+    private static CompletionStage<Void> failed(Throwable failure) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        result.completeExceptionally(failure);
+        return result;
+    }
+
+}
@@ -1,5 +1,8 @@
 package io.quarkus.scheduler.runtime;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import io.quarkus.arc.runtime.BeanInvoker;
 import io.quarkus.scheduler.ScheduledExecution;
 
@@ -8,4 +11,31 @@ import io.quarkus.scheduler.ScheduledExecution;
  */
 public interface ScheduledInvoker extends BeanInvoker<ScheduledExecution> {
 
+    /**
+     * A blocking invoker must be invoked on a worker thread. A non-blocking invoker should be invoked with
+     * {@link #invokeAsync(ScheduledExecution)} on an event loop.
+     * 
+     * @return {@code true} if the invocation may block the caller thread
+     */
+    default boolean isBlocking() {
+        return true;
+    }
+
+    /**
+     * The default implementation invokes the method synchronously.
+     * 
+     * @param execution
+     * @return the completion stage completed when the invocation completes
+     */
+    default CompletionStage<Void> invokeAsync(ScheduledExecution execution) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            invoke(execution);
+            result.complete(null);
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,46 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class SchedulerClusterConfig {
+
+    /**
+     * If set to true, the scheduled jobs are shared by the application instances that use the same lease table: a job is
+     * only executed by the instance that holds its lease.
+     * <p>
+     * The leases are stored in the default datasource, unless a bean of type {@link LeaseStore} is defined.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The name of this application instance in the cluster. It must be unique. By default, a random name is generated.
+     */
+    @ConfigItem
+    public Optional<String> nodeName;
+
+    /**
+     * The duration of a lease. The leases are renewed three times per duration, and the jobs of an instance that stopped
+     * are taken over by the other instances once its leases expired.
+     */
+    @ConfigItem(defaultValue = "30s")
+    public Duration leaseDuration;
+
+    /**
+     * The name of the table that stores the leases.
+     */
+    @ConfigItem(defaultValue = "QUARKUS_SCHEDULER_LEASES")
+    public String tableName;
+
+    /**
+     * If set to true, the lease table is created if it does not exist.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean createTable;
+
+}
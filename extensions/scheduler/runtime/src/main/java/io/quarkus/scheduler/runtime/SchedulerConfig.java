@@ -18,4 +18,13 @@ public class SchedulerConfig {
     @ConfigItem(defaultValue = "quartz")
     public CronType cronType;
 
+    /**
+     * Whether or not the execution time and the missed executions of the scheduled jobs are published in case a metrics
+     * extension is present (default to false).
+     * <p>
+     * The metrics are only published by the default scheduler implementation, i.e. not if the Quartz extension is used.
+     */
+    @ConfigItem(name = "metrics.enabled")
+    public boolean metricsEnabled;
+
 }
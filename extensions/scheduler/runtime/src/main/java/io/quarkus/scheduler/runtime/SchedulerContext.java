@@ -6,10 +6,18 @@ import java.util.concurrent.ExecutorService;
 
 import com.cronutils.model.CronType;
 
+import io.vertx.core.Vertx;
+
 public interface SchedulerContext {
 
     ExecutorService getExecutor();
 
+    /**
+     * 
+     * @return the Vert.x instance used to run the non-blocking scheduled methods
+     */
+    Vertx getVertx();
+
     CronType getCronType();
 
     List<ScheduledMethodMetadata> getScheduledMethods();
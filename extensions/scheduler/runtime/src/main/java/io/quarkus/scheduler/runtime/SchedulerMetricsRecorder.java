@@ -0,0 +1,28 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.scheduler.Scheduler;
+
+/**
+ * This recorder is invoked IFF the scheduler metrics are enabled
+ */
+@Recorder
+public class SchedulerMetricsRecorder {
+
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> consumeMetricsFactory() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Scheduler scheduler = Arc.container().instance(Scheduler.class).get();
+                if (scheduler instanceof SimpleScheduler) {
+                    ((SimpleScheduler) scheduler).registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+}
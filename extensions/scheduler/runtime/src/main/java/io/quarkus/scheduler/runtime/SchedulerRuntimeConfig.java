@@ -13,4 +13,10 @@ public class SchedulerRuntimeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean enabled;
 
+    /**
+     * The cluster mode of the default scheduler implementation.
+     */
+    @ConfigItem
+    public SchedulerClusterConfig cluster;
+
 }
\ No newline at end of file
@@ -2,29 +2,35 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Typed;
 import javax.inject.Singleton;
 import javax.interceptor.Interceptor;
+import javax.sql.DataSource;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
 import org.jboss.logging.Logger;
-import org.jboss.threads.JBossScheduledThreadPoolExecutor;
 
 import com.cronutils.model.Cron;
 import com.cronutils.model.definition.CronDefinition;
@@ -33,12 +39,17 @@ import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.parser.CronParser;
 
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.SkippedExecution;
 import io.quarkus.scheduler.Trigger;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 
 @Typed(Scheduler.class)
 @Singleton
@@ -47,49 +58,85 @@ public class SimpleScheduler implements Scheduler {
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
     // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
+    private static final long TICK_DURATION = 10L;
+    // 512 ticks of 10 ms, i.e. a rotation of the wheel takes a bit more than 5 seconds
+    private static final int TICKS_PER_WHEEL = 512;
 
-    private final ScheduledExecutorService scheduledExecutor;
+    private final HashedWheelTimer timer;
     private final ExecutorService executor;
+    private final SchedulerContext context;
     private volatile boolean running;
-    private final List<ScheduledTask> scheduledTasks;
+    private volatile boolean started;
+    private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final boolean enabled;
+    private final CronParser cronParser;
+    private final Config config;
+    private final Event<SkippedExecution> skippedExecutionEvent;
+    private volatile MetricsFactory metricsFactory;
+    // Null unless the cluster mode is enabled
+    private final ClusterCoordinator coordinator;
+    private final JdbcLeaseStore jdbcLeaseStore;
+    private final boolean createLeaseTable;
 
     public SimpleScheduler(SchedulerContext context, Config config, SchedulerRuntimeConfig schedulerRuntimeConfig,
-            Event<SkippedExecution> skippedExecutionEvent) {
+            Event<SkippedExecution> skippedExecutionEvent, Instance<LeaseStore> leaseStores,
+            Instance<DataSource> dataSources) {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
-        this.scheduledTasks = new ArrayList<>();
+        this.scheduledTasks = new ConcurrentHashMap<>();
         this.executor = context.getExecutor();
+        this.context = context;
+        this.config = config;
+        this.skippedExecutionEvent = skippedExecutionEvent;
+        CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(context.getCronType());
+        this.cronParser = new CronParser(definition);
 
         if (!schedulerRuntimeConfig.enabled) {
-            this.scheduledExecutor = null;
+            this.timer = null;
+            this.coordinator = null;
+            this.jdbcLeaseStore = null;
+            this.createLeaseTable = false;
             LOGGER.info("Simple scheduler is disabled by config property and will not be started");
-        } else if (context.getScheduledMethods().isEmpty()) {
-            this.scheduledExecutor = null;
-            LOGGER.info("No scheduled business methods found - Simple scheduler will not be started");
         } else {
-            this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
-                @Override
-                public void run() {
-                    // noop
+            // The thread of the timer is only started when the first job is scheduled
+            this.timer = new HashedWheelTimer("quarkus-scheduler", TICK_DURATION, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+            SchedulerClusterConfig clusterConfig = schedulerRuntimeConfig.cluster;
+            if (clusterConfig.enabled) {
+                LeaseStore store;
+                this.createLeaseTable = clusterConfig.createTable;
+                if (leaseStores.isResolvable()) {
+                    store = leaseStores.get();
+                    this.jdbcLeaseStore = null;
+                } else if (dataSources.isResolvable()) {
+                    this.jdbcLeaseStore = new JdbcLeaseStore(dataSources.get(), clusterConfig.tableName);
+                    store = jdbcLeaseStore;
+                } else {
+                    throw new IllegalStateException(
+                            "The cluster mode of the scheduler requires a default datasource or a LeaseStore bean");
                 }
-            });
-
-            CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(context.getCronType());
-            CronParser parser = new CronParser(definition);
-
+                String nodeName = clusterConfig.nodeName.isPresent() ? clusterConfig.nodeName.get()
+                        : UUID.randomUUID().toString();
+                this.coordinator = new ClusterCoordinator(store, nodeName, clusterConfig.leaseDuration);
+                LOGGER.infof("Simple scheduler is clustered, node name: %s", coordinator.getNodeName());
+            } else {
+                this.coordinator = null;
+                this.jdbcLeaseStore = null;
+                this.createLeaseTable = false;
+            }
+            if (context.getScheduledMethods().isEmpty()) {
+                LOGGER.info("No scheduled business methods found - Simple scheduler will not be started unless a job is "
+                        + "scheduled programmatically");
+            }
             for (ScheduledMethodMetadata method : context.getScheduledMethods()) {
                 int nameSequence = 0;
                 for (Scheduled scheduled : method.getSchedules()) {
                     nameSequence++;
-                    SimpleTrigger trigger = createTrigger(method.getInvokerClassName(), parser, scheduled, nameSequence,
-                            config);
-                    ScheduledInvoker invoker = context.createInvoker(method.getInvokerClassName());
-                    if (scheduled.concurrentExecution() == ConcurrentExecution.SKIP) {
-                        invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
-                    }
-                    scheduledTasks.add(new ScheduledTask(trigger, invoker));
+                    SimpleTrigger trigger = createTrigger(method.getInvokerClassName(), scheduled, nameSequence);
+                    ScheduledTask task = new ScheduledTask(trigger);
+                    task.setInvoker(initInvoker(new MeasuredInvoker(context.createInvoker(method.getInvokerClassName()), task),
+                            scheduled.concurrentExecution(), scheduled.maxConcurrency(), scheduled.maxQueued(),
+                            skippedExecutionEvent));
+                    scheduledTasks.put(trigger.getId(), task);
                 }
             }
         }
@@ -97,36 +144,68 @@ public class SimpleScheduler implements Scheduler {
 
     // Use Interceptor.Priority.PLATFORM_BEFORE to start the scheduler before regular StartupEvent observers
     void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
-        if (scheduledExecutor == null) {
+        if (timer == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        started = true;
+        if (coordinator != null) {
+            if (jdbcLeaseStore != null && createLeaseTable) {
+                jdbcLeaseStore.createTable();
+            }
+            // The leases are acquired before the first executions
+            coordinate();
+        }
+        for (ScheduledTask task : scheduledTasks.values()) {
+            start(task);
+        }
     }
 
-    @PreDestroy
-    void stop() {
+    private void coordinate() {
         try {
-            if (scheduledExecutor != null) {
-                scheduledExecutor.shutdownNow();
-            }
+            coordinator.coordinate(scheduledTasks.values());
         } catch (Exception e) {
-            LOGGER.warn("Unable to shutdown the scheduler executor", e);
+            // The jobs whose leases are not renewed stop being executed when the leases expire
+            LOGGER.warn("Unable to renew the leases of the clustered scheduler", e);
         }
+        timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            coordinate();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    LOGGER.debug("Rejected the renewal of the leases of the clustered scheduler");
+                }
+            }
+        }, coordinator.getPeriod().toMillis(), TimeUnit.MILLISECONDS);
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
-            return;
+    void onSkippedExecution(@Observes SkippedExecution event) {
+        ScheduledTask task = scheduledTasks.get(event.triggerId);
+        if (task != null) {
+            task.missedExecutions.incrementAndGet();
         }
-        ZonedDateTime now = ZonedDateTime.now();
-        for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, executor);
+    }
+
+    @PreDestroy
+    void stop() {
+        try {
+            if (timer != null) {
+                timer.stop();
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Unable to stop the scheduler timer", e);
+        }
+        if (coordinator != null && started) {
+            try {
+                coordinator.stop(scheduledTasks.values());
+            } catch (Exception e) {
+                LOGGER.warn("Unable to release the leases of the clustered scheduler", e);
+            }
         }
     }
 
@@ -153,43 +232,164 @@ public class SimpleScheduler implements Scheduler {
         return enabled && running;
     }
 
-    SimpleTrigger createTrigger(String invokerClass, CronParser parser, Scheduled scheduled, int nameSequence, Config config) {
+    @Override
+    public JobDefinition newJob(String identity) {
+        Objects.requireNonNull(identity);
+        return new SimpleJobDefinition(identity.trim());
+    }
+
+    @Override
+    public Trigger unscheduleJob(String identity) {
+        ScheduledTask task = scheduledTasks.remove(identity);
+        if (task == null) {
+            return null;
+        }
+        task.cancel();
+        MetricsFactory metricsFactory = this.metricsFactory;
+        if (metricsFactory != null) {
+            // A job scheduled again with the same identity gets new meters
+            task.removeMetrics(metricsFactory);
+        }
+        if (coordinator != null) {
+            try {
+                coordinator.release(task);
+            } catch (Exception e) {
+                LOGGER.warnf(e, "Unable to release the lease of %s", task.trigger);
+            }
+        }
+        LOGGER.debugf("Unscheduled job for trigger %s", task.trigger);
+        return task.trigger;
+    }
+
+    private void start(ScheduledTask task) {
+        if (task.start()) {
+            scheduleNext(task, ZonedDateTime.now());
+        }
+    }
+
+    /*
+     * Each task has a single timeout in the timer at any time: when it expires, the next one is scheduled before the execution
+     * of the task is dispatched to the executor.
+     */
+    private void scheduleNext(ScheduledTask task, ZonedDateTime now) {
+        if (task.isCancelled()) {
+            return;
+        }
+        ZonedDateTime scheduledFireTime = task.trigger.next(now);
+        if (scheduledFireTime == null) {
+            LOGGER.debugf("%s will not fire again", task.trigger);
+            return;
+        }
+        task.setTimeout(timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                fire(task, scheduledFireTime);
+            }
+        }, ChronoUnit.MILLIS.between(now, scheduledFireTime), TimeUnit.MILLISECONDS));
+    }
+
+    private void fire(ScheduledTask task, ZonedDateTime scheduledFireTime) {
+        ZonedDateTime now = ZonedDateTime.now();
+        // Never compute the next fire time before the current one, the clocks of the timer and of the trigger may differ
+        scheduleNext(task, now.isAfter(scheduledFireTime) ? now : scheduledFireTime);
+        if (!running) {
+            LOGGER.tracef("Skip %s - scheduler paused", task.trigger);
+            return;
+        }
+        if (coordinator != null && !task.isOwned(System.currentTimeMillis())) {
+            LOGGER.tracef("Skip %s - the lease is held by another node", task.trigger);
+            return;
+        }
+        task.execute(now, scheduledFireTime, executor, context);
+    }
+
+    /**
+     * Registers the metrics of the scheduled jobs, including the jobs scheduled programmatically afterwards.
+     *
+     * @param metricsFactory
+     */
+    void registerMetrics(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+        for (ScheduledTask task : scheduledTasks.values()) {
+            task.registerMetrics(metricsFactory);
+        }
+    }
+
+    /**
+     * Wraps the invoker to apply the concurrent execution strategy and the concurrency limit of a job.
+     * <p>
+     * Keep it public so that we can reuse the logic in the quartz extension.
+     * 
+     * @param invoker
+     * @param concurrentExecution
+     * @param maxConcurrency
+     * @param maxQueued
+     * @param skippedExecutionEvent
+     * @return the invoker to use
+     */
+    public static ScheduledInvoker initInvoker(ScheduledInvoker invoker, ConcurrentExecution concurrentExecution,
+            int maxConcurrency, int maxQueued, Event<SkippedExecution> skippedExecutionEvent) {
+        if (concurrentExecution == ConcurrentExecution.SKIP) {
+            return new ConcurrencyLimitingInvoker(invoker, 1, 0, skippedExecutionEvent);
+        } else if (maxConcurrency > 0) {
+            return new ConcurrencyLimitingInvoker(invoker, maxConcurrency, maxQueued, skippedExecutionEvent);
+        }
+        return invoker;
+    }
+
+    SimpleTrigger createTrigger(String invokerClass, Scheduled scheduled, int nameSequence) {
         String id = scheduled.identity().trim();
         if (id.isEmpty()) {
             id = nameSequence + "_" + invokerClass;
         }
-        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
-        Long millisToAdd = null;
+        long delay = 0;
         if (scheduled.delay() > 0) {
-            millisToAdd = scheduled.delayUnit().toMillis(scheduled.delay());
+            delay = scheduled.delayUnit().toMillis(scheduled.delay());
         } else if (!scheduled.delayed().isEmpty()) {
-            millisToAdd = Math.abs(parseDuration(scheduled, scheduled.delayed(), "delayed").toMillis());
+            delay = Math.abs(parseDuration(scheduled, scheduled.delayed(), "delayed").toMillis());
         }
-        if (millisToAdd != null) {
-            start = start.toInstant().plusMillis(millisToAdd).atZone(start.getZone());
+        return createTrigger(id, scheduled.cron(), scheduled.every(), delay, scheduled);
+    }
+
+    private SimpleTrigger createTrigger(String id, String cron, String every, long delay, Object source) {
+        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        if (delay > 0) {
+            start = start.toInstant().plusMillis(delay).atZone(start.getZone());
         }
 
-        String cron = scheduled.cron().trim();
+        cron = cron.trim();
         if (!cron.isEmpty()) {
             if (SchedulerContext.isConfigValue(cron)) {
                 cron = config.getValue(SchedulerContext.getConfigProperty(cron), String.class);
             }
             Cron cronExpr;
             try {
-                cronExpr = parser.parse(cron);
+                cronExpr = cronParser.parse(cron);
             } catch (IllegalArgumentException e) {
                 throw new IllegalArgumentException("Cannot parse cron expression: " + cron, e);
             }
             return new CronTrigger(id, start, cronExpr);
-        } else if (!scheduled.every().isEmpty()) {
-            return new IntervalTrigger(id, start, Math.abs(parseDuration(scheduled, scheduled.every(), "every").toMillis()));
+        } else if (!every.trim().isEmpty()) {
+            return new IntervalTrigger(id, start, Math.abs(parseDuration(source, every, "every").toMillis()));
         } else {
-            throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
+            throw new IllegalArgumentException("Invalid schedule configuration: " + source);
         }
     }
 
     // Keep it public so that we can reuse the logic in the quartz extension
     public static Duration parseDuration(Scheduled scheduled, String value, String memberName) {
+        return parseDuration((Object) scheduled, value, memberName);
+    }
+
+    /**
+     * Keep it public so that we can reuse the logic in the quartz extension.
+     *
+     * @param source the scheduled method or the job definition, used in the error message
+     * @param value
+     * @param memberName
+     * @return the parsed duration
+     */
+    public static Duration parseDuration(Object source, String value, String memberName) {
         value = value.trim();
         if (SchedulerContext.isConfigValue(value)) {
             value = ConfigProviderResolver.instance().getConfig().getValue(SchedulerContext.getConfigProperty(value),
@@ -202,39 +402,207 @@ public class SimpleScheduler implements Scheduler {
             return Duration.parse(value);
         } catch (Exception e) {
             // This could only happen for config-based expressions
-            throw new IllegalStateException("Invalid " + memberName + "() expression on: " + scheduled, e);
+            throw new IllegalStateException("Invalid " + memberName + "() expression on: " + source, e);
         }
     }
 
     static class ScheduledTask {
 
-        final SimpleTrigger trigger;
-        final ScheduledInvoker invoker;
+        private static final String TRIGGER_TAG_NAME = "trigger";
+        private static final String EXECUTIONS_METRIC = "scheduled.executions";
+        private static final String MISSED_EXECUTIONS_METRIC = "scheduled.executions.missed";
 
-        ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker) {
+        final SimpleTrigger trigger;
+        ScheduledInvoker invoker;
+        private final AtomicBoolean started;
+        private volatile boolean cancelled;
+        private volatile HashedWheelTimer.Timeout timeout;
+        // The non-blocking invocations of a task are run on the same event loop
+        private volatile Context context;
+        final AtomicLong missedExecutions;
+        volatile TimeRecorder executionTimer;
+        // The time until which the task is executed by this node in the cluster mode, in milliseconds since the epoch
+        private final AtomicLong leaseExpiration;
+
+        ScheduledTask(SimpleTrigger trigger) {
             this.trigger = trigger;
+            this.started = new AtomicBoolean(false);
+            this.missedExecutions = new AtomicLong();
+            this.leaseExpiration = new AtomicLong();
+        }
+
+        /**
+         * 
+         * @param expiration
+         * @return {@code true} if the lease was held
+         */
+        boolean setLeaseExpiration(long expiration) {
+            return leaseExpiration.getAndSet(expiration) != 0;
+        }
+
+        boolean isOwned(long now) {
+            return leaseExpiration.get() > now;
+        }
+
+        void setInvoker(ScheduledInvoker invoker) {
             this.invoker = invoker;
         }
 
-        void execute(ZonedDateTime now, ExecutorService executor) {
-            ZonedDateTime scheduledFireTime = trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                try {
-                    executor.execute(new Runnable() {
+        boolean start() {
+            return started.compareAndSet(false, true);
+        }
+
+        void setTimeout(HashedWheelTimer.Timeout timeout) {
+            this.timeout = timeout;
+            if (cancelled) {
+                // Cancelled while the next execution was being scheduled
+                timeout.cancel();
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            HashedWheelTimer.Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        void registerMetrics(MetricsFactory metricsFactory) {
+            executionTimer = metricsFactory.builder(EXECUTIONS_METRIC)
+                    .description("The execution time of the scheduled job")
+                    .tag(TRIGGER_TAG_NAME, trigger.getId())
+                    .buildTimer();
+            metricsFactory.builder(MISSED_EXECUTIONS_METRIC)
+                    .description("The number of executions of the scheduled job that were skipped or rejected")
+                    .tag(TRIGGER_TAG_NAME, trigger.getId())
+                    .buildCounter(new Supplier<Number>() {
                         @Override
-                        public void run() {
-                            try {
-                                invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
-                            } catch (Throwable t) {
-                                LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
+                        public Number get() {
+                            return missedExecutions.get();
+                        }
+                    });
+        }
+
+        void removeMetrics(MetricsFactory metricsFactory) {
+            executionTimer = null;
+            metricsFactory.builder(EXECUTIONS_METRIC).tag(TRIGGER_TAG_NAME, trigger.getId()).remove();
+            metricsFactory.builder(MISSED_EXECUTIONS_METRIC).tag(TRIGGER_TAG_NAME, trigger.getId()).remove();
+        }
+
+        void execute(ZonedDateTime now, ZonedDateTime scheduledFireTime, ExecutorService executor,
+                SchedulerContext schedulerContext) {
+            trigger.fired(scheduledFireTime);
+            SimpleScheduledExecution execution = new SimpleScheduledExecution(now, scheduledFireTime, trigger);
+            if (!invoker.isBlocking()) {
+                executeOnEventLoop(execution, schedulerContext.getVertx());
+                return;
+            }
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            invoker.invoke(execution);
+                        } catch (Throwable t) {
+                            LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
+                        }
+                    }
+                });
+                LOGGER.debugf("Executing scheduled task for trigger %s", trigger);
+            } catch (RejectedExecutionException e) {
+                missedExecutions.incrementAndGet();
+                LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
+            }
+        }
+
+        private void executeOnEventLoop(SimpleScheduledExecution execution, Vertx vertx) {
+            Context context = this.context;
+            if (context == null) {
+                // Not called from a Vert.x thread, a new event loop context is created
+                context = vertx.getOrCreateContext();
+                this.context = context;
+            }
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    CompletionStage<Void> stage;
+                    try {
+                        stage = invoker.invokeAsync(execution);
+                    } catch (Throwable t) {
+                        LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
+                        return;
+                    }
+                    stage.whenComplete(new BiConsumer<Void, Throwable>() {
+                        @Override
+                        public void accept(Void result, Throwable failure) {
+                            if (failure != null) {
+                                LOGGER.errorf(failure, "Error occured while executing task for trigger %s", trigger);
                             }
                         }
                     });
-                    LOGGER.debugf("Executing scheduled task for trigger %s", trigger);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
                 }
+            });
+            LOGGER.debugf("Executing non-blocking scheduled task for trigger %s", trigger);
+        }
+
+    }
+
+    /**
+     * Records the execution time of the invocations, once the metrics of the task are registered.
+     */
+    static final class MeasuredInvoker implements ScheduledInvoker {
+
+        private final ScheduledInvoker delegate;
+        private final ScheduledTask task;
+
+        MeasuredInvoker(ScheduledInvoker delegate, ScheduledTask task) {
+            this.delegate = delegate;
+            this.task = task;
+        }
+
+        @Override
+        public boolean isBlocking() {
+            return delegate.isBlocking();
+        }
+
+        @Override
+        public void invoke(ScheduledExecution execution) {
+            TimeRecorder timer = task.executionTimer;
+            if (timer == null) {
+                delegate.invoke(execution);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                delegate.invoke(execution);
+            } finally {
+                timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public CompletionStage<Void> invokeAsync(ScheduledExecution execution) {
+            TimeRecorder timer = task.executionTimer;
+            if (timer == null) {
+                return delegate.invokeAsync(execution);
             }
+            long start = System.nanoTime();
+            return delegate.invokeAsync(execution).whenComplete(new BiConsumer<Void, Throwable>() {
+                @Override
+                public void accept(Void result, Throwable failure) {
+                    timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+
+        @Override
+        public void invokeBean(ScheduledExecution param) {
+            delegate.invokeBean(param);
         }
 
     }
@@ -243,6 +611,8 @@ public class SimpleScheduler implements Scheduler {
 
         private final String id;
         protected final ZonedDateTime start;
+        protected volatile ZonedDateTime nextFireTime;
+        protected volatile ZonedDateTime lastFireTime;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
@@ -250,22 +620,38 @@ public class SimpleScheduler implements Scheduler {
         }
 
         /**
-         * 
+         * Computes the next time at which the trigger is scheduled to fire.
+         *
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return the next scheduled time, or {@code null} if the trigger will not fire again
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        abstract ZonedDateTime next(ZonedDateTime now);
+
+        void fired(ZonedDateTime scheduledFireTime) {
+            lastFireTime = scheduledFireTime;
+        }
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime last = lastFireTime;
+            return last != null ? last.toInstant() : null;
+        }
+
     }
 
     static class IntervalTrigger extends SimpleTrigger {
 
         private final long interval;
-        private volatile ZonedDateTime lastFireTime;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
@@ -273,31 +659,14 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            if (lastFireTime == null) {
-                // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return now;
+        ZonedDateTime next(ZonedDateTime now) {
+            ZonedDateTime next = nextFireTime == null ? start : nextFireTime.plus(Duration.ofMillis(interval));
+            if (next.isBefore(now)) {
+                // First execution or late execution, the missed executions are not caught up
+                next = now;
             }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return scheduledFireTime;
-            }
-            return null;
-        }
-
-        @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+            nextFireTime = next;
+            return next;
         }
 
         @Override
@@ -311,9 +680,6 @@ public class SimpleScheduler implements Scheduler {
 
     static class CronTrigger extends SimpleTrigger {
 
-        // microseconds
-        private static final long DIFF_THRESHOLD = CHECK_PERIOD * 1000;
-
         private final Cron cron;
         private final ExecutionTime executionTime;
 
@@ -324,37 +690,22 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
+        ZonedDateTime next(ZonedDateTime now) {
+            Optional<ZonedDateTime> next = executionTime.nextExecution(now.isBefore(start) ? start : now);
+            nextFireTime = next.orElse(null);
+            return nextFireTime;
         }
 
         @Override
         public Instant getPreviousFireTime() {
+            Instant previousFireTime = super.getPreviousFireTime();
+            if (previousFireTime != null) {
+                return previousFireTime;
+            }
             Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
             return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
         }
 
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                // Use microseconds precision to workaround incompatibility between jdk8 and jdk9+
-                long diff = ChronoUnit.MICROS.between(trunc, now);
-                if (diff <= DIFF_THRESHOLD) {
-                    LOGGER.debugf("%s fired, diff=%s μs", this, diff);
-                    return trunc;
-                }
-            }
-            return null;
-        }
-
         @Override
         public String toString() {
             StringBuilder builder = new StringBuilder();
@@ -364,6 +715,38 @@ public class SimpleScheduler implements Scheduler {
 
     }
 
+    class SimpleJobDefinition extends AbstractJobDefinition {
+
+        SimpleJobDefinition(String identity) {
+            super(identity);
+        }
+
+        @Override
+        public Trigger schedule() {
+            checkDefinition();
+            if (!enabled) {
+                LOGGER.warnf("Scheduler is disabled and the job %s cannot be scheduled", identity);
+                return null;
+            }
+            SimpleTrigger trigger = createTrigger(identity, cron, every, getDelay(), this);
+            ScheduledTask scheduledTask = new ScheduledTask(trigger);
+            scheduledTask.setInvoker(initInvoker(new MeasuredInvoker(createTaskInvoker(), scheduledTask),
+                    concurrentExecution, maxConcurrency, maxQueued, skippedExecutionEvent));
+            if (scheduledTasks.putIfAbsent(identity, scheduledTask) != null) {
+                throw new IllegalStateException("A job with the same identity is already scheduled: " + identity);
+            }
+            MetricsFactory metricsFactory = SimpleScheduler.this.metricsFactory;
+            if (metricsFactory != null) {
+                scheduledTask.registerMetrics(metricsFactory);
+            }
+            if (started) {
+                start(scheduledTask);
+            }
+            return trigger;
+        }
+
+    }
+
     static class SimpleScheduledExecution implements ScheduledExecution {
 
         private final ZonedDateTime fireTime;
@@ -0,0 +1,159 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JdbcLeaseStoreTest {
+
+    private static final String TABLE = "LEASES";
+
+    private final Instant now = Instant.ofEpochMilli(1_000_000);
+    private final Instant later = now.plusSeconds(30);
+
+    private JdbcDataSource dataSource;
+    private JdbcLeaseStore store;
+
+    @BeforeEach
+    void createStore() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:leases;DB_CLOSE_DELAY=-1");
+        store = new JdbcLeaseStore(dataSource, TABLE);
+        store.createTable();
+    }
+
+    @AfterEach
+    void dropTables() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    void testCreateTableTwice() {
+        store.createTable();
+        assertTrue(store.tryAcquire("job:foo", "node1", now, later));
+    }
+
+    @Test
+    void testCreateTableConcurrently() throws SQLException {
+        // The table is created by another replica between the check and the CREATE TABLE of this one
+        JdbcDataSource racingDataSource = new JdbcDataSource() {
+            private boolean checked;
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                        (proxy, method, args) -> {
+                            Object result = invoke(method, connection, args);
+                            if (method.getName().equals("createStatement")) {
+                                return racingStatement((Statement) result);
+                            }
+                            return result;
+                        });
+            }
+
+            private Statement racingStatement(Statement statement) {
+                return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Statement.class },
+                        (proxy, method, args) -> {
+                            if (method.getName().equals("executeQuery") && !checked) {
+                                checked = true;
+                                throw new SQLException("Table not found", "42S02");
+                            }
+                            return invoke(method, statement, args);
+                        });
+            }
+        };
+        racingDataSource.setURL("jdbc:h2:mem:leases;DB_CLOSE_DELAY=-1");
+        JdbcLeaseStore racingStore = new JdbcLeaseStore(racingDataSource, TABLE);
+        racingStore.createTable();
+        assertTrue(racingStore.tryAcquire("job:foo", "node1", now, later));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    void testAcquire() {
+        assertTrue(store.tryAcquire("job:foo", "node1", now, later));
+        // Held by another owner
+        assertFalse(store.tryAcquire("job:foo", "node2", now, later));
+        // Renewed by the owner
+        assertTrue(store.tryAcquire("job:foo", "node1", now, later.plusSeconds(30)));
+        // Expired
+        assertFalse(store.tryAcquire("job:foo", "node2", later, later.plusSeconds(30)));
+        assertTrue(store.tryAcquire("job:foo", "node2", later.plusSeconds(30), later.plusSeconds(60)));
+        assertEquals(Collections.singletonList("node2"), store.getOwners("job:", later.plusSeconds(30)));
+    }
+
+    @Test
+    void testRelease() {
+        assertTrue(store.tryAcquire("job:foo", "node1", now, later));
+        // Not held by this owner
+        store.release("job:foo", "node2");
+        assertFalse(store.tryAcquire("job:foo", "node2", now, later));
+        store.release("job:foo", "node1");
+        assertTrue(store.tryAcquire("job:foo", "node2", now, later));
+    }
+
+    @Test
+    void testRenewAll() {
+        assertTrue(store.tryAcquire("node:node1", "node1", now, later));
+        assertTrue(store.tryAcquire("job:foo", "node1", now, later));
+        assertTrue(store.tryAcquire("job:bar", "node1", now, now.plusSeconds(1)));
+        assertTrue(store.tryAcquire("job:baz", "node2", now, later));
+
+        // The lease of bar expired
+        Instant renewedAt = now.plusSeconds(10);
+        assertEquals(new HashSet<>(Arrays.asList("node:node1", "job:foo")),
+                store.renewAll("node1", renewedAt, renewedAt.plusSeconds(30)));
+        assertEquals(new HashSet<>(Arrays.asList("node1", "node2")), new HashSet<>(store.getOwners("job:", renewedAt)));
+        // The lease of baz was not renewed
+        assertEquals(Collections.singletonList("node1"), store.getOwners("job:", later));
+        assertEquals(Collections.singletonList("node1"), store.getOwners("node:", later));
+        assertTrue(store.renewAll("node3", renewedAt, renewedAt.plusSeconds(30)).isEmpty());
+    }
+
+    @Test
+    void testRemoveExpired() {
+        assertTrue(store.tryAcquire("job:foo", "node1", now, later));
+        assertTrue(store.tryAcquire("job:bar", "node2", now, now.plusSeconds(1)));
+        store.removeExpired(now.plusSeconds(2));
+        assertEquals(Collections.singletonList("node1"), store.getOwners("job:", now));
+    }
+
+    @Test
+    void testErrorIsNotContention() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE SHORT_LEASES (LEASE_NAME VARCHAR(255) NOT NULL PRIMARY KEY,"
+                    + " LEASE_OWNER VARCHAR(5) NOT NULL, EXPIRES_AT BIGINT NOT NULL)");
+        }
+        JdbcLeaseStore shortStore = new JdbcLeaseStore(dataSource, "SHORT_LEASES");
+        // The insert fails because the value is too long, not because the lease is held
+        assertThrows(IllegalStateException.class, () -> shortStore.tryAcquire("job:foo", "node-with-a-long-name", now, later));
+    }
+
+}
@@ -10,6 +10,7 @@ import java.util.function.Supplier;
 
 import org.eclipse.microprofile.metrics.Counter;
 import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricType;
 import org.eclipse.microprofile.metrics.SimpleTimer;
@@ -30,6 +31,7 @@ public class SmallRyeMetricsFactory implements MetricsFactory {
 
     static class SmallRyeMetricBuilder implements MetricsFactory.MetricBuilder {
         final MetricRegistry registry;
+        final String name;
         final org.eclipse.microprofile.metrics.MetadataBuilder builder;
         List<Tag> tags = new ArrayList<>();
 
@@ -46,6 +48,7 @@ public class SmallRyeMetricsFactory implements MetricsFactory {
                     registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
                     break;
             }
+            this.name = name;
             builder = org.eclipse.microprofile.metrics.Metadata.builder()
                     .withName(name);
         }
@@ -138,6 +141,11 @@ public class SmallRyeMetricsFactory implements MetricsFactory {
                 }
             };
         }
+
+        @Override
+        public void remove() {
+            registry.remove(new MetricID(name, tags.toArray(new Tag[0])));
+        }
     }
 
     private static class SmallRyeCounter implements Counter {
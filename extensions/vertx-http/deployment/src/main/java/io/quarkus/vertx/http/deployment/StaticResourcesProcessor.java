@@ -3,16 +3,30 @@ package io.quarkus.vertx.http.deployment;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -23,39 +37,78 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.IndexedStaticResource;
+import io.quarkus.vertx.http.runtime.StaticResourcesConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    // The generated gzip variants are not exposed as static resources
+    static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
+
+    // Do not compress the small resources, the gzip header and footer take 18 bytes
+    private static final int MIN_COMPRESSED_SIZE = 256;
+
     public static final class StaticResourcesBuildItem extends SimpleBuildItem {
 
         private final Set<String> paths;
+        private final Map<String, IndexedStaticResource> index;
 
         public StaticResourcesBuildItem(Set<String> paths) {
+            this(paths, Collections.emptyMap());
+        }
+
+        public StaticResourcesBuildItem(Set<String> paths, Map<String, IndexedStaticResource> index) {
             this.paths = paths;
+            this.index = index;
         }
 
         public Set<String> getPaths() {
             return paths;
         }
 
+        /**
+         * @return the resources served from memory, by request path
+         */
+        public Map<String, IndexedStaticResource> getIndex() {
+            return index;
+        }
+
     }
 
     @BuildStep
     void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildItem applicationArchivesBuildItem,
-            BuildProducer<StaticResourcesBuildItem> staticResources) throws Exception {
+            HttpBuildTimeConfig httpBuildTimeConfig, LaunchModeBuildItem launchMode,
+            BuildProducer<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) throws Exception {
         if (capabilities.isPresent(Capability.SERVLET)) {
             // Servlet container handles static resources
             return;
         }
-        Set<String> paths = getClasspathResources(applicationArchivesBuildItem);
+        Map<String, Long> sizes = new HashMap<>();
+        Set<String> paths = getClasspathResources(applicationArchivesBuildItem, sizes);
         if (!paths.isEmpty()) {
-            staticResources.produce(new StaticResourcesBuildItem(paths));
+            StaticResourcesConfig config = httpBuildTimeConfig.staticResources;
+            // The resources may be modified in the development mode
+            if (config.inMemory && launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT) {
+                staticResources.produce(new StaticResourcesBuildItem(paths,
+                        indexStaticResources(paths, sizes, config, generatedResources, nativeImageResources)));
+            } else {
+                staticResources.produce(new StaticResourcesBuildItem(paths));
+            }
         }
     }
 
@@ -64,7 +117,7 @@ public class StaticResourcesProcessor {
     public void staticInit(Optional<StaticResourcesBuildItem> staticResources,
             StaticResourcesRecorder recorder) throws Exception {
         if (staticResources.isPresent()) {
-            recorder.staticInit(staticResources.get().getPaths());
+            recorder.staticInit(staticResources.get().getPaths(), staticResources.get().getIndex());
         }
     }
 
@@ -85,23 +138,147 @@ public class StaticResourcesProcessor {
      * @return the set of static resources
      * @throws Exception
      */
-    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem) throws Exception {
+    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            Map<String, Long> sizes) throws Exception {
         Set<String> knownPaths = new HashSet<>();
         for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
             Path resource = i.getChildPath(StaticResourcesRecorder.META_INF_RESOURCES);
             if (resource != null && Files.exists(resource)) {
-                collectKnownPaths(resource, knownPaths);
+                collectKnownPaths(resource, knownPaths, sizes);
             }
         }
 
         ClassPathUtils.consumeAsPaths(StaticResourcesRecorder.META_INF_RESOURCES, resource -> {
-            collectKnownPaths(resource, knownPaths);
+            collectKnownPaths(resource, knownPaths, sizes);
         });
 
         return knownPaths;
     }
 
-    private void collectKnownPaths(Path resource, Set<String> knownPaths) {
+    /**
+     * Computes the content type and the hash of the resources, and generates their gzip variants.
+     *
+     * @return the indexed resources, by request path
+     */
+    private Map<String, IndexedStaticResource> indexStaticResources(Set<String> paths, Map<String, Long> sizes,
+            StaticResourcesConfig config, BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) throws IOException {
+        long maxInMemorySize = config.maxInMemorySize.asLongValue();
+        // The memory left for the resources and their variants
+        long budget = config.maxInMemoryTotalSize.asLongValue();
+        // The smallest resources are loaded first, so that as many resources as possible are served from memory
+        List<String> sortedPaths = new ArrayList<>(sizes.keySet());
+        sortedPaths.sort(new Comparator<String>() {
+            @Override
+            public int compare(String path1, String path2) {
+                int result = Long.compare(sizes.get(path1), sizes.get(path2));
+                return result != 0 ? result : path1.compareTo(path2);
+            }
+        });
+        Map<String, IndexedStaticResource> resources = new HashMap<>();
+        for (String path : sortedPaths) {
+            long size = sizes.get(path);
+            IndexedStaticResource resource = new IndexedStaticResource();
+            resource.setPath(path);
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType != null && contentType.startsWith("text")) {
+                // Same as StaticHandler.setDefaultContentEncoding("UTF-8")
+                contentType = contentType + ";charset=UTF-8";
+            }
+            resource.setContentType(contentType);
+            byte[] content = size <= maxInMemorySize && size <= budget ? readContent(path) : null;
+            if (content != null) {
+                resource.setInMemory(true);
+                resource.setHash(hash(content));
+                budget -= size;
+                if (config.precompress) {
+                    Long brotliSize = sizes.get(path + ".br");
+                    if (brotliSize != null && brotliSize <= budget) {
+                        resource.setBrotliResource(StaticResourcesRecorder.META_INF_RESOURCES + path + ".br");
+                        budget -= brotliSize;
+                    }
+                    Long gzipSize = sizes.get(path + ".gz");
+                    if (gzipSize != null) {
+                        if (gzipSize <= budget) {
+                            resource.setGzipResource(StaticResourcesRecorder.META_INF_RESOURCES + path + ".gz");
+                            budget -= gzipSize;
+                        }
+                    } else if (content.length >= MIN_COMPRESSED_SIZE && isCompressible(contentType)) {
+                        byte[] compressed = gzip(content);
+                        // Not worth it if less than 10% is saved
+                        if (compressed.length < content.length * 0.9 && compressed.length <= budget) {
+                            String name = PRECOMPRESSED_RESOURCES + path + ".gz";
+                            generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+                            nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+                            resource.setGzipResource(name);
+                            budget -= compressed.length;
+                        }
+                    }
+                }
+            }
+            resources.put(path, resource);
+        }
+        // The directories are served with their index file
+        for (String path : paths) {
+            if (path.endsWith("/")) {
+                IndexedStaticResource index = resources.get(path + "index.html");
+                if (index == null) {
+                    index = resources.get(path + "index.htm");
+                }
+                if (index != null) {
+                    resources.put(path, index);
+                }
+            }
+        }
+        return resources;
+    }
+
+    /**
+     * Reads the resource served for a path, i.e. the first one found on the class path. The paths collected from the jars
+     * cannot be read anymore, as their file systems are closed once the resources are collected.
+     *
+     * @return the content of the resource, or {@code null} if it is not found
+     */
+    private static byte[] readContent(String path) throws IOException {
+        try (InputStream in = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream(StaticResourcesRecorder.META_INF_RESOURCES + path)) {
+            return in == null ? null : IoUtil.readBytes(in);
+        }
+    }
+
+    static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        return contentType.startsWith("text/") || contentType.startsWith("application/javascript")
+                || contentType.startsWith("application/json") || contentType.startsWith("application/xml")
+                || contentType.startsWith("application/xhtml+xml") || contentType.startsWith("image/svg+xml")
+                || contentType.startsWith("application/wasm");
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            // 128 bits are enough to identify the content
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void collectKnownPaths(Path resource, Set<String> knownPaths, Map<String, Long> sizes) {
         try {
             Files.walkFileTree(resource, new SimpleFileVisitor<Path>() {
                 @Override
@@ -127,6 +304,8 @@ public class StaticResourcesProcessor {
                     // Windows has a backslash
                     file = file.replace('\\', '/');
                     knownPaths.add(file);
+                    // The first resource found on the class path is served
+                    sizes.putIfAbsent(file, attrs.size());
                     return FileVisitResult.CONTINUE;
                 }
             });
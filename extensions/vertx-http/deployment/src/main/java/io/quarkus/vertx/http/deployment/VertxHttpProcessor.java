@@ -37,6 +37,8 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
 import io.quarkus.runtime.LaunchMode;
@@ -177,7 +179,8 @@ class VertxHttpProcessor {
             ShutdownConfig shutdownConfig,
             LiveReloadConfig lrc,
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
-            ExecutorBuildItem executorBuildItem)
+            ExecutorBuildItem executorBuildItem,
+            ShutdownContextBuildItem shutdown)
             throws BuildException, IOException {
 
         Optional<DefaultRouteBuildItem> defaultRoute;
@@ -215,11 +218,24 @@ class VertxHttpProcessor {
                 listOfFilters, vertx.getVertx(), lrc, router.getRouter(), httpBuildTimeConfig.rootPath,
                 launchMode.getLaunchMode(),
                 !requireBodyHandlerBuildItems.isEmpty(), bodyHandler, httpConfiguration, gracefulShutdownFilter,
-                shutdownConfig, executorBuildItem.getExecutorProxy());
+                shutdownConfig, executorBuildItem.getExecutorProxy(), shutdown);
 
         return new ServiceStartBuildItem("vertx-http");
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(VertxHttpRecorder recorder, HttpConfiguration httpConfiguration,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        // The consumers are only invoked if a metrics extension is present.
+        if (metricsCapability.isPresent()) {
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(recorder.compressionMetrics(httpConfiguration)));
+            metricsFactoryConsumer
+                    .produce(new MetricsFactoryConsumerBuildItem(recorder.concurrencyLimitMetrics(httpConfiguration)));
+        }
+    }
+
     @BuildStep
     void hostDefault(BuildProducer<RunTimeConfigurationSourceBuildItem> serviceProviderBuildItem) {
         serviceProviderBuildItem
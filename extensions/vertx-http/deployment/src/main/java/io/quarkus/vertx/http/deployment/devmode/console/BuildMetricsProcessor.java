@@ -0,0 +1,82 @@
+package io.quarkus.vertx.http.deployment.devmode.console;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import io.quarkus.builder.BuildStepTiming;
+import io.quarkus.deployment.BuildMetrics;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.devconsole.spi.DevConsoleTemplateInfoBuildItem;
+
+public class BuildMetricsProcessor {
+
+    @BuildStep
+    DevConsoleTemplateInfoBuildItem buildMetrics() {
+        // the timings are only available once the build has finished, so they are read when the page is rendered
+        return new DevConsoleTemplateInfoBuildItem("buildMetrics", new BuildMetricsInfo());
+    }
+
+    public static class BuildMetricsInfo {
+
+        public long getDuration() {
+            return BuildMetrics.getLastDuration();
+        }
+
+        public List<TimelineStep> getSteps() {
+            long duration = Math.max(BuildMetrics.getLastDuration(), 1);
+            List<TimelineStep> steps = new ArrayList<>();
+            for (BuildStepTiming timing : BuildMetrics.getLastStepTimings()) {
+                steps.add(new TimelineStep(timing, duration));
+            }
+            return steps;
+        }
+
+        public List<BuildStepTiming> getSlowestSteps() {
+            List<BuildStepTiming> steps = new ArrayList<>(BuildMetrics.getLastStepTimings());
+            steps.sort(Comparator.comparingLong(BuildStepTiming::getDuration).reversed());
+            return steps.size() > 20 ? steps.subList(0, 20) : steps;
+        }
+
+        public long getCriticalPathDuration() {
+            long duration = 0;
+            for (BuildStepTiming step : BuildMetrics.getLastStepTimings()) {
+                if (step.isCriticalPath()) {
+                    duration += step.getDuration();
+                }
+            }
+            return duration;
+        }
+
+        public long getThreads() {
+            return BuildMetrics.getLastStepTimings().stream().map(BuildStepTiming::getThread).distinct().count();
+        }
+    }
+
+    public static class TimelineStep {
+
+        private final BuildStepTiming timing;
+        private final long buildDuration;
+
+        TimelineStep(BuildStepTiming timing, long buildDuration) {
+            this.timing = timing;
+            this.buildDuration = buildDuration;
+        }
+
+        public BuildStepTiming getTiming() {
+            return timing;
+        }
+
+        public String getOffset() {
+            return percentage(timing.getStarted());
+        }
+
+        public String getWidth() {
+            return percentage(Math.max(timing.getDuration(), 1));
+        }
+
+        private String percentage(long value) {
+            return String.format("%.2f%%", Math.min(100.0, value * 100.0 / buildDuration));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.quarkus.vertx.http;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.runtime.HttpCompressionHandler;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+
+public class CompressionPolicyTest {
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.compression.media-types=application/json,text/*\n" +
+            "quarkus.http.compression.min-size=2K\n";
+
+    static String longString;
+    static {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("Hello World;");
+        }
+        longString = sb.toString();
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRoutes.class));
+
+    @Test
+    public void testMediaType() {
+        RestAssured.given().get("/json").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(longString));
+        RestAssured.given().get("/text").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(longString));
+        RestAssured.given().get("/image").then().statusCode(200)
+                .header("content-encoding", "identity")
+                .header("content-length", Integer.toString(longString.length()))
+                .body(Matchers.equalTo(longString));
+    }
+
+    @Test
+    public void testMinSize() {
+        RestAssured.given().get("/small").then().statusCode(200)
+                .header("content-encoding", "identity")
+                .body(Matchers.equalTo("{}"));
+    }
+
+    @Test
+    public void testOverride() {
+        RestAssured.given().get("/forced").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(longString));
+        RestAssured.given().get("/excluded").then().statusCode(200)
+                .header("content-encoding", "identity")
+                .body(Matchers.equalTo(longString));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoutes {
+
+        public void register(@Observes Router router) {
+            router.route("/json").handler(rc -> {
+                rc.response().putHeader("content-type", "application/json; charset=UTF-8").end(longString);
+            });
+            router.route("/text").handler(rc -> {
+                rc.response().putHeader("content-type", "text/plain").end(longString);
+            });
+            router.route("/image").handler(rc -> {
+                rc.response().putHeader("content-type", "image/jpeg").end(longString);
+            });
+            router.route("/small").handler(rc -> {
+                rc.response().putHeader("content-type", "application/json").end("{}");
+            });
+            router.route("/forced").handler(rc -> {
+                HttpCompressionHandler.setCompressed(rc, true);
+                rc.response().putHeader("content-type", "image/jpeg").end(longString);
+            });
+            router.route("/excluded").handler(rc -> {
+                HttpCompressionHandler.setCompressed(rc, false);
+                rc.response().putHeader("content-type", "text/plain").end(longString);
+            });
+        }
+
+    }
+
+}
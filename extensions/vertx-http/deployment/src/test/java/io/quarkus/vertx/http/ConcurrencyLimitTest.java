@@ -0,0 +1,82 @@
+package io.quarkus.vertx.http;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+public class ConcurrencyLimitTest {
+    private static final String APP_PROPS = "" +
+            "quarkus.http.concurrency-limit.enabled=true\n" +
+            "quarkus.http.concurrency-limit.algorithm=aimd\n" +
+            "quarkus.http.concurrency-limit.initial-limit=2\n" +
+            "quarkus.http.concurrency-limit.min-limit=2\n" +
+            "quarkus.http.concurrency-limit.max-limit=2\n" +
+            "quarkus.http.concurrency-limit.retry-after=5S\n" +
+            "quarkus.http.concurrency-limit.critical-paths=/critical/*\n" +
+            "quarkus.http.concurrency-limit.low-priority-paths=/low\n" +
+            "quarkus.http.concurrency-limit.low-priority-ratio=0.5\n";
+
+    static final BlockingQueue<RoutingContext> pending = new LinkedBlockingQueue<>();
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRoutes.class));
+
+    @Test
+    public void testLimit() throws Exception {
+        CompletableFuture<Integer> first = slowRequest();
+        RoutingContext firstContext = pending.poll(10, TimeUnit.SECONDS);
+        Assertions.assertNotNull(firstContext);
+        // The low priority requests can only use half of the limit
+        RestAssured.get("/low").then().statusCode(503);
+        RestAssured.get("/fast").then().statusCode(200);
+
+        CompletableFuture<Integer> second = slowRequest();
+        RoutingContext secondContext = pending.poll(10, TimeUnit.SECONDS);
+        Assertions.assertNotNull(secondContext);
+        RestAssured.get("/fast").then().statusCode(503).header("Retry-After", "5");
+        RestAssured.get("/critical/health").then().statusCode(200);
+
+        firstContext.response().end("slow");
+        secondContext.response().end("slow");
+        Assertions.assertEquals(200, first.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(200, second.get(10, TimeUnit.SECONDS));
+        RestAssured.get("/fast").then().statusCode(200);
+        RestAssured.get("/low").then().statusCode(200);
+    }
+
+    private static CompletableFuture<Integer> slowRequest() {
+        return CompletableFuture.supplyAsync(() -> RestAssured.get("/slow").then().extract().statusCode());
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoutes {
+
+        public void register(@Observes Router router) {
+            router.route("/slow").handler(pending::add);
+            router.route("/fast").handler(rc -> rc.response().end("fast"));
+            router.route("/low").handler(rc -> rc.response().end("low"));
+            router.route("/critical/health").handler(rc -> rc.response().end("up"));
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.quarkus.vertx.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class StaticResourcesTest {
+
+    static String longString;
+    static {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("Hello World;");
+        }
+        longString = sb.toString();
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(longString), "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset("small"), "META-INF/resources/small.txt"));
+
+    @Test
+    public void testCompressedVariant() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip").get("/index.html").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("content-type", "text/html;charset=UTF-8")
+                .header("vary", "accept-encoding")
+                .body(Matchers.equalTo(longString))
+                .extract().header("etag");
+        String identityEtag = RestAssured.given()
+                // No Accept-Encoding header
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/index.html").then()
+                .statusCode(200)
+                .header("content-encoding", Matchers.nullValue())
+                .header("content-length", Integer.toString(longString.length()))
+                .body(Matchers.equalTo(longString))
+                .extract().header("etag");
+        assertNotEquals(etag, identityEtag);
+        // The directory is served with its index file
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/").then().statusCode(200)
+                .header("etag", etag)
+                .body(Matchers.equalTo(longString));
+    }
+
+    @Test
+    public void testNotModified() {
+        String etag = RestAssured.given().get("/small.txt").then().statusCode(200)
+                .header("content-encoding", Matchers.nullValue())
+                .body(Matchers.equalTo("small"))
+                .extract().header("etag");
+        RestAssured.given().header("If-None-Match", etag).get("/small.txt").then().statusCode(304);
+        RestAssured.given().header("If-None-Match", "W/" + etag).get("/small.txt").then().statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"other\"").get("/small.txt").then().statusCode(200);
+        assertEquals(etag, RestAssured.given().head("/small.txt").then().statusCode(200)
+                .header("content-length", "5")
+                .extract().header("etag"));
+    }
+
+    @Test
+    public void testFallback() {
+        // The ranges are served by the static handler
+        RestAssured.given().header("Range", "bytes=0-4").get("/index.html").then().statusCode(206)
+                .header("content-range", "bytes 0-4/" + longString.length())
+                .body(Matchers.equalTo("Hello"));
+        String lastModified = RestAssured.given().header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT")
+                .get("/small.txt").then().statusCode(200)
+                .body(Matchers.equalTo("small"))
+                .extract().header("last-modified");
+        RestAssured.given().header("If-Modified-Since", lastModified).get("/small.txt").then().statusCode(304);
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesTotalSizeTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("small"), "META-INF/resources/small.txt")
+                    .addAsResource(new StringAsset("larger"), "META-INF/resources/larger.txt")
+                    .addAsResource(new StringAsset("quarkus.http.static-resources.max-in-memory-total-size=10"),
+                            "application.properties"));
+
+    @Test
+    public void testTotalSize() {
+        // Only the smallest resource is served from memory, with an entity tag
+        RestAssured.given().get("/small.txt").then().statusCode(200)
+                .header("etag", Matchers.notNullValue())
+                .body(Matchers.equalTo("small"));
+        RestAssured.given().get("/larger.txt").then().statusCode(200)
+                .header("etag", Matchers.nullValue())
+                .body(Matchers.equalTo("larger"));
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.quarkus.vertx.http.accesslog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.awaitility.Awaitility;
+import org.awaitility.core.ThrowingRunnable;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Tests writing the access log asynchronously to a file, as JSON objects
+ */
+public class AsyncJsonAccessLogFileTestCase {
+
+    @RegisterExtension
+    public static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    Path logDirectory;
+                    try {
+                        logDirectory = Files.createTempDirectory("quarkus-tests");
+                        //backslash is an escape char, we need this to be properly formatted for windows
+                        Properties p = new Properties();
+                        p.setProperty("quarkus.http.access-log.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                        p.setProperty("quarkus.http.access-log.async", "true");
+                        p.setProperty("quarkus.http.access-log.format", "json");
+                        p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                        p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                        p.setProperty("quarkus.http.access-log.pattern", "combined");
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        p.store(out, null);
+
+                        return ShrinkWrap.create(JavaArchive.class)
+                                .add(new ByteArrayAsset(out.toByteArray()),
+                                        "application.properties");
+
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @Test
+    public void testJsonLogMessageToFile() {
+        final String paramValue = UUID.randomUUID().toString();
+        RestAssured.given().header("User-Agent", "agent \"quoted\"").get("/does-not-exist?foo=" + paramValue);
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(new ThrowingRunnable() {
+                    @Override
+                    public void run() throws Throwable {
+                        Path path = logDirectory.resolve("server.log");
+                        Assertions.assertTrue(Files.exists(path));
+                        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                        Assertions.assertEquals(1, lines.size());
+                        JsonObject message = new JsonObject(lines.get(0));
+                        Assertions.assertEquals("404", message.getString("status"));
+                        Assertions.assertTrue(message.getString("requestLine").contains("/does-not-exist?foo=" + paramValue));
+                        Assertions.assertEquals("agent \"quoted\"", message.getString("requestHeader.User-Agent"));
+                        Assertions.assertNull(message.getString("requestHeader.Referer"));
+                        Assertions.assertNull(message.getString("remoteUser"));
+                    }
+                });
+    }
+
+}
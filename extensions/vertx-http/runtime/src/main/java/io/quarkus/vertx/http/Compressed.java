@@ -0,0 +1,19 @@
+package io.quarkus.vertx.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The responses of the annotated endpoint are compressed if the client accepts it, whatever their content type and size.
+ * <p>
+ * This has no effect if the compression is not enabled with {@code quarkus.http.enable-compression}.
+ *
+ * @see Uncompressed
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface Compressed {
+
+}
@@ -0,0 +1,17 @@
+package io.quarkus.vertx.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The responses of the annotated endpoint are never compressed, e.g. because they are already compressed.
+ *
+ * @see Compressed
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface Uncompressed {
+
+}
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class AccessLogConfig {
@@ -30,6 +31,18 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "common")
     public String pattern;
 
+    /**
+     * The format of the access log messages.
+     *
+     * If this is `json`, each message is a JSON object written on a single line, with a field for each attribute of the
+     * pattern, e.g. `remoteHost` for `%h` or `requestHeader.User-Agent` for `%{i,User-Agent}`. The text between the
+     * attributes is ignored.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "text")
+    public Format format;
+
     /**
      * If logging should be done to a separate file.
      */
@@ -71,4 +84,30 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * The size of the log file after which it is rotated. This is only supported if the log file is written asynchronously.
+     */
+    @ConfigItem
+    public Optional<MemorySize> maxFileSize;
+
+    /**
+     * If the log file should be written asynchronously by a dedicated thread.
+     *
+     * The messages are then added to a lock-free queue, and written to the file in batches. If the queue is full, the
+     * messages are dropped and a warning is logged.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean async;
+
+    /**
+     * The maximum number of messages queued when the log file is written asynchronously.
+     */
+    @ConfigItem(defaultValue = "16384")
+    public int queueSize;
+
+    public enum Format {
+        TEXT,
+        JSON;
+    }
+
 }
@@ -0,0 +1,37 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class CompressionConfig {
+
+    /**
+     * The media types of the responses that are compressed if the compression is enabled. A media type can end with a
+     * wildcard, e.g. `text/*`. The responses without a `Content-Type` header are compressed.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/xml,text/css,text/javascript,text/csv,application/javascript,"
+            + "application/json,application/graphql+json,application/xhtml+xml,application/xml,image/svg+xml")
+    public List<String> mediaTypes;
+
+    /**
+     * The minimum size of the responses that are compressed if the compression is enabled. This only applies to the
+     * responses with a `Content-Length` header.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize minSize;
+
+    /**
+     * The compression level, from 1 (fastest) to 9 (best compression).
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+}
@@ -0,0 +1,105 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class ConcurrencyLimitConfig {
+
+    /**
+     * If the number of requests processed concurrently is limited. The requests received when the limit is reached are
+     * rejected with a `503 Service Unavailable` response. The limit is adapted to the observed latency of the requests.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The algorithm adapting the limit. `gradient` decreases the limit when the latency increases compared to its long-term
+     * average, and `aimd` decreases it when a request takes longer than `latency-threshold`.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "gradient")
+    public Algorithm algorithm;
+
+    /**
+     * The initial limit.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int initialLimit;
+
+    /**
+     * The minimum limit.
+     */
+    @ConfigItem(defaultValue = "10")
+    public int minLimit;
+
+    /**
+     * The maximum limit.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxLimit;
+
+    /**
+     * The latency above which the `aimd` algorithm decreases the limit.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration latencyThreshold;
+
+    /**
+     * The ratio between the current and the long-term latency that the `gradient` algorithm tolerates before decreasing the
+     * limit.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "1.5")
+    public double tolerance;
+
+    /**
+     * The value of the `Retry-After` header of the rejected requests.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration retryAfter;
+
+    /**
+     * The paths of the requests that are never rejected, e.g. the health checks. A path ending with `/*` matches all the
+     * paths starting with it. These requests are still counted.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public Optional<List<String>> criticalPaths;
+
+    /**
+     * The paths of the requests that are rejected first. A path ending with `/*` matches all the paths starting with it.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public Optional<List<String>> lowPriorityPaths;
+
+    /**
+     * The share of the limit available to the requests with a low priority: they are rejected as soon as the number of
+     * requests processed concurrently reaches this share of the limit.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "0.8")
+    public double lowPriorityRatio;
+
+    public enum Algorithm {
+        GRADIENT,
+        AIMD
+    }
+
+}
@@ -47,6 +47,11 @@ public class HttpBuildTimeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean redirectToNonApplicationRootPath;
 
+    /**
+     * Static resources.
+     */
+    public StaticResourcesConfig staticResources;
+
     public String adjustPath(String path) {
         if (!path.startsWith("/")) {
             throw new IllegalArgumentException("Path must start with /");
@@ -0,0 +1,184 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Decides whether each response is compressed, before its headers are written.
+ * <p>
+ * The responses are compressed by the server, unless they have a {@code Content-Encoding} header. This handler sets
+ * {@code Content-Encoding: identity} on the responses that should not be compressed: the responses whose media type is not
+ * in the configured list, and the responses smaller than the configured minimum size. An endpoint can override this policy
+ * with {@link #setCompressed(RoutingContext, boolean)}, e.g. because it is annotated with
+ * {@link io.quarkus.vertx.http.Compressed} or {@link io.quarkus.vertx.http.Uncompressed}.
+ */
+public class HttpCompressionHandler implements Handler<RoutingContext> {
+
+    private static final String COMPRESSED_KEY = HttpCompressionHandler.class.getName() + ".compressed";
+    private static final String IDENTITY = "identity";
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    // The number of Content-Type values whose decision is kept, the values with parameters such as a boundary are unbounded
+    private static final int MAX_DECISIONS = 256;
+
+    // The metrics are shared by the handlers created by each start in the development mode
+    private static final LongAdder compressedResponses = new LongAdder();
+    private static final LongAdder uncompressedResponses = new LongAdder();
+    private static final LongAdder compressedBytes = new LongAdder();
+    private static volatile boolean metricsEnabled;
+
+    private final Set<String> mediaTypes;
+    private final long minSize;
+    // The decisions made for the values of the Content-Type header
+    private final ConcurrentMap<String, Boolean> decisions;
+
+    HttpCompressionHandler(CompressionConfig config) {
+        Set<String> mediaTypes = new HashSet<>();
+        for (String mediaType : config.mediaTypes) {
+            mediaTypes.add(mediaType.trim().toLowerCase(Locale.ROOT));
+        }
+        this.mediaTypes = mediaTypes;
+        this.minSize = config.minSize.asLongValue();
+        this.decisions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Overrides the compression policy for the response of the current request.
+     *
+     * @param ctx the routing context of the request
+     * @param compressed {@code true} if the response should be compressed whatever its media type and size, {@code false} if
+     *        it should not be compressed
+     */
+    public static void setCompressed(RoutingContext ctx, boolean compressed) {
+        ctx.put(COMPRESSED_KEY, compressed);
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        ctx.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                beforeHeadersEnd(ctx);
+            }
+        });
+        ctx.next();
+    }
+
+    private void beforeHeadersEnd(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        if (headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+            // Already compressed or excluded by the application
+            return;
+        }
+        Boolean compressed = ctx.get(COMPRESSED_KEY);
+        if (compressed == null) {
+            compressed = isCompressedMediaType(headers.get(HttpHeaders.CONTENT_TYPE))
+                    && !isTooSmall(headers.get(HttpHeaders.CONTENT_LENGTH));
+        }
+        if (!compressed) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, IDENTITY);
+        }
+        if (metricsEnabled) {
+            if (compressed && acceptsCompression(ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                compressedResponses.increment();
+                ctx.addBodyEndHandler(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        compressedBytes.add(response.bytesWritten());
+                    }
+                });
+            } else {
+                uncompressedResponses.increment();
+            }
+        }
+    }
+
+    /**
+     * The server only compresses the response if the client accepts one of the encodings it supports, e.g. not if it only
+     * accepts {@code identity}.
+     */
+    static boolean acceptsCompression(String acceptEncoding) {
+        return acceptEncoding != null && (IndexedStaticResourcesHandler.accepts(acceptEncoding, GZIP)
+                || IndexedStaticResourcesHandler.accepts(acceptEncoding, DEFLATE));
+    }
+
+    boolean isCompressedMediaType(String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        Boolean decision = decisions.get(contentType);
+        if (decision == null) {
+            decision = matches(contentType);
+            if (decisions.size() < MAX_DECISIONS) {
+                decisions.put(contentType, decision);
+            }
+        }
+        return decision;
+    }
+
+    private boolean matches(String contentType) {
+        int end = contentType.indexOf(';');
+        String mediaType = (end < 0 ? contentType : contentType.substring(0, end)).trim().toLowerCase(Locale.ROOT);
+        if (mediaTypes.contains(mediaType)) {
+            return true;
+        }
+        int slash = mediaType.indexOf('/');
+        return slash > 0 && mediaTypes.contains(mediaType.substring(0, slash) + "/*");
+    }
+
+    private boolean isTooSmall(String contentLength) {
+        if (contentLength == null || minSize <= 0) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength) < minSize;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    static void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("http.server.compression.responses")
+                .description("The number of responses, by whether they were compressed")
+                .tag("compressed", "true")
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return compressedResponses.sum();
+                    }
+                });
+        metricsFactory.builder("http.server.compression.responses")
+                .description("The number of responses, by whether they were compressed")
+                .tag("compressed", "false")
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return uncompressedResponses.sum();
+                    }
+                });
+        metricsFactory.builder("http.server.compression.bytes")
+                .description("The size of the compressed responses, before compression")
+                .unit("bytes")
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return compressedBytes.sum();
+                    }
+                });
+        metricsEnabled = true;
+    }
+
+}
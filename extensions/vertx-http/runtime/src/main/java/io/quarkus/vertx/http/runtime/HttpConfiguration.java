@@ -127,6 +127,11 @@ public class HttpConfiguration {
      */
     public ServerLimitsConfig limits;
 
+    /**
+     * Adaptive limit of the number of requests processed concurrently
+     */
+    public ConcurrencyLimitConfig concurrencyLimit;
+
     /**
      * Http connection idle timeout
      */
@@ -212,16 +217,24 @@ public class HttpConfiguration {
     /**
      * If responses should be compressed.
      *
-     * Note that this will attempt to compress all responses, to avoid compressing
-     * already compressed content (such as images) you need to set the following header:
-     * 
+     * Only the responses whose media type and size match the `quarkus.http.compression` configuration are compressed. The
+     * endpoints annotated with `@io.quarkus.vertx.http.Compressed` or `@io.quarkus.vertx.http.Uncompressed` override this
+     * policy. A response can also be excluded by setting the following header:
+     *
      * Content-Encoding: identity
-     * 
+     *
      * Which will tell vert.x not to compress the response.
+     *
+     * @asciidoclet
      */
     @ConfigItem
     public boolean enableCompression;
 
+    /**
+     * The compression of the responses
+     */
+    public CompressionConfig compression;
+
     public ProxyConfig proxy;
 
     public int determinePort(LaunchMode launchMode) {
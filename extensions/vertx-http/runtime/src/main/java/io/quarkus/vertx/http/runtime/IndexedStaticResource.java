@@ -0,0 +1,86 @@
+package io.quarkus.vertx.http.runtime;
+
+/**
+ * A static resource indexed at build time.
+ */
+public class IndexedStaticResource {
+
+    /**
+     * The path of the resource relative to {@code META-INF/resources}, e.g. {@code /index.html}.
+     */
+    private String path;
+
+    /**
+     * The content type, or {@code null} if unknown.
+     */
+    private String contentType;
+
+    /**
+     * The hash of the content, from which the entity tags of the variants are derived.
+     */
+    private String hash;
+
+    /**
+     * If {@code false} the resource is too large to be served from memory.
+     */
+    private boolean inMemory;
+
+    /**
+     * The class path resource of the gzip variant, or {@code null}.
+     */
+    private String gzipResource;
+
+    /**
+     * The class path resource of the brotli variant, or {@code null}.
+     */
+    private String brotliResource;
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public boolean isInMemory() {
+        return inMemory;
+    }
+
+    public void setInMemory(boolean inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    public String getGzipResource() {
+        return gzipResource;
+    }
+
+    public void setGzipResource(String gzipResource) {
+        this.gzipResource = gzipResource;
+    }
+
+    public String getBrotliResource() {
+        return brotliResource;
+    }
+
+    public void setBrotliResource(String brotliResource) {
+        this.brotliResource = brotliResource;
+    }
+
+}
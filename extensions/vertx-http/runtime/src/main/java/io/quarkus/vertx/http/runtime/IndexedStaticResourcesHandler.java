@@ -0,0 +1,240 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources indexed at build time from an immutable table loaded at startup.
+ * <p>
+ * The content of each variant is held by an unreleasable direct buffer, so it is written to the connections without being
+ * copied. The resources that are too large to be served from memory or that are not found at runtime are passed to the
+ * fallback handler, and so are the
+ * range requests and the requests conditional on {@code If-Modified-Since} without {@code If-None-Match}, as this handler
+ * neither serves partial content nor sends {@code Last-Modified}.
+ */
+final class IndexedStaticResourcesHandler implements Handler<RoutingContext> {
+
+    // Same as the default of StaticHandler
+    private static final String CACHE_CONTROL = "public, max-age=86400";
+    private static final String VARY = "Vary";
+    private static final String RANGE = "Range";
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+
+    private final Map<String, Entry> entries;
+    private final Handler<RoutingContext> fallback;
+
+    /**
+     * 
+     * @param index the indexed resources, by request path
+     * @param fallback the handler of the resources that are not served from memory
+     */
+    IndexedStaticResourcesHandler(Map<String, IndexedStaticResource> index, Handler<RoutingContext> fallback) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, Entry> entries = new HashMap<>();
+        Map<String, Entry> loaded = new HashMap<>();
+        for (Map.Entry<String, IndexedStaticResource> e : index.entrySet()) {
+            IndexedStaticResource resource = e.getValue();
+            // The directories and their index files share the same entry
+            Entry entry = loaded.get(resource.getPath());
+            if (entry == null) {
+                entry = new Entry(resource, classLoader);
+                loaded.put(resource.getPath(), entry);
+            }
+            entries.put(e.getKey(), entry);
+        }
+        this.entries = entries;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        String rel = ctx.mountPoint() == null ? ctx.normalisedPath()
+                : ctx.normalisedPath().substring(ctx.mountPoint().length());
+        Entry entry = entries.get(rel);
+        if (entry == null) {
+            ctx.next();
+            return;
+        }
+        if (entry.identity == null) {
+            fallback.handle(ctx);
+            return;
+        }
+        HttpServerRequest request = ctx.request();
+        if (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD) {
+            ctx.next();
+            return;
+        }
+        if (request.headers().contains(RANGE) || (request.headers().contains(HttpHeaders.IF_MODIFIED_SINCE)
+                && !request.headers().contains(HttpHeaders.IF_NONE_MATCH))) {
+            fallback.handle(ctx);
+            return;
+        }
+        Variant variant = entry.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        HttpServerResponse response = ctx.response();
+        response.putHeader(HttpHeaders.ETAG, variant.etag);
+        response.putHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (entry.gzip != null || entry.brotli != null) {
+            response.putHeader(VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+        if (entry.contentType != null) {
+            response.putHeader(HttpHeaders.CONTENT_TYPE, entry.contentType);
+        }
+        if (variant.encoding != null) {
+            // Also prevents the compression of the response by the server
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        }
+        if (request.method() == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(variant.content.length()));
+            response.end();
+        } else {
+            response.end(variant.content);
+        }
+    }
+
+    /**
+     * The weak comparison of the entity tags is used for {@code If-None-Match}.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 
+     * @param acceptEncoding
+     * @param encoding
+     * @return {@code true} if the encoding is accepted with a non-zero quality
+     */
+    static boolean accepts(String acceptEncoding, String encoding) {
+        for (String coding : acceptEncoding.split(",")) {
+            int paramsStart = coding.indexOf(';');
+            String name = (paramsStart < 0 ? coding : coding.substring(0, paramsStart)).trim();
+            if (!name.equalsIgnoreCase(encoding) && !name.equals("*")) {
+                continue;
+            }
+            if (paramsStart < 0) {
+                return true;
+            }
+            String params = coding.substring(paramsStart + 1).trim();
+            if (params.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(params.substring(2).trim()) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    static final class Entry {
+
+        final String contentType;
+        // Null if the resource is not served from memory
+        final Variant identity;
+        final Variant gzip;
+        final Variant brotli;
+
+        Entry(IndexedStaticResource resource, ClassLoader classLoader) {
+            this.contentType = resource.getContentType();
+            // The resources of the deployment dependencies, e.g. a web jar, are indexed but not available at runtime
+            Buffer content = resource.isInMemory()
+                    ? load(classLoader, StaticResourcesRecorder.META_INF_RESOURCES + resource.getPath())
+                    : null;
+            if (content != null) {
+                String etag = "\"" + resource.getHash() + "\"";
+                this.identity = new Variant(null, etag, content);
+                this.gzip = variant(classLoader, resource.getGzipResource(), GZIP, resource.getHash());
+                this.brotli = variant(classLoader, resource.getBrotliResource(), BROTLI, resource.getHash());
+            } else {
+                this.identity = null;
+                this.gzip = null;
+                this.brotli = null;
+            }
+        }
+
+        private static Variant variant(ClassLoader classLoader, String name, String encoding, String hash) {
+            Buffer content = name == null ? null : load(classLoader, name);
+            return content == null ? null : new Variant(encoding, "\"" + hash + "-" + encoding + "\"", content);
+        }
+
+        Variant select(String acceptEncoding) {
+            if (acceptEncoding != null) {
+                if (brotli != null && accepts(acceptEncoding, BROTLI)) {
+                    return brotli;
+                }
+                if (gzip != null && accepts(acceptEncoding, GZIP)) {
+                    return gzip;
+                }
+            }
+            return identity;
+        }
+
+        /**
+         * @return the content of the resource, or {@code null} if it is not found
+         */
+        private static Buffer load(ClassLoader classLoader, String name) {
+            try (InputStream in = classLoader.getResourceAsStream(name)) {
+                if (in == null) {
+                    return null;
+                }
+                ByteBuf content = Unpooled.directBuffer();
+                byte[] bytes = new byte[8192];
+                int read;
+                while ((read = in.read(bytes)) != -1) {
+                    content.writeBytes(bytes, 0, read);
+                }
+                return Buffer.buffer(Unpooled.unreleasableBuffer(content.capacity(content.readableBytes())));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+    static final class Variant {
+
+        // Null for the identity
+        final String encoding;
+        final String etag;
+        final Buffer content;
+
+        Variant(String encoding, String etag, Buffer content) {
+            this.encoding = encoding;
+            this.etag = etag;
+            this.content = content;
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Static resources related settings
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * Whether the static resources found in {@code META-INF/resources} are indexed at build time and served from memory.
+     * <p>
+     * An indexed resource is served with a strong {@code ETag} computed from its content, and a conditional request that
+     * matches the {@code ETag} is answered with {@code 304 Not Modified}. The resources are not indexed in the development
+     * mode.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean inMemory;
+
+    /**
+     * The maximum size of a static resource served from memory. The larger resources are served from the file system
+     * cache of Vert.x.
+     */
+    @ConfigItem(defaultValue = "512K")
+    public MemorySize maxInMemorySize;
+
+    /**
+     * The maximum total size of the static resources served from memory, including their compressed variants. The
+     * smallest resources are loaded first, and the resources that do not fit are served from the file system cache of
+     * Vert.x.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize maxInMemoryTotalSize;
+
+    /**
+     * Whether a gzip variant of the compressible static resources served from memory is generated at build time. The
+     * variant is served to the clients that accept the gzip encoding, without compressing the resource on each request.
+     * <p>
+     * A {@code .gz} or {@code .br} file found alongside a resource is used as its gzip or brotli variant.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean precompress;
+
+}
@@ -3,6 +3,7 @@ package io.quarkus.vertx.http.runtime;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -18,14 +19,21 @@ public class StaticResourcesRecorder {
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
     private static volatile Set<String> knownPaths;
+    private static volatile Map<String, IndexedStaticResource> index;
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public void staticInit(Set<String> knownPaths) {
+    /**
+     * 
+     * @param knownPaths
+     * @param index the resources served from memory, by request path
+     */
+    public void staticInit(Set<String> knownPaths, Map<String, IndexedStaticResource> index) {
         StaticResourcesRecorder.knownPaths = knownPaths;
+        StaticResourcesRecorder.index = index;
     }
 
     public Consumer<Route> start() {
@@ -53,6 +61,10 @@ public class StaticResourcesRecorder {
         }
         if (!knownPaths.isEmpty()) {
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES).setDefaultContentEncoding("UTF-8");
+            if (index != null && !index.isEmpty()) {
+                // The resources are loaded in memory now, the handler only reads the table
+                handlers.add(new IndexedStaticResourcesHandler(index, staticHandler));
+            }
             handlers.add(ctx -> {
                 String rel = ctx.mountPoint() == null ? ctx.normalisedPath()
                         : ctx.normalisedPath().substring(ctx.mountPoint().length());
@@ -51,6 +51,7 @@ import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigInstantiator;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
@@ -62,8 +63,10 @@ import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AsyncAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.limiter.ConcurrencyLimitHandler;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
@@ -262,7 +265,7 @@ public class VertxHttpRecorder {
             RuntimeValue<Router> runtimeValue, String rootPath, LaunchMode launchMode, boolean requireBodyHandler,
             Handler<RoutingContext> bodyHandler, HttpConfiguration httpConfiguration,
             GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
-            Executor executor) {
+            Executor executor, ShutdownContext shutdown) {
         // install the default route at the end
         Router router = runtimeValue.getValue();
 
@@ -292,6 +295,12 @@ public class VertxHttpRecorder {
         container.instance(RouterProducer.class).initialize(router);
         router.route().last().failureHandler(new QuarkusErrorHandler(launchMode.isDevOrTest()));
 
+        if (httpConfiguration.concurrencyLimit.enabled) {
+            // Before the body handler, so that the body of a rejected request is not read
+            router.route().order(Integer.MIN_VALUE + 1)
+                    .handler(new ConcurrencyLimitHandler(httpConfiguration.concurrencyLimit));
+        }
+
         if (requireBodyHandler) {
             //if this is set then everything needs the body handler installed
             //TODO: config etc
@@ -383,17 +392,40 @@ public class VertxHttpRecorder {
             quarkusWrapperNeeded = true;
         }
 
+        if (httpConfiguration.enableCompression) {
+            router.route().order(Integer.MIN_VALUE + 1).handler(new HttpCompressionHandler(httpConfiguration.compression));
+        }
+
         AccessLogConfig accessLog = httpConfiguration.accessLog;
         if (accessLog.enabled) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                if (accessLog.async) {
+                    AsyncAccessLogReceiver asyncReceiver = new AsyncAccessLogReceiver(outputDir.toPath(),
+                            accessLog.baseFileName, accessLog.logSuffix, accessLog.rotate,
+                            accessLog.maxFileSize.isPresent() ? accessLog.maxFileSize.get().asLongValue() : 0,
+                            accessLog.queueSize);
+                    shutdown.addLastShutdownTask(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                asyncReceiver.close();
+                            } catch (IOException e) {
+                                LOGGER.error("Failed to close the access log", e);
+                            }
+                        }
+                    });
+                    receiver = asyncReceiver;
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
+                            accessLog.rotate);
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
-            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern, getClass().getClassLoader());
+            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern,
+                    accessLog.format == AccessLogConfig.Format.JSON, getClass().getClassLoader());
             router.route().order(Integer.MIN_VALUE).handler(handler);
             quarkusWrapperNeeded = true;
         }
@@ -726,6 +758,7 @@ public class VertxHttpRecorder {
         options.setTcpCork(httpConfiguration.tcpCork);
         options.setTcpFastOpen(httpConfiguration.tcpFastOpen);
         options.setCompressionSupported(httpConfiguration.enableCompression);
+        options.setCompressionLevel(httpConfiguration.compression.level);
         options.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
         return options;
     }
@@ -1061,6 +1094,30 @@ public class VertxHttpRecorder {
         return ACTUAL_ROOT;
     }
 
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> compressionMetrics(HttpConfiguration httpConfiguration) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (httpConfiguration.enableCompression) {
+                    HttpCompressionHandler.registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> concurrencyLimitMetrics(HttpConfiguration httpConfiguration) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (httpConfiguration.concurrencyLimit.enabled) {
+                    ConcurrencyLimitHandler.registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+
     public Handler<RoutingContext> createBodyHandler(HttpConfiguration httpConfiguration) {
         BodyHandler bodyHandler = BodyHandler.create();
         Optional<MemorySize> maxBodySize = httpConfiguration.limits.maxBodySize;
@@ -19,13 +19,15 @@ public class CompositeExchangeAttribute implements ExchangeAttribute {
     @Override
     public String readAttribute(RoutingContext exchange) {
         final StringBuilder sb = new StringBuilder();
+        appendAttribute(exchange, sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
         for (int i = 0; i < attributes.length; ++i) {
-            final String val = attributes[i].readAttribute(exchange);
-            if (val != null) {
-                sb.append(val);
-            }
+            attributes[i].appendAttribute(exchange, builder);
         }
-        return sb.toString();
     }
 
     @Override
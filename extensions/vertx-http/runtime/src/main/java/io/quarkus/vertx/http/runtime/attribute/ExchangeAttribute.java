@@ -16,6 +16,20 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the attribute to the provided builder, nothing is appended if the attribute is not present. The attributes
+     * made of other attributes override this method to append them without creating an intermediate string.
+     *
+     * @param exchange The exchange
+     * @param builder The builder
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        String value = readAttribute(exchange);
+        if (value != null) {
+            builder.append(value);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      * 
@@ -57,7 +57,35 @@ public class ExchangeAttributeParser {
      * @return
      */
     public ExchangeAttribute parse(final String valueString) {
-        final List<ExchangeAttribute> attributes = new ArrayList<>();
+        final List<String> tokens = tokenize(valueString);
+        final List<ExchangeAttribute> attributes = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            if (token.equals("%%")) {
+                //literal percent
+                attributes.add(wrap(new ConstantExchangeAttribute("%")));
+            } else if (token.equals("$$")) {
+                //literal dollars
+                attributes.add(wrap(new ConstantExchangeAttribute("$")));
+            } else {
+                attributes.add(wrap(parseSingleToken(token)));
+            }
+        }
+        if (attributes.size() == 1) {
+            return attributes.get(0);
+        }
+        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+    }
+
+    /**
+     * Splits the provided value string into the tokens that make up the attribute returned by {@link #parse(String)},
+     * following the same rules. The literal texts are returned as single tokens, {@code %%} and {@code $$} being returned
+     * as is.
+     *
+     * @param valueString
+     * @return the tokens, in order
+     */
+    public List<String> tokenize(final String valueString) {
+        final List<String> tokens = new ArrayList<>();
         int pos = 0;
         int state = 0; //0 = literal, 1 = %, 2 = %{, 3 = $, 4 = ${
         for (int i = 0; i < valueString.length(); ++i) {
@@ -66,7 +94,7 @@ public class ExchangeAttributeParser {
                 case 0: {
                     if (c == '%' || c == '$') {
                         if (pos != i) {
-                            attributes.add(wrap(parseSingleToken(valueString.substring(pos, i))));
+                            tokens.add(valueString.substring(pos, i));
                             pos = i;
                         }
                         if (c == '%') {
@@ -82,11 +110,11 @@ public class ExchangeAttributeParser {
                         state = 2;
                     } else if (c == '%') {
                         //literal percent
-                        attributes.add(wrap(new ConstantExchangeAttribute("%")));
+                        tokens.add("%%");
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -94,7 +122,7 @@ public class ExchangeAttributeParser {
                 }
                 case 2: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -105,11 +133,11 @@ public class ExchangeAttributeParser {
                         state = 4;
                     } else if (c == '$') {
                         //literal dollars
-                        attributes.add(wrap(new ConstantExchangeAttribute("$")));
+                        tokens.add("$$");
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -117,7 +145,7 @@ public class ExchangeAttributeParser {
                 }
                 case 4: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -131,7 +159,7 @@ public class ExchangeAttributeParser {
             case 1:
             case 3: {
                 if (pos != valueString.length()) {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos))));
+                    tokens.add(valueString.substring(pos));
                 }
                 break;
             }
@@ -140,10 +168,7 @@ public class ExchangeAttributeParser {
                 throw new RuntimeException("Mismatched braces: " + valueString);
             }
         }
-        if (attributes.size() == 1) {
-            return attributes.get(0);
-        }
-        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+        return tokens;
     }
 
     public ExchangeAttribute parseSingleToken(final String token) {
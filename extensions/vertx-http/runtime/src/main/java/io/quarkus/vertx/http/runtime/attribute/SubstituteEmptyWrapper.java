@@ -33,6 +33,15 @@ public class SubstituteEmptyWrapper implements ExchangeAttributeWrapper {
             return val;
         }
 
+        @Override
+        public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+            int length = builder.length();
+            attribute.appendAttribute(exchange, builder);
+            if (builder.length() == length) {
+                builder.append(substitute);
+            }
+        }
+
         @Override
         public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
             attribute.writeAttribute(exchange, newValue);
@@ -23,6 +23,7 @@ import java.util.StringJoiner;
 
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeWrapper;
 import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.vertx.core.Handler;
@@ -87,15 +88,45 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    // The builders larger than this are not reused, so that a very long message does not retain memory
+    private static final int MAX_REUSED_CAPACITY = 8192;
+
+    // The messages are formatted in a builder reused by each thread, only the resulting string is allocated
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final ExchangeAttribute tokens;
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString, ClassLoader classLoader) {
+        this(accessLogReceiver, formatString, false, classLoader);
+    }
+
+    /**
+     *
+     * @param accessLogReceiver
+     * @param formatString
+     * @param json if the messages are formatted as JSON objects, see {@link JsonAccessLogAttribute}
+     * @param classLoader
+     */
+    public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString, boolean json,
+            ClassLoader classLoader) {
         this.accessLogReceiver = accessLogReceiver;
         this.formatString = handleCommonNames(formatString);
-        this.tokens = new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
-                .parse(this.formatString);
+        if (json) {
+            this.tokens = new JsonAccessLogAttribute(
+                    new ExchangeAttributeParser(classLoader, Collections.<ExchangeAttributeWrapper> emptyList()),
+                    this.formatString);
+        } else {
+            this.tokens = new ExchangeAttributeParser(classLoader,
+                    Collections.singletonList(new SubstituteEmptyWrapper("-")))
+                            .parse(this.formatString);
+        }
     }
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String formatString, final ExchangeAttribute attribute) {
@@ -125,12 +156,23 @@ public class AccessLogHandler implements Handler<RoutingContext> {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                accessLogReceiver.logMessage(format(rc));
             }
         });
         rc.next();
     }
 
+    private String format(RoutingContext rc) {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        tokens.appendAttribute(rc, builder);
+        String message = builder.toString();
+        if (builder.capacity() > MAX_REUSED_CAPACITY) {
+            BUILDER.remove();
+        }
+        return message;
+    }
+
     @Override
     public String toString() {
         return "AccessLogHandler{" +
@@ -0,0 +1,305 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Log receiver that writes the messages to a file from a dedicated thread.
+ * <p>
+ * The web threads only add the messages to a bounded ring buffer, which is lock-free for the producers. The writer thread
+ * drains the buffer in batches, encodes the messages into a direct buffer and writes it to the file with a
+ * {@link FileChannel}, so that a single system call is made for many messages. If the ring buffer is full, the messages are
+ * dropped rather than blocking the web threads, and the number of dropped messages is logged.
+ * <p>
+ * The file is rotated after midnight if enabled, and when it reaches the maximum size if one is set. The rotated files are
+ * named after the base name, the date of their content and a counter if needed.
+ */
+public class AsyncAccessLogReceiver implements AccessLogReceiver, Closeable {
+
+    private static final Logger log = Logger.getLogger(AsyncAccessLogReceiver.class);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // The writer does not wait longer than this, so that a missed wake-up only delays the messages
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // The ring buffer: a message is published by setting its slot, and consumed by clearing it
+    private final AtomicReferenceArray<String> messages;
+    private final int mask;
+    // The index of the next slot to claim by the producers
+    private final AtomicLong tail = new AtomicLong();
+    // The index of the next slot to consume, only advanced by the writer thread
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+    private final long maxFileSize;
+
+    private final Thread writer;
+    private volatile boolean waiting;
+    private volatile boolean closed;
+
+    // Only accessed by the writer thread
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder;
+    private FileChannel channel;
+    private long fileSize;
+    private LocalDate currentDate;
+    private long changeOverPoint;
+
+    /**
+     *
+     * @param outputDirectory the directory of the log files
+     * @param logBaseName the base name of the log files
+     * @param logNameSuffix the suffix of the log files, including the dot
+     * @param rotate if the file is rotated after midnight
+     * @param maxFileSize the size of the file after which it is rotated, or {@code 0} if there is no maximum size
+     * @param queueSize the number of messages that can be queued, rounded to the next power of two
+     */
+    public AsyncAccessLogReceiver(Path outputDirectory, String logBaseName, String logNameSuffix, boolean rotate,
+            long maxFileSize, int queueSize) {
+        int capacity = Integer.highestOneBit(Math.max(queueSize, 2) - 1) << 1;
+        this.messages = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName;
+        this.logNameSuffix = logNameSuffix;
+        this.defaultLogFile = outputDirectory.resolve(logBaseName + logNameSuffix);
+        this.rotate = rotate;
+        this.maxFileSize = maxFileSize;
+        this.buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        this.encoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        }, "quarkus-access-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        if (closed) {
+            return;
+        }
+        long index;
+        do {
+            index = tail.get();
+            if (index - head.get() > mask) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(index, index + 1));
+        messages.lazySet((int) (index & mask), message);
+        if (waiting) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Writes the queued messages and closes the file. The messages logged after this method is called are not written.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void work() {
+        try {
+            open();
+        } catch (IOException e) {
+            // The file is opened again when the messages are written
+            log.error("Error opening access log", e);
+        }
+        try {
+            for (;;) {
+                try {
+                    if (drain() > 0) {
+                        continue;
+                    }
+                } catch (IOException e) {
+                    log.error("Error writing access log", e);
+                    buffer.clear();
+                    closeChannel();
+                }
+                long dropped = this.dropped.getAndSet(0);
+                if (dropped > 0) {
+                    log.warnf("%d access log messages were dropped, the queue is full", dropped);
+                }
+                if (head.get() != tail.get()) {
+                    // A slot was claimed but the message is not published yet
+                    Thread.yield();
+                    continue;
+                }
+                if (closed) {
+                    break;
+                }
+                waiting = true;
+                if (head.get() == tail.get() && !closed) {
+                    LockSupport.parkNanos(this, MAX_WAIT_NANOS);
+                }
+                waiting = false;
+            }
+        } catch (Throwable t) {
+            log.error("Error writing access log", t);
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * @return the number of written messages
+     */
+    private int drain() throws IOException {
+        int count = 0;
+        long index = head.get();
+        while (count < MAX_BATCH_SIZE) {
+            int slot = (int) (index & mask);
+            String message = messages.get(slot);
+            if (message == null) {
+                break;
+            }
+            messages.lazySet(slot, null);
+            head.lazySet(++index);
+            append(message);
+            count++;
+        }
+        if (count > 0) {
+            flush();
+        }
+        return count;
+    }
+
+    private void append(String message) throws IOException {
+        if (rotate && System.currentTimeMillis() > changeOverPoint) {
+            flush();
+            doRotate();
+        } else if (maxFileSize > 0 && fileSize + buffer.position() >= maxFileSize) {
+            flush();
+            doRotate();
+        }
+        CharBuffer chars = CharBuffer.wrap(message);
+        encoder.reset();
+        for (;;) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                flush();
+            } else {
+                break;
+            }
+        }
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) '\n');
+    }
+
+    private void flush() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            if (channel == null) {
+                open();
+            }
+            while (buffer.hasRemaining()) {
+                fileSize += channel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void open() throws IOException {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        changeOverPoint = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        currentDate = today;
+        if (channel == null && Files.exists(defaultLogFile)) {
+            // Use the date of the existing file, and rotate it if it was not modified today
+            LocalDate lastModified = Files.getLastModifiedTime(defaultLogFile).toInstant().atZone(zone).toLocalDate();
+            if (rotate && lastModified.isBefore(today)) {
+                currentDate = lastModified;
+                moveDefaultLogFile();
+                currentDate = today;
+            }
+        }
+        Files.createDirectories(outputDirectory);
+        channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    private void doRotate() throws IOException {
+        closeChannel();
+        moveDefaultLogFile();
+        open();
+    }
+
+    private void moveDefaultLogFile() {
+        if (!Files.exists(defaultLogFile)) {
+            return;
+        }
+        try {
+            String date = DATE_FORMAT.format(currentDate);
+            Path newFile = outputDirectory.resolve(logBaseName + date + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + date + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                flush();
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error writing access log", e);
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
+}
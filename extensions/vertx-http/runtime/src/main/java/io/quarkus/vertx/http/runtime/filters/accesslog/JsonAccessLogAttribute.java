@@ -0,0 +1,165 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.ReadOnlyAttributeException;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Formats the attributes of an access log pattern as a JSON object written on a single line.
+ * <p>
+ * Each token of the pattern becomes a field of the object, the literal text between the tokens is ignored. The fields are
+ * named after the attributes, e.g. {@code remoteHost} for {@code %h} and {@code requestHeader.User-Agent} for
+ * {@code %{i,User-Agent}}. A missing or empty attribute is written as {@code null}.
+ */
+public class JsonAccessLogAttribute implements ExchangeAttribute {
+
+    private static final Map<Character, String> NAMES = new HashMap<>();
+
+    static {
+        NAMES.put('a', "remoteIp");
+        NAMES.put('A', "localIp");
+        NAMES.put('b', "bytesSent");
+        NAMES.put('B', "bytesSent");
+        NAMES.put('h', "remoteHost");
+        NAMES.put('H', "protocol");
+        NAMES.put('l', "remoteLogicalUser");
+        NAMES.put('m', "method");
+        NAMES.put('p', "localPort");
+        NAMES.put('q', "queryString");
+        NAMES.put('r', "requestLine");
+        NAMES.put('s', "status");
+        NAMES.put('t', "time");
+        NAMES.put('u', "remoteUser");
+        NAMES.put('U', "path");
+        NAMES.put('R', "relativePath");
+        NAMES.put('v', "localServerName");
+        NAMES.put('D', "duration");
+        NAMES.put('T', "durationSeconds");
+        NAMES.put('I', "thread");
+    }
+
+    private static final Map<String, String> PREFIXES = new HashMap<>();
+
+    static {
+        PREFIXES.put("i", "requestHeader.");
+        PREFIXES.put("o", "responseHeader.");
+        PREFIXES.put("c", "cookie.");
+        PREFIXES.put("q", "queryParameter.");
+    }
+
+    // The fields are written as is, including the quotes and the separators
+    private final String[] fields;
+    private final ExchangeAttribute[] attributes;
+
+    public JsonAccessLogAttribute(ExchangeAttributeParser parser, String formatString) {
+        List<String> fields = new ArrayList<>();
+        List<ExchangeAttribute> attributes = new ArrayList<>();
+        for (String token : parser.tokenize(formatString)) {
+            String name = fieldName(token);
+            if (name == null) {
+                continue;
+            }
+            StringBuilder field = new StringBuilder();
+            field.append(fields.isEmpty() ? "{" : ",");
+            appendString(field, name);
+            field.append(':');
+            fields.add(field.toString());
+            attributes.add(parser.parseSingleToken(token));
+        }
+        this.fields = fields.toArray(new String[0]);
+        this.attributes = attributes.toArray(new ExchangeAttribute[0]);
+    }
+
+    @Override
+    public String readAttribute(RoutingContext exchange) {
+        StringBuilder builder = new StringBuilder();
+        appendAttribute(exchange, builder);
+        return builder.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        if (fields.length == 0) {
+            builder.append("{}");
+            return;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            builder.append(fields[i]);
+            String value = attributes[i].readAttribute(exchange);
+            if (value == null || value.isEmpty()) {
+                builder.append("null");
+            } else {
+                appendString(builder, value);
+            }
+        }
+        builder.append('}');
+    }
+
+    @Override
+    public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
+        throw new ReadOnlyAttributeException("json", newValue);
+    }
+
+    /**
+     * @return the name of the field of the token, or {@code null} if the token is a literal text
+     */
+    static String fieldName(String token) {
+        if (token.length() < 2 || token.equals("%%") || token.equals("$$")) {
+            return null;
+        }
+        if (token.startsWith("%{") || token.startsWith("${")) {
+            String content = token.substring(2, token.length() - 1);
+            int comma = content.indexOf(',');
+            if (comma > 0) {
+                String prefix = PREFIXES.get(content.substring(0, comma));
+                if (prefix != null) {
+                    return prefix + content.substring(comma + 1);
+                }
+            }
+            return content;
+        }
+        if (token.charAt(0) == '%' && token.length() == 2) {
+            String name = NAMES.get(token.charAt(1));
+            return name != null ? name : token.substring(1);
+        }
+        return null;
+    }
+
+    static void appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+}
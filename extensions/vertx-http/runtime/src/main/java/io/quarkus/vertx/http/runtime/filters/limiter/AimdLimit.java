@@ -0,0 +1,56 @@
+package io.quarkus.vertx.http.runtime.filters.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Additive increase, multiplicative decrease: the limit is decreased by 10% when a request takes longer than the threshold,
+ * and increased by one otherwise, if at least half of the limit is used.
+ * <p>
+ * The limit is updated with a single compare-and-set, without locking. A sample is dropped if the limit was changed by a
+ * concurrent sample, so that simultaneous slow requests only decrease the limit once.
+ */
+public class AimdLimit implements ConcurrencyLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThreshold;
+
+    private final AtomicInteger limit;
+
+    /**
+     * @param initialLimit the initial limit
+     * @param minLimit the minimum limit
+     * @param maxLimit the maximum limit
+     * @param latencyThreshold the latency above which the limit is decreased, in nanoseconds
+     */
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, long latencyThreshold) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThreshold = latencyThreshold;
+        this.limit = new AtomicInteger(Math.min(maxLimit, Math.max(minLimit, initialLimit)));
+    }
+
+    @Override
+    public int getLimit() {
+        return limit.get();
+    }
+
+    @Override
+    public void onSample(long latency, int inFlight) {
+        int current = limit.get();
+        int updated;
+        if (latency > latencyThreshold) {
+            updated = Math.max(minLimit, Math.min(current - 1, (int) (current * BACKOFF_RATIO)));
+        } else if (inFlight * 2 >= current) {
+            updated = Math.min(maxLimit, current + 1);
+        } else {
+            return;
+        }
+        if (updated != current) {
+            limit.compareAndSet(current, updated);
+        }
+    }
+
+}
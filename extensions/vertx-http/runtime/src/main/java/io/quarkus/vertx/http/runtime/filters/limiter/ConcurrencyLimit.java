@@ -0,0 +1,21 @@
+package io.quarkus.vertx.http.runtime.filters.limiter;
+
+/**
+ * An algorithm adapting the number of requests that can be processed concurrently to their observed latency.
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * @return the current limit
+     */
+    int getLimit();
+
+    /**
+     * Updates the limit with the latency of a request.
+     *
+     * @param latency the time taken to process the request, in nanoseconds
+     * @param inFlight the number of requests processed concurrently when the request was accepted, including itself
+     */
+    void onSample(long latency, int inFlight);
+
+}
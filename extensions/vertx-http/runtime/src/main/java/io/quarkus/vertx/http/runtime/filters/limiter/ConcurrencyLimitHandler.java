@@ -0,0 +1,182 @@
+package io.quarkus.vertx.http.runtime.filters.limiter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.vertx.http.runtime.ConcurrencyLimitConfig;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Rejects the requests with a {@code 503 Service Unavailable} response when too many requests are processed concurrently.
+ * <p>
+ * The limit is adapted by a {@link ConcurrencyLimit} to the latency of the accepted requests, measured until their response
+ * is sent. The requests with a critical priority are never rejected, and the requests with a low priority are rejected when
+ * a share of the limit is reached, so that they are shed first.
+ */
+public class ConcurrencyLimitHandler implements Handler<RoutingContext> {
+
+    private static final LongAdder rejected = new LongAdder();
+    // The handler of the current application, read by the metrics
+    private static volatile ConcurrencyLimitHandler current;
+
+    private final ConcurrencyLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final String retryAfter;
+    private final double lowPriorityRatio;
+    private final PathMatcher criticalPaths;
+    private final PathMatcher lowPriorityPaths;
+
+    public ConcurrencyLimitHandler(ConcurrencyLimitConfig config) {
+        int maxLimit = Math.max(1, config.maxLimit);
+        int minLimit = Math.max(1, Math.min(config.minLimit, maxLimit));
+        if (config.algorithm == ConcurrencyLimitConfig.Algorithm.AIMD) {
+            this.limit = new AimdLimit(config.initialLimit, minLimit, maxLimit, config.latencyThreshold.toNanos());
+        } else {
+            this.limit = new GradientLimit(config.initialLimit, minLimit, maxLimit, config.tolerance);
+        }
+        this.retryAfter = Long.toString(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(config.retryAfter.toMillis())));
+        this.lowPriorityRatio = config.lowPriorityRatio;
+        this.criticalPaths = new PathMatcher(config.criticalPaths.orElse(Collections.emptyList()));
+        this.lowPriorityPaths = new PathMatcher(config.lowPriorityPaths.orElse(Collections.emptyList()));
+        current = this;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        String path = ctx.normalisedPath();
+        int accepted;
+        if (criticalPaths.matches(path)) {
+            accepted = inFlight.incrementAndGet();
+        } else {
+            int max = limit.getLimit();
+            if (lowPriorityPaths.matches(path)) {
+                max = Math.max(1, (int) (max * lowPriorityRatio));
+            }
+            for (;;) {
+                int count = inFlight.get();
+                if (count >= max) {
+                    reject(ctx);
+                    return;
+                }
+                if (inFlight.compareAndSet(count, count + 1)) {
+                    accepted = count + 1;
+                    break;
+                }
+            }
+        }
+        long start = System.nanoTime();
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> result) {
+                inFlight.decrementAndGet();
+                if (result.succeeded()) {
+                    // The connection was not closed before the end of the response
+                    limit.onSample(System.nanoTime() - start, accepted);
+                }
+            }
+        });
+        ctx.next();
+    }
+
+    private void reject(RoutingContext ctx) {
+        rejected.increment();
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaderNames.RETRY_AFTER, retryAfter);
+        MultiMap requestHeaders = ctx.request().headers();
+        if (requestHeaders.contains(HttpHeaderNames.CONTENT_LENGTH)
+                || requestHeaders.contains(HttpHeaderNames.TRANSFER_ENCODING)) {
+            // The body is not read
+            headers.set(HttpHeaderNames.CONNECTION, "close");
+        }
+        response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code()).end();
+    }
+
+    int getLimit() {
+        return limit.getLimit();
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    public static void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("http.server.concurrency.limit")
+                .description("The number of requests that can be processed concurrently")
+                .buildGauge(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        ConcurrencyLimitHandler handler = current;
+                        return handler != null ? handler.getLimit() : 0;
+                    }
+                });
+        metricsFactory.builder("http.server.concurrency.active")
+                .description("The number of requests processed concurrently")
+                .buildGauge(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        ConcurrencyLimitHandler handler = current;
+                        return handler != null ? handler.getInFlight() : 0;
+                    }
+                });
+        metricsFactory.builder("http.server.concurrency.rejected")
+                .description("The number of requests rejected because the concurrency limit was reached")
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return rejected.sum();
+                    }
+                });
+    }
+
+    static final class PathMatcher {
+
+        private final List<String> paths = new ArrayList<>();
+        private final List<String> prefixes = new ArrayList<>();
+
+        PathMatcher(List<String> patterns) {
+            for (String pattern : patterns) {
+                pattern = pattern.trim();
+                if (pattern.endsWith("/*")) {
+                    // Both /foo and /foo/... are matched
+                    paths.add(pattern.substring(0, pattern.length() - 2));
+                    prefixes.add(pattern.substring(0, pattern.length() - 1));
+                } else if (pattern.equals("*")) {
+                    prefixes.add("");
+                } else {
+                    paths.add(pattern);
+                }
+            }
+        }
+
+        boolean matches(String path) {
+            if (path == null) {
+                return false;
+            }
+            for (int i = 0; i < paths.size(); i++) {
+                if (path.equals(paths.get(i))) {
+                    return true;
+                }
+            }
+            for (int i = 0; i < prefixes.size(); i++) {
+                if (path.startsWith(prefixes.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
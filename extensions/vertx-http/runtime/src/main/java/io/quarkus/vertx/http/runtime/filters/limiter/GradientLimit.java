@@ -0,0 +1,91 @@
+package io.quarkus.vertx.http.runtime.filters.limiter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adapts the limit to the gradient between the long-term and the short-term average latency.
+ * <p>
+ * While the short-term latency stays below the long-term latency multiplied by the tolerance, the limit grows by a queue
+ * allowance of the square root of the limit. When the short-term latency increases beyond it, because requests are queued,
+ * the limit is decreased in proportion, by at most half. The changes are smoothed to avoid oscillations, and the limit is
+ * not updated while less than half of it is used, as the latency then says nothing about the capacity.
+ * <p>
+ * The requests never wait for each other: a sample is dropped if another sample is being processed, so under contention
+ * the averages are computed from a subset of the requests.
+ */
+public class GradientLimit implements ConcurrencyLimit {
+
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private volatile int limit;
+
+    // Set while a sample is processed
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    // Only accessed while updating is set
+    private double estimatedLimit;
+    private double shortLatency;
+    private double longLatency;
+    private long samples;
+
+    /**
+     * @param initialLimit the initial limit
+     * @param minLimit the minimum limit
+     * @param maxLimit the maximum limit
+     * @param tolerance the ratio between the short-term and the long-term latency above which the limit is decreased
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.estimatedLimit = limit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long latency, int inFlight) {
+        if (!updating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            update(latency, inFlight);
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    private void update(long latency, int inFlight) {
+        if (samples++ == 0) {
+            shortLatency = latency;
+            longLatency = latency;
+            return;
+        }
+        // The first samples weigh more until the windows are full
+        shortLatency += (latency - shortLatency) / Math.min(samples, SHORT_WINDOW);
+        longLatency += (latency - longLatency) / Math.min(samples, LONG_WINDOW);
+        if (longLatency > 2 * shortLatency) {
+            // The load decreased, let the long-term latency catch up faster
+            longLatency *= 0.95;
+        }
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / shortLatency));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+}
@@ -0,0 +1,22 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HttpCompressionHandlerTest {
+
+    @Test
+    public void testAcceptsCompression() {
+        assertTrue(HttpCompressionHandler.acceptsCompression("gzip"));
+        assertTrue(HttpCompressionHandler.acceptsCompression("deflate, br"));
+        assertTrue(HttpCompressionHandler.acceptsCompression("identity;q=0.5, *"));
+        assertFalse(HttpCompressionHandler.acceptsCompression(null));
+        assertFalse(HttpCompressionHandler.acceptsCompression(""));
+        assertFalse(HttpCompressionHandler.acceptsCompression("identity"));
+        assertFalse(HttpCompressionHandler.acceptsCompression("br"));
+        assertFalse(HttpCompressionHandler.acceptsCompression("gzip;q=0, identity"));
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AsyncAccessLogReceiverTest {
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    void testConcurrentMessages() throws Exception {
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver(logDirectory, "server", ".log", false, 0, 1 << 16);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    receiver.logMessage("thread" + thread + " message" + i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        receiver.close();
+
+        List<String> lines = Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(20000);
+        // The messages of each thread are written in order
+        List<String> thread0 = lines.stream().filter(l -> l.startsWith("thread0 ")).collect(Collectors.toList());
+        for (int i = 0; i < 5000; i++) {
+            assertThat(thread0.get(i)).isEqualTo("thread0 message" + i);
+        }
+    }
+
+    @Test
+    void testSizeRotation() throws IOException {
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver(logDirectory, "server", ".log", false, 1000, 1024);
+        for (int i = 0; i < 100; i++) {
+            // 100 bytes including the new line
+            receiver.logMessage(String.format("%099d", i));
+        }
+        receiver.close();
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(logDirectory)) {
+            files = list.sorted().collect(Collectors.toList());
+        }
+        assertThat(files).hasSize(10);
+        assertThat(logDirectory.resolve("server.log")).exists();
+        long total = 0;
+        for (Path file : files) {
+            assertThat(Files.size(file)).isLessThanOrEqualTo(1000);
+            total += Files.readAllLines(file, StandardCharsets.UTF_8).size();
+        }
+        assertThat(total).isEqualTo(100);
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.quarkus.vertx.http.runtime.filters.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitAlgorithmTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void testAimd() {
+        AimdLimit limit = new AimdLimit(20, 5, 30, TimeUnit.MILLISECONDS.toNanos(50));
+        // Not enough requests to increase the limit
+        limit.onSample(FAST, 5);
+        assertThat(limit.getLimit()).isEqualTo(20);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(FAST, limit.getLimit());
+        }
+        assertThat(limit.getLimit()).isEqualTo(30);
+        limit.onSample(SLOW, 30);
+        assertThat(limit.getLimit()).isEqualTo(27);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(SLOW, 30);
+        }
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void testGradient() {
+        GradientLimit limit = new GradientLimit(20, 5, 100, 1.5);
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(FAST, limit.getLimit());
+        }
+        // The latency is stable, the limit grows
+        int grown = limit.getLimit();
+        assertThat(grown).isGreaterThan(20);
+        // Not enough requests to tell
+        limit.onSample(SLOW, 1);
+        assertThat(limit.getLimit()).isEqualTo(grown);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW, limit.getLimit());
+        }
+        // The requests are queued, the limit shrinks
+        assertThat(limit.getLimit()).isLessThan(grown / 2);
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void testConcurrentSamples() throws InterruptedException {
+        AimdLimit aimd = new AimdLimit(20, 5, 30, TimeUnit.MILLISECONDS.toNanos(50));
+        GradientLimit gradient = new GradientLimit(20, 5, 100, 1.5);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    aimd.onSample(FAST, aimd.getLimit());
+                    gradient.onSample(FAST, gradient.getLimit());
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // The samples dropped under contention do not prevent the limits from converging
+        assertThat(aimd.getLimit()).isEqualTo(30);
+        assertThat(gradient.getLimit()).isGreaterThan(20).isLessThanOrEqualTo(100);
+    }
+
+}
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -100,6 +101,8 @@ public class BeanDeployment {
 
     private final Set<BeanInfo> removedBeans;
 
+    private final Map<BeanInfo, Integer> requestContextSlots;
+
     private final Map<ScopeInfo, Function<MethodCreator, ResultHandle>> customContexts;
 
     private final Collection<BeanDefiningAnnotation> beanDefiningAnnotations;
@@ -132,6 +135,7 @@ public class BeanDeployment {
         this.removeUnusedBeans = builder.removeUnusedBeans;
         this.unusedExclusions = removeUnusedBeans ? new ArrayList<>(builder.removalExclusions) : null;
         this.removedBeans = new CopyOnWriteArraySet<>();
+        this.requestContextSlots = new HashMap<>();
         this.customContexts = new ConcurrentHashMap<>();
 
         this.excludeTypes = builder.excludeTypes != null ? new ArrayList<>(builder.excludeTypes) : Collections.emptyList();
@@ -327,6 +331,11 @@ public class BeanDeployment {
 
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
 
+        // Assign a dense slot to each request scoped bean so that the request context does not need a map
+        beans.stream().filter(bean -> BuiltinScope.REQUEST.is(bean.getScope()))
+                .sorted(Comparator.comparing(BeanInfo::getIdentifier))
+                .forEachOrdered(bean -> requestContextSlots.put(bean, requestContextSlots.size()));
+
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
@@ -355,6 +364,16 @@ public class BeanDeployment {
         return Collections.unmodifiableSet(removedBeans);
     }
 
+    /**
+     *
+     * @param bean
+     * @return the slot of the given request scoped bean, or {@code -1} if no slot was assigned
+     */
+    int getRequestContextSlot(BeanInfo bean) {
+        Integer slot = requestContextSlots.get(bean);
+        return slot != null ? slot : -1;
+    }
+
     public Collection<ClassInfo> getQualifiers() {
         return Collections.unmodifiableCollection(qualifiers.values());
     }
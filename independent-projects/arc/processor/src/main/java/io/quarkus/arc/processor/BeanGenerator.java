@@ -12,6 +12,7 @@ import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.CurrentInjectionPointProvider;
 import io.quarkus.arc.impl.InitializedInterceptor;
+import io.quarkus.arc.impl.RequestScopedSlot;
 import io.quarkus.arc.processor.BeanInfo.InterceptionInfo;
 import io.quarkus.arc.processor.BeanProcessor.PrivateMembersCollector;
 import io.quarkus.arc.processor.BuiltinBean.GeneratorContext;
@@ -153,7 +154,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Foo_Bean implements InjectableBean<T>
         ClassCreator beanCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .interfaces(InjectableBean.class, Supplier.class).build();
+                .interfaces(getBeanInterfaces(bean)).build();
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -226,6 +227,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getDeployment().getRequestContextSlot(bean) >= 0) {
+            implementRequestContextSlot(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -270,7 +274,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Foo_Bean implements InjectableBean<T>
         ClassCreator beanCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .interfaces(InjectableBean.class, Supplier.class).build();
+                .interfaces(getBeanInterfaces(bean)).build();
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -314,6 +318,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getDeployment().getRequestContextSlot(bean) >= 0) {
+            implementRequestContextSlot(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -372,7 +379,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Foo_Bean implements InjectableBean<T>
         ClassCreator beanCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .interfaces(InjectableBean.class, Supplier.class).build();
+                .interfaces(getBeanInterfaces(bean)).build();
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -414,6 +421,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getDeployment().getRequestContextSlot(bean) >= 0) {
+            implementRequestContextSlot(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -463,7 +473,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Foo_Bean implements InjectableBean<T>
         ClassCreator beanCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
-                .interfaces(InjectableBean.class, Supplier.class).build();
+                .interfaces(getBeanInterfaces(bean)).build();
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -501,6 +511,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getDeployment().getRequestContextSlot(bean) >= 0) {
+            implementRequestContextSlot(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -1599,6 +1612,30 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.loadClass(bean.getScope().getDotName().toString()));
     }
 
+    /**
+     *
+     * @param bean
+     * @return the interfaces implemented by the generated bean class
+     * @see RequestScopedSlot
+     */
+    private Class<?>[] getBeanInterfaces(BeanInfo bean) {
+        if (bean.getDeployment().getRequestContextSlot(bean) >= 0) {
+            return new Class<?>[] { InjectableBean.class, Supplier.class, RequestScopedSlot.class };
+        }
+        return new Class<?>[] { InjectableBean.class, Supplier.class };
+    }
+
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see RequestScopedSlot
+     */
+    protected void implementRequestContextSlot(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator slot = beanCreator.getMethodCreator("arc$requestContextSlot", int.class).setModifiers(ACC_PUBLIC);
+        slot.returnValue(slot.load(bean.getDeployment().getRequestContextSlot(bean)));
+    }
+
     /**
      *
      * @param bean
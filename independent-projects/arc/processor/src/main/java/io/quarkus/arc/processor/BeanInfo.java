@@ -4,9 +4,11 @@ import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 
 import io.quarkus.arc.processor.Methods.MethodKey;
 import io.quarkus.gizmo.MethodCreator;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,6 +19,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.enterprise.inject.spi.DeploymentException;
 import javax.enterprise.inject.spi.InterceptionType;
@@ -338,6 +341,59 @@ public class BeanInfo implements InjectionTargetInfo {
         return defaultBean;
     }
 
+    /**
+     * Walks the injection graph of this bean, i.e. its injection points, the injection points of the resolved beans, bound
+     * interceptors and declaring beans. Injection points that allow programmatic lookup ({@code Instance}, {@code Provider}
+     * and {@code BeanManager}) or that may notify observers ({@code Event}) are considered to require the request context,
+     * so are beans with a custom scope.
+     * <p>
+     * The injection graph does not show the programmatic lookups performed by the code of a bean, e.g. through
+     * {@code Arc.container()}, so every bean of the graph is also tested with the given predicate.
+     *
+     * @param requiresRequestContext tests if a bean requires the request context, regardless of its injection points
+     * @return {@code true} if this bean or any bean reachable from its injection graph may require an active request
+     *         context
+     */
+    public boolean mayRequireRequestContext(Predicate<BeanInfo> requiresRequestContext) {
+        Set<BeanInfo> visited = new HashSet<>();
+        Deque<BeanInfo> queue = new ArrayDeque<>();
+        queue.add(this);
+        while (!queue.isEmpty()) {
+            BeanInfo bean = queue.poll();
+            if (!visited.add(bean)) {
+                continue;
+            }
+            BuiltinScope scope = BuiltinScope.from(bean.getScope().getDotName());
+            if (scope == null || scope == BuiltinScope.REQUEST || requiresRequestContext.test(bean)) {
+                return true;
+            }
+            for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+                BeanInfo resolved = injectionPoint.getResolvedBean();
+                if (resolved != null) {
+                    queue.add(resolved);
+                } else {
+                    BuiltinBean builtin = BuiltinBean.resolve(injectionPoint);
+                    if (builtin == BuiltinBean.INSTANCE || builtin == BuiltinBean.BEAN_MANAGER
+                            || builtin == BuiltinBean.EVENT) {
+                        return true;
+                    }
+                }
+            }
+            if (bean.getDisposer() != null) {
+                for (InjectionPointInfo injectionPoint : bean.getDisposer().getInjection().injectionPoints) {
+                    if (injectionPoint.getResolvedBean() != null) {
+                        queue.add(injectionPoint.getResolvedBean());
+                    }
+                }
+            }
+            queue.addAll(bean.getBoundInterceptors());
+            if (bean.getDeclaringBean() != null) {
+                queue.add(bean.getDeclaringBean());
+            }
+        }
+        return false;
+    }
+
     /**
      * @param requiredType
      * @param requiredQualifiers
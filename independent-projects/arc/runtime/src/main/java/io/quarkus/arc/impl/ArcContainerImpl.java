@@ -103,16 +103,20 @@ public class ArcContainerImpl implements ArcContainer {
         observers = new ArrayList<>();
         transitiveInterceptorBindings = new HashMap<>();
 
+        List<Components> allComponents = new ArrayList<>();
+        for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
+            allComponents.add(componentsProvider.getComponents());
+        }
+
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
+        requestContext = new RequestContext(requestContextSlots(allComponents));
         contexts = new HashMap<>();
         putContext(requestContext);
         putContext(applicationContext);
         putContext(singletonContext);
 
-        for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
-            Components components = componentsProvider.getComponents();
+        for (Components components : allComponents) {
             for (InjectableBean<?> bean : components.getBeans()) {
                 if (bean instanceof InjectableInterceptor) {
                     interceptors.add((InjectableInterceptor<?>) bean);
@@ -155,6 +159,28 @@ public class ArcContainerImpl implements ArcContainer {
         instance = InstanceImpl.of(Object.class, Collections.emptySet());
     }
 
+    /**
+     * Slots of request scoped beans are only unique within a single deployment. If there are multiple deployments then
+     * the request context falls back to a map for all beans.
+     */
+    private static int requestContextSlots(List<Components> allComponents) {
+        int slots = 0;
+        int deploymentsWithSlots = 0;
+        for (Components components : allComponents) {
+            int max = -1;
+            for (InjectableBean<?> bean : components.getBeans()) {
+                if (bean instanceof RequestScopedSlot) {
+                    max = Math.max(max, ((RequestScopedSlot) bean).arc$requestContextSlot());
+                }
+            }
+            if (max >= 0) {
+                deploymentsWithSlots++;
+                slots = max + 1;
+            }
+        }
+        return deploymentsWithSlots > 1 ? 0 : slots;
+    }
+
     private void putContext(InjectableContext context) {
         Collection<InjectableContext> values = contexts.get(context.getScope());
         if (values == null) {
@@ -6,13 +6,14 @@ import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -33,13 +34,17 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+
+    // The number of request scoped beans that were assigned a slot at build time
+    private final int slots;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    public RequestContext(int slots) {
+        this.slots = slots;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,7 +60,7 @@ class RequestContext implements ManagedContext {
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
         Objects.requireNonNull(creationalContextFun, "CreationalContext supplier must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             return null;
@@ -86,7 +91,7 @@ class RequestContext implements ManagedContext {
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -102,7 +107,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -116,12 +121,12 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new RequestContextState(slots));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid initial state: " + initialState.getClass().getName());
             }
@@ -130,12 +135,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        return ctx;
     }
 
     @Override
@@ -151,13 +156,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void destroy(ContextState state) {
         if (state instanceof RequestContextState) {
-            destroy(((RequestContextState) state).value);
+            destroy((RequestContextState) state);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
             synchronized (currentContext) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -166,20 +171,18 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                //Performance: avoid an iterator on the map elements
-                currentContext.forEach(this::destroyContextElement);
+                currentContext.destroyAll();
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(destroyedNotifier);
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
-                currentContext.clear();
             }
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private static void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -212,18 +215,101 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
+    /**
+     * Instances of beans that were assigned a slot at build time are stored in an array; any other contextual (e.g. a
+     * custom {@link Contextual} used through the {@code BeanManager}) falls back to a lazily created map.
+     */
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> slots;
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        RequestContextState(int slots) {
+            this.slots = new AtomicReferenceArray<>(slots);
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int slot = slotOf(contextual);
+            if (slot >= 0) {
+                return slots.get(slot);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int slot = slotOf(contextual);
+            if (slot >= 0) {
+                slots.set(slot, instance);
+            } else {
+                others().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int slot = slotOf(contextual);
+            if (slot >= 0) {
+                return slots.getAndSet(slot, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        void destroyAll() {
+            for (int i = 0; i < slots.length(); i++) {
+                ContextInstanceHandle<?> instance = slots.getAndSet(i, null);
+                if (instance != null) {
+                    destroyContextElement(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                //Performance: avoid an iterator on the map elements
+                map.forEach((contextual, instance) -> destroyContextElement(instance));
+                map.clear();
+            }
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        private int slotOf(Contextual<?> contextual) {
+            if (contextual instanceof RequestScopedSlot) {
+                int slot = ((RequestScopedSlot) contextual).arc$requestContextSlot();
+                if (slot < slots.length()) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map == null) {
+                synchronized (this) {
+                    map = others;
+                    if (map == null) {
+                        map = new ConcurrentHashMap<>();
+                        others = map;
+                    }
+                }
+            }
+            return map;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            for (int i = 0; i < slots.length(); i++) {
+                ContextInstanceHandle<?> instance = slots.get(i);
+                if (instance != null) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                for (ContextInstanceHandle<?> instance : map.values()) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            return instances;
         }
 
     }
@@ -0,0 +1,13 @@
+package io.quarkus.arc.impl;
+
+/**
+ * An interface implemented by generated {@link javax.enterprise.context.RequestScoped} beans.
+ * <p>
+ * Each request scoped bean of a deployment is assigned a dense index at build time so that the request context can store
+ * its instances in an array instead of a map.
+ */
+public interface RequestScopedSlot {
+
+    int arc$requestContextSlot();
+
+}
@@ -0,0 +1,83 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.RequestScopedSlot;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.HashSet;
+import java.util.Set;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextSlotTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Controller.class, Counter.class, Service.class);
+
+    @Test
+    public void testSlots() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        InjectableBean<Counter> counterBean = arc.instance(Counter.class).getBean();
+        assertTrue(controllerBean instanceof RequestScopedSlot);
+        assertTrue(counterBean instanceof RequestScopedSlot);
+        assertFalse(arc.instance(Service.class).getBean() instanceof RequestScopedSlot);
+
+        Set<Integer> slots = new HashSet<>();
+        slots.add(((RequestScopedSlot) controllerBean).arc$requestContextSlot());
+        slots.add(((RequestScopedSlot) counterBean).arc$requestContextSlot());
+        assertEquals(2, slots.size());
+        assertTrue(slots.contains(0));
+        assertTrue(slots.contains(1));
+    }
+
+    @Test
+    public void testDestroyContextual() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+
+        requestContext.activate();
+        try {
+            Controller.DESTROYED.set(false);
+            String id = arc.instance(Controller.class).get().getId();
+            arc.instance(Counter.class).get().increment();
+            assertEquals(2, requestContext.getState().getContextualInstances().size());
+
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertNull(requestContext.get(controllerBean));
+            assertEquals(1, requestContext.getState().getContextualInstances().size());
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+            assertEquals(2, arc.instance(Counter.class).get().increment());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    static class Counter {
+
+        private int count;
+
+        int increment() {
+            return ++count;
+        }
+    }
+
+    @ApplicationScoped
+    static class Service {
+
+    }
+
+}
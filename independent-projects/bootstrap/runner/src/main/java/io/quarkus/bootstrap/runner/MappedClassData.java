@@ -0,0 +1,315 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * The uncompressed bytes of all the classes of the class path in a single file, which is memory mapped at startup.
+ * <p>
+ * Each class is stored once, for the first class path element that contains it, so a lookup yields the same class
+ * as searching the class path in order. Classes are found through a minimal perfect hash table, which means a
+ * lookup computes two hashes and compares a single name, and never needs to open or inflate a jar. Classes of
+ * multi-release jars are left out, as the version of the entry to use is only known at runtime; they are loaded from
+ * the jars as usual.
+ * <p>
+ * The file consists of a header, the class entries and the hash table, and ends with the position of the table:
+ *
+ * <pre>
+ * int magic, int version
+ * entry*: unsigned short class path index, unsigned short name length, byte[] name, int data length, byte[] data
+ * table: int bucket count, int slot count, int[bucket count] bucket seeds, int[slot count] entry positions
+ * int table position
+ * </pre>
+ *
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+final class MappedClassData {
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    // the average number of entries per bucket of the perfect hash
+    private static final int BUCKET_SIZE = 4;
+    private static final int MAX_SEED = 1 << 20;
+    // positions are ints, leave enough room for the hash table
+    private static final long MAX_SIZE = Integer.MAX_VALUE - (1 << 26);
+    private static final Attributes.Name MULTI_RELEASE = new Attributes.Name("Multi-Release");
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ByteBuffer buffer;
+    private final int[] seeds;
+    private final int slotsPosition;
+    private final int slotCount;
+
+    private MappedClassData(ByteBuffer buffer, int[] seeds, int slotsPosition, int slotCount) {
+        this.buffer = buffer;
+        this.seeds = seeds;
+        this.slotsPosition = slotsPosition;
+        this.slotCount = slotCount;
+    }
+
+    static MappedClassData map(Path file) throws IOException {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new RuntimeException("Wrong magic number in " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new RuntimeException("Wrong class data version in " + file);
+        }
+        int tablePosition = buffer.getInt(buffer.limit() - 4);
+        int bucketCount = buffer.getInt(tablePosition);
+        int slotCount = buffer.getInt(tablePosition + 4);
+        int[] seeds = new int[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            seeds[i] = buffer.getInt(tablePosition + 8 + i * 4);
+        }
+        return new MappedClassData(buffer, seeds, tablePosition + 8 + bucketCount * 4, slotCount);
+    }
+
+    /**
+     * @param classResource the class file name, e.g. {@code org/acme/Foo.class}
+     * @return the position of the entry of the class, or {@code -1} if the class is not contained
+     */
+    int findEntry(String classResource) {
+        if (slotCount == 0) {
+            return -1;
+        }
+        byte[] name = classResource.getBytes(StandardCharsets.UTF_8);
+        int seed = seeds[Math.floorMod(hash(0, name), seeds.length)];
+        int entry = buffer.getInt(slotsPosition + Math.floorMod(hash(seed, name), slotCount) * 4);
+        if (entry == 0) {
+            return -1;
+        }
+        // the perfect hash maps unknown names to some slot too, so the name must be compared
+        if ((buffer.getShort(entry + 2) & 0xFFFF) != name.length) {
+            return -1;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (buffer.get(entry + 4 + i) != name[i]) {
+                return -1;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * @return the index of the class path element that contains the class of the given entry
+     */
+    int getClassPathIndex(int entry) {
+        return buffer.getShort(entry) & 0xFFFF;
+    }
+
+    byte[] getData(int entry) {
+        int dataPosition = entry + 4 + (buffer.getShort(entry + 2) & 0xFFFF);
+        byte[] data = new byte[buffer.getInt(dataPosition)];
+        // the buffer is shared between threads, so only use absolute positions on it
+        ByteBuffer view = buffer.duplicate();
+        view.position(dataPosition + 4);
+        view.get(data);
+        return data;
+    }
+
+    /**
+     * Writes the classes of the given class path, in class path order.
+     *
+     * @return {@code false} if the classes do not fit in a single file, in which case nothing is written
+     */
+    static boolean write(Path file, List<Path> classPath) throws IOException {
+        List<byte[]> names = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        byte[] buffer = new byte[16384];
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            long position = HEADER_SIZE;
+            for (int i = 0; i < classPath.size(); i++) {
+                try (JarFile jar = new JarFile(classPath.get(i).toFile(), false)) {
+                    boolean multiRelease = isMultiRelease(jar);
+                    Enumeration<? extends ZipEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry entry = entries.nextElement();
+                        String name = entry.getName();
+                        if (entry.isDirectory() || !name.endsWith(CLASS_SUFFIX)) {
+                            continue;
+                        }
+                        if (name.startsWith(SerializedApplication.META_INF_VERSIONS)) {
+                            if (multiRelease) {
+                                // a versioned class hides the classes of the same name further down the class path
+                                int slash = name.indexOf('/', SerializedApplication.META_INF_VERSIONS.length());
+                                if (slash != -1) {
+                                    seen.add(name.substring(slash + 1));
+                                }
+                            }
+                            continue;
+                        }
+                        if (!seen.add(name) || multiRelease || name.startsWith("META-INF/")
+                                || name.equals("module-info.class")) {
+                            continue;
+                        }
+                        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+                        if (nameBytes.length > 0xFFFF) {
+                            continue;
+                        }
+                        try (InputStream in = jar.getInputStream(entry)) {
+                            byte[] data = readAll(in, buffer);
+                            if (position + 8 + nameBytes.length + data.length > MAX_SIZE) {
+                                out.close();
+                                Files.delete(file);
+                                return false;
+                            }
+                            names.add(nameBytes);
+                            positions.add((int) position);
+                            out.writeShort(i);
+                            out.writeShort(nameBytes.length);
+                            out.write(nameBytes);
+                            out.writeInt(data.length);
+                            out.write(data);
+                            position += 8 + nameBytes.length + data.length;
+                        }
+                    }
+                }
+            }
+            writeTable(out, (int) position, names, positions);
+        }
+        return true;
+    }
+
+    private static void writeTable(DataOutputStream out, int tablePosition, List<byte[]> names, List<Integer> positions)
+            throws IOException {
+        int entryCount = names.size();
+        int bucketCount = entryCount / BUCKET_SIZE + 1;
+        // a load factor slightly below 1 keeps the search for seeds short
+        int slotCount = entryCount == 0 ? 0 : entryCount + entryCount / 16 + 1;
+        int[] seeds;
+        int[] slots;
+        while (true) {
+            seeds = new int[bucketCount];
+            slots = new int[slotCount];
+            if (place(names, positions, seeds, slots)) {
+                break;
+            }
+            // very unlikely, retry with more room
+            slotCount += slotCount / 8 + 1;
+        }
+        out.writeInt(bucketCount);
+        out.writeInt(slotCount);
+        for (int seed : seeds) {
+            out.writeInt(seed);
+        }
+        for (int slot : slots) {
+            out.writeInt(slot);
+        }
+        out.writeInt(tablePosition);
+    }
+
+    /**
+     * Builds the perfect hash: the names are distributed in buckets, and for each bucket, the largest first, a seed is
+     * searched that maps all the names of the bucket to free slots.
+     */
+    private static boolean place(List<byte[]> names, List<Integer> positions, int[] seeds, int[] slots) {
+        if (slots.length == 0) {
+            return true;
+        }
+        List<List<Integer>> buckets = new ArrayList<>(seeds.length);
+        for (int i = 0; i < seeds.length; i++) {
+            buckets.add(new ArrayList<>(BUCKET_SIZE));
+        }
+        for (int i = 0; i < names.size(); i++) {
+            buckets.get(Math.floorMod(hash(0, names.get(i)), seeds.length)).add(i);
+        }
+        Integer[] order = new Integer[seeds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+        boolean[] used = new boolean[slots.length];
+        for (Integer bucketIndex : order) {
+            List<Integer> bucket = buckets.get(bucketIndex);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            int[] candidate = new int[bucket.size()];
+            int seed = 1;
+            search: for (; seed < MAX_SEED; seed++) {
+                for (int i = 0; i < candidate.length; i++) {
+                    int slot = Math.floorMod(hash(seed, names.get(bucket.get(i))), slots.length);
+                    if (used[slot]) {
+                        continue search;
+                    }
+                    for (int j = 0; j < i; j++) {
+                        if (candidate[j] == slot) {
+                            continue search;
+                        }
+                    }
+                    candidate[i] = slot;
+                }
+                break;
+            }
+            if (seed == MAX_SEED) {
+                return false;
+            }
+            seeds[bucketIndex] = seed;
+            for (int i = 0; i < candidate.length; i++) {
+                used[candidate[i]] = true;
+                slots[candidate[i]] = positions.get(bucket.get(i));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a with a final avalanche step, so that different seeds yield independent hashes.
+     */
+    private static int hash(int seed, byte[] name) {
+        int h = 0x811C9DC5 ^ seed;
+        for (byte b : name) {
+            h ^= b & 0xFF;
+            h *= 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static boolean isMultiRelease(JarFile jar) throws IOException {
+        Manifest manifest = jar.getManifest();
+        return manifest != null && Boolean.parseBoolean(manifest.getMainAttributes().getValue(MULTI_RELEASE));
+    }
+
+    private static byte[] readAll(InputStream in, byte[] buffer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
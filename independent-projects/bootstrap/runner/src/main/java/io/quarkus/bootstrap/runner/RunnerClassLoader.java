@@ -24,6 +24,10 @@ public final class RunnerClassLoader extends ClassLoader {
     // in order for the resource loading to work properly
     private final Set<String> fullyIndexedDirectories;
     private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    // the classes of the class path in a memory mapped file, may be null
+    // the entries refer to the resources by their index in the class path
+    private final MappedClassData mappedClassData;
+    private final ClassLoadingResource[] classPath;
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
@@ -36,13 +40,16 @@ public final class RunnerClassLoader extends ClassLoader {
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
-            Set<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+            Set<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap,
+            MappedClassData mappedClassData, ClassLoadingResource[] classPath) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
         this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.mappedClassData = mappedClassData;
+        this.classPath = classPath;
     }
 
     @Override
@@ -80,6 +87,15 @@ public final class RunnerClassLoader extends ClassLoader {
             }
             if (resources != null) {
                 String classResource = name.replace('.', '/') + ".class";
+                if (mappedClassData != null) {
+                    int entry = mappedClassData.findEntry(classResource);
+                    if (entry != -1) {
+                        ClassLoadingResource resource = classPath[mappedClassData.getClassPathIndex(entry)];
+                        byte[] data = mappedClassData.getData(entry);
+                        definePackage(packageName, resources);
+                        return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    }
+                }
                 for (ClassLoadingResource resource : resources) {
                     accessingResource(resource);
                     byte[] data = resource.getResourceData(classResource);
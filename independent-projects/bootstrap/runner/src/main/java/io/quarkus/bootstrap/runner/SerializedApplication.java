@@ -38,7 +38,7 @@ public class SerializedApplication {
     private static final Set<String> FULLY_INDEXED_PATHS = new LinkedHashSet<>(Arrays.asList("", "META-INF/services"));
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -59,10 +59,25 @@ public class SerializedApplication {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, null);
+    }
+
+    /**
+     * @param mappedClassData if not {@code null}, the file to which the classes of the class path are written, so that
+     *        they can be loaded from a memory mapped file at runtime, see {@link MappedClassData}
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, Path mappedClassData)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            if (mappedClassData != null && MappedClassData.write(mappedClassData, classPath)) {
+                writeNullableString(data, applicationRoot.relativize(mappedClassData).toString().replace('\\', '/'));
+            } else {
+                writeNullableString(data, null);
+            }
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
@@ -108,6 +123,7 @@ public class SerializedApplication {
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            String mappedClassDataPath = readNullableString(in);
             Map<String, ClassLoadingResource[]> resourceDirectoryMap = new HashMap<>();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
@@ -158,9 +174,12 @@ public class SerializedApplication {
                 }
                 directlyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            MappedClassData mappedClassData = mappedClassDataPath == null ? null
+                    : MappedClassData.map(appRoot.resolve(mappedClassDataPath));
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryMap, parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap,
+                    mappedClassData, allClassLoadingResources);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init(runnerClassLoader);
             }
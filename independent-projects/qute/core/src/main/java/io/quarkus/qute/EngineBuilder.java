@@ -15,6 +15,7 @@ public final class EngineBuilder {
 
     final Map<String, SectionHelperFactory<?>> sectionHelperFactories;
     final List<ValueResolver> valueResolvers;
+    final List<ValueAccessor> valueAccessors;
     final List<NamespaceResolver> namespaceResolvers;
     final List<TemplateLocator> locators;
     final List<ResultMapper> resultMappers;
@@ -25,6 +26,7 @@ public final class EngineBuilder {
     EngineBuilder() {
         this.sectionHelperFactories = new HashMap<>();
         this.valueResolvers = new ArrayList<>();
+        this.valueAccessors = new ArrayList<>();
         this.namespaceResolvers = new ArrayList<>();
         this.locators = new ArrayList<>();
         this.resultMappers = new ArrayList<>();
@@ -89,6 +91,17 @@ public final class EngineBuilder {
         return addDefaultSectionHelpers().addDefaultValueResolvers();
     }
 
+    /**
+     * 
+     * @param accessor
+     * @return self
+     * @see ValueAccessor
+     */
+    public EngineBuilder addValueAccessor(ValueAccessor accessor) {
+        this.valueAccessors.add(accessor);
+        return this;
+    }
+
     public EngineBuilder addNamespaceResolver(NamespaceResolver resolver) {
         for (NamespaceResolver namespaceResolver : namespaceResolvers) {
             if (namespaceResolver.getNamespace().equals(resolver.getNamespace())) {
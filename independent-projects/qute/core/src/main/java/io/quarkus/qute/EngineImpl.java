@@ -42,7 +42,7 @@ class EngineImpl implements Engine {
         this.sectionHelperFactories = Collections.unmodifiableMap(new HashMap<>(builder.sectionHelperFactories));
         this.valueResolvers = sort(builder.valueResolvers);
         this.namespaceResolvers = ImmutableList.copyOf(builder.namespaceResolvers);
-        this.evaluator = new EvaluatorImpl(this.valueResolvers);
+        this.evaluator = new EvaluatorImpl(this.valueResolvers, builder.valueAccessors);
         this.templates = new ConcurrentHashMap<>();
         this.locators = sort(builder.locators);
         this.resultMappers = sort(builder.resultMappers);
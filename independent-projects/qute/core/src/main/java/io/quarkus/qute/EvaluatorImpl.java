@@ -4,9 +4,12 @@ import io.quarkus.qute.Expression.Part;
 import io.quarkus.qute.ExpressionImpl.PartImpl;
 import io.quarkus.qute.Results.Result;
 import io.smallrye.mutiny.Uni;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.jboss.logging.Logger;
@@ -19,9 +22,15 @@ class EvaluatorImpl implements Evaluator {
     private static final Logger LOGGER = Logger.getLogger(EvaluatorImpl.class);
 
     private final List<ValueResolver> resolvers;
+    private final Map<String, List<ValueAccessor>> accessors;
 
-    EvaluatorImpl(List<ValueResolver> valueResolvers) {
+    EvaluatorImpl(List<ValueResolver> valueResolvers, List<ValueAccessor> valueAccessors) {
         this.resolvers = valueResolvers;
+        Map<String, List<ValueAccessor>> accessors = new HashMap<>();
+        for (ValueAccessor accessor : valueAccessors) {
+            accessors.computeIfAbsent(accessor.getPath(), p -> new ArrayList<>()).add(accessor);
+        }
+        this.accessors = accessors;
     }
 
     @Override
@@ -36,7 +45,13 @@ class EvaluatorImpl implements Evaluator {
             }
             EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.getNamespace(), resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
+            CompletionStage<Object> result = resolver.resolve(context);
+            if (Futures.isDone(result)) {
+                // Sync fast path - continue with the value right away
+                Object r = Futures.getNow(result);
+                return parts.hasNext() ? resolveReference(false, r, parts, resolutionContext) : toCompletionStage(r);
+            }
+            return result.thenCompose(r -> {
                 if (parts.hasNext()) {
                     return resolveReference(false, r, parts, resolutionContext);
                 } else {
@@ -48,6 +63,13 @@ class EvaluatorImpl implements Evaluator {
                 return expression.getLiteralValue();
             } else {
                 parts = expression.getParts().iterator();
+                if (!accessors.isEmpty() && expression instanceof ExpressionImpl) {
+                    String path = ((ExpressionImpl) expression).getAccessorPath();
+                    List<ValueAccessor> pathAccessors = path != null ? accessors.get(path) : null;
+                    if (pathAccessors != null) {
+                        return resolveWithAccessor((ExpressionImpl) expression, pathAccessors, parts, resolutionContext);
+                    }
+                }
                 return resolveReference(true, resolutionContext.getData(), parts, resolutionContext);
             }
         }
@@ -67,17 +89,56 @@ class EvaluatorImpl implements Evaluator {
         return findNamespaceResolver(namespace, resolutionContext.getParent());
     }
 
+    private CompletionStage<Object> resolveWithAccessor(ExpressionImpl expression, List<ValueAccessor> pathAccessors,
+            Iterator<Part> parts, ResolutionContext resolutionContext) {
+        // The first part is always resolved by the value resolvers
+        CompletionStage<Object> base = resolve(new EvalContextImpl(true, resolutionContext.getData(), parts.next(),
+                resolutionContext), null, true);
+        if (Futures.isDone(base)) {
+            return access(expression, pathAccessors, Futures.getNow(base), parts, resolutionContext);
+        }
+        return base.thenCompose(b -> access(expression, pathAccessors, b, parts, resolutionContext));
+    }
+
+    private CompletionStage<Object> access(ExpressionImpl expression, List<ValueAccessor> pathAccessors, Object base,
+            Iterator<Part> parts, ResolutionContext resolutionContext) {
+        if (base != null) {
+            ValueAccessor accessor = expression.cachedAccessor;
+            if (accessor == null || !accessor.getBaseClass().isInstance(base)) {
+                accessor = null;
+                for (ValueAccessor pathAccessor : pathAccessors) {
+                    if (pathAccessor.getBaseClass().isInstance(base)) {
+                        accessor = pathAccessor;
+                        expression.cachedAccessor = accessor;
+                        break;
+                    }
+                }
+            }
+            if (accessor != null) {
+                Object value = accessor.access(base);
+                if (!Result.NOT_FOUND.equals(value)) {
+                    return toCompletionStage(value);
+                }
+            }
+        }
+        // Continue with the value resolvers
+        return resolveReference(false, base, parts, resolutionContext);
+    }
+
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext) {
         Part part = parts.next();
         EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
+        CompletionStage<Object> result = resolve(evalContext, null, true);
         if (!parts.hasNext()) {
             // The last part - no need to compose
-            return resolve(evalContext, null, true);
+            return result;
+        } else if (Futures.isDone(result)) {
+            // Sync fast path - the next part can be resolved right away
+            return resolveReference(false, Futures.getNow(result), parts, resolutionContext);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
         }
     }
 
@@ -88,7 +149,16 @@ class EvaluatorImpl implements Evaluator {
             // Try the cached resolver first
             ValueResolver cachedResolver = evalContext.getCachedResolver();
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cachedResolver.resolve(evalContext);
+                if (Futures.isDone(result)) {
+                    Object r = Futures.getNow(result);
+                    if (Result.NOT_FOUND.equals(r)) {
+                        return resolve(evalContext, null, false);
+                    } else {
+                        return toCompletionStage(result, r);
+                    }
+                }
+                return result.thenCompose(r -> {
                     if (Result.NOT_FOUND.equals(r)) {
                         return resolve(evalContext, null, false);
                     } else {
@@ -123,9 +193,19 @@ class EvaluatorImpl implements Evaluator {
             return Results.NOT_FOUND;
         }
 
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (Futures.isDone(result)) {
+            Object r = Futures.getNow(result);
+            if (Result.NOT_FOUND.equals(r)) {
+                return resolve(evalContext, resolvers, false);
+            } else {
+                evalContext.setCachedResolver(applicableResolver);
+                return toCompletionStage(result, r);
+            }
+        }
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        return result.thenCompose(r -> {
             if (Result.NOT_FOUND.equals(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false);
@@ -149,6 +229,19 @@ class EvaluatorImpl implements Evaluator {
         return CompletableFuture.completedFuture(result);
     }
 
+    /**
+     * 
+     * @param stage the completed stage
+     * @param result the value of the stage
+     * @return the stage itself unless the value needs to be converted
+     */
+    private CompletionStage<Object> toCompletionStage(CompletionStage<Object> stage, Object result) {
+        if (result instanceof CompletionStage || result instanceof Uni) {
+            return toCompletionStage(result);
+        }
+        return stage;
+    }
+
     static class EvalContextImpl implements EvalContext {
 
         final boolean tryParent;
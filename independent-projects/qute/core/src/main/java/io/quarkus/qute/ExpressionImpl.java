@@ -57,6 +57,8 @@ final class ExpressionImpl implements Expression {
     private final List<Part> parts;
     private final CompletableFuture<Object> literal;
     private final Origin origin;
+    private final String accessorPath;
+    volatile ValueAccessor cachedAccessor;
 
     ExpressionImpl(int id, String namespace, List<Part> parts, Object literal, Origin origin) {
         this.id = id;
@@ -64,6 +66,7 @@ final class ExpressionImpl implements Expression {
         this.parts = parts;
         this.literal = literal != Result.NOT_FOUND ? CompletableFuture.completedFuture(literal) : null;
         this.origin = origin;
+        this.accessorPath = initAccessorPath();
     }
 
     public String getNamespace() {
@@ -87,6 +90,32 @@ final class ExpressionImpl implements Expression {
         return origin;
     }
 
+    /**
+     * 
+     * @return the path a {@link ValueAccessor} must match, or {@code null} if no accessor applies to this expression
+     */
+    String getAccessorPath() {
+        return accessorPath;
+    }
+
+    private String initAccessorPath() {
+        if (namespace != null || literal != null || parts.size() < 2) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int i = 1; i < parts.size(); i++) {
+            Part part = parts.get(i);
+            if (part.isVirtualMethod()) {
+                return null;
+            }
+            if (i > 1) {
+                builder.append('.');
+            }
+            builder.append(part.getName());
+        }
+        return builder.toString();
+    }
+
     @Override
     public int getGeneratedId() {
         return id;
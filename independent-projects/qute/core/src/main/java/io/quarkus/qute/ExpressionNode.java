@@ -23,7 +23,12 @@ class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<R
 
     @Override
     public CompletionStage<ResultNode> resolve(ResolutionContext context) {
-        return context.evaluate(expression).thenCompose(this);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (Futures.isDone(result)) {
+            // Sync fast path
+            return apply(Futures.getNow(result));
+        }
+        return result.thenCompose(this);
     }
 
     @Override
@@ -31,7 +36,8 @@ class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<R
         if (result instanceof ResultNode) {
             return CompletableFuture.completedFuture((ResultNode) result);
         } else if (result instanceof CompletionStage) {
-            return ((CompletionStage<?>) result).thenCompose(this);
+            CompletionStage<?> stage = (CompletionStage<?>) result;
+            return Futures.isDone(stage) ? apply(Futures.getNow(stage)) : stage.thenCompose(this);
         } else {
             return CompletableFuture.completedFuture(new SingleResultNode(result, this));
         }
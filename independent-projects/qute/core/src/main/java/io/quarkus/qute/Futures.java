@@ -11,6 +11,33 @@ public final class Futures {
     private Futures() {
     }
 
+    /**
+     * The result of a resolver is usually available immediately. In that case, the value can be used right away instead of
+     * composing the stages, which avoids allocating a new future for each step of the evaluation.
+     * <p>
+     * Only plain {@link CompletableFuture}s are considered, as some implementations, e.g. the stage returned from
+     * {@link CompletableFuture#completedStage(Object)}, do not support {@link CompletableFuture#isDone()}.
+     *
+     * @param stage
+     * @return {@code true} if the stage completed normally and its value can be obtained with {@link #getNow(CompletionStage)}
+     */
+    static boolean isDone(CompletionStage<?> stage) {
+        if (stage.getClass() != CompletableFuture.class) {
+            return false;
+        }
+        CompletableFuture<?> future = (CompletableFuture<?>) stage;
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * 
+     * @param stage
+     * @return the value of a stage for which {@link #isDone(CompletionStage)} returned {@code true}
+     */
+    static <T> T getNow(CompletionStage<T> stage) {
+        return ((CompletableFuture<T>) stage).getNow(null);
+    }
+
     public static <T> CompletableFuture<T> failure(Throwable t) {
         CompletableFuture<T> failure = new CompletableFuture<>();
         failure.completeExceptionally(t);
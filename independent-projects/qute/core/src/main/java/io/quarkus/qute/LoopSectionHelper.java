@@ -50,12 +50,18 @@ public class LoopSectionHelper implements SectionHelper {
             if (results.size() == 1) {
                 return results.get(0);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<>();
             CompletableFuture<ResultNode>[] allResults = new CompletableFuture[results.size()];
+            boolean done = true;
             idx = 0;
             for (CompletionStage<ResultNode> r : results) {
+                done = done && Futures.isDone(r);
                 allResults[idx++] = r.toCompletableFuture();
             }
+            if (done) {
+                // Sync fast path - all the iterations are resolved already
+                return CompletableFuture.completedFuture(new MultiResultNode(allResults));
+            }
+            CompletableFuture<ResultNode> result = new CompletableFuture<>();
             CompletableFuture
                     .allOf(allResults)
                     .whenComplete((v, t) -> {
@@ -29,4 +29,8 @@ public class MultiResultNode implements ResultNode {
         }
     }
 
+    ResultNode[] getResults() {
+        return results;
+    }
+
 }
@@ -0,0 +1,102 @@
+package io.quarkus.qute;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * A cursor over the output of a resolved template.
+ * <p>
+ * All the values are resolved before the cursor is created, so the output can be produced synchronously, part by part.
+ * Unlike {@link TemplateInstance#consume(Consumer)}, the consumer decides when the next parts are produced, e.g. once the
+ * previous parts were written.
+ * <p>
+ * This construct is not thread-safe.
+ *
+ * @see TemplateInstance#resolve()
+ */
+public final class ResultCursor {
+
+    // the nodes that are processed in a single step, and the position of the next one
+    private final Deque<ResultNode[]> nodes;
+    private final Deque<Integer> positions;
+
+    ResultCursor(ResultNode root) {
+        this.nodes = new ArrayDeque<>();
+        this.positions = new ArrayDeque<>();
+        nodes.push(new ResultNode[] { root });
+        positions.push(0);
+    }
+
+    /**
+     * @param output an output that is already rendered
+     * @return a cursor that produces the output in a single part
+     */
+    static ResultCursor of(String output) {
+        return new ResultCursor(new ResultNode() {
+            @Override
+            public void process(Consumer<String> resultConsumer) {
+                resultConsumer.accept(output);
+            }
+        });
+    }
+
+    /**
+     * Passes the next parts of the output to the consumer, until at least the given number of characters was consumed or
+     * the end of the output is reached.
+     *
+     * @param consumer
+     * @param length
+     * @return {@code true} if there is more output
+     */
+    public boolean next(Consumer<String> consumer, int length) {
+        LengthConsumer lengthConsumer = new LengthConsumer(consumer);
+        while (!nodes.isEmpty() && lengthConsumer.length < length) {
+            ResultNode[] current = nodes.peek();
+            int position = positions.pop();
+            if (position == current.length) {
+                nodes.pop();
+                continue;
+            }
+            positions.push(position + 1);
+            ResultNode node = current[position];
+            if (node instanceof MultiResultNode) {
+                nodes.push(((MultiResultNode) node).getResults());
+                positions.push(0);
+            } else {
+                node.process(lengthConsumer);
+            }
+        }
+        return hasNext();
+    }
+
+    /**
+     * @return {@code true} if there is more output
+     */
+    public boolean hasNext() {
+        // skip the nodes that were completely processed
+        while (!nodes.isEmpty() && positions.peek() == nodes.peek().length) {
+            nodes.pop();
+            positions.pop();
+        }
+        return !nodes.isEmpty();
+    }
+
+    static final class LengthConsumer implements Consumer<String> {
+
+        private final Consumer<String> delegate;
+        int length;
+
+        LengthConsumer(Consumer<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void accept(String value) {
+            length += value.length();
+            delegate.accept(value);
+        }
+
+    }
+
+}
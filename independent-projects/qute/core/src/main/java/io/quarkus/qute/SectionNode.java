@@ -2,7 +2,6 @@ package io.quarkus.qute;
 
 import io.quarkus.qute.SectionHelper.SectionResolutionContext;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -125,37 +124,40 @@ class SectionNode implements TemplateNode {
             if (size == 1) {
                 return block.nodes.get(0).resolve(context);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             @SuppressWarnings("unchecked")
             CompletableFuture<ResultNode>[] allResults = new CompletableFuture[size];
-            List<CompletableFuture<ResultNode>> asyncResults = new LinkedList<>();
+            boolean done = true;
             int idx = 0;
             for (TemplateNode node : block.nodes) {
-                CompletableFuture<ResultNode> nodeResult = node.resolve(context).toCompletableFuture();
-                allResults[idx++] = nodeResult;
-                if (node.isConstant()) {
-                    continue;
+                CompletionStage<ResultNode> nodeResult = node.resolve(context);
+                done = done && Futures.isDone(nodeResult);
+                allResults[idx++] = nodeResult.toCompletableFuture();
+            }
+            if (done) {
+                // Sync fast path - all the nodes are resolved already
+                return CompletableFuture.completedFuture(new MultiResultNode(allResults));
+            }
+            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
+            List<CompletableFuture<ResultNode>> asyncResults = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (!block.nodes.get(i).isConstant()) {
+                    asyncResults.add(allResults[i]);
                 }
-                asyncResults.add(nodeResult);
             }
-            if (asyncResults.isEmpty()) {
-                result.complete(new MultiResultNode(allResults));
+            CompletionStage<?> cs;
+            if (asyncResults.size() == 1) {
+                cs = asyncResults.get(0);
             } else {
-                CompletionStage<?> cs;
-                if (asyncResults.size() == 1) {
-                    cs = asyncResults.get(0);
+                cs = CompletableFuture
+                        .allOf(asyncResults.toArray(new CompletableFuture[0]));
+            }
+            cs.whenComplete((v, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
                 } else {
-                    cs = CompletableFuture
-                            .allOf(asyncResults.toArray(new CompletableFuture[0]));
+                    result.complete(new MultiResultNode(allResults));
                 }
-                cs.whenComplete((v, t) -> {
-                    if (t != null) {
-                        result.completeExceptionally(t);
-                    } else {
-                        result.complete(new MultiResultNode(allResults));
-                    }
-                });
-            }
+            });
             return result;
         }
 
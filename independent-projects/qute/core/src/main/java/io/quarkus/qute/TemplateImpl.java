@@ -52,7 +52,13 @@ class TemplateImpl implements Template {
             try {
                 Object timeoutAttr = getAttribute(TIMEOUT);
                 long timeout = timeoutAttr != null ? Long.parseLong(timeoutAttr.toString()) : 10000;
-                return renderAsync().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                StringBuilder builder = new StringBuilder();
+                CompletionStage<Void> result = renderData(data(), builder::append);
+                if (!Futures.isDone(result)) {
+                    // Some of the resolvers are async - wait for the result
+                    result.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                }
+                return builder.toString();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -95,16 +101,39 @@ class TemplateImpl implements Template {
             return renderData(data(), resultConsumer);
         }
 
-        private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
+        @Override
+        public CompletionStage<ResultCursor> resolve() {
+            CompletionStage<ResultNode> rootResult = resolveData(data());
+            if (Futures.isDone(rootResult)) {
+                return CompletableFuture.completedFuture(new ResultCursor(Futures.getNow(rootResult)));
+            }
+            return rootResult.thenApply(ResultCursor::new);
+        }
+
+        private CompletionStage<ResultNode> resolveData(Object data) {
             DataNamespaceResolver dataResolver = new DataNamespaceResolver();
             List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
                     .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
             ResolutionContext rootContext = new ResolutionContextImpl(data, namespaceResolvers,
                     engine.getEvaluator(), null, this);
             dataResolver.rootContext = rootContext;
+            return root.resolve(rootContext);
+        }
+
+        private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            CompletionStage<ResultNode> rootResult = resolveData(data);
+            if (Futures.isDone(rootResult)) {
+                // Sync fast path - no resolver returned an incomplete stage
+                try {
+                    Futures.getNow(rootResult).process(consumer);
+                    return CompletableFuture.completedFuture(null);
+                } catch (Throwable e) {
+                    return Futures.failure(e);
+                }
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            rootResult.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
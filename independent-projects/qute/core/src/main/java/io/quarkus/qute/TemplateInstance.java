@@ -104,4 +104,19 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers the resolution of the template. Unlike {@link #consume(Consumer)}, the output is not produced once the
+     * template is resolved. Instead, it is produced on demand with the returned cursor, which makes it possible to write a
+     * large output in chunks and to stop producing it while a chunk cannot be written.
+     * 
+     * <p>
+     * The default implementation renders the whole template with {@link #renderAsync()}, and the cursor produces the
+     * rendered output at once.
+     * 
+     * @return a completion stage that is completed with the cursor once the template is resolved
+     */
+    default CompletionStage<ResultCursor> resolve() {
+        return renderAsync().thenApply(ResultCursor::of);
+    }
+
 }
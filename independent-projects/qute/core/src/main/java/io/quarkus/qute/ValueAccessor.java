@@ -0,0 +1,41 @@
+package io.quarkus.qute;
+
+import io.quarkus.qute.Results.Result;
+
+/**
+ * Value accessors are used to access the properties of an object directly, without the value resolvers.
+ * <p>
+ * An accessor applies to the expressions that consist of properties only, i.e. with no namespace and no virtual methods. The
+ * first part of such an expression is always resolved by the value resolvers. If the resolved object is an instance of the
+ * {@link #getBaseClass() base class} of an accessor with a matching {@link #getPath() path}, the remaining parts are obtained
+ * from the accessor. Otherwise, or if the accessor returns {@link Result#NOT_FOUND}, the value resolvers are used.
+ * <p>
+ * Accessors are usually generated at build time for the expressions that were validated against the types of the data. Note
+ * that an accessor takes precedence over the value resolvers that would otherwise resolve the remaining parts.
+ * 
+ * @see EngineBuilder#addValueAccessor(ValueAccessor)
+ */
+public interface ValueAccessor {
+
+    /**
+     * 
+     * @return the names of the parts following the first part of an expression, separated by dots, e.g. {@code name.length}
+     *         for the expression {@code item.name.length}
+     */
+    String getPath();
+
+    /**
+     * 
+     * @return the class of the objects this accessor applies to
+     */
+    Class<?> getBaseClass();
+
+    /**
+     * 
+     * @param base an instance of the base class
+     * @return the value or {@link Result#NOT_FOUND} if the value resolvers should be used instead, e.g. if some intermediate
+     *         value is {@code null}
+     */
+    Object access(Object base);
+
+}
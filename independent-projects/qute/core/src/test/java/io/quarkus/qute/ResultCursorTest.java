@@ -0,0 +1,103 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+public class ResultCursorTest {
+
+    @Test
+    public void testParts() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Items:{#for item in items}<{item}>{/for}!");
+        List<String> items = Arrays.asList("alpha", "bravo", "charlie");
+
+        ResultCursor cursor = resolve(template.data("items", items));
+        List<String> parts = new ArrayList<>();
+        assertTrue(cursor.next(parts::add, 8));
+        // "Items:" and "<" are produced before the limit is reached
+        assertEquals(Arrays.asList("Items:", "<", "alpha"), parts);
+        parts.clear();
+        assertTrue(cursor.next(parts::add, 1));
+        assertEquals(Arrays.asList(">"), parts);
+        StringBuilder rest = new StringBuilder();
+        assertFalse(cursor.next(rest::append, Integer.MAX_VALUE));
+        assertEquals("<bravo><charlie>!", rest.toString());
+        assertFalse(cursor.hasNext());
+        assertFalse(cursor.next(rest::append, 10));
+    }
+
+    @Test
+    public void testOutputMatchesRender() throws Exception {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        Template template = engine.parse(
+                "{foo.toLowerCase}::{#each items}{#if count > 1},{/if}{#each it}{it}{/each}{/each}{#if empty}empty{/if}");
+        List<List<String>> items = Arrays.asList(Arrays.asList("a", "b"), Arrays.asList(), Arrays.asList("c"));
+
+        String expected = template.data("foo", "FOO").data("items", items).data("empty", false).render();
+        assertEquals("foo::ab,,c", expected);
+        for (int length = 1; length < 12; length++) {
+            ResultCursor cursor = resolve(template.data("foo", Uni.createFrom().item("FOO")).data("items", items)
+                    .data("empty", false));
+            StringBuilder builder = new StringBuilder();
+            while (cursor.next(builder::append, length)) {
+            }
+            assertEquals(expected, builder.toString());
+        }
+    }
+
+    @Test
+    public void testDefaultResolve() throws Exception {
+        TemplateInstance instance = new TemplateInstanceBase() {
+
+            @Override
+            public String render() {
+                return "rendered";
+            }
+
+            @Override
+            public CompletionStage<String> renderAsync() {
+                return CompletableFuture.completedFuture(render());
+            }
+
+            @Override
+            public Multi<String> createMulti() {
+                return Multi.createFrom().item(render());
+            }
+
+            @Override
+            public Uni<String> createUni() {
+                return Uni.createFrom().item(render());
+            }
+
+            @Override
+            public CompletionStage<Void> consume(Consumer<String> consumer) {
+                consumer.accept(render());
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        ResultCursor cursor = resolve(instance);
+        List<String> parts = new ArrayList<>();
+        assertFalse(cursor.next(parts::add, 1));
+        assertEquals(Arrays.asList("rendered"), parts);
+    }
+
+    private ResultCursor resolve(TemplateInstance instance)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return instance.resolve().toCompletableFuture().get(2, TimeUnit.SECONDS);
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.qute.Results.Result;
@@ -56,6 +57,34 @@ public class SimpleTest {
         assertEquals("moon", template.render(ImmutableList.of("moon")));
     }
 
+    @Test
+    public void testSyncAndAsyncResolution() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ValueResolver() {
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return context.getName().equals("later");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                // Completed asynchronously
+                return CompletableFuture.supplyAsync(() -> context.getBase().toString().toUpperCase());
+            }
+
+        }).build();
+
+        Template template = engine.parse("{#for item in items}{item}:{item.later}{#if hasNext},{/if}{/for}");
+        List<String> items = ImmutableList.of("foo", "bar");
+        assertEquals("foo:FOO,bar:BAR", template.data("items", items).render());
+
+        // All the resolvers complete immediately
+        template = engine.parse("{#for item in items}{item}{#if hasNext},{/if}{/for}");
+        CompletionStage<String> result = template.data("items", items).renderAsync();
+        assertTrue(result.toCompletableFuture().isDone());
+        assertEquals("foo,bar", result.toCompletableFuture().getNow(null));
+    }
+
     @Test
     public void testDataNamespace() {
         Map<String, Object> data = new HashMap<>();
@@ -0,0 +1,65 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.qute.Results.Result;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ValueAccessorTest {
+
+    @Test
+    public void testAccessor() {
+        AtomicInteger accessed = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addValueAccessor(new ValueAccessor() {
+
+                    @Override
+                    public String getPath() {
+                        return "name.length";
+                    }
+
+                    @Override
+                    public Class<?> getBaseClass() {
+                        return Item.class;
+                    }
+
+                    @Override
+                    public Object access(Object base) {
+                        accessed.incrementAndGet();
+                        String name = ((Item) base).getName();
+                        return name != null ? name.length() : Result.NOT_FOUND;
+                    }
+                }).build();
+
+        Template template = engine.parse("{item.name.length}:{item.name}");
+        assertEquals("3:foo", template.data("item", new Item("foo")).render());
+        assertEquals(1, accessed.get());
+        // Not an instance of the base class
+        assertEquals("5:alpha", template.data("item", new Object() {
+            @SuppressWarnings("unused")
+            public String getName() {
+                return "alpha";
+            }
+        }).render());
+        assertEquals(1, accessed.get());
+        // The value resolvers are used instead
+        assertEquals("NOT_FOUND:", template.data("item", new Item(null)).render());
+        assertEquals(2, accessed.get());
+    }
+
+    public static class Item {
+
+        private final String name;
+
+        public Item(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
@@ -2,12 +2,22 @@ package org.jboss.resteasy.reactive.common;
 
 public class ResteasyReactiveConfig {
 
+    public static final int DEFAULT_OUTPUT_BUFFER_SIZE = 8191;
+
     /**
      * The amount of memory that can be used to buffer input before switching to
      * blocking IO.
      */
     private long inputBufferSize;
 
+    /**
+     * The size of the output stream response buffer. If a response is larger than this and no content-length
+     * is provided then the request will be chunked.
+     * <p>
+     * Larger values may give slight performance increases for large responses, at the expense of more memory usage.
+     */
+    private int outputBufferSize = DEFAULT_OUTPUT_BUFFER_SIZE;
+
     /**
      * By default we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -28,7 +38,13 @@ public class ResteasyReactiveConfig {
     }
 
     public ResteasyReactiveConfig(long inputBufferSize, boolean singleDefaultProduces, boolean defaultProduces) {
+        this(inputBufferSize, DEFAULT_OUTPUT_BUFFER_SIZE, singleDefaultProduces, defaultProduces);
+    }
+
+    public ResteasyReactiveConfig(long inputBufferSize, int outputBufferSize, boolean singleDefaultProduces,
+            boolean defaultProduces) {
         this.inputBufferSize = inputBufferSize;
+        this.outputBufferSize = outputBufferSize;
         this.singleDefaultProduces = singleDefaultProduces;
         this.defaultProduces = defaultProduces;
     }
@@ -41,6 +57,14 @@ public class ResteasyReactiveConfig {
         this.inputBufferSize = inputBufferSize;
     }
 
+    public int getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+    public void setOutputBufferSize(int outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+    }
+
     public boolean isSingleDefaultProduces() {
         return singleDefaultProduces;
     }
@@ -4,10 +4,42 @@ public class CurrentRequestManager {
 
     private static volatile CurrentRequest currentRequest = new DefaultCurrentRequest();
 
+    /**
+     * The request whose resource method is being invoked without an active CDI request scope
+     */
+    private static final ThreadLocal<ResteasyReactiveRequestContext> UNSCOPED_INVOCATION = new ThreadLocal<>();
+
+    /**
+     * Whether a resource method may be invoked without an active CDI request scope, so that {@link #UNSCOPED_INVOCATION}
+     * is only looked up by the applications that use it
+     */
+    private static volatile boolean unscopedInvocations;
+
     public static ResteasyReactiveRequestContext get() {
+        if (unscopedInvocations) {
+            ResteasyReactiveRequestContext unscoped = UNSCOPED_INVOCATION.get();
+            if (unscoped != null) {
+                return unscoped;
+            }
+        }
         return currentRequest.get();
     }
 
+    /**
+     * Must be called at deployment time if a resource method is invoked without an active CDI request scope.
+     */
+    public static void enableUnscopedInvocations() {
+        unscopedInvocations = true;
+    }
+
+    public static void setUnscopedInvocation(ResteasyReactiveRequestContext context) {
+        if (context == null) {
+            UNSCOPED_INVOCATION.remove();
+        } else {
+            UNSCOPED_INVOCATION.set(context);
+        }
+    }
+
     public static void set(ResteasyReactiveRequestContext set) {
         currentRequest.set(set);
     }
@@ -10,6 +10,7 @@ import java.util.function.Supplier;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.ext.ParamConverter;
 import javax.ws.rs.ext.ParamConverterProvider;
+import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
 import org.jboss.resteasy.reactive.common.model.ResourceParamConverterProvider;
 import org.jboss.resteasy.reactive.common.util.types.Types;
@@ -39,6 +40,7 @@ public class Deployment {
     private final RequestContextFactory requestContextFactory;
     private final List<ResourceRequestFilterHandler> preMatchHandlers;
     private final List<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers;
+    private final ResteasyReactiveConfig resteasyReactiveConfig;
 
     public Deployment(ExceptionMapping exceptionMapping, ContextResolvers contextResolvers,
             ServerSerialisers serialisers,
@@ -47,7 +49,8 @@ public class Deployment {
             ConfigurationImpl configuration, Supplier<Application> applicationSupplier,
             ThreadSetupAction threadSetupAction, RequestContextFactory requestContextFactory,
             List<ResourceRequestFilterHandler> preMatchHandlers,
-            List<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers) {
+            List<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers,
+            ResteasyReactiveConfig resteasyReactiveConfig) {
         this.exceptionMapping = exceptionMapping;
         this.contextResolvers = contextResolvers;
         this.serialisers = serialisers;
@@ -61,6 +64,7 @@ public class Deployment {
         this.requestContextFactory = requestContextFactory;
         this.preMatchHandlers = preMatchHandlers;
         this.classMappers = classMappers;
+        this.resteasyReactiveConfig = resteasyReactiveConfig;
     }
 
     public Supplier<Application> getApplicationSupplier() {
@@ -159,4 +163,8 @@ public class Deployment {
     public RequestContextFactory getRequestContextFactory() {
         return requestContextFactory;
     }
+
+    public ResteasyReactiveConfig getResteasyReactiveConfig() {
+        return resteasyReactiveConfig;
+    }
 }
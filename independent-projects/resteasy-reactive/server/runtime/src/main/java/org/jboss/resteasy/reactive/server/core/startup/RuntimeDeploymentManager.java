@@ -190,7 +190,7 @@ public class RuntimeDeploymentManager {
         Deployment deployment = new Deployment(exceptionMapping, info.getCtxResolvers(), serialisers,
                 abortHandlingChain.toArray(EMPTY_REST_HANDLER_ARRAY), dynamicEntityWriter,
                 prefix, paramConverterProviders, configurationImpl, applicationSupplier,
-                threadSetupAction, requestContextFactory, preMatchHandlers, classMappers);
+                threadSetupAction, requestContextFactory, preMatchHandlers, classMappers, info.getConfig());
 
         return deployment;
     }
@@ -31,6 +31,7 @@ import org.jboss.resteasy.reactive.common.util.MediaTypeHelper;
 import org.jboss.resteasy.reactive.common.util.QuarkusMultivaluedHashMap;
 import org.jboss.resteasy.reactive.common.util.ServerMediaType;
 import org.jboss.resteasy.reactive.common.util.types.TypeSignatureParser;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
 import org.jboss.resteasy.reactive.server.core.DeploymentInfo;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.core.parameters.AsyncResponseExtractor;
@@ -72,6 +73,7 @@ import org.jboss.resteasy.reactive.server.handlers.UniResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.VariableProducesHandler;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
 import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
 import org.jboss.resteasy.reactive.server.model.ServerMethodParameter;
 import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
@@ -151,6 +153,8 @@ public class RuntimeResourceDeployment {
         //which we also want in the abort handler chain
         abortHandlingChain.addAll(handlers);
 
+        addHandlers(handlers, method, HandlerChainCustomizer.Phase.AFTER_MATCH);
+
         // when a method is blocking, we also want all the request filters to run on the worker thread
         // because they can potentially set thread local variables
         if (method.isBlocking()) {
@@ -248,7 +252,12 @@ public class RuntimeResourceDeployment {
                     converter, param.parameterType,
                     param.isObtainedAsCollection()));
         }
-        handlers.add(new InvocationHandler(invoker));
+        if (!method.isCdiRequestScopeRequired()) {
+            CurrentRequestManager.enableUnscopedInvocations();
+        }
+        addHandlers(handlers, method, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE);
+        handlers.add(new InvocationHandler(invoker, method.isCdiRequestScopeRequired()));
+        addHandlers(handlers, method, HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE);
 
         Type returnType = TypeSignatureParser.parse(method.getReturnType());
         Class<?> rawReturnType = getRawType(returnType);
@@ -416,6 +425,13 @@ public class RuntimeResourceDeployment {
         }
     }
 
+    private static void addHandlers(List<ServerRestHandler> handlers, ServerResourceMethod method,
+            HandlerChainCustomizer.Phase phase) {
+        for (HandlerChainCustomizer customizer : method.getHandlerChainCustomizers()) {
+            handlers.addAll(customizer.handlers(phase));
+        }
+    }
+
     public Map<String, Integer> buildParamIndexMap(URITemplate classPathTemplate, URITemplate methodPathTemplate) {
         Map<String, Integer> pathParameterIndexes = new HashMap<>();
         int pathCount = 0;
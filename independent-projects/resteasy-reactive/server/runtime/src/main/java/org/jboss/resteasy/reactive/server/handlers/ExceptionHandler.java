@@ -10,6 +10,10 @@ public class ExceptionHandler implements ServerRestHandler {
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (requestContext.getThrowable() != null) {
+            // exception mappers may be CDI beans that depend on the request scope
+            requestContext.requireCDIRequestScope();
+        }
         requestContext.mapExceptionIfPresent();
     }
 }
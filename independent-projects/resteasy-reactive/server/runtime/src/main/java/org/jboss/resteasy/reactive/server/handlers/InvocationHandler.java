@@ -1,14 +1,21 @@
 package org.jboss.resteasy.reactive.server.handlers;
 
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
 public class InvocationHandler implements ServerRestHandler {
     private final EndpointInvoker invoker;
+    private final boolean requireCDIRequestScope;
 
     public InvocationHandler(EndpointInvoker invoker) {
+        this(invoker, true);
+    }
+
+    public InvocationHandler(EndpointInvoker invoker, boolean requireCDIRequestScope) {
         this.invoker = invoker;
+        this.requireCDIRequestScope = requireCDIRequestScope;
     }
 
     @Override
@@ -24,7 +31,12 @@ public class InvocationHandler implements ServerRestHandler {
         if (async) {
             requestContext.suspend();
         }
-        requestContext.requireCDIRequestScope();
+        if (requireCDIRequestScope) {
+            requestContext.requireCDIRequestScope();
+        } else {
+            // the request is still available via CurrentRequestManager, e.g. to resolve a relative Response location
+            CurrentRequestManager.setUnscopedInvocation(requestContext);
+        }
         try {
             Object result = invoker.invoke(requestContext.getEndpointInstance(), requestContext.getParameters());
             if (!async) {
@@ -36,6 +48,10 @@ public class InvocationHandler implements ServerRestHandler {
             if (async) {
                 requestContext.resume();
             }
+        } finally {
+            if (!requireCDIRequestScope) {
+                CurrentRequestManager.setUnscopedInvocation(null);
+            }
         }
     }
 }
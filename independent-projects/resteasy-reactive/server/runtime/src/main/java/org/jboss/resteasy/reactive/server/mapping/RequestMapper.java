@@ -7,20 +7,18 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
 public class RequestMapper<T> {
 
     /**
-     * TODO: this needs a lot of work
+     * The templates of each stem compiled into a radix tree
      */
-    private final PathMatcher<List<RequestPath<T>>> requestPaths;
+    private final PathMatcher<RequestPathTree<T>> compiledPaths;
     private final List<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(List<RequestPath<T>> templates) {
-        this.requestPaths = new PathMatcher<>();
+        this.compiledPaths = new PathMatcher<>();
         this.templates = templates;
         int max = 0;
         Map<String, List<RequestPath<T>>> aggregates = new HashMap<>();
@@ -41,85 +39,17 @@ public class RequestMapper<T> {
             });
         }
         for (Map.Entry<String, List<RequestPath<T>>> entry : aggregates.entrySet()) {
-            requestPaths.addPrefixPath(entry.getKey(), entry.getValue());
+            compiledPaths.addPrefixPath(entry.getKey(), new RequestPathTree<>(entry.getValue(), max));
         }
         maxParams = max;
     }
 
     public RequestMatch<T> map(String path) {
-        int pathLength = path.length();
-        PathMatcher.PathMatch<List<RequestPath<T>>> initialMatch = requestPaths.match(path);
+        PathMatcher.PathMatch<RequestPathTree<T>> initialMatch = compiledPaths.match(path);
         if (initialMatch.getValue() == null) {
             return null;
         }
-
-        List<RequestPath<T>> value = initialMatch.getValue();
-        for (int index = 0; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = new String[maxParams];
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    for (String name : segment.names) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(name), false);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
-                }
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            if (!prefixAllowed && !fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                prefixAllowed = path.charAt(matchPos) == '/' && matchPos == pathLength - 1;
-            }
-            if (matched && (fullMatch || prefixAllowed)) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
-                } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
-                }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
-            }
-        }
-        return null;
+        return initialMatch.getValue().match(path, initialMatch.getMatched().length());
     }
 
     public static class RequestPath<T> implements Dumpable {
@@ -176,11 +106,7 @@ public class RequestMapper<T> {
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
-    }
-
-    public PathMatcher<List<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        this.compiledPaths.dump(0);
     }
 
     public List<RequestPath<T>> getTemplates() {
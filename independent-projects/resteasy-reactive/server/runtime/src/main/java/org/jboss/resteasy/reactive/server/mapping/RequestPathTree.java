@@ -0,0 +1,349 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jboss.resteasy.reactive.common.util.URIDecoder;
+
+/**
+ * A radix tree of the templates that share the same stem.
+ * <p>
+ * Literal components are stored as compressed edges, so at every node at most one literal edge can match the next
+ * character of the path. Default path parameters are stored as a single wildcard edge, and templates that end in a
+ * custom regex keep their compiled pattern at the node where the regex starts.
+ * <p>
+ * Every template is given a rank, which is its position in the priority order required by the spec. The tree is
+ * searched depth first, and any subtree that cannot contain a better ranked template than the best match found so
+ * far is skipped. This gives exactly the same result as trying every template in priority order, but the work is
+ * proportional to the length of the path rather than to the number of templates. Path parameters are tracked as
+ * offsets into the path and are only decoded for the winning template. The state of the search is kept per thread
+ * and reused, so that only the match itself is allocated.
+ *
+ * @param <T> the type of the value associated with each template
+ */
+class RequestPathTree<T> implements Dumpable {
+
+    private final Node<T> root;
+    private final int maxParams;
+    private final ThreadLocal<Search<T>> searches = new ThreadLocal<>();
+
+    /**
+     * @param paths the templates, sorted in priority order
+     * @param maxParams the maximum number of path parameters of all templates
+     */
+    RequestPathTree(List<RequestMapper.RequestPath<T>> paths, int maxParams) {
+        this.maxParams = maxParams;
+        this.root = new Node<>();
+        for (int rank = 0; rank < paths.size(); rank++) {
+            add(rank, paths.get(rank));
+        }
+        root.complete();
+    }
+
+    private void add(int rank, RequestMapper.RequestPath<T> path) {
+        Node<T> node = root;
+        Pattern pattern = null;
+        String[] names = null;
+        // the first component is the stem, which has already been matched by the PathMatcher
+        URITemplate.TemplateComponent[] components = path.template.components;
+        for (int i = 1; i < components.length; ++i) {
+            URITemplate.TemplateComponent component = components[i];
+            if (component.type == URITemplate.Type.LITERAL) {
+                node = node.literal(component.literalText);
+            } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                node = node.param();
+            } else {
+                // URITemplate coalesces everything after the first custom regex, so this is always the last component
+                pattern = component.pattern;
+                names = component.names;
+            }
+        }
+        node.terminals.add(new Terminal<>(rank, path, pattern, names));
+    }
+
+    /**
+     * @param path the full path being matched
+     * @param start the position just after the stem
+     * @return the best match, or {@code null} if no template matches
+     */
+    RequestMapper.RequestMatch<T> match(String path, int start) {
+        Search<T> search = searches.get();
+        if (search == null) {
+            search = new Search<>(maxParams);
+            searches.set(search);
+        }
+        search.reset(path);
+        search.visit(root, start, 0);
+        Terminal<T> best = search.best;
+        int matchPos = search.bestEnd;
+        String[] params = search.bestParams;
+        search.reset(null);
+        if (best == null) {
+            return null;
+        }
+        String remaining;
+        if (matchPos == path.length()) {
+            remaining = "";
+        } else if (matchPos == 1) {
+            remaining = path;
+        } else {
+            remaining = path.substring(matchPos);
+        }
+        return new RequestMapper.RequestMatch<>(best.path.template, best.path.value, params, remaining);
+    }
+
+    @Override
+    public void dump(int level) {
+        root.dump(level);
+    }
+
+    private static final class Terminal<T> {
+        final int rank;
+        final RequestMapper.RequestPath<T> path;
+        /**
+         * The trailing custom regex, or {@code null} if the template ends at this node
+         */
+        final Pattern pattern;
+        final String[] names;
+
+        Terminal(int rank, RequestMapper.RequestPath<T> path, Pattern pattern, String[] names) {
+            this.rank = rank;
+            this.path = path;
+            this.pattern = pattern;
+            this.names = names;
+        }
+    }
+
+    private static final class Node<T> implements Dumpable {
+
+        /**
+         * The first character of each literal edge, sorted so it can be binary searched
+         */
+        char[] firstChars = new char[0];
+        String[] labels = new String[0];
+        Node<T>[] children = newArray(0);
+        Node<T> param;
+        List<Terminal<T>> terminals = new ArrayList<>();
+        Terminal<T>[] terminalArray;
+        /**
+         * The lowest rank of any template reachable from this node
+         */
+        int minRank = Integer.MAX_VALUE;
+
+        Node<T> literal(String text) {
+            if (text.isEmpty()) {
+                return this;
+            }
+            int index = Arrays.binarySearch(firstChars, text.charAt(0));
+            if (index < 0) {
+                Node<T> child = new Node<>();
+                insertEdge(-index - 1, text, child);
+                return child;
+            }
+            String label = labels[index];
+            int common = 1;
+            int max = Math.min(label.length(), text.length());
+            while (common < max && label.charAt(common) == text.charAt(common)) {
+                common++;
+            }
+            if (common < label.length()) {
+                // split the edge at the end of the common prefix
+                Node<T> split = new Node<>();
+                split.insertEdge(0, label.substring(common), children[index]);
+                labels[index] = label.substring(0, common);
+                children[index] = split;
+            }
+            return children[index].literal(text.substring(common));
+        }
+
+        Node<T> param() {
+            if (param == null) {
+                param = new Node<>();
+            }
+            return param;
+        }
+
+        private void insertEdge(int pos, String label, Node<T> child) {
+            int length = firstChars.length;
+            char[] newFirstChars = new char[length + 1];
+            String[] newLabels = new String[length + 1];
+            Node<T>[] newChildren = newArray(length + 1);
+            System.arraycopy(firstChars, 0, newFirstChars, 0, pos);
+            System.arraycopy(labels, 0, newLabels, 0, pos);
+            System.arraycopy(children, 0, newChildren, 0, pos);
+            newFirstChars[pos] = label.charAt(0);
+            newLabels[pos] = label;
+            newChildren[pos] = child;
+            System.arraycopy(firstChars, pos, newFirstChars, pos + 1, length - pos);
+            System.arraycopy(labels, pos, newLabels, pos + 1, length - pos);
+            System.arraycopy(children, pos, newChildren, pos + 1, length - pos);
+            firstChars = newFirstChars;
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        /**
+         * Freezes the terminals and computes the minimum rank of every subtree.
+         */
+        int complete() {
+            terminals.sort((t1, t2) -> Integer.compare(t1.rank, t2.rank));
+            terminalArray = terminals.toArray(newTerminalArray(terminals.size()));
+            terminals = null;
+            int min = terminalArray.length == 0 ? Integer.MAX_VALUE : terminalArray[0].rank;
+            for (Node<T> child : children) {
+                min = Math.min(min, child.complete());
+            }
+            if (param != null) {
+                min = Math.min(min, param.complete());
+            }
+            minRank = min;
+            return min;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int size) {
+            return new Node[size];
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Terminal<T>[] newTerminalArray(int size) {
+            return new Terminal[size];
+        }
+
+        @Override
+        public void dump(int level) {
+            for (Terminal<T> terminal : terminalArray) {
+                indent(level);
+                System.err.println("-> " + terminal.rank + ": " + terminal.path.template.template);
+            }
+            for (int i = 0; i < labels.length; i++) {
+                indent(level);
+                System.err.println("'" + labels[i] + "'");
+                children[i].dump(level + 1);
+            }
+            if (param != null) {
+                indent(level);
+                System.err.println("{param}");
+                param.dump(level + 1);
+            }
+        }
+    }
+
+    /**
+     * The state of a match operation, reused by the matches of the same thread.
+     */
+    private static final class Search<T> {
+        String path;
+        int pathLength;
+        /**
+         * Start and end offsets of the default path parameters on the current branch
+         */
+        final int[] offsets;
+        Terminal<T> best;
+        int bestEnd;
+        String[] bestParams;
+
+        Search(int maxParams) {
+            this.offsets = new int[maxParams * 2];
+        }
+
+        void reset(String path) {
+            this.path = path;
+            this.pathLength = path == null ? 0 : path.length();
+            this.best = null;
+            this.bestEnd = 0;
+            this.bestParams = null;
+        }
+
+        void visit(Node<T> node, int pos, int paramCount) {
+            for (Terminal<T> terminal : node.terminalArray) {
+                if (best != null && terminal.rank >= best.rank) {
+                    break;
+                }
+                if (tryTerminal(terminal, pos, paramCount)) {
+                    // terminals are sorted, so none of the others at this node can do better
+                    break;
+                }
+            }
+            Node<T> literal = null;
+            int literalEnd = 0;
+            if (pos < pathLength) {
+                int index = Arrays.binarySearch(node.firstChars, path.charAt(pos));
+                if (index >= 0) {
+                    String label = node.labels[index];
+                    if (path.regionMatches(pos, label, 0, label.length())) {
+                        literal = node.children[index];
+                        literalEnd = pos + label.length();
+                    }
+                }
+            }
+            Node<T> param = pos < pathLength ? node.param : null;
+            if (literal != null && param != null && param.minRank < literal.minRank) {
+                visitParam(param, pos, paramCount);
+                visitLiteral(literal, literalEnd, paramCount);
+            } else {
+                visitLiteral(literal, literalEnd, paramCount);
+                visitParam(param, pos, paramCount);
+            }
+        }
+
+        private void visitLiteral(Node<T> literal, int end, int paramCount) {
+            if (literal != null && canImprove(literal)) {
+                visit(literal, end, paramCount);
+            }
+        }
+
+        private void visitParam(Node<T> param, int pos, int paramCount) {
+            if (param != null && canImprove(param)) {
+                int end = pos;
+                while (end < pathLength && path.charAt(end) != '/') {
+                    end++;
+                }
+                offsets[paramCount * 2] = pos;
+                offsets[paramCount * 2 + 1] = end;
+                visit(param, end, paramCount + 1);
+            }
+        }
+
+        private boolean canImprove(Node<T> node) {
+            return best == null || node.minRank < best.rank;
+        }
+
+        private boolean tryTerminal(Terminal<T> terminal, int pos, int paramCount) {
+            int matchPos = pos;
+            Matcher matcher = null;
+            if (terminal.pattern != null) {
+                matcher = terminal.pattern.matcher(path);
+                if (!matcher.find(pos)) {
+                    return false;
+                }
+                matchPos = matcher.end();
+            }
+            boolean fullMatch = matchPos == pathLength;
+            boolean prefixAllowed = terminal.path.prefixTemplate;
+            if (!prefixAllowed && !fullMatch) {
+                //according to the spec every template ends with (/.*)?
+                prefixAllowed = path.charAt(matchPos) == '/' && matchPos == pathLength - 1;
+            }
+            if (!fullMatch && !prefixAllowed) {
+                return false;
+            }
+            String[] params = new String[offsets.length / 2];
+            for (int i = 0; i < paramCount; i++) {
+                params[i] = URIDecoder.decodeURIComponent(path.substring(offsets[i * 2], offsets[i * 2 + 1]), false);
+            }
+            if (matcher != null) {
+                int index = paramCount;
+                for (String name : terminal.names) {
+                    params[index++] = URIDecoder.decodeURIComponent(matcher.group(name), false);
+                }
+            }
+            best = terminal;
+            bestEnd = matchPos;
+            bestParams = params;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.jboss.resteasy.reactive.server.model;
+
+import java.util.List;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Adds handlers to the handler chain of a resource method.
+ * <p>
+ * The customizers are recorded with the {@link ServerResourceMethod}, so the implementations must be recordable: a public
+ * no-arg constructor and a getter and setter for each property.
+ */
+public interface HandlerChainCustomizer {
+
+    /**
+     *
+     * @param phase
+     * @return the handlers to add to the chain in the given phase
+     */
+    List<ServerRestHandler> handlers(Phase phase);
+
+    enum Phase {
+        /**
+         * Once the resource method is matched, before the request filters
+         */
+        AFTER_MATCH,
+        /**
+         * Right before the resource method is invoked
+         */
+        BEFORE_METHOD_INVOKE,
+        /**
+         * Right after the resource method is invoked, before its result is handled
+         */
+        AFTER_METHOD_INVOKE
+    }
+}
@@ -1,5 +1,7 @@
 package org.jboss.resteasy.reactive.server.model;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
@@ -11,6 +13,14 @@ public class ServerResourceMethod extends ResourceMethod {
 
     private Set<String> methodAnnotationNames;
 
+    /**
+     * If {@code false} the invocation of this method does not activate the CDI request scope, which is then only activated
+     * on demand, e.g. by a request filter or an exception mapper
+     */
+    private boolean cdiRequestScopeRequired = true;
+
+    private List<HandlerChainCustomizer> handlerChainCustomizers = new ArrayList<>();
+
     public Supplier<EndpointInvoker> getInvoker() {
         return invoker;
     }
@@ -27,4 +37,20 @@ public class ServerResourceMethod extends ResourceMethod {
     public void setMethodAnnotationNames(Set<String> methodAnnotationNames) {
         this.methodAnnotationNames = methodAnnotationNames;
     }
+
+    public boolean isCdiRequestScopeRequired() {
+        return cdiRequestScopeRequired;
+    }
+
+    public void setCdiRequestScopeRequired(boolean cdiRequestScopeRequired) {
+        this.cdiRequestScopeRequired = cdiRequestScopeRequired;
+    }
+
+    public List<HandlerChainCustomizer> getHandlerChainCustomizers() {
+        return handlerChainCustomizers;
+    }
+
+    public void setHandlerChainCustomizers(List<HandlerChainCustomizer> handlerChainCustomizers) {
+        this.handlerChainCustomizers = handlerChainCustomizers;
+    }
 }
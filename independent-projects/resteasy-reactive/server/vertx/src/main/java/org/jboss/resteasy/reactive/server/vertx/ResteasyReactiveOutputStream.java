@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 
 public class ResteasyReactiveOutputStream extends OutputStream {
@@ -20,6 +21,7 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     private static final Logger log = Logger.getLogger("io.quarkus.quarkus-rest");
     private final ResteasyReactiveRequestContext context;
     protected final HttpServerRequest request;
+    private final int outputBufferSize;
     private ByteBuf pooledBuffer;
     private long written;
     private boolean committed;
@@ -35,6 +37,10 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     public ResteasyReactiveOutputStream(VertxResteasyReactiveRequestContext context) {
         this.context = context;
         this.request = context.getContext().request();
+        ResteasyReactiveConfig config = context.getDeployment().getResteasyReactiveConfig();
+        // the config is not set for the deployments that are not created by Quarkus
+        this.outputBufferSize = config == null ? ResteasyReactiveConfig.DEFAULT_OUTPUT_BUFFER_SIZE
+                : config.getOutputBufferSize();
         request.response().exceptionHandler(new Handler<Throwable>() {
             @Override
             public void handle(Throwable event) {
@@ -199,7 +205,7 @@ public class ResteasyReactiveOutputStream extends OutputStream {
         ByteBuf buffer = pooledBuffer;
         try {
             if (buffer == null) {
-                pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+                pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer(outputBufferSize);
             }
             while (rem > 0) {
                 int toWrite = Math.min(rem, buffer.writableBytes());
@@ -208,7 +214,7 @@ public class ResteasyReactiveOutputStream extends OutputStream {
                 idx += toWrite;
                 if (!buffer.isWritable()) {
                     ByteBuf tmpBuf = buffer;
-                    this.pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+                    this.pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer(outputBufferSize);
                     writeBlocking(tmpBuf, false);
                 }
             }
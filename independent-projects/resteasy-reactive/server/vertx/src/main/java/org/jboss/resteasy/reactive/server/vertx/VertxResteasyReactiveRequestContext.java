@@ -259,7 +259,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse end(byte[] data) {
-        response.end(Buffer.buffer(data));
+        response.end(createBuffer(data));
         return this;
     }
 
@@ -305,7 +305,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
-        response.write(Buffer.buffer(data), new Handler<AsyncResult<Void>>() {
+        response.write(createBuffer(data), new Handler<AsyncResult<Void>>() {
             @Override
             public void handle(AsyncResult<Void> event) {
                 if (event.failed()) {
@@ -321,7 +321,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     @Override
     public CompletionStage<Void> write(byte[] data) {
         CompletableFuture<Void> ret = new CompletableFuture<>();
-        response.write(Buffer.buffer(data), new Handler<AsyncResult<Void>>() {
+        response.write(createBuffer(data), new Handler<AsyncResult<Void>>() {
             @Override
             public void handle(AsyncResult<Void> event) {
                 if (event.failed()) {
@@ -334,6 +334,13 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         return ret;
     }
 
+    /**
+     * Wraps the data without copying it, the array must not be modified after it has been handed over for writing.
+     */
+    private static Buffer createBuffer(byte[] data) {
+        return new VertxBufferImpl(Unpooled.wrappedBuffer(data));
+    }
+
     @Override
     public OutputStream createResponseOutputStream() {
         return new ResteasyReactiveOutputStream(this);
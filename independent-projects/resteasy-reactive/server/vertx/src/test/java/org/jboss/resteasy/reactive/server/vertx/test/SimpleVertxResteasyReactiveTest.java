@@ -18,7 +18,7 @@ public class SimpleVertxResteasyReactiveTest {
                 @Override
                 public JavaArchive get() {
                     return ShrinkWrap.create(JavaArchive.class)
-                            .addClass(HelloResource.class);
+                            .addClasses(HelloResource.class, PassThroughWriterInterceptor.class);
                 }
             });
 
@@ -29,4 +29,14 @@ public class SimpleVertxResteasyReactiveTest {
                 .body(equalTo("hello Stu"));
     }
 
+    @Test
+    public void outputStreamTest() {
+        // the deployment has no config, the default output buffer size is used
+        RestAssured.get("/hello?name=Stu")
+                .then()
+                .statusCode(200)
+                .header("X-Intercepted", "true")
+                .body(equalTo("hello Stu"));
+    }
+
 }
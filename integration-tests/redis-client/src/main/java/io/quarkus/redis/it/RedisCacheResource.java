@@ -0,0 +1,41 @@
+package io.quarkus.redis.it;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheResult;
+
+@Path("/quarkus-redis/cache")
+@ApplicationScoped
+public class RedisCacheResource {
+
+    static final String CACHE_NAME = "redis-cache";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @GET
+    @Path("/long/{id}")
+    @CacheResult(cacheName = CACHE_NAME)
+    public String getByLong(@PathParam("id") long id) {
+        return "long-" + id + "-" + invocations.incrementAndGet();
+    }
+
+    @GET
+    @Path("/string/{id}")
+    @CacheResult(cacheName = CACHE_NAME)
+    public String getByString(@PathParam("id") String id) {
+        return "string-" + id + "-" + invocations.incrementAndGet();
+    }
+
+    @DELETE
+    @Path("/long/{id}")
+    @CacheInvalidate(cacheName = CACHE_NAME)
+    public void invalidateByLong(@PathParam("id") long id) {
+    }
+}
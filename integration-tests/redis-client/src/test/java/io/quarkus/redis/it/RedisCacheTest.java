@@ -0,0 +1,90 @@
+package io.quarkus.redis.it;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+
+@QuarkusTest
+class RedisCacheTest {
+
+    // The Redis keys are made of the default key prefix, the cache name and the key encoded with its type.
+    static final String LONG_REDIS_KEY = "cache:" + RedisCacheResource.CACHE_NAME + ":l1:1";
+    static final String STRING_REDIS_KEY = "cache:" + RedisCacheResource.CACHE_NAME + ":s1:1";
+
+    @Test
+    public void cache() {
+        // the values stored by a previous run are kept by Redis
+        invalidateLong();
+
+        String longValue = get("/quarkus-redis/cache/long/1");
+        assertEquals(longValue, get("/quarkus-redis/cache/long/1"));
+
+        // 1L and "1" are different keys
+        String stringValue = get("/quarkus-redis/cache/string/1");
+        assertNotEquals(longValue, stringValue);
+        RestAssured.given()
+                .when()
+                .get("/quarkus-redis/cache/string/1")
+                .then()
+                .statusCode(200)
+                .body(startsWith("string-1-"));
+
+        // the values are written to Redis without delaying the method invocations
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> RestAssured.given()
+                .when()
+                .get("/quarkus-redis/sync/" + LONG_REDIS_KEY)
+                .then()
+                .statusCode(200));
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> RestAssured.given()
+                .when()
+                .get("/quarkus-redis/sync/" + STRING_REDIS_KEY)
+                .then()
+                .statusCode(200));
+
+        invalidateLong();
+        RestAssured.given()
+                .when()
+                .get("/quarkus-redis/cache/long/1")
+                .then()
+                .statusCode(200)
+                .body(not(longValue));
+        RestAssured.given()
+                .when()
+                .get("/quarkus-redis/sync/" + STRING_REDIS_KEY)
+                .then()
+                .statusCode(200);
+    }
+
+    private static void invalidateLong() {
+        RestAssured.given()
+                .when()
+                .delete("/quarkus-redis/cache/long/1")
+                .then()
+                .statusCode(204);
+
+        // the value is deleted from Redis without delaying the invalidation
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> RestAssured.given()
+                .when()
+                .get("/quarkus-redis/sync/" + LONG_REDIS_KEY)
+                .then()
+                .statusCode(204));
+    }
+
+    private static String get(String path) {
+        return RestAssured.given()
+                .when()
+                .get(path)
+                .then()
+                .statusCode(200)
+                .extract().asString();
+    }
+}